@@ -26,12 +26,16 @@ package it.smartcommunitylabdhub.core.config;
 import it.smartcommunitylabdhub.commons.infrastructure.RunRunnable;
 import it.smartcommunitylabdhub.core.events.EntityEventDispatcher;
 import it.smartcommunitylabdhub.core.events.EntityOperationsDispatcher;
+import it.smartcommunitylabdhub.core.events.OutboxDeliveryAdvice;
 import it.smartcommunitylabdhub.core.events.RunnableEventListener;
 import it.smartcommunitylabdhub.core.events.RunnableMessageDispatcher;
+import it.smartcommunitylabdhub.core.outbox.EventOutbox;
 import it.smartcommunitylabdhub.framework.k8s.runnables.RunnableEventPublisher;
+import it.smartcommunitylabdhub.runtimes.events.RunnableChangedEvent;
 import it.smartcommunitylabdhub.runtimes.events.RunnableMessagePublisher;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -83,22 +87,34 @@ public class AsyncConfig implements AsyncConfigurer {
 
     @Bean
     RunnableEventPublisher runnableEventPublisher(
-        @Qualifier("runnableQueueChannel") MessageChannel runnableQueueChannel
+        @Qualifier("runnableQueueChannel") MessageChannel runnableQueueChannel,
+        ObjectProvider<EventOutbox> eventOutbox
     ) {
+        EventOutbox outbox = eventOutbox.getIfAvailable();
+        if (outbox != null) {
+            // Persist events before handing them over, the outbox relay feeds the channel.
+            return new RunnableEventPublisher(
+                outbox.channel(OutboxConfig.RUNNABLE_EVENTS_CHANNEL, p ->
+                    p instanceof RunnableChangedEvent<?> event ? event.getId() : null
+                )
+            );
+        }
+
         return new RunnableEventPublisher(runnableQueueChannel);
     }
 
     @Bean
     IntegrationFlow runnableEventFlow(
         @Qualifier("runnableQueueChannel") MessageChannel runnableQueueChannel,
-        RunnableEventListener handler
+        RunnableEventListener handler,
+        ObjectProvider<OutboxDeliveryAdvice> outboxAdvice
     ) {
         // PartitionedChannel(int partitions, Function<Message<?>, Object> partitionKeyStrategy)
         // creates CORE_POOL_SIZE single-threaded internal executors — one per partition.
         // Same run id always maps to the same partition → sequential per-run processing.
         PartitionedChannel partitionedChannel = new PartitionedChannel(CORE_POOL_SIZE, msg -> {
             Object payload = msg.getPayload();
-            if (payload instanceof it.smartcommunitylabdhub.runtimes.events.RunnableChangedEvent<?> event) {
+            if (payload instanceof RunnableChangedEvent<?> event) {
                 return event.getId();
             }
             return msg.getHeaders().getId();
@@ -117,7 +133,7 @@ public class AsyncConfig implements AsyncConfigurer {
         return IntegrationFlow.from(runnableQueueChannel)
             .delay(d -> d.messageGroupId("runnable-channel-group").delayExpression("headers['delayMs'] ?: 0"))
             .channel(partitionedChannel)
-            .handle(handler, "handle")
+            .handle(handler, "handle", e -> outboxAdvice.ifAvailable(a -> e.advice(a)))
             .get();
     }
 
@@ -128,15 +144,27 @@ public class AsyncConfig implements AsyncConfigurer {
 
     @Bean
     RunnableMessagePublisher runnableMessagePublisher(
-        @Qualifier("runnableMessageChannel") MessageChannel runnableMessageChannel
+        @Qualifier("runnableMessageChannel") MessageChannel runnableMessageChannel,
+        ObjectProvider<EventOutbox> eventOutbox
     ) {
+        EventOutbox outbox = eventOutbox.getIfAvailable();
+        if (outbox != null) {
+            // Persist messages before handing them over, the outbox relay feeds the channel.
+            return new RunnableMessagePublisher(
+                outbox.channel(OutboxConfig.RUNNABLE_MESSAGES_CHANNEL, p ->
+                    p instanceof RunRunnable run ? run.getId() : null
+                )
+            );
+        }
+
         return new RunnableMessagePublisher(runnableMessageChannel);
     }
 
     @Bean
     IntegrationFlow runnableMessageFlow(
         @Qualifier("runnableMessageChannel") MessageChannel runnableMessageChannel,
-        RunnableMessageDispatcher dispatcher
+        RunnableMessageDispatcher dispatcher,
+        ObjectProvider<OutboxDeliveryAdvice> outboxAdvice
     ) {
         // PartitionedChannel(int partitions, Function<Message<?>, Object> partitionKeyStrategy)
         // creates CORE_POOL_SIZE single-threaded internal executors — one per partition.
@@ -162,7 +190,7 @@ public class AsyncConfig implements AsyncConfigurer {
         return IntegrationFlow.from(runnableMessageChannel)
             .delay(d -> d.messageGroupId("runnable-message-group").delayExpression("headers['delayMs'] ?: 0"))
             .channel(partitionedChannel)
-            .handle(dispatcher, "receive")
+            .handle(dispatcher, "receive", e -> outboxAdvice.ifAvailable(a -> e.advice(a)))
             .get();
     }
 
@@ -170,6 +198,8 @@ public class AsyncConfig implements AsyncConfigurer {
     // Entity event saga channel: DirectChannel entry point -> ExecutorChannel.
     // Published from @TransactionalEventListener(AFTER_COMMIT); the
     // transaction thread detaches as soon as the task is queued in eev-.
+    // With the outbox enabled events are stored in the entity transaction
+    // and fed here by the relay, handlers ack via OutboxDeliveryAdvice.
     // -----------------------------------------------------------------
 
     @Bean(name = "entityEventQueueChannel")
@@ -195,11 +225,12 @@ public class AsyncConfig implements AsyncConfigurer {
     IntegrationFlow entityEventFlow(
         @Qualifier("entityEventQueueChannel") MessageChannel entityEventQueueChannel,
         @Qualifier("entityEventsExecutor") Executor entityEventsExecutor,
-        EntityEventDispatcher dispatcher
+        EntityEventDispatcher dispatcher,
+        ObjectProvider<OutboxDeliveryAdvice> outboxAdvice
     ) {
         return IntegrationFlow.from(entityEventQueueChannel)
             .channel(new ExecutorChannel(entityEventsExecutor))
-            .handle(dispatcher, "handle")
+            .handle(dispatcher, "handle", e -> outboxAdvice.ifAvailable(a -> e.advice(a)))
             .get();
     }
 
@@ -217,11 +248,12 @@ public class AsyncConfig implements AsyncConfigurer {
     IntegrationFlow entityOperationsFlow(
         @Qualifier("entityOperationsQueueChannel") MessageChannel entityOperationsQueueChannel,
         @Qualifier("entityEventsExecutor") Executor entityEventsExecutor,
-        EntityOperationsDispatcher handler
+        EntityOperationsDispatcher handler,
+        ObjectProvider<OutboxDeliveryAdvice> outboxAdvice
     ) {
         return IntegrationFlow.from(entityOperationsQueueChannel)
             .channel(new ExecutorChannel(entityEventsExecutor))
-            .handle(handler, "handle")
+            .handle(handler, "handle", e -> outboxAdvice.ifAvailable(a -> e.advice(a)))
             .get();
     }
 
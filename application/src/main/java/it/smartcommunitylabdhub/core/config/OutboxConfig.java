@@ -0,0 +1,111 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.config;
+
+import it.smartcommunitylabdhub.core.events.EntityOperationsPublisherImpl;
+import it.smartcommunitylabdhub.core.events.OutboxDeliveryAdvice;
+import it.smartcommunitylabdhub.core.outbox.EventOutbox;
+import it.smartcommunitylabdhub.core.outbox.OutboxRelay;
+import it.smartcommunitylabdhub.core.outbox.OutboxRepository;
+import it.smartcommunitylabdhub.core.repositories.BaseEntityRepositoryImpl;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.messaging.MessageChannel;
+
+/**
+ * Optional jdbc outbox for entity and runnable events.
+ * When enabled events are persisted before being handed to the async channels,
+ * and a relay delivers them at least once.
+ */
+@Configuration
+@Order(4)
+@Slf4j
+@ConditionalOnProperty(name = "events.outbox.enabled", havingValue = "true")
+public class OutboxConfig {
+
+    public static final String RUNNABLE_EVENTS_CHANNEL = "runnableQueueChannel";
+    public static final String RUNNABLE_MESSAGES_CHANNEL = "runnableMessageChannel";
+
+    @Bean
+    OutboxRepository outboxRepository(DataSource dataSource) {
+        return new OutboxRepository(dataSource);
+    }
+
+    @Bean
+    EventOutbox eventOutbox(OutboxRepository outboxRepository) {
+        log.info("events outbox enabled");
+        return new EventOutbox(outboxRepository);
+    }
+
+    @Bean
+    OutboxRelay outboxRelay(
+        EventOutbox eventOutbox,
+        OutboxRepository outboxRepository,
+        @Qualifier("entityEventQueueChannel") MessageChannel entityEventQueueChannel,
+        @Qualifier("entityOperationsQueueChannel") MessageChannel entityOperationsQueueChannel,
+        @Qualifier("runnableQueueChannel") MessageChannel runnableQueueChannel,
+        @Qualifier("runnableMessageChannel") MessageChannel runnableMessageChannel,
+        @Value("${events.outbox.batch-size}") int batchSize,
+        @Value("${events.outbox.interval}") long interval,
+        @Value("${events.outbox.lease}") long lease,
+        @Value("${events.outbox.max-attempts}") int maxAttempts,
+        @Value("${events.outbox.backoff}") long backoff
+    ) {
+        //relay to the flow entry points, skipping the outbox-backed publishers
+        OutboxRelay relay = new OutboxRelay(
+            eventOutbox,
+            outboxRepository,
+            Map.of(
+                BaseEntityRepositoryImpl.EVENTS_CHANNEL,
+                entityEventQueueChannel,
+                EntityOperationsPublisherImpl.OPERATIONS_CHANNEL,
+                entityOperationsQueueChannel,
+                RUNNABLE_EVENTS_CHANNEL,
+                runnableQueueChannel,
+                RUNNABLE_MESSAGES_CHANNEL,
+                runnableMessageChannel
+            )
+        );
+        relay.setBatchSize(batchSize);
+        relay.setInterval(Duration.ofMillis(interval));
+        relay.setLease(Duration.ofSeconds(lease));
+        relay.setMaxAttempts(maxAttempts);
+        relay.setBackoff(Duration.ofMillis(backoff));
+
+        return relay;
+    }
+
+    @Bean
+    OutboxDeliveryAdvice outboxDeliveryAdvice(OutboxRelay outboxRelay) {
+        return new OutboxDeliveryAdvice(outboxRelay);
+    }
+}
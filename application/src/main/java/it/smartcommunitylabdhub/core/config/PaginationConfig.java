@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.config;
+
+import it.smartcommunitylabdhub.core.config.handlers.CursorPageableHandlerMethodArgumentResolver;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.lang.NonNull;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+//register before spring data web support to take precedence for pageable arguments
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class PaginationConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<PageableHandlerMethodArgumentResolver> pageableResolver;
+
+    public PaginationConfig(ObjectProvider<PageableHandlerMethodArgumentResolver> pageableResolver) {
+        this.pageableResolver = pageableResolver;
+    }
+
+    @Override
+    public void addArgumentResolvers(@NonNull List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(
+            new CursorPageableHandlerMethodArgumentResolver(
+                pageableResolver.getIfAvailable(PageableHandlerMethodArgumentResolver::new)
+            )
+        );
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.config.handlers;
+
+import it.smartcommunitylabdhub.commons.models.queries.CursorPageable;
+import it.smartcommunitylabdhub.commons.models.queries.SummaryPageable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolve pageable arguments as cursor requests when the client opts in via the cursor
+ * parameter (empty for the first page), otherwise fall back to offset paging.
+ * Page size and direction on created come from the default resolver.
+ *
+ * Clients can also ask for summaries via the summary parameter: stores will then skip
+ * metadata, spec and status and return only headers, plus the promoted fields listed
+ * in the fields parameter.
+ */
+public class CursorPageableHandlerMethodArgumentResolver implements HandlerMethodArgumentResolver {
+
+    public static final String CURSOR_PARAMETER = "cursor";
+    public static final String SUMMARY_PARAMETER = "summary";
+    public static final String FIELDS_PARAMETER = "fields";
+
+    private final PageableHandlerMethodArgumentResolver delegate;
+
+    public CursorPageableHandlerMethodArgumentResolver(PageableHandlerMethodArgumentResolver delegate) {
+        Assert.notNull(delegate, "pageable resolver can not be null");
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return Pageable.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Pageable resolveArgument(
+        MethodParameter parameter,
+        ModelAndViewContainer mavContainer,
+        NativeWebRequest webRequest,
+        WebDataBinderFactory binderFactory
+    ) {
+        Pageable pageable = delegate.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        String cursor = webRequest.getParameter(CURSOR_PARAMETER);
+        if (cursor != null && pageable.isPaged()) {
+            //keep the requested direction on created, if any
+            Direction direction = Optional.ofNullable(pageable.getSort().getOrderFor(CursorPageable.CREATED))
+                .map(Order::getDirection)
+                .orElse(Direction.DESC);
+
+            pageable = new CursorPageable(cursor, pageable.getPageSize(), direction);
+        }
+
+        if (Boolean.parseBoolean(webRequest.getParameter(SUMMARY_PARAMETER))) {
+            //promoted fields as comma separated list, repeated params are accepted as well
+            List<String> fields = Optional.ofNullable(webRequest.getParameterValues(FIELDS_PARAMETER))
+                .map(values ->
+                    Arrays.stream(values)
+                        .flatMap(v -> Arrays.stream(StringUtils.commaDelimitedListToStringArray(v)))
+                        .map(String::trim)
+                        .filter(StringUtils::hasText)
+                        .toList()
+                )
+                .orElse(null);
+
+            pageable = new SummaryPageable(pageable, fields);
+        }
+
+        return pageable;
+    }
+}
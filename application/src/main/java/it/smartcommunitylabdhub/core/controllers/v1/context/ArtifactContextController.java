@@ -32,6 +32,7 @@ import it.smartcommunitylabdhub.commons.Keys;
 import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import it.smartcommunitylabdhub.commons.models.schemas.Schema;
 import it.smartcommunitylabdhub.commons.services.SchemaService;
@@ -119,6 +120,39 @@ public class ArtifactContextController {
         return artifactManager.createArtifact(dto);
     }
 
+    @Operation(summary = "Create a batch of artifacts in a project context")
+    @PostMapping(
+        value = "/batch",
+        consumes = { MediaType.APPLICATION_JSON_VALUE, "application/x-yaml" },
+        produces = "application/json; charset=UTF-8"
+    )
+    public BatchResult<Artifact> createArtifacts(
+        @PathVariable @Valid @NotNull @Pattern(regexp = Keys.SLUG_PATTERN) String project,
+        @NotNull @RequestBody List<@Valid @NotNull Artifact> dtos
+    ) throws IllegalArgumentException, SystemException {
+        //enforce project match
+        dtos.forEach(dto -> dto.setProject(project));
+
+        //create as new, results are reported per item
+        return artifactManager.createArtifacts(dtos);
+    }
+
+    @Operation(summary = "Update a batch of artifacts in a project context")
+    @PutMapping(
+        value = "/batch",
+        consumes = { MediaType.APPLICATION_JSON_VALUE, "application/x-yaml" },
+        produces = "application/json; charset=UTF-8"
+    )
+    public BatchResult<Artifact> updateArtifacts(
+        @PathVariable @Valid @NotNull @Pattern(regexp = Keys.SLUG_PATTERN) String project,
+        @NotNull @RequestBody List<@Valid @NotNull Artifact> dtos
+    ) throws IllegalArgumentException, SystemException {
+        //enforce project match, stored entities are checked per item
+        dtos.forEach(dto -> dto.setProject(project));
+
+        return artifactManager.updateArtifacts(dtos);
+    }
+
     @Operation(summary = "Search artifacts")
     @GetMapping(path = "", produces = "application/json; charset=UTF-8")
     public Page<Artifact> searchArtifacts(
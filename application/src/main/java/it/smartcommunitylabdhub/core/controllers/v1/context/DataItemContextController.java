@@ -29,6 +29,7 @@ import it.smartcommunitylabdhub.commons.Keys;
 import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import it.smartcommunitylabdhub.commons.models.schemas.Schema;
 import it.smartcommunitylabdhub.commons.services.SchemaService;
@@ -125,6 +126,39 @@ public class DataItemContextController {
         return dataItemManager.createDataItem(dto);
     }
 
+    @Operation(summary = "Create a batch of dataItems in a project context")
+    @PostMapping(
+        value = "/batch",
+        consumes = { MediaType.APPLICATION_JSON_VALUE, "application/x-yaml" },
+        produces = "application/json; charset=UTF-8"
+    )
+    public BatchResult<DataItem> createDataItems(
+        @PathVariable @Valid @NotNull @Pattern(regexp = Keys.SLUG_PATTERN) String project,
+        @NotNull @RequestBody List<@Valid @NotNull DataItem> dtos
+    ) throws IllegalArgumentException, SystemException {
+        //enforce project match
+        dtos.forEach(dto -> dto.setProject(project));
+
+        //create as new, results are reported per item
+        return dataItemManager.createDataItems(dtos);
+    }
+
+    @Operation(summary = "Update a batch of dataItems in a project context")
+    @PutMapping(
+        value = "/batch",
+        consumes = { MediaType.APPLICATION_JSON_VALUE, "application/x-yaml" },
+        produces = "application/json; charset=UTF-8"
+    )
+    public BatchResult<DataItem> updateDataItems(
+        @PathVariable @Valid @NotNull @Pattern(regexp = Keys.SLUG_PATTERN) String project,
+        @NotNull @RequestBody List<@Valid @NotNull DataItem> dtos
+    ) throws IllegalArgumentException, SystemException {
+        //enforce project match, stored entities are checked per item
+        dtos.forEach(dto -> dto.setProject(project));
+
+        return dataItemManager.updateDataItems(dtos);
+    }
+
     @Operation(summary = "Search dataItems")
     @GetMapping(path = "", produces = "application/json; charset=UTF-8")
     public Page<DataItem> searchDataItems(
@@ -29,6 +29,7 @@ import it.smartcommunitylabdhub.commons.Keys;
 import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.function.Function;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import it.smartcommunitylabdhub.commons.models.task.Task;
@@ -102,6 +103,39 @@ public class FunctionContextController {
         return functionManager.createFunction(dto);
     }
 
+    @Operation(summary = "Create a batch of functions in a project context")
+    @PostMapping(
+        value = "/batch",
+        consumes = { MediaType.APPLICATION_JSON_VALUE, "application/x-yaml" },
+        produces = "application/json; charset=UTF-8"
+    )
+    public BatchResult<Function> createFunctions(
+        @PathVariable @Valid @NotNull @Pattern(regexp = Keys.SLUG_PATTERN) String project,
+        @NotNull @RequestBody List<@Valid @NotNull Function> dtos
+    ) throws IllegalArgumentException, SystemException {
+        //enforce project match
+        dtos.forEach(dto -> dto.setProject(project));
+
+        //create as new, results are reported per item
+        return functionManager.createFunctions(dtos);
+    }
+
+    @Operation(summary = "Update a batch of functions in a project context")
+    @PutMapping(
+        value = "/batch",
+        consumes = { MediaType.APPLICATION_JSON_VALUE, "application/x-yaml" },
+        produces = "application/json; charset=UTF-8"
+    )
+    public BatchResult<Function> updateFunctions(
+        @PathVariable @Valid @NotNull @Pattern(regexp = Keys.SLUG_PATTERN) String project,
+        @NotNull @RequestBody List<@Valid @NotNull Function> dtos
+    ) throws IllegalArgumentException, SystemException {
+        //enforce project match, stored entities are checked per item
+        dtos.forEach(dto -> dto.setProject(project));
+
+        return functionManager.updateFunctions(dtos);
+    }
+
     @Operation(summary = "Search functions")
     @GetMapping(path = "", produces = "application/json; charset=UTF-8")
     public Page<Function> searchFunctions(
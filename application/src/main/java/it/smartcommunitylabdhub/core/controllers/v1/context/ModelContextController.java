@@ -30,6 +30,7 @@ import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.metrics.NumberOrNumberArray;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import it.smartcommunitylabdhub.commons.models.schemas.Schema;
@@ -132,6 +133,39 @@ public class ModelContextController {
         return modelManager.createModel(dto);
     }
 
+    @Operation(summary = "Create a batch of models in a project context")
+    @PostMapping(
+        value = "/batch",
+        consumes = { MediaType.APPLICATION_JSON_VALUE, "application/x-yaml" },
+        produces = "application/json; charset=UTF-8"
+    )
+    public BatchResult<Model> createModels(
+        @PathVariable @Valid @NotNull @Pattern(regexp = Keys.SLUG_PATTERN) String project,
+        @NotNull @RequestBody List<@Valid @NotNull Model> dtos
+    ) throws IllegalArgumentException, SystemException {
+        //enforce project match
+        dtos.forEach(dto -> dto.setProject(project));
+
+        //create as new, results are reported per item
+        return modelManager.createModels(dtos);
+    }
+
+    @Operation(summary = "Update a batch of models in a project context")
+    @PutMapping(
+        value = "/batch",
+        consumes = { MediaType.APPLICATION_JSON_VALUE, "application/x-yaml" },
+        produces = "application/json; charset=UTF-8"
+    )
+    public BatchResult<Model> updateModels(
+        @PathVariable @Valid @NotNull @Pattern(regexp = Keys.SLUG_PATTERN) String project,
+        @NotNull @RequestBody List<@Valid @NotNull Model> dtos
+    ) throws IllegalArgumentException, SystemException {
+        //enforce project match, stored entities are checked per item
+        dtos.forEach(dto -> dto.setProject(project));
+
+        return modelManager.updateModels(dtos);
+    }
+
     @Operation(summary = "Search models")
     @GetMapping(path = "", produces = "application/json; charset=UTF-8")
     public Page<Model> searchModels(
@@ -31,6 +31,8 @@ import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchItem;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.metrics.NumberOrNumberArray;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import it.smartcommunitylabdhub.commons.utils.MapUtils;
@@ -42,7 +44,10 @@ import it.smartcommunitylabdhub.extensions.persistence.ExtensionBuilder;
 import it.smartcommunitylabdhub.framework.k8s.service.K8sMetricsService;
 import it.smartcommunitylabdhub.lifecycle.LifecycleManager;
 import it.smartcommunitylabdhub.logs.Log;
+import it.smartcommunitylabdhub.logs.LogRange;
 import it.smartcommunitylabdhub.logs.LogService;
+import it.smartcommunitylabdhub.logs.LogStore;
+import it.smartcommunitylabdhub.logs.follow.LogFollowService;
 import it.smartcommunitylabdhub.metrics.service.MetricsService;
 import it.smartcommunitylabdhub.relationships.RelationshipDetail;
 import it.smartcommunitylabdhub.relationships.RelationshipsAwareEntityService;
@@ -77,8 +82,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @ApiVersion("v1")
@@ -112,6 +120,12 @@ public class RunContextController {
     @Autowired(required = false)
     private K8sMetricsService k8sMetricsService;
 
+    @Autowired(required = false)
+    private LogStore logStore;
+
+    @Autowired
+    private LogFollowService logFollowService;
+
     @Operation(summary = "Create a run in a project context")
     @PostMapping(
         value = "",
@@ -140,6 +154,65 @@ public class RunContextController {
         return run;
     }
 
+    @Operation(summary = "Create a batch of runs in a project context")
+    @PostMapping(
+        value = "/batch",
+        consumes = { MediaType.APPLICATION_JSON_VALUE, "application/x-yaml" },
+        produces = "application/json; charset=UTF-8"
+    )
+    public BatchResult<Run> createRuns(
+        @PathVariable @Valid @NotNull @Pattern(regexp = Keys.SLUG_PATTERN) String project,
+        @NotNull @RequestBody List<@Valid @NotNull Run> dtos
+    ) throws IllegalArgumentException, SystemException {
+        //enforce project match
+        dtos.forEach(dto -> dto.setProject(project));
+
+        //create as new, results are reported per item
+        BatchResult<Run> result = runManager.createRuns(dtos);
+
+        //if !local then also build+run each created run
+        List<BatchItem<Run>> items = new ArrayList<>();
+        for (BatchItem<Run> item : result.getItems()) {
+            if (item.isSuccess()) {
+                Run run = item.getResult();
+                RunBaseSpec runBaseSpec = new RunBaseSpec();
+                runBaseSpec.configure(run.getSpec());
+
+                if (Boolean.FALSE.equals(runBaseSpec.getLocalExecution())) {
+                    try {
+                        run = lifecycleManager.perform(run, RunEvent.BUILD.name());
+                        run = lifecycleManager.perform(run, RunEvent.RUN.name());
+                        item.setResult(run);
+                    } catch (RuntimeException e) {
+                        //run is stored but not started, report as failed
+                        log.error("error starting run {}: {}", run.getId(), e.getMessage());
+                        item = BatchItem.failure(item.getIndex(), run.getId(), e.getMessage());
+                    }
+                }
+            }
+
+            items.add(item);
+        }
+
+        return new BatchResult<>(items);
+    }
+
+    @Operation(summary = "Update a batch of runs in a project context")
+    @PutMapping(
+        value = "/batch",
+        consumes = { MediaType.APPLICATION_JSON_VALUE, "application/x-yaml" },
+        produces = "application/json; charset=UTF-8"
+    )
+    public BatchResult<Run> updateRuns(
+        @PathVariable @Valid @NotNull @Pattern(regexp = Keys.SLUG_PATTERN) String project,
+        @NotNull @RequestBody List<@Valid @NotNull Run> dtos
+    ) throws IllegalArgumentException, SystemException {
+        //enforce project match, stored entities are checked per item
+        dtos.forEach(dto -> dto.setProject(project));
+
+        return runManager.updateRuns(dtos);
+    }
+
     @Operation(summary = "Retrieve all runs for the project, with optional filter")
     @GetMapping(path = "", produces = "application/json; charset=UTF-8")
     public Page<Run> searchRuns(
@@ -256,6 +329,60 @@ public class RunContextController {
         return logService.getLogsByRunId(id);
     }
 
+    @Operation(
+        summary = "Read a log range for a given run",
+        description = "Return a bounded slice of a log, starting at the given byte offset or line. Without a position return the tail"
+    )
+    @GetMapping(path = "/{id}/logs/{logId}/content", produces = "application/json; charset=UTF-8")
+    public LogRange readLogByRunId(
+        @PathVariable @Valid @NotNull @Pattern(regexp = Keys.SLUG_PATTERN) String project,
+        @PathVariable @Valid @NotNull @Pattern(regexp = Keys.SLUG_PATTERN) String id,
+        @PathVariable @Valid @NotNull @Pattern(regexp = Keys.SLUG_PATTERN) String logId,
+        @RequestParam(required = false) Long offset,
+        @RequestParam(required = false) Long line,
+        @RequestParam(required = false, defaultValue = "0") int limit
+    ) throws NoSuchEntityException, StoreException {
+        if (logStore == null) {
+            throw new StoreException("log store not available");
+        }
+
+        Run run = runManager.getRun(id);
+
+        //check for project
+        if (!run.getProject().equals(project)) {
+            throw new IllegalArgumentException("invalid project");
+        }
+
+        LogRange range = logStore.readLog(logId, offset, line, limit);
+
+        //check for run
+        if (!id.equals(range.getRun())) {
+            throw new NoSuchEntityException("log not found with id " + logId);
+        }
+
+        return range;
+    }
+
+    @Operation(
+        summary = "Follow logs for a given run",
+        description = "Stream newly appended log content as server-sent events, resume via Last-Event-ID"
+    )
+    @GetMapping(path = "/{id}/logs/follow", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter followLogsByRunId(
+        @PathVariable @Valid @NotNull @Pattern(regexp = Keys.SLUG_PATTERN) String project,
+        @PathVariable @Valid @NotNull @Pattern(regexp = Keys.SLUG_PATTERN) String id,
+        @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId
+    ) throws NoSuchEntityException, StoreException {
+        Run run = runManager.getRun(id);
+
+        //check for project
+        if (!run.getProject().equals(project)) {
+            throw new IllegalArgumentException("invalid project");
+        }
+
+        return logFollowService.follow(run, lastEventId);
+    }
+
     @Operation(summary = "Get relationships info for a given entity, if available")
     @GetMapping(path = "/{id}/relationships", produces = "application/json; charset=UTF-8")
     public List<RelationshipDetail> getRelationshipsById(
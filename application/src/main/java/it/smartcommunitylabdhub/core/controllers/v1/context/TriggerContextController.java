@@ -29,6 +29,8 @@ import it.smartcommunitylabdhub.commons.Keys;
 import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchItem;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import it.smartcommunitylabdhub.core.ApplicationKeys;
 import it.smartcommunitylabdhub.core.annotations.ApiVersion;
@@ -43,6 +45,7 @@ import jakarta.annotation.Nullable;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
@@ -108,6 +111,58 @@ public class TriggerContextController {
         return trigger;
     }
 
+    @Operation(summary = "Create a batch of triggers in a project context")
+    @PostMapping(
+        value = "/batch",
+        consumes = { MediaType.APPLICATION_JSON_VALUE, "application/x-yaml" },
+        produces = "application/json; charset=UTF-8"
+    )
+    public BatchResult<Trigger> createTriggers(
+        @PathVariable @Valid @NotNull @Pattern(regexp = Keys.SLUG_PATTERN) String project,
+        @NotNull @RequestBody List<@Valid @NotNull Trigger> dtos
+    ) throws IllegalArgumentException, SystemException {
+        //enforce project match
+        dtos.forEach(dto -> dto.setProject(project));
+
+        //create as new, results are reported per item
+        BatchResult<Trigger> result = triggerManager.createTriggers(dtos);
+
+        //run each created trigger
+        List<BatchItem<Trigger>> items = new ArrayList<>();
+        for (BatchItem<Trigger> item : result.getItems()) {
+            if (item.isSuccess()) {
+                Trigger trigger = item.getResult();
+                try {
+                    lifecycleManager.perform(trigger, TriggerEvent.RUN.name());
+                } catch (RuntimeException e) {
+                    //trigger is stored but not running, report as failed
+                    log.error("error running trigger {}: {}", trigger.getId(), e.getMessage());
+                    item = BatchItem.failure(item.getIndex(), trigger.getId(), e.getMessage());
+                }
+            }
+
+            items.add(item);
+        }
+
+        return new BatchResult<>(items);
+    }
+
+    @Operation(summary = "Update a batch of triggers in a project context")
+    @PutMapping(
+        value = "/batch",
+        consumes = { MediaType.APPLICATION_JSON_VALUE, "application/x-yaml" },
+        produces = "application/json; charset=UTF-8"
+    )
+    public BatchResult<Trigger> updateTriggers(
+        @PathVariable @Valid @NotNull @Pattern(regexp = Keys.SLUG_PATTERN) String project,
+        @NotNull @RequestBody List<@Valid @NotNull Trigger> dtos
+    ) throws IllegalArgumentException, SystemException {
+        //enforce project match, stored entities are checked per item
+        dtos.forEach(dto -> dto.setProject(project));
+
+        return triggerManager.updateTriggers(dtos);
+    }
+
     @Operation(summary = "Search triggers, with optional filter")
     @GetMapping(path = "", produces = "application/json; charset=UTF-8")
     public Page<Trigger> searchTriggers(
@@ -35,6 +35,7 @@ import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -47,7 +48,8 @@ import org.springframework.stereotype.Component;
  * Single consumer for the entityEventQueueChannel.
  * Routes each EntityEvent to the correct AbstractEntityListener by matching
  * the concrete entity class carried in the event payload to the entity class
- * each listener was registered for.
+ * each listener was registered for. Batches are indexed at once and then
+ * dispatched event by event.
  */
 @Component
 @Slf4j
@@ -81,12 +83,40 @@ public class EntityEventDispatcher {
         this.authenticationManager = authenticationManagerBuilder.build(new NoOpAuthenticationProvider());
     }
 
-    @SuppressWarnings({ "unchecked", "rawtypes" })
-    public void handle(Message<EntityEvent<? extends BaseEntity>> message) {
+    @SuppressWarnings("unchecked")
+    public void handle(Message<?> message) {
         if (message == null) {
             return;
         }
 
+        if (message.getPayload() instanceof EntityBatchEvent<?> batch) {
+            handleAll(batch);
+        } else if (message.getPayload() instanceof EntityEvent<?>) {
+            handleEvent((Message<EntityEvent<? extends BaseEntity>>) message);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void handleAll(EntityBatchEvent<? extends BaseEntity> batch) {
+        Class<? extends BaseEntity> clazz = (Class<? extends BaseEntity>) batch
+            .getResolvableType()
+            .getGeneric(0)
+            .resolve();
+
+        AbstractEntityListener listener = listeners.get(clazz);
+        if (listener == null) {
+            log.warn("no listener registered for entity class {}", clazz.getName());
+            return;
+        }
+
+        //index the whole batch at once, then dispatch every event with its own user context
+        log.debug("dispatch entity batch of {} events for {}", batch.getEvents().size(), clazz.getSimpleName());
+        listener.indexAll(batch);
+        batch.getEvents().forEach(e -> handleEvent(MessageBuilder.withPayload(e).build()));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void handleEvent(Message<? extends EntityEvent<? extends BaseEntity>> message) {
         EntityEvent<? extends BaseEntity> event = message.getPayload();
         Class<? extends BaseEntity> clazz = (Class<? extends BaseEntity>) event
             .getResolvableType()
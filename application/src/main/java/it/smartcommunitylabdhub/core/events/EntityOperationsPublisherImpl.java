@@ -23,6 +23,7 @@
 
 package it.smartcommunitylabdhub.core.events;
 
+import it.smartcommunitylabdhub.core.outbox.EventOutbox;
 import it.smartcommunitylabdhub.events.EntityOperation;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,7 +43,10 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class EntityOperationsPublisherImpl implements EntityOperationsPublisher {
 
+    public static final String OPERATIONS_CHANNEL = "entityOperationsQueueChannel";
+
     protected MessageChannel entityOperationsChannel;
+    protected EventOutbox outbox;
 
     @Autowired(required = false)
     @Qualifier("entityOperationsQueueChannel")
@@ -50,9 +54,18 @@ public class EntityOperationsPublisherImpl implements EntityOperationsPublisher
         this.entityOperationsChannel = entityOperationsChannel;
     }
 
+    @Autowired(required = false)
+    public void setOutbox(EventOutbox outbox) {
+        this.outbox = outbox;
+    }
+
     @Override
     public void publish(EntityOperation<?> operation) {
-        if (entityOperationsChannel != null) {
+        if (outbox != null) {
+            //durable delivery, joins the caller transaction when present
+            String key = operation.getDto() != null ? operation.getDto().getId() : null;
+            outbox.append(OPERATIONS_CHANNEL, key, operation);
+        } else if (entityOperationsChannel != null) {
             entityOperationsChannel.send(MessageBuilder.withPayload(operation).build());
         } else {
             throw new UnsupportedOperationException("Entity operations channel is not configured");
@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.events;
+
+import it.smartcommunitylabdhub.core.outbox.OutboxRelay;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.integration.handler.advice.AbstractRequestHandlerAdvice;
+import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
+
+/**
+ * Handler advice closing the outbox delivery loop: skips messages already handled by this instance,
+ * acks on success and releases for retry on failure. Delivery is at-least-once: handlers must be
+ * idempotent, events acked right before a restart may be delivered again.
+ * Messages not coming from the outbox are passed through.
+ */
+@Slf4j
+public class OutboxDeliveryAdvice extends AbstractRequestHandlerAdvice {
+
+    private final OutboxRelay relay;
+
+    public OutboxDeliveryAdvice(OutboxRelay relay) {
+        Assert.notNull(relay, "relay is required");
+        this.relay = relay;
+    }
+
+    @Override
+    protected Object doInvoke(ExecutionCallback callback, Object target, Message<?> message) {
+        String id = message.getHeaders().get(OutboxRelay.IDEMPOTENCY_KEY, String.class);
+        if (id == null) {
+            return callback.execute();
+        }
+
+        if (relay.isDelivered(id)) {
+            log.debug("skip duplicated event {}", id);
+            relay.ack(id);
+            return null;
+        }
+
+        try {
+            Object result = callback.execute();
+            relay.ack(id);
+            return result;
+        } catch (RuntimeException e) {
+            relay.release(id);
+            throw e;
+        }
+    }
+}
@@ -28,6 +28,7 @@ import it.smartcommunitylabdhub.authorization.UserAuthenticationManagerBuilder;
 import it.smartcommunitylabdhub.authorization.providers.NoOpAuthenticationProvider;
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.infrastructure.RunRunnable;
+import it.smartcommunitylabdhub.core.outbox.OutboxRelay;
 import it.smartcommunitylabdhub.core.runs.lifecycle.KindAwareRunLifecycleManager;
 import it.smartcommunitylabdhub.runs.Run;
 import it.smartcommunitylabdhub.runs.RunManager;
@@ -124,7 +125,12 @@ public class RunnableEventListener {
         }
 
         RunnableChangedEvent<RunRunnable> event = message.getPayload();
-        receive(event);
+        if (message.getHeaders().containsKey(OutboxRelay.IDEMPOTENCY_KEY)) {
+            //outbox delivery: failures propagate so the event is released and retried
+            process(event);
+        } else {
+            receive(event);
+        }
 
         if (log.isTraceEnabled()) {
             log.trace("finished handling message: {}", message);
@@ -134,6 +140,14 @@ public class RunnableEventListener {
     // @Async
     // @EventListener
     public void receive(RunnableChangedEvent<RunRunnable> event) {
+        try {
+            process(event);
+        } catch (RuntimeException e) {
+            log.error("Error handling runnable changed event: {}", e.getMessage(), e);
+        }
+    }
+
+    protected void process(RunnableChangedEvent<RunRunnable> event) {
         if (event.getState() == null) {
             return;
         }
@@ -205,8 +219,6 @@ public class RunnableEventListener {
             // Finally, we may want to log or track progress even if the state is the same
             // for monitoring purposes
             wrap(run, event.getRunnable(), (r, rb) -> runManager.handle(r, state, rb));
-        } catch (Exception e) {
-            log.error("Error handling runnable changed event: {}", e.getMessage(), e);
         } finally {
             watchdog.cancel(false);
             // clear interrupt flag set by watchdog if it fired just before/during cancel
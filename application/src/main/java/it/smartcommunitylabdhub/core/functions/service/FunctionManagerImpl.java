@@ -28,6 +28,7 @@ import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.function.Function;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import it.smartcommunitylabdhub.commons.models.task.Task;
@@ -302,6 +303,30 @@ public class FunctionManagerImpl implements FunctionManager {
         }
     }
 
+    @Override
+    public BatchResult<Function> createFunctions(@NotNull List<Function> dtos) {
+        log.debug("create functions batch with size {}", dtos.size());
+
+        try {
+            return entityService.createAll(dtos);
+        } catch (StoreException e) {
+            log.error("store error: {}", e.getMessage());
+            throw new SystemException(e.getMessage());
+        }
+    }
+
+    @Override
+    public BatchResult<Function> updateFunctions(@NotNull List<Function> dtos) {
+        log.debug("update functions batch with size {}", dtos.size());
+
+        try {
+            return entityService.updateAll(dtos);
+        } catch (StoreException e) {
+            log.error("store error: {}", e.getMessage());
+            throw new SystemException(e.getMessage());
+        }
+    }
+
     @Deprecated(forRemoval = true)
     @Override
     public Function updateFunction(@NotNull String id, @NotNull Function dto, boolean force)
@@ -24,6 +24,7 @@
 package it.smartcommunitylabdhub.core.projects.service;
 
 import it.smartcommunitylabdhub.artifacts.Artifact;
+import it.smartcommunitylabdhub.artifacts.persistence.ArtifactEntity;
 import it.smartcommunitylabdhub.commons.config.ApplicationProperties;
 import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
@@ -34,36 +35,52 @@ import it.smartcommunitylabdhub.commons.models.function.Function;
 import it.smartcommunitylabdhub.commons.models.metadata.EmbeddableMetadata;
 import it.smartcommunitylabdhub.commons.models.metadata.MetadataDTO;
 import it.smartcommunitylabdhub.commons.models.project.Project;
+import it.smartcommunitylabdhub.commons.models.queries.CursorPage;
+import it.smartcommunitylabdhub.commons.models.queries.CursorPageable;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
+import it.smartcommunitylabdhub.commons.models.queries.SummaryPageable;
 import it.smartcommunitylabdhub.commons.models.workflow.Workflow;
 import it.smartcommunitylabdhub.commons.services.ProjectManager;
 import it.smartcommunitylabdhub.commons.services.SpecValidator;
 import it.smartcommunitylabdhub.commons.utils.EmbedUtils;
 import it.smartcommunitylabdhub.commons.utils.MapUtils;
+import it.smartcommunitylabdhub.core.persistence.BaseEntity;
 import it.smartcommunitylabdhub.core.projects.specs.ProjectSpec;
 import it.smartcommunitylabdhub.core.queries.specifications.CommonSpecification;
+import it.smartcommunitylabdhub.core.repositories.BaseEntityRepositoryImpl;
 import it.smartcommunitylabdhub.core.repositories.SearchableEntityRepository;
 import it.smartcommunitylabdhub.core.services.EntityService;
 import it.smartcommunitylabdhub.core.services.VersionableEntityService;
 import it.smartcommunitylabdhub.core.utils.RefUtils;
 import it.smartcommunitylabdhub.dataitems.DataItem;
+import it.smartcommunitylabdhub.dataitems.persistence.DataItemEntity;
+import it.smartcommunitylabdhub.functions.persistence.FunctionEntity;
 import it.smartcommunitylabdhub.models.Model;
+import it.smartcommunitylabdhub.models.persistence.ModelEntity;
 import it.smartcommunitylabdhub.projects.persistence.ProjectEntity;
 import it.smartcommunitylabdhub.relationships.EntityRelationshipsService;
 import it.smartcommunitylabdhub.relationships.RelationshipDetail;
 import it.smartcommunitylabdhub.relationships.RelationshipsAwareEntityService;
 import it.smartcommunitylabdhub.relationships.persistence.RelationshipEntity;
+import it.smartcommunitylabdhub.workflows.persistence.WorkflowEntity;
 import jakarta.transaction.Transactional;
 import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -105,6 +122,24 @@ public class ProjectManagerImpl implements ProjectManager, RelationshipsAwareEnt
     @Autowired
     private SpecValidator validator;
 
+    @Autowired
+    private ProjectSummaryCache summaryCache;
+
+    @Value("${projects.embed.artifacts}")
+    private int artifactsLimit;
+
+    @Value("${projects.embed.dataitems}")
+    private int dataItemsLimit;
+
+    @Value("${projects.embed.models}")
+    private int modelsLimit;
+
+    @Value("${projects.embed.functions}")
+    private int functionsLimit;
+
+    @Value("${projects.embed.workflows}")
+    private int workflowsLimit;
+
     @Override
     public Page<Project> listProjects(Pageable pageable) {
         log.debug("list projects page {}", pageable);
@@ -167,14 +202,43 @@ public class ProjectManagerImpl implements ProjectManager, RelationshipsAwareEnt
         try {
             Project project = entityService.get(id);
 
-            //load content
+            //load content, bounded to the latest versions per type
             log.debug("load project content for project {}", String.valueOf(id));
-
-            List<Artifact> artifacts = artifactService.listLatestByProject(id);
-            List<DataItem> dataItems = dataItemService.listLatestByProject(id);
-            List<Model> models = modelService.listLatestByProject(id);
-            List<Function> functions = functionService.listLatestByProject(id);
-            List<Workflow> workflows = workflowService.listLatestByProject(id);
+            Map<String, Serializable> summary = new HashMap<>();
+
+            List<Artifact> artifacts = latest(
+                id,
+                "artifacts",
+                artifactsLimit,
+                artifactService,
+                ArtifactEntity.class,
+                summary
+            );
+            List<DataItem> dataItems = latest(
+                id,
+                "dataitems",
+                dataItemsLimit,
+                dataItemService,
+                DataItemEntity.class,
+                summary
+            );
+            List<Model> models = latest(id, "models", modelsLimit, modelService, ModelEntity.class, summary);
+            List<Function> functions = latest(
+                id,
+                "functions",
+                functionsLimit,
+                functionService,
+                FunctionEntity.class,
+                summary
+            );
+            List<Workflow> workflows = latest(
+                id,
+                "workflows",
+                workflowsLimit,
+                workflowService,
+                WorkflowEntity.class,
+                summary
+            );
 
             //update spec
             ProjectSpec spec = new ProjectSpec();
@@ -197,6 +261,9 @@ public class ProjectManagerImpl implements ProjectManager, RelationshipsAwareEnt
 
             project.setSpec(spec.toMap());
 
+            //expose counts of latest versions, content above the limit is not embedded
+            project.setSummary(summary);
+
             return project;
         } catch (StoreException e) {
             log.error("store error: {}", e.getMessage());
@@ -344,6 +411,60 @@ public class ProjectManagerImpl implements ProjectManager, RelationshipsAwareEnt
         }
     }
 
+    /*
+     * Load the latest versions for a type up to its embed limit via keyset paging,
+     * without counting. Counts are exact from the page when the content fits the limit,
+     * otherwise they come from the summary cache.
+     */
+    private <T extends BaseDTO> List<T> latest(
+        String project,
+        String name,
+        int limit,
+        VersionableEntityService<T> service,
+        Class<? extends BaseEntity> type,
+        Map<String, Serializable> summary
+    ) throws StoreException {
+        if (limit <= 0) {
+            summary.put(name, count(project, service, type));
+            return Collections.emptyList();
+        }
+
+        Page<T> page = service.listLatestByProject(
+            project,
+            new CursorPageable(null, Math.min(limit, BaseEntityRepositoryImpl.PAGE_MAX_SIZE), Direction.DESC)
+        );
+
+        long count = page.getNumberOfElements();
+        if (page instanceof CursorPage && ((CursorPage<T>) page).getNext() != null) {
+            count = count(project, service, type);
+        }
+
+        summary.put(name, count);
+        return page.getContent();
+    }
+
+    private <T extends BaseDTO> long count(
+        String project,
+        VersionableEntityService<T> service,
+        Class<? extends BaseEntity> type
+    ) {
+        return summaryCache.count(
+            project,
+            type,
+            () -> {
+                try {
+                    //count on headers only
+                    return service
+                        .listLatestByProject(project, new SummaryPageable(PageRequest.of(0, 1), null))
+                        .getTotalElements();
+                } catch (StoreException e) {
+                    log.error("store error: {}", e.getMessage());
+                    throw new SystemException(e.getMessage());
+                }
+            }
+        );
+    }
+
     //TODO add to all services
     private <T extends BaseDTO & MetadataDTO> T inlineRef(T d) {
         String applicationUrl = applicationProperties.getEndpoint();
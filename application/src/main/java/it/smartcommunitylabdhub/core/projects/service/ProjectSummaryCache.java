@@ -0,0 +1,122 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.projects.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import it.smartcommunitylabdhub.core.events.EntityBatchEvent;
+import it.smartcommunitylabdhub.core.events.EntityEvent;
+import it.smartcommunitylabdhub.core.persistence.BaseEntity;
+import it.smartcommunitylabdhub.events.EntityAction;
+import it.smartcommunitylabdhub.projects.persistence.ProjectEntity;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.Assert;
+
+/**
+ * Cached counts of the latest versions embedded in project details, per project and
+ * entity type. Counts are loaded on first read and maintained from entity events:
+ * creations and deletions invalidate only the affected project and type, updates do not
+ * change versions and are ignored.
+ *
+ * Counts are not adjusted in place: an event alone can not tell whether a version is the
+ * first or the last one for its name, so the affected entry is reloaded on next read.
+ *
+ * Entries expire after the configured ttl to pick up changes made by other replicas.
+ */
+@Component
+@Slf4j
+public class ProjectSummaryCache {
+
+    private static final int MAX_SIZE = 10000;
+
+    private final Cache<String, Long> counts;
+
+    //bumped on every invalidation, loads racing with events are not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    public ProjectSummaryCache(@Value("${projects.summary.ttl}") int ttl) {
+        Assert.isTrue(ttl > 0, "ttl must be positive");
+        this.counts = Caffeine.newBuilder().maximumSize(MAX_SIZE).expireAfterWrite(Duration.ofSeconds(ttl)).build();
+    }
+
+    public long count(String project, Class<? extends BaseEntity> type, LongSupplier loader) {
+        String key = key(project, type);
+        Long value = counts.getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+
+        long gen = generation.get();
+        long count = loader.getAsLong();
+        if (generation.get() == gen) {
+            counts.put(key, count);
+        }
+
+        return count;
+    }
+
+    public void invalidate(String project, Class<? extends BaseEntity> type) {
+        log.trace("invalidate summary for {} {}", type.getSimpleName(), project);
+        generation.incrementAndGet();
+        counts.invalidate(key(project, type));
+    }
+
+    public void invalidate(String project) {
+        log.trace("invalidate summary for project {}", project);
+        generation.incrementAndGet();
+        counts.asMap().keySet().removeIf(k -> k.startsWith(project + "|"));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void receive(EntityEvent<? extends BaseEntity> event) {
+        BaseEntity entity = event.getEntity();
+        if (entity == null || event.getAction() == EntityAction.UPDATE) {
+            return;
+        }
+
+        if (entity instanceof ProjectEntity) {
+            if (event.getAction() == EntityAction.DELETE) {
+                invalidate(entity.getId());
+            }
+        } else if (entity.getProject() != null) {
+            invalidate(entity.getProject(), entity.getClass());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void receiveAll(EntityBatchEvent<? extends BaseEntity> event) {
+        event.getEvents().forEach(e -> receive(e));
+    }
+
+    private static String key(String project, Class<? extends BaseEntity> type) {
+        return project + "|" + type.getName();
+    }
+}
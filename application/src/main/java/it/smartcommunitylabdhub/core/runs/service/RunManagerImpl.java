@@ -29,6 +29,7 @@ import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.project.Project;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import it.smartcommunitylabdhub.commons.models.specs.Spec;
@@ -36,6 +37,7 @@ import it.smartcommunitylabdhub.commons.models.task.Task;
 import it.smartcommunitylabdhub.commons.repositories.EntityRepository;
 import it.smartcommunitylabdhub.commons.services.SpecRegistry;
 import it.smartcommunitylabdhub.commons.services.SpecValidator;
+import it.smartcommunitylabdhub.commons.utils.BatchUtils;
 import it.smartcommunitylabdhub.commons.utils.MapUtils;
 import it.smartcommunitylabdhub.core.persistence.AbstractEntity_;
 import it.smartcommunitylabdhub.core.queries.specifications.CommonSpecification;
@@ -213,37 +215,7 @@ public class RunManagerImpl implements RunManager {
             log.trace("dto: {}", dto);
         }
         try {
-            //validate project
-            //TODO check if project exists?
-            String projectId = dto.getProject();
-            if (!StringUtils.hasText(projectId) || projectService.find(projectId) == null) {
-                throw new IllegalArgumentException("invalid or missing project");
-            }
-
-            RunSpecAccessor runSpecAccessor = RunSpecAccessor.with(dto.getSpec());
-            if (!StringUtils.hasText(runSpecAccessor.getProject())) {
-                throw new IllegalArgumentException("spec: missing project");
-            }
-
-            //check project match
-            if (!projectId.equals(runSpecAccessor.getProject())) {
-                throw new IllegalArgumentException("project mismatch");
-            }
-            if (!StringUtils.hasText(runSpecAccessor.getTask())) {
-                throw new IllegalArgumentException("spec: missing task");
-            }
-            if (!StringUtils.hasText(runSpecAccessor.getTaskId())) {
-                throw new IllegalArgumentException("spec: missing task id");
-            }
-
-            //check if task exists and matches
-            Task task = taskEntityService.find(runSpecAccessor.getTaskId());
-            if (task == null) {
-                throw new IllegalArgumentException("invalid task");
-            }
-            if (!projectId.equals(task.getProject())) {
-                throw new IllegalArgumentException("project mismatch");
-            }
+            validateCreate(dto);
 
             //TODO check if run kind matches allowed for task/runtime
             // store the run in db
@@ -261,33 +233,7 @@ public class RunManagerImpl implements RunManager {
         try {
             //fetch current and merge
             Run current = entityService.get(id);
-
-            //spec is not modifiable *after* build
-            StatusFieldAccessor status = StatusFieldAccessor.with(current.getStatus());
-            if (RunState.CREATED.name().equals(status.getState())) {
-                //we accept updates, parse and export Spec
-                Spec spec = specRegistry.createSpec(dto.getKind(), dto.getSpec());
-                if (spec == null) {
-                    throw new IllegalArgumentException("invalid kind");
-                }
-
-                //validate
-                validator.validateSpec(spec);
-
-                //update spec as exported
-                dto.setSpec(spec.toMap());
-            } else {
-                //spec is sealed, enforce
-                dto.setSpec(current.getSpec());
-            }
-
-            //state is modifiable *only* for local runs
-            RunSpecAccessor specAccessor = RunSpecAccessor.with(current.getSpec());
-            if (!specAccessor.isLocalExecution()) {
-                //keep base status from current
-                RunBaseStatus bs = RunBaseStatus.with(current.getSpec());
-                dto.setStatus(MapUtils.mergeMultipleMaps(dto.getStatus(), bs.toMap()));
-            }
+            prepareUpdate(current, dto);
 
             //TODO: implement logic to update status only in some states
 
@@ -299,6 +245,40 @@ public class RunManagerImpl implements RunManager {
         }
     }
 
+    @Override
+    public BatchResult<Run> createRuns(@NotNull List<Run> dtos) {
+        log.debug("create runs batch with size {}", dtos.size());
+        try {
+            //check every run on its own, store the valid ones at once
+            return BatchUtils.process(dtos, this::validateCreate, valid -> entityService.createAll(valid));
+        } catch (StoreException e) {
+            log.error("store error: {}", e.getMessage());
+            throw new SystemException(e.getMessage());
+        }
+    }
+
+    @Override
+    public BatchResult<Run> updateRuns(@NotNull List<Run> dtos) {
+        log.debug("update runs batch with size {}", dtos.size());
+        try {
+            //merge every run with its current value, update the valid ones at once
+            return BatchUtils.process(
+                dtos,
+                dto -> {
+                    if (dto.getId() == null) {
+                        throw new IllegalArgumentException("missing id");
+                    }
+
+                    prepareUpdate(entityService.get(dto.getId()), dto);
+                },
+                valid -> entityService.updateAll(valid, true)
+            );
+        } catch (StoreException e) {
+            log.error("store error: {}", e.getMessage());
+            throw new SystemException(e.getMessage());
+        }
+    }
+
     @Override
     public void deleteRun(@NotNull String id, @Nullable Boolean cascade) {
         log.debug("delete run with id {}", String.valueOf(id));
@@ -318,6 +298,69 @@ public class RunManagerImpl implements RunManager {
         getRunsByTaskId(taskId).forEach(run -> deleteRun(run.getId(), Boolean.TRUE));
     }
 
+    private void validateCreate(Run dto) throws StoreException {
+        //validate project
+        //TODO check if project exists?
+        String projectId = dto.getProject();
+        if (!StringUtils.hasText(projectId) || projectService.find(projectId) == null) {
+            throw new IllegalArgumentException("invalid or missing project");
+        }
+
+        RunSpecAccessor runSpecAccessor = RunSpecAccessor.with(dto.getSpec());
+        if (!StringUtils.hasText(runSpecAccessor.getProject())) {
+            throw new IllegalArgumentException("spec: missing project");
+        }
+
+        //check project match
+        if (!projectId.equals(runSpecAccessor.getProject())) {
+            throw new IllegalArgumentException("project mismatch");
+        }
+        if (!StringUtils.hasText(runSpecAccessor.getTask())) {
+            throw new IllegalArgumentException("spec: missing task");
+        }
+        if (!StringUtils.hasText(runSpecAccessor.getTaskId())) {
+            throw new IllegalArgumentException("spec: missing task id");
+        }
+
+        //check if task exists and matches
+        Task task = taskEntityService.find(runSpecAccessor.getTaskId());
+        if (task == null) {
+            throw new IllegalArgumentException("invalid task");
+        }
+        if (!projectId.equals(task.getProject())) {
+            throw new IllegalArgumentException("project mismatch");
+        }
+    }
+
+    private void prepareUpdate(Run current, Run dto) {
+        //spec is not modifiable *after* build
+        StatusFieldAccessor status = StatusFieldAccessor.with(current.getStatus());
+        if (RunState.CREATED.name().equals(status.getState())) {
+            //we accept updates, parse and export Spec
+            Spec spec = specRegistry.createSpec(dto.getKind(), dto.getSpec());
+            if (spec == null) {
+                throw new IllegalArgumentException("invalid kind");
+            }
+
+            //validate
+            validator.validateSpec(spec);
+
+            //update spec as exported
+            dto.setSpec(spec.toMap());
+        } else {
+            //spec is sealed, enforce
+            dto.setSpec(current.getSpec());
+        }
+
+        //state is modifiable *only* for local runs
+        RunSpecAccessor specAccessor = RunSpecAccessor.with(current.getSpec());
+        if (!specAccessor.isLocalExecution()) {
+            //keep base status from current
+            RunBaseStatus bs = RunBaseStatus.with(current.getSpec());
+            dto.setStatus(MapUtils.mergeMultipleMaps(dto.getStatus(), bs.toMap()));
+        }
+    }
+
     private Specification<RunEntity> createTaskSpecification(String task) {
         return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("task"), task);
     }
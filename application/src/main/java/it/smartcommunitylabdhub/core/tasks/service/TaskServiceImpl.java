@@ -29,6 +29,7 @@ import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
 import it.smartcommunitylabdhub.commons.models.base.BaseDTO;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.function.Function;
 import it.smartcommunitylabdhub.commons.models.project.Project;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
@@ -39,6 +40,7 @@ import it.smartcommunitylabdhub.commons.repositories.EntityRepository;
 import it.smartcommunitylabdhub.commons.services.SpecRegistry;
 import it.smartcommunitylabdhub.commons.services.SpecValidator;
 import it.smartcommunitylabdhub.commons.services.TaskService;
+import it.smartcommunitylabdhub.commons.utils.BatchUtils;
 import it.smartcommunitylabdhub.core.queries.specifications.CommonSpecification;
 import it.smartcommunitylabdhub.core.repositories.SearchableEntityRepository;
 import it.smartcommunitylabdhub.events.EntityAction;
@@ -209,56 +211,7 @@ public class TaskServiceImpl implements TaskService {
         throws DuplicatedEntityException, BindException, IllegalArgumentException {
         log.debug("create task");
         try {
-            //validate project
-            String projectId = dto.getProject();
-            if (!StringUtils.hasText(projectId) || projectService.find(projectId) == null) {
-                throw new IllegalArgumentException("invalid or missing project");
-            }
-
-            // Parse and export Spec
-            Spec spec = specRegistry.createSpec(dto.getKind(), dto.getSpec());
-            if (spec == null) {
-                throw new IllegalArgumentException("invalid kind");
-            }
-
-            //validate
-            validator.validateSpec(spec);
-
-            //update spec as exported
-            dto.setSpec(spec.toMap());
-
-            //check if the same task already exists for the function
-            TaskSpecAccessor taskSpecAccessor = TaskSpecAccessor.with(dto.getSpec());
-            if (!StringUtils.hasText(taskSpecAccessor.getProject())) {
-                throw new IllegalArgumentException("spec: missing project");
-            }
-            if (!StringUtils.hasText(taskSpecAccessor.getRuntime())) {
-                throw new IllegalArgumentException("missing runtime");
-            }
-
-            //check project match
-            if (dto.getProject() != null && !dto.getProject().equals(taskSpecAccessor.getProject())) {
-                throw new IllegalArgumentException("project mismatch");
-            }
-            dto.setProject(taskSpecAccessor.getProject());
-
-            // task may belong to function or to workflow
-            BaseDTO executable = null;
-            String function = taskSpecAccessor.getFunction();
-            String workflow = taskSpecAccessor.getWorkflow();
-
-            if (StringUtils.hasText(function)) {
-                String functionId = taskSpecAccessor.getFunctionId();
-                executable = functionService.find(functionId);
-            }
-            if (StringUtils.hasText(workflow)) {
-                String workflowId = taskSpecAccessor.getWorkflowId();
-                executable = workflowService.find(workflowId);
-            }
-
-            if (executable == null) {
-                throw new IllegalArgumentException("invalid executable entity");
-            }
+            validateCreate(dto);
 
             //create as new
             return entityRepository.create(dto);
@@ -276,25 +229,7 @@ public class TaskServiceImpl implements TaskService {
             //fetch current and merge
             Task current = entityRepository.get(id);
 
-            //hardcoded: function ref is not modifiable
-            Map<String, Serializable> specMap = new HashMap<>();
-            if (dto.getSpec() != null) {
-                specMap.putAll(dto.getSpec());
-            }
-            if (current.getSpec() != null) {
-                specMap.put("function", current.getSpec().get("function"));
-            }
-
-            Spec spec = specRegistry.createSpec(dto.getKind(), specMap);
-            if (spec == null) {
-                throw new IllegalArgumentException("invalid kind");
-            }
-
-            //validate
-            validator.validateSpec(spec);
-
-            //update spec as exported
-            dto.setSpec(spec.toMap());
+            prepareUpdate(current, dto);
 
             //full update, task is modifiable
             return entityRepository.update(id, dto);
@@ -304,6 +239,66 @@ public class TaskServiceImpl implements TaskService {
         }
     }
 
+    @Override
+    public BatchResult<Task> createTasks(@NotNull List<Task> dtos) {
+        log.debug("create tasks batch with size {}", dtos.size());
+        try {
+            //check every task on its own, store the valid ones at once
+            return BatchUtils.process(
+                dtos,
+                this::validateCreate,
+                valid -> {
+                    try {
+                        return BatchUtils.succeeded(entityRepository.createAll(valid));
+                    } catch (DuplicatedEntityException | StoreException | RuntimeException e) {
+                        //whole batch is rolled back
+                        log.error("error creating batch: {}", e.getMessage());
+                        return BatchUtils.failed(valid, e.getMessage());
+                    }
+                }
+            );
+        } catch (StoreException e) {
+            log.error("store error: {}", e.getMessage());
+            throw new SystemException(e.getMessage());
+        }
+    }
+
+    @Override
+    public BatchResult<Task> updateTasks(@NotNull List<Task> dtos) {
+        log.debug("update tasks batch with size {}", dtos.size());
+        try {
+            //merge every task with its current value, update the valid ones at once
+            return BatchUtils.process(
+                dtos,
+                dto -> {
+                    if (dto.getId() == null) {
+                        throw new IllegalArgumentException("missing id");
+                    }
+
+                    //check for project match
+                    Task current = entityRepository.get(dto.getId());
+                    if (dto.getProject() != null && !dto.getProject().equals(current.getProject())) {
+                        throw new IllegalArgumentException("invalid project");
+                    }
+
+                    prepareUpdate(current, dto);
+                },
+                valid -> {
+                    try {
+                        return BatchUtils.succeeded(entityRepository.updateAll(valid));
+                    } catch (StoreException | RuntimeException e) {
+                        //whole batch is rolled back
+                        log.error("error updating batch: {}", e.getMessage());
+                        return BatchUtils.failed(valid, e.getMessage());
+                    }
+                }
+            );
+        } catch (StoreException e) {
+            log.error("store error: {}", e.getMessage());
+            throw new SystemException(e.getMessage());
+        }
+    }
+
     @Override
     public void deleteTask(@NotNull String id, @Nullable Boolean cascade) {
         log.debug("delete task with id {}", String.valueOf(id));
@@ -347,4 +342,79 @@ public class TaskServiceImpl implements TaskService {
     private Specification<RunEntity> createTaskSpecification(String task) {
         return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("task"), task);
     }
+
+    private void validateCreate(Task dto) throws StoreException {
+        //validate project
+        String projectId = dto.getProject();
+        if (!StringUtils.hasText(projectId) || projectService.find(projectId) == null) {
+            throw new IllegalArgumentException("invalid or missing project");
+        }
+
+        // Parse and export Spec
+        Spec spec = specRegistry.createSpec(dto.getKind(), dto.getSpec());
+        if (spec == null) {
+            throw new IllegalArgumentException("invalid kind");
+        }
+
+        //validate
+        validator.validateSpec(spec);
+
+        //update spec as exported
+        dto.setSpec(spec.toMap());
+
+        //check if the same task already exists for the function
+        TaskSpecAccessor taskSpecAccessor = TaskSpecAccessor.with(dto.getSpec());
+        if (!StringUtils.hasText(taskSpecAccessor.getProject())) {
+            throw new IllegalArgumentException("spec: missing project");
+        }
+        if (!StringUtils.hasText(taskSpecAccessor.getRuntime())) {
+            throw new IllegalArgumentException("missing runtime");
+        }
+
+        //check project match
+        if (dto.getProject() != null && !dto.getProject().equals(taskSpecAccessor.getProject())) {
+            throw new IllegalArgumentException("project mismatch");
+        }
+        dto.setProject(taskSpecAccessor.getProject());
+
+        // task may belong to function or to workflow
+        BaseDTO executable = null;
+        String function = taskSpecAccessor.getFunction();
+        String workflow = taskSpecAccessor.getWorkflow();
+
+        if (StringUtils.hasText(function)) {
+            String functionId = taskSpecAccessor.getFunctionId();
+            executable = functionService.find(functionId);
+        }
+        if (StringUtils.hasText(workflow)) {
+            String workflowId = taskSpecAccessor.getWorkflowId();
+            executable = workflowService.find(workflowId);
+        }
+
+        if (executable == null) {
+            throw new IllegalArgumentException("invalid executable entity");
+        }
+    }
+
+    private void prepareUpdate(Task current, Task dto) {
+        //hardcoded: function ref is not modifiable
+        Map<String, Serializable> specMap = new HashMap<>();
+        if (dto.getSpec() != null) {
+            specMap.putAll(dto.getSpec());
+        }
+        if (current.getSpec() != null) {
+            specMap.put("function", current.getSpec().get("function"));
+        }
+
+        Spec spec = specRegistry.createSpec(dto.getKind(), specMap);
+        if (spec == null) {
+            throw new IllegalArgumentException("invalid kind");
+        }
+
+        //validate
+        validator.validateSpec(spec);
+
+        //update spec as exported
+        dto.setSpec(spec.toMap());
+    }
 }
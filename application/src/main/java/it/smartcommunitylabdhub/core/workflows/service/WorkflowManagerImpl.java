@@ -28,6 +28,7 @@ import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import it.smartcommunitylabdhub.commons.models.task.Task;
 import it.smartcommunitylabdhub.commons.models.workflow.Workflow;
@@ -305,6 +306,30 @@ public class WorkflowManagerImpl implements WorkflowManager {
         }
     }
 
+    @Override
+    public BatchResult<Workflow> createWorkflows(@NotNull List<Workflow> dtos) {
+        log.debug("create workflows batch with size {}", dtos.size());
+
+        try {
+            return entityService.createAll(dtos);
+        } catch (StoreException e) {
+            log.error("store error: {}", e.getMessage());
+            throw new SystemException(e.getMessage());
+        }
+    }
+
+    @Override
+    public BatchResult<Workflow> updateWorkflows(@NotNull List<Workflow> dtos) {
+        log.debug("update workflows batch with size {}", dtos.size());
+
+        try {
+            return entityService.updateAll(dtos);
+        } catch (StoreException e) {
+            log.error("store error: {}", e.getMessage());
+            throw new SystemException(e.getMessage());
+        }
+    }
+
     @Deprecated(forRemoval = true)
     @Override
     public Workflow updateWorkflow(@NotNull String id, @NotNull Workflow dto, boolean force)
@@ -5,11 +5,16 @@ CREATE TABLE
         created TIMESTAMP,
         updated TIMESTAMP,
         _clazz VARCHAR(255),
-        _data BINARY LARGE OBJECT
+        _data BINARY LARGE OBJECT,
+        _results BINARY LARGE OBJECT,
+        _results_digest VARCHAR(255)
     );
 
 CREATE INDEX IF NOT EXISTS runnables_id_index ON runnables (id, _clazz);
 
+ALTER TABLE runnables ADD COLUMN IF NOT EXISTS _results BINARY LARGE OBJECT;
+ALTER TABLE runnables ADD COLUMN IF NOT EXISTS _results_digest VARCHAR(255);
+
 CREATE TABLE
     IF NOT EXISTS trigger_jobs (
         id VARCHAR(255) NOT NULL PRIMARY KEY,
@@ -54,6 +59,26 @@ CREATE TABLE
 CREATE INDEX IF NOT EXISTS personal_access_tokens_token_idx ON personal_access_tokens (token);
 CREATE INDEX IF NOT EXISTS personal_access_tokens_user_idx ON personal_access_tokens (_user);
 
+CREATE TABLE
+    IF NOT EXISTS outbox_events (
+        id VARCHAR(255) NOT NULL PRIMARY KEY,
+        seq BIGINT GENERATED BY DEFAULT AS IDENTITY,
+        _channel VARCHAR(255) NOT NULL,
+        _key VARCHAR(255),
+        created TIMESTAMP,
+        attempts INT DEFAULT 0,
+        next_attempt TIMESTAMP,
+        owner VARCHAR(255),
+        locked_until TIMESTAMP,
+        dead_letter BOOLEAN DEFAULT FALSE,
+        _data BINARY LARGE OBJECT
+    );
+
+CREATE INDEX IF NOT EXISTS outbox_events_seq_idx ON outbox_events (seq);
+CREATE INDEX IF NOT EXISTS outbox_events_owner_idx ON outbox_events (owner);
+
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS dead_letter BOOLEAN DEFAULT FALSE;
+
 -- Quartz schema
 CREATE TABLE IF NOT EXISTS QRTZ_CALENDARS (
   SCHED_NAME VARCHAR(120) NOT NULL,
@@ -5,11 +5,16 @@ CREATE TABLE
         created TIMESTAMP(6) WITH TIME ZONE,
         updated TIMESTAMP(6) WITH TIME ZONE,
         _clazz VARCHAR(255) NOT NULL,
-        _data BYTEA
+        _data BYTEA,
+        _results BYTEA,
+        _results_digest VARCHAR(255)
     );
 
 CREATE INDEX IF NOT EXISTS runnables_id_index ON public.runnables (id, _clazz);
 
+ALTER TABLE public.runnables ADD COLUMN IF NOT EXISTS _results BYTEA;
+ALTER TABLE public.runnables ADD COLUMN IF NOT EXISTS _results_digest VARCHAR(255);
+
 
 CREATE TABLE
     IF NOT EXISTS public.trigger_jobs (
@@ -55,6 +60,26 @@ CREATE TABLE
 CREATE INDEX IF NOT EXISTS personal_access_tokens_token_idx ON personal_access_tokens (token);
 CREATE INDEX IF NOT EXISTS personal_access_tokens_user_idx ON personal_access_tokens (_user);
 
+CREATE TABLE
+    IF NOT EXISTS public.outbox_events (
+        id VARCHAR(255) NOT NULL PRIMARY KEY,
+        seq BIGINT GENERATED BY DEFAULT AS IDENTITY,
+        _channel VARCHAR(255) NOT NULL,
+        _key VARCHAR(255),
+        created TIMESTAMP(6) WITH TIME ZONE,
+        attempts INTEGER DEFAULT 0,
+        next_attempt TIMESTAMP(6) WITH TIME ZONE,
+        owner VARCHAR(255),
+        locked_until TIMESTAMP(6) WITH TIME ZONE,
+        dead_letter BOOLEAN DEFAULT FALSE,
+        _data BYTEA
+    );
+
+CREATE INDEX IF NOT EXISTS outbox_events_seq_idx ON public.outbox_events (seq);
+CREATE INDEX IF NOT EXISTS outbox_events_owner_idx ON public.outbox_events (owner);
+
+ALTER TABLE public.outbox_events ADD COLUMN IF NOT EXISTS dead_letter BOOLEAN DEFAULT FALSE;
+
 -- alter table public.runnable
 --     owner to postgres;
 
@@ -0,0 +1,141 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.config.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import it.smartcommunitylabdhub.commons.models.queries.CursorPageable;
+import it.smartcommunitylabdhub.commons.models.queries.SummaryPageable;
+import it.smartcommunitylabdhub.core.exceptions.CustomExceptionHandler;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class CursorPageableHandlerMethodArgumentResolverTest {
+
+    private final CursorPageableHandlerMethodArgumentResolver resolver =
+        new CursorPageableHandlerMethodArgumentResolver(new PageableHandlerMethodArgumentResolver());
+
+    @Test
+    void offsetByDefault() throws Exception {
+        Pageable pageable = resolve(Map.of("page", "2", "size", "5"));
+
+        assertInstanceOf(PageRequest.class, pageable);
+        assertEquals(2, pageable.getPageNumber());
+        assertEquals(5, pageable.getPageSize());
+    }
+
+    @Test
+    void cursorKeepsDirection() throws Exception {
+        Pageable pageable = resolve(Map.of("cursor", "", "size", "5", "sort", "created,asc"));
+
+        CursorPageable cursor = assertInstanceOf(CursorPageable.class, pageable);
+        assertNull(cursor.getCursor());
+        assertEquals(5, cursor.getPageSize());
+        assertEquals(Direction.ASC, cursor.getDirection());
+    }
+
+    @Test
+    void summaryWrapsOffsetPages() throws Exception {
+        Pageable pageable = resolve(Map.of("summary", "true", "page", "1", "size", "5"));
+
+        SummaryPageable summary = assertInstanceOf(SummaryPageable.class, pageable);
+        assertInstanceOf(PageRequest.class, summary.getPageable());
+        assertEquals(1, summary.getPageNumber());
+        assertTrue(summary.getFields().isEmpty());
+    }
+
+    @Test
+    void summaryWrapsCursorPages() throws Exception {
+        Pageable pageable = resolve(Map.of("summary", "true", "cursor", ""));
+
+        SummaryPageable summary = assertInstanceOf(SummaryPageable.class, pageable);
+        assertInstanceOf(CursorPageable.class, summary.getPageable());
+    }
+
+    @Test
+    void summaryFieldsAreMerged() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("summary", "true");
+        request.addParameter("fields", "task, function");
+        request.addParameter("fields", "labels");
+        request.addParameter("fields", "");
+
+        SummaryPageable summary = assertInstanceOf(SummaryPageable.class, resolve(request));
+        assertEquals(List.of("task", "function", "labels"), List.copyOf(summary.getFields()));
+    }
+
+    @Test
+    void summaryIsOptIn() throws Exception {
+        assertInstanceOf(PageRequest.class, resolve(Map.of("summary", "false", "fields", "task")));
+    }
+
+    @Test
+    void invalidCursorIsBadRequest() throws Exception {
+        MockMvc mvc = MockMvcBuilders
+            .standaloneSetup(new Handler())
+            .setCustomArgumentResolvers(resolver)
+            .setControllerAdvice(new CustomExceptionHandler())
+            .build();
+
+        mvc.perform(get("/items").param("cursor", "not-a-cursor")).andExpect(status().isBadRequest());
+        mvc.perform(get("/items").param("cursor", "")).andExpect(status().isOk());
+    }
+
+    private Pageable resolve(Map<String, String> params) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        params.forEach(request::addParameter);
+        return resolve(request);
+    }
+
+    private Pageable resolve(MockHttpServletRequest request) throws Exception {
+        MethodParameter parameter = new MethodParameter(Handler.class.getDeclaredMethod("list", Pageable.class), 0);
+        return resolver.resolveArgument(parameter, null, new ServletWebRequest(request), null);
+    }
+
+    @RestController
+    static class Handler {
+
+        @GetMapping("/items")
+        public List<String> list(Pageable pageable) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class OutboxRelayTest {
+
+    private static final String CHANNEL = "test";
+
+    private OutboxRepository repository;
+    private EventOutbox outbox;
+    private TransactionTemplate transactionTemplate;
+
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:outbox" + System.nanoTime() + ";DB_CLOSE_DELAY=-1",
+            "sa",
+            ""
+        );
+        new ResourceDatabasePopulator(new ClassPathResource("db/schema-h2.sql")).execute(dataSource);
+
+        repository = new OutboxRepository(dataSource);
+        outbox = new EventOutbox(repository);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        received.clear();
+    }
+
+    private OutboxRelay relay(MessageChannel channel) {
+        OutboxRelay r = new OutboxRelay(outbox, repository, Map.of(CHANNEL, channel));
+        r.setBackoff(Duration.ZERO);
+        return r;
+    }
+
+    //synchronous consumer acking every message
+    private MessageChannel consumer() {
+        return (message, timeout) -> {
+            received.add((String) message.getPayload());
+            relay.ack(id(message));
+            return true;
+        };
+    }
+
+    private static String id(Message<?> message) {
+        return message.getHeaders().get(OutboxRelay.IDEMPOTENCY_KEY, String.class);
+    }
+
+    @Test
+    void appendFollowsTransaction() {
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.append(CHANNEL, "r1", "discarded");
+            status.setRollbackOnly();
+        });
+        assertEquals(0, repository.count());
+
+        transactionTemplate.executeWithoutResult(status -> outbox.append(CHANNEL, "r1", "kept"));
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void deliverInOrderAndAck() {
+        relay = relay(consumer());
+        relay.setBatchSize(2);
+
+        MessageChannel channel = outbox.channel(CHANNEL, p -> ((String) p).substring(0, 2));
+        List.of("r1-1", "r2-1", "r1-2", "r1-3", "r2-2").forEach(p ->
+            channel.send(MessageBuilder.withPayload(p).build())
+        );
+        assertEquals(5, repository.count());
+
+        relay.poll();
+        assertEquals(List.of("r1-1", "r2-1", "r1-2", "r1-3", "r2-2"), received);
+
+        //acks are persisted on the next pass
+        relay.poll();
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void retryFailedWithoutOvertaking() {
+        AtomicBoolean fail = new AtomicBoolean(true);
+        relay =
+            relay((message, timeout) -> {
+                String payload = (String) message.getPayload();
+                if (payload.equals("r1-1") && fail.getAndSet(false)) {
+                    relay.release(id(message));
+                    return true;
+                }
+
+                received.add(payload);
+                relay.ack(id(message));
+                return true;
+            });
+
+        outbox.append(CHANNEL, "r1", "r1-1");
+        outbox.append(CHANNEL, "r1", "r1-2");
+        outbox.append(CHANNEL, "r2", "r2-1");
+
+        //r1-2 waits for r1-1, other keys proceed
+        relay.poll();
+        assertEquals(List.of("r2-1"), received);
+
+        relay.poll();
+        assertEquals(List.of("r2-1", "r1-1", "r1-2"), received);
+
+        relay.poll();
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void redeliverUnackedAfterLease() {
+        //first relay crashes before acking
+        relay = relay((message, timeout) -> true);
+        relay.setLease(Duration.ZERO);
+        outbox.append(CHANNEL, "r1", "r1-1");
+        relay.poll();
+        assertTrue(received.isEmpty());
+
+        //a new relay picks the event again, with the same idempotency key
+        List<String> ids = new CopyOnWriteArrayList<>();
+        relay =
+            relay((message, timeout) -> {
+                ids.add(id(message));
+                received.add((String) message.getPayload());
+                relay.ack(id(message));
+                return true;
+            });
+        relay.poll();
+        assertEquals(List.of("r1-1"), received);
+        assertTrue(relay.isDelivered(ids.get(0)));
+        assertFalse(relay.isDelivered("missing"));
+
+        relay.poll();
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void leasedEventsDoNotStallBatch() {
+        relay = relay(consumer());
+        relay.setBatchSize(1);
+
+        //oldest event leased by another instance
+        outbox.append(CHANNEL, "r1", "r1-1");
+        outbox.append(CHANNEL, "r1", "r1-2");
+        outbox.append(CHANNEL, "r2", "r2-1");
+        List<String> leased = repository.findPending("other", 1).stream().map(OutboxEntity::getId).toList();
+        repository.claim(leased, "other", Instant.now().plus(Duration.ofMinutes(5)));
+
+        //r1-2 waits behind the leased r1-1, r2-1 is delivered
+        relay.poll();
+        assertEquals(List.of("r2-1"), received);
+    }
+
+    @Test
+    void moveToDeadLetterAfterMaxAttempts() {
+        relay =
+            relay((message, timeout) -> {
+                relay.release(id(message));
+                return true;
+            });
+        relay.setMaxAttempts(2);
+        outbox.append(CHANNEL, "r1", "r1-1");
+
+        relay.poll();
+        relay.poll();
+        relay.poll();
+
+        //kept for inspection, not delivered anymore
+        assertEquals(1, repository.count());
+        assertEquals(1, repository.countDeadLetters());
+        assertTrue(repository.findPending("any", 10).isEmpty());
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.projects.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import it.smartcommunitylabdhub.artifacts.Artifact;
+import it.smartcommunitylabdhub.commons.config.ApplicationProperties;
+import it.smartcommunitylabdhub.commons.jackson.JacksonMapper;
+import it.smartcommunitylabdhub.commons.models.base.BaseDTO;
+import it.smartcommunitylabdhub.commons.models.project.Project;
+import it.smartcommunitylabdhub.commons.models.queries.CursorPage;
+import it.smartcommunitylabdhub.commons.models.queries.CursorPageable;
+import it.smartcommunitylabdhub.commons.models.queries.SummaryPageable;
+import it.smartcommunitylabdhub.core.projects.specs.ProjectSpec;
+import it.smartcommunitylabdhub.core.services.EntityService;
+import it.smartcommunitylabdhub.core.services.VersionableEntityService;
+import it.smartcommunitylabdhub.models.Model;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ProjectManagerImplTest {
+
+    private static final String PROJECT = "p1";
+
+    private ProjectManagerImpl manager;
+    private VersionableEntityService<Artifact> artifactService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        EntityService<Project> entityService = mock(EntityService.class);
+        when(entityService.get(PROJECT))
+            .thenAnswer(invocation ->
+                Project.builder().id(PROJECT).name(PROJECT).kind("project").spec(new HashMap<>()).build()
+            );
+
+        List<Artifact> artifacts = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            artifacts.add(Artifact.builder().id("a" + i).name("a" + i).kind("artifact").project(PROJECT).build());
+        }
+        artifactService = service(artifacts);
+
+        manager = new ProjectManagerImpl();
+        ReflectionTestUtils.setField(manager, "applicationProperties", mock(ApplicationProperties.class));
+        ReflectionTestUtils.setField(manager, "entityService", entityService);
+        ReflectionTestUtils.setField(manager, "artifactService", artifactService);
+        ReflectionTestUtils.setField(manager, "dataItemService", service(List.of()));
+        ReflectionTestUtils.setField(manager, "modelService", service(List.of()));
+        ReflectionTestUtils.setField(manager, "functionService", service(List.of()));
+        ReflectionTestUtils.setField(manager, "workflowService", service(List.of()));
+        ReflectionTestUtils.setField(manager, "summaryCache", new ProjectSummaryCache(300));
+        for (String limit : List.of(
+            "artifactsLimit",
+            "dataItemsLimit",
+            "modelsLimit",
+            "functionsLimit",
+            "workflowsLimit"
+        )) {
+            ReflectionTestUtils.setField(manager, limit, 10);
+        }
+    }
+
+    @Test
+    void contentAboveLimitIsCounted() throws Exception {
+        ReflectionTestUtils.setField(manager, "artifactsLimit", 2);
+        Project project = manager.getProject(PROJECT);
+
+        assertEquals(2, spec(project).getArtifacts().size());
+        assertEquals(5L, summary(project).get("artifacts"));
+        assertEquals(0L, summary(project).get("models"));
+    }
+
+    @Test
+    void contentWithinLimitIsNotCounted() throws Exception {
+        Project project = manager.getProject(PROJECT);
+
+        assertEquals(5, spec(project).getArtifacts().size());
+        assertEquals(5L, summary(project).get("artifacts"));
+        verify(artifactService, never()).listLatestByProject(eq(PROJECT), any(SummaryPageable.class));
+    }
+
+    @Test
+    void zeroLimitEmbedsNothing() throws Exception {
+        ReflectionTestUtils.setField(manager, "artifactsLimit", 0);
+        Project project = manager.getProject(PROJECT);
+
+        assertTrue(spec(project).getArtifacts().isEmpty());
+        assertEquals(5L, summary(project).get("artifacts"));
+        verify(artifactService, never()).listLatestByProject(eq(PROJECT), any(CursorPageable.class));
+    }
+
+    @Test
+    void limitsApplyPerType() throws Exception {
+        List<Model> models = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            models.add(Model.builder().id("m" + i).name("m" + i).kind("model").project(PROJECT).build());
+        }
+        ReflectionTestUtils.setField(manager, "modelService", service(models));
+        ReflectionTestUtils.setField(manager, "artifactsLimit", 2);
+        ReflectionTestUtils.setField(manager, "modelsLimit", 4);
+        Project project = manager.getProject(PROJECT);
+
+        assertEquals(2, spec(project).getArtifacts().size());
+        assertEquals(4, spec(project).getModels().size());
+        assertEquals(5L, summary(project).get("artifacts"));
+        assertEquals(5L, summary(project).get("models"));
+    }
+
+    @Test
+    void summaryIsNotPersisted() throws Exception {
+        Project project = manager.getProject(PROJECT);
+        assertFalse(project.getStatus().containsKey("summary"));
+
+        //a client sending back the project does not write the summary
+        String json = JacksonMapper.CUSTOM_OBJECT_MAPPER.writeValueAsString(project);
+        assertTrue(json.contains("\"summary\""));
+        assertNull(JacksonMapper.CUSTOM_OBJECT_MAPPER.readValue(json, Project.class).getSummary());
+    }
+
+    private static ProjectSpec spec(Project project) {
+        ProjectSpec spec = new ProjectSpec();
+        spec.configure(project.getSpec());
+        return spec;
+    }
+
+    private static Map<String, Serializable> summary(Project project) {
+        return project.getSummary();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends BaseDTO> VersionableEntityService<T> service(List<T> latest) throws Exception {
+        VersionableEntityService<T> service = mock(VersionableEntityService.class);
+        when(service.listLatestByProject(eq(PROJECT), any(Pageable.class)))
+            .thenAnswer(invocation -> {
+                Pageable pageable = invocation.getArgument(1);
+                if (pageable instanceof CursorPageable cursor) {
+                    int size = Math.min(cursor.getPageSize(), latest.size());
+                    return new CursorPage<>(latest.subList(0, size), cursor, size < latest.size() ? "next" : null);
+                }
+
+                //header-only count
+                return new PageImpl<>(List.of(), pageable, latest.size());
+            });
+        return service;
+    }
+}
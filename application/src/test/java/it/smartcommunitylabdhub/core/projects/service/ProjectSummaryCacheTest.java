@@ -0,0 +1,145 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.projects.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import it.smartcommunitylabdhub.artifacts.persistence.ArtifactEntity;
+import it.smartcommunitylabdhub.core.events.EntityBatchEvent;
+import it.smartcommunitylabdhub.core.events.EntityEvent;
+import it.smartcommunitylabdhub.events.EntityAction;
+import it.smartcommunitylabdhub.models.persistence.ModelEntity;
+import it.smartcommunitylabdhub.projects.persistence.ProjectEntity;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ProjectSummaryCacheTest {
+
+    private ProjectSummaryCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProjectSummaryCache(300);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void countsAreLoadedOnce() {
+        assertEquals(5, cache.count("p1", ArtifactEntity.class, loader(5)));
+        assertEquals(5, cache.count("p1", ArtifactEntity.class, loader(7)));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void eventsInvalidateOnlyAffectedType() {
+        cache.count("p1", ArtifactEntity.class, loader(5));
+        cache.count("p1", ModelEntity.class, loader(2));
+        cache.count("p2", ArtifactEntity.class, loader(3));
+
+        cache.receive(new EntityEvent<>(artifact("p1"), EntityAction.CREATE));
+
+        assertEquals(6, cache.count("p1", ArtifactEntity.class, loader(6)));
+        assertEquals(2, cache.count("p1", ModelEntity.class, loader(0)));
+        assertEquals(3, cache.count("p2", ArtifactEntity.class, loader(0)));
+        assertEquals(4, loads.get());
+
+        cache.receive(new EntityEvent<>(artifact("p1"), EntityAction.DELETE));
+        assertEquals(5, cache.count("p1", ArtifactEntity.class, loader(5)));
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    void updatesAreIgnored() {
+        cache.count("p1", ArtifactEntity.class, loader(5));
+        cache.receive(new EntityEvent<>(artifact("p1"), EntityAction.UPDATE));
+
+        assertEquals(5, cache.count("p1", ArtifactEntity.class, loader(0)));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void batchesInvalidateEveryProject() {
+        cache.count("p1", ArtifactEntity.class, loader(5));
+        cache.count("p2", ArtifactEntity.class, loader(3));
+
+        cache.receiveAll(
+            new EntityBatchEvent<>(
+                List.of(
+                    new EntityEvent<>(artifact("p1"), EntityAction.CREATE),
+                    new EntityEvent<>(artifact("p2"), EntityAction.CREATE)
+                )
+            )
+        );
+
+        assertEquals(6, cache.count("p1", ArtifactEntity.class, loader(6)));
+        assertEquals(4, cache.count("p2", ArtifactEntity.class, loader(4)));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void projectDeletionDropsAllTypes() {
+        cache.count("p1", ArtifactEntity.class, loader(5));
+        cache.count("p1", ModelEntity.class, loader(2));
+        cache.count("p2", ArtifactEntity.class, loader(3));
+
+        cache.receive(new EntityEvent<>(ProjectEntity.builder().name("p1").build(), EntityAction.DELETE));
+
+        assertEquals(0, cache.count("p1", ArtifactEntity.class, loader(0)));
+        assertEquals(0, cache.count("p1", ModelEntity.class, loader(0)));
+        assertEquals(3, cache.count("p2", ArtifactEntity.class, loader(0)));
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    void loadsRacingWithEventsAreNotCached() {
+        //an event lands while the count is loading: the loaded value may be stale
+        long count = cache.count(
+            "p1",
+            ArtifactEntity.class,
+            () -> {
+                cache.receive(new EntityEvent<>(artifact("p1"), EntityAction.CREATE));
+                return 5;
+            }
+        );
+        assertEquals(5, count);
+
+        assertEquals(6, cache.count("p1", ArtifactEntity.class, loader(6)));
+        assertEquals(1, loads.get());
+    }
+
+    private LongSupplier loader(long value) {
+        return () -> {
+            loads.incrementAndGet();
+            return value;
+        };
+    }
+
+    private static ArtifactEntity artifact(String project) {
+        return ArtifactEntity.builder().id("a1").kind("artifact").project(project).name("a").build();
+    }
+}
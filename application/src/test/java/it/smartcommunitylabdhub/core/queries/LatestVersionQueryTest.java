@@ -0,0 +1,236 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.queries;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.smartcommunitylabdhub.artifacts.persistence.ArtifactEntity;
+import it.smartcommunitylabdhub.core.queries.specifications.CommonSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+/**
+ * Latest version lookups of CommonSpecification, evaluated on a versioned entity table.
+ * Plans are compared on the generated SQL against the former grouped max subquery.
+ */
+class LatestVersionQueryTest {
+
+    private static final long T0 = 1_700_000_000_000L;
+    private static final String INDEX = "ARTIFACTS_PRJ_NAME_CREATED_INDEX";
+
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+
+    private LocalContainerEntityManagerFactoryBean factory;
+    private EntityManager entityManager;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:latest" + System.nanoTime() + ";DB_CLOSE_DELAY=-1",
+            "sa",
+            ""
+        );
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        //record generated sql to explain it
+        StatementInspector inspector = sql -> {
+            statements.add(sql);
+            return sql;
+        };
+
+        factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan(ArtifactEntity.class.getPackageName());
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(
+            Map.of("hibernate.hbm2ddl.auto", "create-drop", AvailableSettings.STATEMENT_INSPECTOR, inspector)
+        );
+        factory.afterPropertiesSet();
+
+        EntityManagerFactory emf = factory.getObject();
+        entityManager = emf.createEntityManager();
+
+        entityManager.getTransaction().begin();
+        //prj1: a with three versions, b with a single one, c with two versions created at the same time
+        persist("prj1-a-v1", "prj1", "a", 1);
+        persist("prj1-a-v2", "prj1", "a", 2);
+        persist("prj1-a-v3", "prj1", "a", 3);
+        persist("prj1-b-v1", "prj1", "b", 1);
+        persist("prj1-c-v1", "prj1", "c", 5);
+        persist("prj1-c-v2", "prj1", "c", 5);
+        //prj2: same name with newer versions, must not hide the ones in prj1
+        persist("prj2-a-v1", "prj2", "a", 4);
+        persist("prj2-a-v2", "prj2", "a", 6);
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManager.close();
+        factory.destroy();
+    }
+
+    @Test
+    void latestPerProjectAndName() {
+        assertEquals(
+            Set.of("prj1-a-v3", "prj1-b-v1", "prj1-c-v1", "prj1-c-v2", "prj2-a-v2"),
+            ids(CommonSpecification.latest())
+        );
+    }
+
+    @Test
+    void latestByProject() {
+        assertEquals(
+            Set.of("prj1-a-v3", "prj1-b-v1", "prj1-c-v1", "prj1-c-v2"),
+            ids(CommonSpecification.latestByProject("prj1"))
+        );
+        assertEquals(Set.of("prj2-a-v2"), ids(CommonSpecification.latestByProject("prj2")));
+        assertEquals(Set.of(), ids(CommonSpecification.latestByProject("prj3")));
+    }
+
+    @Test
+    void latestByProjectAndName() {
+        assertEquals(Set.of("prj1-a-v3"), ids(CommonSpecification.latestByProject("prj1", "a")));
+        assertEquals(Set.of("prj2-a-v2"), ids(CommonSpecification.latestByProject("prj2", "a")));
+    }
+
+    @Test
+    void tiesReturnAllVersions() {
+        //versions created at the same instant are all latest, for every variant
+        assertEquals(Set.of("prj1-c-v1", "prj1-c-v2"), ids(CommonSpecification.latestByProject("prj1", "c")));
+        assertEquals(
+            Set.of("prj1-c-v1", "prj1-c-v2"),
+            ids(CommonSpecification.<ArtifactEntity>latestByProject("prj1").and(CommonSpecification.nameEquals("c")))
+        );
+    }
+
+    @Test
+    void antiJoinSeeksOnNewerVersions() {
+        //same results as the former lookup
+        assertEquals(ids(grouped("prj1")), ids(CommonSpecification.latestByProject("prj1")));
+
+        //former lookup aggregates every version of each name
+        String grouped = plan(grouped("prj1"), "prj1");
+        assertTrue(grouped.contains("MAX(") && grouped.contains("GROUP BY"), grouped);
+        assertFalse(seeks(grouped, "CREATED >"), grouped);
+
+        //current lookup seeks on the index for a newer version of the same project and name
+        String antiJoin = plan(CommonSpecification.latestByProject("prj1"), "prj1");
+        assertFalse(antiJoin.contains("MAX("), antiJoin);
+        assertTrue(seeks(antiJoin, "CREATED >"), antiJoin);
+    }
+
+    //former latestByProject: created in the max(created) grouped by name and project
+    private static Specification<ArtifactEntity> grouped(String project) {
+        return (root, query, criteriaBuilder) -> {
+            Subquery<Date> subquery = query.subquery(Date.class);
+            Root<ArtifactEntity> subqueryRoot = subquery.from(ArtifactEntity.class);
+
+            subquery.select(criteriaBuilder.greatest(subqueryRoot.<Date>get("created")));
+            subquery.where(
+                criteriaBuilder.equal(subqueryRoot.get("project"), project),
+                criteriaBuilder.equal(subqueryRoot.get("name"), root.get("name"))
+            );
+            subquery.groupBy(subqueryRoot.get("name"), subqueryRoot.get("project"));
+
+            return criteriaBuilder.and(
+                criteriaBuilder.equal(root.get("project"), project),
+                root.get("created").in(subquery)
+            );
+        };
+    }
+
+    private String plan(Specification<ArtifactEntity> spec, String project) {
+        statements.clear();
+        ids(spec);
+        String sql = statements.get(statements.size() - 1);
+
+        //every parameter is the project
+        Object[] args = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+        Arrays.fill(args, project);
+
+        String plan = String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class, args));
+        return plan.replace("\"", "").toUpperCase();
+    }
+
+    private static boolean seeks(String plan, String condition) {
+        //index conditions are reported as comments in the plan
+        return Pattern
+            .compile("/\\* PUBLIC\\." + INDEX + ": [^*]*\\b" + Pattern.quote(condition))
+            .matcher(plan)
+            .find();
+    }
+
+    private void persist(String id, String project, String name, int seconds) {
+        entityManager.persist(
+            ArtifactEntity
+                .builder()
+                .id(id)
+                .kind("artifact")
+                .project(project)
+                .name(name)
+                .state("READY")
+                .created(new Date(T0 + seconds * 1000L))
+                .updated(new Date(T0 + seconds * 1000L))
+                .build()
+        );
+    }
+
+    private Set<String> ids(Specification<ArtifactEntity> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ArtifactEntity> query = criteriaBuilder.createQuery(ArtifactEntity.class);
+        Root<ArtifactEntity> root = query.from(ArtifactEntity.class);
+        query.select(root).where(spec.toPredicate(root, query, criteriaBuilder));
+
+        List<ArtifactEntity> results = entityManager.createQuery(query).getResultList();
+        return results.stream().map(ArtifactEntity::getId).collect(Collectors.toSet());
+    }
+}
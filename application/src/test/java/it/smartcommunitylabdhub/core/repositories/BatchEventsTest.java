@@ -0,0 +1,144 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import it.smartcommunitylabdhub.artifacts.Artifact;
+import it.smartcommunitylabdhub.artifacts.persistence.ArtifactEntity;
+import it.smartcommunitylabdhub.artifacts.persistence.ArtifactRepository;
+import it.smartcommunitylabdhub.artifacts.services.ArtifactEntityRepository;
+import it.smartcommunitylabdhub.core.events.EntityBatchEvent;
+import it.smartcommunitylabdhub.core.events.EntityEvent;
+import it.smartcommunitylabdhub.events.EntityAction;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Batch writes of BaseEntityRepositoryImpl publish a single event for the whole batch.
+ */
+class BatchEventsTest {
+
+    private static final byte[] BLOB = "blob".getBytes(StandardCharsets.UTF_8);
+
+    private LocalContainerEntityManagerFactoryBean factory;
+    private ArtifactEntityRepository repository;
+
+    private final List<Object> published = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:batch" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "")
+        );
+        factory.setPackagesToScan(ArtifactEntity.class.getPackageName());
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create-drop"));
+        factory.afterPropertiesSet();
+
+        EntityManagerFactory emf = factory.getObject();
+        EntityManager shared = SharedEntityManagerCreator.createSharedEntityManager(emf);
+        repository = new ArtifactEntityRepository();
+        repository.setRepository(new JpaRepositoryFactory(shared).getRepository(ArtifactRepository.class));
+        repository.setTransactionManager(new JpaTransactionManager(emf));
+        repository.setEventPublisher(published::add);
+        repository.setEntityBuilder(d ->
+            ArtifactEntity
+                .builder()
+                .id(d.getId())
+                .kind(d.getKind())
+                .project(d.getProject())
+                .name(d.getName())
+                .state("CREATED")
+                .metadata(BLOB)
+                .spec(BLOB)
+                .status(BLOB)
+                .created(new Date())
+                .updated(new Date())
+                .build()
+        );
+        repository.setDtoBuilder(e ->
+            Artifact.builder().id(e.getId()).name(e.getName()).kind(e.getKind()).project(e.getProject()).build()
+        );
+        ReflectionTestUtils.setField(repository, "entityManager", shared);
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.destroy();
+    }
+
+    @Test
+    void createAllPublishesSingleEvent() throws Exception {
+        repository.createAll(List.of(artifact("a0"), artifact("a1"), artifact("a2")));
+
+        assertEquals(1, published.size());
+        List<EntityEvent<ArtifactEntity>> events = events(published.get(0));
+        assertEquals(List.of("a0", "a1", "a2"), events.stream().map(e -> e.getEntity().getId()).toList());
+        events.forEach(e -> assertEquals(EntityAction.CREATE, e.getAction()));
+    }
+
+    @Test
+    void updateAllPublishesSingleEvent() throws Exception {
+        repository.createAll(List.of(artifact("a0"), artifact("a1"), artifact("a2")));
+        published.clear();
+
+        repository.updateAll(List.of(artifact("a2"), artifact("a0")));
+
+        assertEquals(1, published.size());
+        List<EntityEvent<ArtifactEntity>> events = events(published.get(0));
+        assertEquals(List.of("a2", "a0"), events.stream().map(e -> e.getEntity().getId()).toList());
+        events.forEach(e -> {
+            assertEquals(EntityAction.UPDATE, e.getAction());
+            assertNotNull(e.getPrev());
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<EntityEvent<ArtifactEntity>> events(Object event) {
+        return ((EntityBatchEvent<ArtifactEntity>) assertInstanceOf(EntityBatchEvent.class, event)).getEvents();
+    }
+
+    private static Artifact artifact(String id) {
+        return Artifact.builder().id(id).name(id).kind("artifact").project("prj1").build();
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import it.smartcommunitylabdhub.artifacts.Artifact;
+import it.smartcommunitylabdhub.artifacts.persistence.ArtifactEntity;
+import it.smartcommunitylabdhub.artifacts.persistence.ArtifactRepository;
+import it.smartcommunitylabdhub.artifacts.services.ArtifactEntityRepository;
+import it.smartcommunitylabdhub.commons.models.queries.CursorPage;
+import it.smartcommunitylabdhub.commons.models.queries.CursorPageable;
+import it.smartcommunitylabdhub.commons.models.queries.SummaryPageable;
+import it.smartcommunitylabdhub.core.queries.specifications.CommonSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Summary projections of BaseEntityRepositoryImpl, on offset and cursor pages.
+ */
+class SummaryProjectionTest {
+
+    private static final long T0 = 1_700_000_000_000L;
+    private static final byte[] BLOB = "blob".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EMPTY_METADATA = new MapToCborAttributeConverter()
+        .convertToDatabaseColumn(new HashMap<>());
+
+    private LocalContainerEntityManagerFactoryBean factory;
+    private ArtifactEntityRepository repository;
+
+    //entities handed to the dto builder, as built by the store
+    private final List<ArtifactEntity> built = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:summary" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "")
+        );
+        factory.setPackagesToScan(ArtifactEntity.class.getPackageName());
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create-drop"));
+        factory.afterPropertiesSet();
+
+        EntityManagerFactory emf = factory.getObject();
+        EntityManager entityManager = emf.createEntityManager();
+        entityManager.getTransaction().begin();
+        for (int i = 0; i < 5; i++) {
+            persist(entityManager, "a" + i, "prj1", i);
+        }
+        persist(entityManager, "b0", "prj2", 10);
+        entityManager.getTransaction().commit();
+        entityManager.close();
+
+        EntityManager shared = SharedEntityManagerCreator.createSharedEntityManager(emf);
+        repository = new ArtifactEntityRepository();
+        repository.setRepository(new JpaRepositoryFactory(shared).getRepository(ArtifactRepository.class));
+        repository.setDtoBuilder(e -> {
+            built.add(e);
+            return Artifact.builder().id(e.getId()).name(e.getName()).kind(e.getKind()).project(e.getProject()).build();
+        });
+        ReflectionTestUtils.setField(repository, "entityManager", shared);
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.destroy();
+    }
+
+    @Test
+    void summariesSkipBlobs() {
+        Page<Artifact> page = repository.list(new SummaryPageable(PageRequest.of(0, 10, byCreated()), null));
+
+        assertEquals(List.of("b0", "a4", "a3", "a2", "a1", "a0"), ids(page));
+        ArtifactEntity e = built.get(0);
+        assertEquals("b0", e.getName());
+        assertEquals("prj2", e.getProject());
+        assertEquals("READY", e.getState());
+        assertEquals(new Date(T0 + 10_000L), e.getCreated());
+        assertNull(e.getSpec());
+        assertNull(e.getStatus());
+        assertNull(e.getLabels());
+        assertArrayEquals(EMPTY_METADATA, e.getMetadata());
+    }
+
+    @Test
+    void promotedFields() {
+        repository.list(new SummaryPageable(PageRequest.of(0, 10, byCreated()), List.of("labels", "embedded")));
+
+        ArtifactEntity e = built.get(0);
+        assertEquals("label-b0", e.getLabels());
+        assertEquals(Boolean.TRUE, e.getEmbedded());
+        assertNull(e.getSpec());
+    }
+
+    @Test
+    void invalidFieldsAreRejected() {
+        //blobs and unknown attributes can not be promoted
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> repository.list(new SummaryPageable(PageRequest.of(0, 10), List.of("spec")))
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> repository.list(new SummaryPageable(PageRequest.of(0, 10), List.of("unknown")))
+        );
+    }
+
+    @Test
+    void offsetPagesAreCounted() {
+        Page<Artifact> page = repository.search(
+            CommonSpecification.projectEquals("prj1"),
+            new SummaryPageable(PageRequest.of(1, 2, byCreated()), null)
+        );
+
+        assertEquals(List.of("a2", "a1"), ids(page));
+        assertEquals(5, page.getTotalElements());
+    }
+
+    @Test
+    void cursorPagesMatchFullPages() {
+        //summaries and full entities share the same keyset positions
+        List<String> summaries = new ArrayList<>();
+        List<String> full = new ArrayList<>();
+        String cursor = null;
+        String fullCursor = null;
+        do {
+            CursorPage<Artifact> page = (CursorPage<Artifact>) repository.list(
+                new SummaryPageable(new CursorPageable(cursor, 2, Direction.DESC), null)
+            );
+            CursorPage<Artifact> fullPage = (CursorPage<Artifact>) repository.list(
+                new CursorPageable(fullCursor, 2, Direction.DESC)
+            );
+
+            summaries.addAll(ids(page));
+            full.addAll(ids(fullPage));
+            cursor = page.getNext();
+            fullCursor = fullPage.getNext();
+            assertEquals(fullCursor, cursor);
+        } while (cursor != null);
+
+        assertEquals(List.of("b0", "a4", "a3", "a2", "a1", "a0"), summaries);
+        assertEquals(full, summaries);
+    }
+
+    private static Sort byCreated() {
+        return Sort.by(Direction.DESC, CursorPageable.CREATED, CursorPageable.ID);
+    }
+
+    private static List<String> ids(Page<Artifact> page) {
+        return page.getContent().stream().map(Artifact::getId).toList();
+    }
+
+    private static void persist(EntityManager entityManager, String id, String project, int seconds) {
+        entityManager.persist(
+            ArtifactEntity
+                .builder()
+                .id(id)
+                .kind("artifact")
+                .project(project)
+                .name(id)
+                .state("READY")
+                .labels("label-" + id)
+                .embedded(Boolean.TRUE)
+                .metadata(BLOB)
+                .spec(BLOB)
+                .status(BLOB)
+                .created(new Date(T0 + seconds * 1000L))
+                .updated(new Date(T0 + seconds * 1000L))
+                .build()
+        );
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.logs.follow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.smartcommunitylabdhub.components.cloud.CloudEntityEvent;
+import it.smartcommunitylabdhub.events.EntityAction;
+
+import it.smartcommunitylabdhub.logs.Log;
+import it.smartcommunitylabdhub.logs.LogEvent;
+import it.smartcommunitylabdhub.logs.LogRange;
+import it.smartcommunitylabdhub.logs.local.LocalLogFixture;
+import it.smartcommunitylabdhub.logs.local.LocalLogServiceImpl;
+import it.smartcommunitylabdhub.runs.Run;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Followers of the local log service, notified through the service events.
+ */
+class LogFollowServiceTest {
+
+    private static final long TIMEOUT = 5000;
+
+    private LocalLogFixture fixture;
+    private RecordingFollowService follow;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fixture = new LocalLogFixture(LocalLogServiceImpl.CHUNK_SIZE, LocalLogServiceImpl.MAX_LENGTH);
+        executor = Executors.newFixedThreadPool(2);
+        follow = new RecordingFollowService();
+        follow.setExecutor(executor);
+        follow.setLogStore(fixture.getService());
+        fixture.getService().setEventPublisher(event -> follow.receive((LogEvent) event));
+    }
+
+    @AfterEach
+    void tearDown() {
+        follow.stop();
+        executor.shutdownNow();
+        fixture.close();
+    }
+
+    @Test
+    void appendsAreStreamed() throws Exception {
+        Log log = fixture.create("a\n");
+        RecordingEmitter emitter = (RecordingEmitter) follow.follow(LocalLogFixture.RUN, null);
+        await(emitter, "a\n");
+
+        fixture.append(log.getId(), "b\n");
+        assertEquals("a\nb\n", await(emitter, "a\nb\n"));
+        assertEquals(List.of("a\n", "b\n"), emitter.contents());
+        assertEquals(2L, emitter.ranges.get(1).getOffset());
+    }
+
+    @Test
+    void updatesSendOnlyTheNewTail() throws Exception {
+        Log log = fixture.create("a\n");
+        RecordingEmitter emitter = (RecordingEmitter) follow.follow(LocalLogFixture.RUN, null);
+        await(emitter, "a\n");
+
+        //full content resent by the producer, followers get only what is new
+        fixture.update(log.getId(), "a\nb\n");
+        fixture.update(log.getId(), "a\nb\n");
+        fixture.update(log.getId(), "a\nb\nc\n");
+
+        assertEquals("a\nb\nc\n", await(emitter, "a\nb\nc\n"));
+        assertEquals(3, fixture.chunks(log.getId()).size());
+        assertEquals(6L, fixture.header(log.getId()).getNextOffset());
+    }
+
+    @Test
+    void rewritesContinueFromPosition() throws Exception {
+        Log log = fixture.create("a\n");
+        RecordingEmitter emitter = (RecordingEmitter) follow.follow(LocalLogFixture.RUN, null);
+        await(emitter, "a\n");
+
+        //replaced content is written after the current position
+        fixture.update(log.getId(), "x\n");
+        assertEquals("a\nx\n", await(emitter, "a\nx\n"));
+        assertEquals(2L, emitter.ranges.get(1).getOffset());
+        assertEquals(1, fixture.chunks(log.getId()).size());
+    }
+
+    @Test
+    void resumeFromLastEventId() throws Exception {
+        Log log = fixture.create("a\nb\n");
+        RecordingEmitter emitter = (RecordingEmitter) follow.follow(LocalLogFixture.RUN, log.getId() + ":2");
+
+        assertEquals("b\n", await(emitter, "b\n"));
+        assertEquals(log.getId() + ":4", emitter.ids.get(0));
+    }
+
+    @Test
+    void newLogsAreStreamedFromStart() throws Exception {
+        RecordingEmitter emitter = (RecordingEmitter) follow.follow(LocalLogFixture.RUN, null);
+
+        fixture.create("a\n");
+        assertEquals("a\n", await(emitter, "a\n"));
+    }
+
+    @Test
+    void positionsOfOtherRunsAreIgnored() throws Exception {
+        Log log = fixture.create("secret\n");
+
+        //a made up position for a log of another run
+        RecordingEmitter emitter = (RecordingEmitter) follow.follow("r2", log.getId() + ":0");
+        fixture.append(log.getId(), "more\n");
+
+        Thread.sleep(200);
+        assertEquals("", emitter.content());
+    }
+
+    @Test
+    void finishedRunsAreCompleted() throws Exception {
+        fixture.create("a\n");
+        RecordingEmitter emitter = (RecordingEmitter) follow.follow(run("COMPLETED"), "");
+
+        //what is stored is sent, then the stream ends
+        assertEquals("a\n", await(emitter, "a\n"));
+        assertTrue(awaitCompletion(emitter));
+    }
+
+    @Test
+    void streamsEndWithTheRun() throws Exception {
+        fixture.create("a\n");
+        RecordingEmitter emitter = (RecordingEmitter) follow.follow(run("RUNNING"), null);
+        await(emitter, "a\n");
+        assertFalse(emitter.completed);
+
+        follow.receive(new CloudEntityEvent<>(run("ERROR"), Run.class, EntityAction.UPDATE));
+        assertTrue(awaitCompletion(emitter));
+    }
+
+    private static Run run(String state) {
+        Map<String, Serializable> status = new HashMap<>(Map.of("state", state));
+        return Run
+            .builder()
+            .id(LocalLogFixture.RUN)
+            .project(LocalLogFixture.PROJECT)
+            .kind("run")
+            .status(status)
+            .build();
+    }
+
+    private static boolean awaitCompletion(RecordingEmitter emitter) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (!emitter.completed && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return emitter.completed;
+    }
+
+    private static String await(RecordingEmitter emitter, String expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (!expected.equals(emitter.content()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return emitter.content();
+    }
+
+    private static class RecordingFollowService extends LogFollowService {
+
+        @Override
+        protected SseEmitter createEmitter(long timeout) {
+            return new RecordingEmitter(timeout);
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> ids = new CopyOnWriteArrayList<>();
+        private final List<LogRange> ranges = new CopyOnWriteArrayList<>();
+        private volatile boolean completed = false;
+
+        RecordingEmitter(long timeout) {
+            super(timeout);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder
+                .build()
+                .forEach(d -> {
+                    if (d.getData() instanceof LogRange range) {
+                        ranges.add(range);
+                    } else if (d.getData() instanceof String text) {
+                        //event fields are sent as text lines before data
+                        text.lines().filter(l -> l.startsWith("id:")).forEach(l -> ids.add(l.substring(3)));
+                    }
+                });
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+
+        List<String> contents() {
+            return ranges.stream().map(LogRange::getContent).toList();
+        }
+
+        String content() {
+            return ranges.stream().map(LogRange::getContent).collect(Collectors.joining());
+        }
+    }
+}
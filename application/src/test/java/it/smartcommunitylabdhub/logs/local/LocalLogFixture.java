@@ -0,0 +1,160 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.logs.local;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import it.smartcommunitylabdhub.commons.exceptions.StoreException;
+import it.smartcommunitylabdhub.commons.models.project.Project;
+import it.smartcommunitylabdhub.commons.repositories.EntityRepository;
+import it.smartcommunitylabdhub.core.repositories.MapToCborAttributeConverter;
+import it.smartcommunitylabdhub.core.repositories.converters.StringToCborAttributeConverter;
+import it.smartcommunitylabdhub.logs.Log;
+import it.smartcommunitylabdhub.logs.local.persistence.LogChunkEntity;
+import it.smartcommunitylabdhub.logs.local.persistence.LogChunkRepository;
+import it.smartcommunitylabdhub.logs.local.persistence.LogDTOBuilder;
+import it.smartcommunitylabdhub.logs.local.persistence.LogEntity;
+import it.smartcommunitylabdhub.logs.local.persistence.LogEntityBuilder;
+import it.smartcommunitylabdhub.logs.local.persistence.LogRepository;
+import it.smartcommunitylabdhub.runs.Run;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Local log service on an in-memory store, with a single project and run.
+ *
+ * Service calls run in a transaction via {@link #tx(Work)}, as the service is not proxied.
+ */
+public class LocalLogFixture implements AutoCloseable {
+
+    public static final String PROJECT = "p1";
+    public static final String RUN = "r1";
+
+    private final LocalContainerEntityManagerFactoryBean factory;
+    private final TransactionTemplate transactionTemplate;
+    private final LogRepository logRepository;
+    private final LogChunkRepository chunkRepository;
+    private final LocalLogServiceImpl service;
+
+    @SuppressWarnings("unchecked")
+    public LocalLogFixture(int chunkSize, int maxLength) throws StoreException {
+        factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:logs" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "")
+        );
+        factory.setPackagesToScan(LogEntity.class.getPackageName());
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create-drop"));
+        factory.afterPropertiesSet();
+
+        EntityManagerFactory emf = factory.getObject();
+        JpaRepositoryFactory repositories = new JpaRepositoryFactory(
+            SharedEntityManagerCreator.createSharedEntityManager(emf)
+        );
+        logRepository = repositories.getRepository(LogRepository.class);
+        chunkRepository = repositories.getRepository(LogChunkRepository.class);
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(emf));
+
+        MapToCborAttributeConverter mapConverter = new MapToCborAttributeConverter();
+        StringToCborAttributeConverter stringConverter = new StringToCborAttributeConverter();
+        service =
+            new LocalLogServiceImpl(
+                logRepository,
+                chunkRepository,
+                new LogDTOBuilder(mapConverter, stringConverter),
+                new LogEntityBuilder(mapConverter, stringConverter)
+            );
+        ReflectionTestUtils.setField(service, "chunkSize", chunkSize);
+        ReflectionTestUtils.setField(service, "maxLength", maxLength);
+
+        EntityRepository<Project> projects = mock(EntityRepository.class);
+        when(projects.find(PROJECT))
+            .thenReturn(Project.builder().id(PROJECT).name(PROJECT).kind("project").build());
+        EntityRepository<Run> runs = mock(EntityRepository.class);
+        when(runs.find(RUN)).thenReturn(Run.builder().id(RUN).project(PROJECT).kind("run").build());
+        ReflectionTestUtils.setField(service, "projectService", projects);
+        ReflectionTestUtils.setField(service, "runEntityService", runs);
+    }
+
+    public LocalLogServiceImpl getService() {
+        return service;
+    }
+
+    public <T> T tx(Work<T> work) {
+        return transactionTemplate.execute(status -> {
+            try {
+                return work.run(service);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    public Log create(String content) {
+        return tx(s -> s.createLog(Log.builder().project(PROJECT).run(RUN).content(content).build()));
+    }
+
+    public Log update(String id, String content) {
+        return tx(s -> s.updateLog(id, Log.builder().id(id).project(PROJECT).run(RUN).content(content).build()));
+    }
+
+    public Log append(String id, String content) {
+        return tx(s -> s.appendLog(id, content));
+    }
+
+    public Log append(String id, String content, long offset, Map<String, Serializable> extensions) {
+        return tx(s -> s.appendLog(id, content, offset, extensions));
+    }
+
+    public LogEntity header(String id) {
+        return tx(s -> logRepository.findById(id).orElseThrow());
+    }
+
+    public List<LogChunkEntity> chunks(String id) {
+        return tx(s -> chunkRepository.findByLogOrderBySeqAsc(id));
+    }
+
+    @Override
+    public void close() {
+        factory.destroy();
+    }
+
+    @FunctionalInterface
+    public interface Work<T> {
+        T run(LocalLogServiceImpl service) throws Exception;
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.logs.local;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.smartcommunitylabdhub.logs.Log;
+import it.smartcommunitylabdhub.logs.LogRange;
+import it.smartcommunitylabdhub.logs.local.persistence.LogChunkEntity;
+import it.smartcommunitylabdhub.logs.local.persistence.LogEntity;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class LocalLogServiceImplTest {
+
+    private LocalLogFixture fixture;
+
+    @AfterEach
+    void tearDown() {
+        if (fixture != null) {
+            fixture.close();
+        }
+    }
+
+    @Test
+    void appendsAddChunks() throws Exception {
+        fixture = new LocalLogFixture(8, LocalLogServiceImpl.MAX_LENGTH);
+        Log log = fixture.create("aaaa\n");
+        String first = fixture.chunks(log.getId()).get(0).getId();
+
+        //split on line boundaries, previous chunks are untouched
+        fixture.append(log.getId(), "bbbb\ncccc\n");
+
+        List<LogChunkEntity> chunks = fixture.chunks(log.getId());
+        assertEquals(3, chunks.size());
+        assertEquals(first, chunks.get(0).getId());
+        assertChunk(chunks.get(1), 1, 5, 1, "bbbb\n");
+        assertChunk(chunks.get(2), 2, 10, 2, "cccc\n");
+
+        LogEntity header = fixture.header(log.getId());
+        assertEquals(15L, header.getNextOffset());
+        assertEquals(3L, header.getNextLine());
+        assertEquals(3L, header.getNextSeq());
+    }
+
+    @Test
+    void retentionDropsWholeChunks() throws Exception {
+        fixture = new LocalLogFixture(8, 12);
+        Log log = fixture.create("aaaa\n");
+        fixture.append(log.getId(), "bbbb\n");
+        fixture.append(log.getId(), "cccc\n");
+
+        //over budget: the head chunk is dropped, positions are kept
+        List<LogChunkEntity> chunks = fixture.chunks(log.getId());
+        assertEquals(List.of(1L, 2L), chunks.stream().map(LogChunkEntity::getSeq).toList());
+
+        LogRange range = fixture.getService().readLog(log.getId(), 0L, null, 0);
+        assertEquals("bbbb\ncccc\n", range.getContent());
+        assertEquals(5L, range.getOffset());
+        assertEquals(1L, range.getLine());
+        assertEquals(15L, range.getLength());
+
+        //updates repeating the retained stream append only the new bytes
+        fixture.update(log.getId(), "aaaa\nbbbb\ncccc\ndddd\n");
+        chunks = fixture.chunks(log.getId());
+        assertEquals(List.of(2L, 3L), chunks.stream().map(LogChunkEntity::getSeq).toList());
+        assertChunk(chunks.get(1), 3, 15, 3, "dddd\n");
+    }
+
+    @Test
+    void updatesAfterRetentionWriteOnlyTheTail() throws Exception {
+        fixture = new LocalLogFixture(8, 12);
+        Log log = fixture.create("aaaa\n");
+        fixture.update(log.getId(), "aaaa\nbbbb\n");
+        fixture.update(log.getId(), "aaaa\nbbbb\ncccc\n");
+
+        //head chunk is gone, the full content still extends the stream
+        String last = fixture.chunks(log.getId()).get(1).getId();
+        fixture.update(log.getId(), "aaaa\nbbbb\ncccc\ndddd\n");
+
+        List<LogChunkEntity> chunks = fixture.chunks(log.getId());
+        assertEquals(List.of(2L, 3L), chunks.stream().map(LogChunkEntity::getSeq).toList());
+        assertEquals(last, chunks.get(0).getId());
+        assertEquals(20L, fixture.header(log.getId()).getNextOffset());
+    }
+
+    @Test
+    void updatesAfterReplaceWriteOnlyTheTail() throws Exception {
+        fixture = new LocalLogFixture(8, LocalLogServiceImpl.MAX_LENGTH);
+        Log log = fixture.create("aaaa\n");
+
+        //replaced content starts at the current position
+        fixture.update(log.getId(), "xxxx\n");
+        String first = fixture.chunks(log.getId()).get(0).getId();
+        fixture.update(log.getId(), "xxxx\nyyyy\n");
+
+        List<LogChunkEntity> chunks = fixture.chunks(log.getId());
+        assertEquals(2, chunks.size());
+        assertEquals(first, chunks.get(0).getId());
+        assertChunk(chunks.get(1), 2, 10, 2, "yyyy\n");
+        assertEquals(5L, fixture.header(log.getId()).getBaseOffset());
+    }
+
+    @Test
+    void rangeReads() throws Exception {
+        fixture = new LocalLogFixture(6, LocalLogServiceImpl.MAX_LENGTH);
+        String id = fixture.create("l0\nl1\nl2\nl3\n").getId();
+        assertEquals(2, fixture.chunks(id).size());
+
+        //by offset, across chunks and cut on line end
+        LogRange range = fixture.getService().readLog(id, 3L, null, 6);
+        assertRange(range, "l1\nl2\n", 3, 1, 9, 3);
+        assertTrue(range.isMore());
+
+        //by line
+        range = fixture.getService().readLog(id, null, 2L, 0);
+        assertRange(range, "l2\nl3\n", 6, 2, 12, 4);
+        assertFalse(range.isMore());
+
+        //tail, aligned to line start
+        range = fixture.getService().readLog(id, null, null, 5);
+        assertRange(range, "l3\n", 9, 3, 12, 4);
+
+        //a line longer than the limit is cut
+        range = fixture.getService().readLog(id, 0L, null, 2);
+        assertRange(range, "l0", 0, 0, 2, 0);
+        assertTrue(range.isMore());
+
+        //past the end
+        range = fixture.getService().readLog(id, 12L, null, 0);
+        assertRange(range, "", 12, 4, 12, 4);
+    }
+
+    @Test
+    void logsCarryTheTail() throws Exception {
+        fixture = new LocalLogFixture(6, LocalLogServiceImpl.MAX_LENGTH);
+        ReflectionTestUtils.setField(fixture.getService(), "contentLength", 6);
+        String id = fixture.create("l0\nl1\nl2\nl3\n").getId();
+
+        assertEquals("l2\nl3\n", fixture.getService().getLog(id).getContent());
+        List<Log> logs = fixture.getService().getLogsByRunId(LocalLogFixture.RUN);
+        assertEquals(1, logs.size());
+        assertEquals("l2\nl3\n", logs.get(0).getContent());
+    }
+
+    @Test
+    void positionalAppendsAreIdempotent() throws Exception {
+        fixture = new LocalLogFixture(8, LocalLogServiceImpl.MAX_LENGTH);
+        String id = fixture.create("a\n").getId();
+        assertEquals(2L, fixture.header(id).getSourceOffset());
+
+        fixture.append(id, "b\n", 2, null);
+        //retried and overlapping deltas write only what was not applied yet
+        assertEquals("", fixture.append(id, "b\n", 2, null).getContent());
+        assertEquals("c\n", fixture.append(id, "b\nc\n", 2, null).getContent());
+        assertEquals("d\n", fixture.append(id, "c\nd\n", 4, null).getContent());
+
+        assertEquals("a\nb\nc\nd\n", fixture.getService().readLog(id, 0L, null, 0).getContent());
+        assertEquals(8L, fixture.header(id).getSourceOffset());
+
+        //full updates move positions to the end of the content
+        fixture.update(id, "a\nb\nc\nd\n");
+        assertEquals(8L, fixture.header(id).getSourceOffset());
+        fixture.append(id, "e\n", 8, null);
+        assertEquals("a\nb\nc\nd\ne\n", fixture.getService().readLog(id, 0L, null, 0).getContent());
+    }
+
+    @Test
+    void gapsWaitForAFullUpdate() throws Exception {
+        fixture = new LocalLogFixture(8, LocalLogServiceImpl.MAX_LENGTH);
+        String id = fixture.create("a\n").getId();
+
+        //missing range: nothing is written, position is kept
+        assertEquals("", fixture.append(id, "c\n", 4, null).getContent());
+        assertEquals(2L, fixture.header(id).getSourceOffset());
+        assertEquals(2L, fixture.getService().listLogHeadersByRunId(LocalLogFixture.RUN).get(0).getSourceOffset());
+
+        //producer resumes with the full content, only the missing tail is written
+        fixture.update(id, "a\nb\nc\n");
+        assertEquals("a\nb\nc\n", fixture.getService().readLog(id, 0L, null, 0).getContent());
+        assertEquals(6L, fixture.header(id).getSourceOffset());
+        assertChunk(fixture.chunks(id).get(0), 0, 0, 0, "a\n");
+    }
+
+    @Test
+    void appliedRangesAreSkippedOnCharBoundaries() throws Exception {
+        fixture = new LocalLogFixture(8, LocalLogServiceImpl.MAX_LENGTH);
+        String id = fixture.create("ab").getId();
+
+        //applied position falls inside the multibyte char, which is skipped whole
+        assertEquals("\n", fixture.append(id, "a\u00e9\n", 0, null).getContent());
+        assertEquals(4L, fixture.header(id).getSourceOffset());
+    }
+
+    @Test
+    void extensionsAreStored() throws Exception {
+        fixture = new LocalLogFixture(8, LocalLogServiceImpl.MAX_LENGTH);
+        String id = fixture.create("a\n").getId();
+
+        //appends replace extensions when provided
+        fixture.append(id, "b\n", 2, Map.<String, Serializable>of("metrics", "m1"));
+        assertEquals("m1", fixture.getService().getLog(id).getExtensions().get("metrics"));
+        fixture.append(id, "c\n", 4, null);
+        assertEquals("m1", fixture.getService().getLog(id).getExtensions().get("metrics"));
+
+        //updates store extensions and metadata, even when content is unchanged
+        Log log = fixture.getService().getLog(id);
+        log.setContent("a\nb\nc\n");
+        log.setExtensions(Map.<String, Serializable>of("metrics", "m2"));
+        log.getMetadata().put("name", "main");
+        fixture.tx(s -> s.updateLog(id, log));
+
+        Log stored = fixture.getService().getLog(id);
+        assertEquals("m2", stored.getExtensions().get("metrics"));
+        assertEquals("main", stored.getMetadata().get("name"));
+        assertEquals(3, fixture.chunks(id).size());
+    }
+
+    private static void assertChunk(LogChunkEntity chunk, long seq, long offset, long line, String content) {
+        assertEquals(seq, chunk.getSeq());
+        assertEquals(offset, chunk.getStartOffset());
+        assertEquals(line, chunk.getStartLine());
+        assertEquals(content, new String(chunk.getContent(), StandardCharsets.UTF_8));
+    }
+
+    private static void assertRange(LogRange range, String content, long offset, long line, long next, long nextLine) {
+        assertEquals(content, range.getContent());
+        assertEquals(offset, range.getOffset());
+        assertEquals(line, range.getLine());
+        assertEquals(next, range.getNextOffset());
+        assertEquals(nextLine, range.getNextLine());
+    }
+}
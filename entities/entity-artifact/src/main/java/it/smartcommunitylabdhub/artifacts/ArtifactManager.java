@@ -26,6 +26,7 @@ package it.smartcommunitylabdhub.artifacts;
 import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
@@ -203,6 +204,20 @@ public interface ArtifactManager {
     Artifact updateArtifact(@NotNull String id, @NotNull Artifact artifactDTO)
         throws NoSuchEntityException, BindException, IllegalArgumentException, SystemException;
 
+    /**
+     * Create a batch of artifacts, each item is validated and reported on its own
+     * @param dtos
+     * @return
+     */
+    BatchResult<Artifact> createArtifacts(@NotNull List<Artifact> dtos) throws SystemException;
+
+    /**
+     * Update a batch of artifacts versions, each item is validated and reported on its own
+     * @param dtos
+     * @return
+     */
+    BatchResult<Artifact> updateArtifacts(@NotNull List<Artifact> dtos) throws SystemException;
+
     /**
      * Delete a specific artifact (version) via unique ID
      * @param id
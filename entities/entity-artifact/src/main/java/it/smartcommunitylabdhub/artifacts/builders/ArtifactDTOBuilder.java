@@ -30,6 +30,7 @@ import it.smartcommunitylabdhub.commons.utils.MapUtils;
 import it.smartcommunitylabdhub.core.metadata.AuditMetadataBuilder;
 import it.smartcommunitylabdhub.core.metadata.BaseMetadataBuilder;
 import it.smartcommunitylabdhub.core.metadata.VersioningMetadataBuilder;
+import it.smartcommunitylabdhub.core.repositories.LazyMap;
 import jakarta.persistence.AttributeConverter;
 import java.io.Serializable;
 import java.util.HashMap;
@@ -67,21 +68,6 @@ public class ArtifactDTOBuilder implements Converter<ArtifactEntity, Artifact> {
     }
 
     public Artifact build(ArtifactEntity entity) {
-        //read metadata map as-is
-        Map<String, Serializable> meta = converter.convertToEntityAttribute(entity.getMetadata());
-
-        // build metadata
-        Map<String, Serializable> metadata = new HashMap<>();
-        metadata.putAll(meta);
-
-        EmbeddableMetadata embeddable = EmbeddableMetadata.from(meta);
-        embeddable.setEmbedded(entity.getEmbedded());
-        metadata.putAll(embeddable.toMap());
-
-        Optional.ofNullable(baseMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
-        Optional.ofNullable(auditingMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
-        Optional.ofNullable(versioningMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
-
         return Artifact
             .builder()
             .id(entity.getId())
@@ -89,12 +75,14 @@ public class ArtifactDTOBuilder implements Converter<ArtifactEntity, Artifact> {
             .kind(entity.getKind())
             .project(entity.getProject())
             .user(entity.getCreatedBy())
-            .metadata(metadata)
-            .spec(converter.convertToEntityAttribute(entity.getSpec()))
+            .metadata(LazyMap.of(() -> buildMetadata(entity)))
+            .spec(LazyMap.of(entity.getSpec(), converter))
             .status(
-                MapUtils.mergeMultipleMaps(
-                    converter.convertToEntityAttribute(entity.getStatus()),
-                    Map.of("state", entity.getState())
+                LazyMap.of(() ->
+                    MapUtils.mergeMultipleMaps(
+                        converter.convertToEntityAttribute(entity.getStatus()),
+                        Map.of("state", entity.getState())
+                    )
                 )
             )
             .build();
@@ -104,4 +92,23 @@ public class ArtifactDTOBuilder implements Converter<ArtifactEntity, Artifact> {
     public Artifact convert(ArtifactEntity source) {
         return build(source);
     }
+
+    private Map<String, Serializable> buildMetadata(ArtifactEntity entity) {
+        //read metadata map as-is
+        Map<String, Serializable> meta = converter.convertToEntityAttribute(entity.getMetadata());
+
+        // build metadata
+        Map<String, Serializable> metadata = new HashMap<>();
+        metadata.putAll(meta);
+
+        EmbeddableMetadata embeddable = EmbeddableMetadata.from(meta);
+        embeddable.setEmbedded(entity.getEmbedded());
+        metadata.putAll(embeddable.toMap());
+
+        Optional.ofNullable(baseMetadataBuilder.convert(entity, meta)).ifPresent(m -> metadata.putAll(m.toMap()));
+        Optional.ofNullable(auditingMetadataBuilder.convert(entity, meta)).ifPresent(m -> metadata.putAll(m.toMap()));
+        Optional.ofNullable(versioningMetadataBuilder.convert(entity, meta)).ifPresent(m -> metadata.putAll(m.toMap()));
+
+        return metadata;
+    }
 }
@@ -31,6 +31,7 @@ import it.smartcommunitylabdhub.commons.models.project.Project;
 import it.smartcommunitylabdhub.commons.repositories.EntityRepository;
 import it.smartcommunitylabdhub.commons.utils.EntityUtils;
 import it.smartcommunitylabdhub.core.events.AbstractEntityListener;
+import it.smartcommunitylabdhub.core.events.EntityBatchEvent;
 import it.smartcommunitylabdhub.core.events.EntityEvent;
 import it.smartcommunitylabdhub.files.service.FilesInfoService;
 import lombok.extern.slf4j.Slf4j;
@@ -70,6 +71,11 @@ public class ArtifactEntityListener extends AbstractEntityListener<ArtifactEntit
         super.dispatch(event);
     }
 
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void receiveAll(EntityBatchEvent<ArtifactEntity> event) {
+        super.dispatchAll(event);
+    }
+
     @Override
     public void handle(Message<EntityEvent<ArtifactEntity>> message) {
         // index + relationships
@@ -29,6 +29,7 @@ import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import it.smartcommunitylabdhub.core.services.EntityService;
 import it.smartcommunitylabdhub.core.services.VersionableEntityService;
@@ -287,6 +288,30 @@ public class ArtifactManagerImpl implements ArtifactManager {
         }
     }
 
+    @Override
+    public BatchResult<Artifact> createArtifacts(@NotNull List<Artifact> dtos) {
+        log.debug("create artifacts batch with size {}", dtos.size());
+
+        try {
+            return entityService.createAll(dtos);
+        } catch (StoreException e) {
+            log.error("store error: {}", e.getMessage());
+            throw new SystemException(e.getMessage());
+        }
+    }
+
+    @Override
+    public BatchResult<Artifact> updateArtifacts(@NotNull List<Artifact> dtos) {
+        log.debug("update artifacts batch with size {}", dtos.size());
+
+        try {
+            return entityService.updateAll(dtos);
+        } catch (StoreException e) {
+            log.error("store error: {}", e.getMessage());
+            throw new SystemException(e.getMessage());
+        }
+    }
+
     @Override
     public void deleteArtifact(@NotNull String id, @Nullable Boolean cascade) {
         log.debug("delete artifact with id {}", String.valueOf(id));
@@ -28,6 +28,7 @@ import it.smartcommunitylabdhub.containerimage.ContainerImage;
 import it.smartcommunitylabdhub.core.metadata.AuditMetadataBuilder;
 import it.smartcommunitylabdhub.core.metadata.BaseMetadataBuilder;
 import it.smartcommunitylabdhub.core.metadata.VersioningMetadataBuilder;
+import it.smartcommunitylabdhub.core.repositories.LazyMap;
 import jakarta.persistence.AttributeConverter;
 import java.io.Serializable;
 import java.util.HashMap;
@@ -67,31 +68,37 @@ public class ContainerImageDTOBuilder implements Converter<ContainerImageEntity,
 
     @Override
     public ContainerImage convert(@NonNull ContainerImageEntity entity) {
-        //read metadata map as-is
-        Map<String, Serializable> meta = converter.convertToEntityAttribute(entity.getMetadata());
-
-        // build metadata
-        Map<String, Serializable> metadata = new HashMap<>();
-        metadata.putAll(meta);
-
-        Optional.ofNullable(baseMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
-        Optional.ofNullable(auditingMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
-        Optional.ofNullable(versioningMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
-
         return ContainerImage.builder()
             .id(entity.getId())
             .name(entity.getName())
             .kind(entity.getKind())
             .project(entity.getProject())
             .user(entity.getCreatedBy())
-            .metadata(metadata)
-            .spec(converter.convertToEntityAttribute(entity.getSpec()))
+            .metadata(LazyMap.of(() -> buildMetadata(entity)))
+            .spec(LazyMap.of(entity.getSpec(), converter))
             .status(
-                MapUtils.mergeMultipleMaps(
-                    converter.convertToEntityAttribute(entity.getStatus()),
-                    Map.of("state", entity.getState())
+                LazyMap.of(() ->
+                    MapUtils.mergeMultipleMaps(
+                        converter.convertToEntityAttribute(entity.getStatus()),
+                        Map.of("state", entity.getState())
+                    )
                 )
             )
             .build();
     }
+
+    private Map<String, Serializable> buildMetadata(ContainerImageEntity entity) {
+        //read metadata map as-is
+        Map<String, Serializable> meta = converter.convertToEntityAttribute(entity.getMetadata());
+
+        // build metadata
+        Map<String, Serializable> metadata = new HashMap<>();
+        metadata.putAll(meta);
+
+        Optional.ofNullable(baseMetadataBuilder.convert(entity, meta)).ifPresent(m -> metadata.putAll(m.toMap()));
+        Optional.ofNullable(auditingMetadataBuilder.convert(entity, meta)).ifPresent(m -> metadata.putAll(m.toMap()));
+        Optional.ofNullable(versioningMetadataBuilder.convert(entity, meta)).ifPresent(m -> metadata.putAll(m.toMap()));
+
+        return metadata;
+    }
 }
@@ -26,6 +26,7 @@ package it.smartcommunitylabdhub.dataitems;
 import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
@@ -201,6 +202,20 @@ public interface DataItemManager {
     DataItem updateDataItem(@NotNull String id, @NotNull DataItem dataItemDTO)
         throws NoSuchEntityException, BindException, IllegalArgumentException, SystemException;
 
+    /**
+     * Create a batch of dataItems, each item is validated and reported on its own
+     * @param dtos
+     * @return
+     */
+    BatchResult<DataItem> createDataItems(@NotNull List<DataItem> dtos) throws SystemException;
+
+    /**
+     * Update a batch of dataItems versions, each item is validated and reported on its own
+     * @param dtos
+     * @return
+     */
+    BatchResult<DataItem> updateDataItems(@NotNull List<DataItem> dtos) throws SystemException;
+
     /**
      * Delete a specific dataItem (version) via unique ID
      * @param id
@@ -28,6 +28,7 @@ import it.smartcommunitylabdhub.commons.utils.MapUtils;
 import it.smartcommunitylabdhub.core.metadata.AuditMetadataBuilder;
 import it.smartcommunitylabdhub.core.metadata.BaseMetadataBuilder;
 import it.smartcommunitylabdhub.core.metadata.VersioningMetadataBuilder;
+import it.smartcommunitylabdhub.core.repositories.LazyMap;
 import it.smartcommunitylabdhub.dataitems.DataItem;
 import it.smartcommunitylabdhub.dataitems.persistence.DataItemEntity;
 import jakarta.persistence.AttributeConverter;
@@ -67,21 +68,6 @@ public class DataItemDTOBuilder implements Converter<DataItemEntity, DataItem> {
     }
 
     public DataItem build(DataItemEntity entity) {
-        //read metadata map as-is
-        Map<String, Serializable> meta = converter.convertToEntityAttribute(entity.getMetadata());
-
-        // build metadata
-        Map<String, Serializable> metadata = new HashMap<>();
-        metadata.putAll(meta);
-
-        EmbeddableMetadata embeddable = EmbeddableMetadata.from(meta);
-        embeddable.setEmbedded(entity.getEmbedded());
-        metadata.putAll(embeddable.toMap());
-
-        Optional.ofNullable(baseMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
-        Optional.ofNullable(auditingMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
-        Optional.ofNullable(versioningMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
-
         return DataItem
             .builder()
             .id(entity.getId())
@@ -89,12 +75,14 @@ public class DataItemDTOBuilder implements Converter<DataItemEntity, DataItem> {
             .kind(entity.getKind())
             .project(entity.getProject())
             .user(entity.getCreatedBy())
-            .metadata(metadata)
-            .spec(converter.convertToEntityAttribute(entity.getSpec()))
+            .metadata(LazyMap.of(() -> buildMetadata(entity)))
+            .spec(LazyMap.of(entity.getSpec(), converter))
             .status(
-                MapUtils.mergeMultipleMaps(
-                    converter.convertToEntityAttribute(entity.getStatus()),
-                    Map.of("state", entity.getState())
+                LazyMap.of(() ->
+                    MapUtils.mergeMultipleMaps(
+                        converter.convertToEntityAttribute(entity.getStatus()),
+                        Map.of("state", entity.getState())
+                    )
                 )
             )
             .build();
@@ -104,4 +92,23 @@ public class DataItemDTOBuilder implements Converter<DataItemEntity, DataItem> {
     public DataItem convert(DataItemEntity source) {
         return build(source);
     }
+
+    private Map<String, Serializable> buildMetadata(DataItemEntity entity) {
+        //read metadata map as-is
+        Map<String, Serializable> meta = converter.convertToEntityAttribute(entity.getMetadata());
+
+        // build metadata
+        Map<String, Serializable> metadata = new HashMap<>();
+        metadata.putAll(meta);
+
+        EmbeddableMetadata embeddable = EmbeddableMetadata.from(meta);
+        embeddable.setEmbedded(entity.getEmbedded());
+        metadata.putAll(embeddable.toMap());
+
+        Optional.ofNullable(baseMetadataBuilder.convert(entity, meta)).ifPresent(m -> metadata.putAll(m.toMap()));
+        Optional.ofNullable(auditingMetadataBuilder.convert(entity, meta)).ifPresent(m -> metadata.putAll(m.toMap()));
+        Optional.ofNullable(versioningMetadataBuilder.convert(entity, meta)).ifPresent(m -> metadata.putAll(m.toMap()));
+
+        return metadata;
+    }
 }
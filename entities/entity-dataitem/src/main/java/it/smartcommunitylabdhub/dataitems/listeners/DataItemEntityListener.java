@@ -29,6 +29,7 @@ import it.smartcommunitylabdhub.commons.models.project.Project;
 import it.smartcommunitylabdhub.commons.repositories.EntityRepository;
 import it.smartcommunitylabdhub.commons.utils.EntityUtils;
 import it.smartcommunitylabdhub.core.events.AbstractEntityListener;
+import it.smartcommunitylabdhub.core.events.EntityBatchEvent;
 import it.smartcommunitylabdhub.core.events.EntityEvent;
 import it.smartcommunitylabdhub.dataitems.DataItem;
 import it.smartcommunitylabdhub.dataitems.persistence.DataItemEntity;
@@ -70,6 +71,11 @@ public class DataItemEntityListener extends AbstractEntityListener<DataItemEntit
         super.dispatch(event);
     }
 
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void receiveAll(EntityBatchEvent<DataItemEntity> event) {
+        super.dispatchAll(event);
+    }
+
     @Override
     public void handle(Message<EntityEvent<DataItemEntity>> message) {
         // index + relationships
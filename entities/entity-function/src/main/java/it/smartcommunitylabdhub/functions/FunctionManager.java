@@ -26,6 +26,7 @@ package it.smartcommunitylabdhub.functions;
 import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.function.Function;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import it.smartcommunitylabdhub.commons.models.task.Task;
@@ -202,6 +203,20 @@ public interface FunctionManager {
     Function updateFunction(@NotNull String id, @NotNull Function functionDTO)
         throws NoSuchEntityException, BindException, IllegalArgumentException, SystemException;
 
+    /**
+     * Create a batch of functions, each item is validated and reported on its own
+     * @param dtos
+     * @return
+     */
+    BatchResult<Function> createFunctions(@NotNull List<Function> dtos) throws SystemException;
+
+    /**
+     * Update a batch of functions, each item is validated and reported on its own
+     * @param dtos
+     * @return
+     */
+    BatchResult<Function> updateFunctions(@NotNull List<Function> dtos) throws SystemException;
+
     /**
      * Update a specific function version
      * @param id
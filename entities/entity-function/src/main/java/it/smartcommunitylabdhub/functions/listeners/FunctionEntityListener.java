@@ -29,6 +29,7 @@ import it.smartcommunitylabdhub.commons.models.function.Function;
 import it.smartcommunitylabdhub.commons.models.project.Project;
 import it.smartcommunitylabdhub.commons.repositories.EntityRepository;
 import it.smartcommunitylabdhub.core.events.AbstractEntityListener;
+import it.smartcommunitylabdhub.core.events.EntityBatchEvent;
 import it.smartcommunitylabdhub.core.events.EntityEvent;
 import it.smartcommunitylabdhub.functions.persistence.FunctionEntity;
 import lombok.extern.slf4j.Slf4j;
@@ -62,6 +63,11 @@ public class FunctionEntityListener extends AbstractEntityListener<FunctionEntit
         super.dispatch(event);
     }
 
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void receiveAll(EntityBatchEvent<FunctionEntity> event) {
+        super.dispatchAll(event);
+    }
+
     @Override
     public void handle(Message<EntityEvent<FunctionEntity>> message) {
         // index + relationships
@@ -29,6 +29,7 @@ import it.smartcommunitylabdhub.commons.utils.MapUtils;
 import it.smartcommunitylabdhub.core.metadata.AuditMetadataBuilder;
 import it.smartcommunitylabdhub.core.metadata.BaseMetadataBuilder;
 import it.smartcommunitylabdhub.core.metadata.VersioningMetadataBuilder;
+import it.smartcommunitylabdhub.core.repositories.LazyMap;
 import jakarta.persistence.AttributeConverter;
 import java.io.Serializable;
 import java.util.HashMap;
@@ -66,6 +67,27 @@ public class FunctionDTOBuilder implements Converter<FunctionEntity, Function> {
     }
 
     public Function build(FunctionEntity entity) {
+        return Function
+            .builder()
+            .id(entity.getId())
+            .name(entity.getName())
+            .kind(entity.getKind())
+            .project(entity.getProject())
+            .user(entity.getCreatedBy())
+            .metadata(LazyMap.of(() -> buildMetadata(entity)))
+            .spec(LazyMap.of(entity.getSpec(), converter))
+            .status(
+                LazyMap.of(() ->
+                    MapUtils.mergeMultipleMaps(
+                        converter.convertToEntityAttribute(entity.getStatus()),
+                        Map.of("state", entity.getState())
+                    )
+                )
+            )
+            .build();
+    }
+
+    private Map<String, Serializable> buildMetadata(FunctionEntity entity) {
         //read metadata map as-is
         Map<String, Serializable> meta = converter.convertToEntityAttribute(entity.getMetadata());
 
@@ -77,26 +99,11 @@ public class FunctionDTOBuilder implements Converter<FunctionEntity, Function> {
         embeddable.setEmbedded(entity.getEmbedded());
         metadata.putAll(embeddable.toMap());
 
-        Optional.ofNullable(baseMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
-        Optional.ofNullable(auditingMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
-        Optional.ofNullable(versioningMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
+        Optional.ofNullable(baseMetadataBuilder.convert(entity, meta)).ifPresent(m -> metadata.putAll(m.toMap()));
+        Optional.ofNullable(auditingMetadataBuilder.convert(entity, meta)).ifPresent(m -> metadata.putAll(m.toMap()));
+        Optional.ofNullable(versioningMetadataBuilder.convert(entity, meta)).ifPresent(m -> metadata.putAll(m.toMap()));
 
-        return Function
-            .builder()
-            .id(entity.getId())
-            .name(entity.getName())
-            .kind(entity.getKind())
-            .project(entity.getProject())
-            .user(entity.getCreatedBy())
-            .metadata(metadata)
-            .spec(converter.convertToEntityAttribute(entity.getSpec()))
-            .status(
-                MapUtils.mergeMultipleMaps(
-                    converter.convertToEntityAttribute(entity.getStatus()),
-                    Map.of("state", entity.getState())
-                )
-            )
-            .build();
+        return metadata;
     }
 
     @Override
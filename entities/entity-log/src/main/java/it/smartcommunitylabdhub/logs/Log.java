@@ -74,6 +74,10 @@ public class Log {
     @ToString.Exclude
     private String content = "";
 
+    //position in the producer stream, internal
+    @JsonIgnore
+    private Long sourceOffset;
+
     @JsonProperty("content")
     public String getContentAsBase64() {
         return StringUtils.hasText(content)
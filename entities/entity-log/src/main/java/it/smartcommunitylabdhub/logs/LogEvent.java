@@ -0,0 +1,65 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.logs;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.util.Assert;
+
+/**
+ * Published after new content is committed to a log stream
+ */
+public class LogEvent extends ApplicationEvent {
+
+    private final String id;
+    private final String run;
+    private final String project;
+    private final long nextOffset;
+
+    public LogEvent(String id, String run, String project, long nextOffset) {
+        super(id);
+        Assert.hasText(id, "id can not be null");
+        Assert.hasText(run, "run can not be null");
+
+        this.id = id;
+        this.run = run;
+        this.project = project;
+        this.nextOffset = nextOffset;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getRun() {
+        return run;
+    }
+
+    public String getProject() {
+        return project;
+    }
+
+    public long getNextOffset() {
+        return nextOffset;
+    }
+}
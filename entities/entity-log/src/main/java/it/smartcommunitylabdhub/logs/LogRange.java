@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.logs;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.util.StringUtils;
+
+/**
+ * A slice of a log stream. Offsets are absolute byte positions, lines are absolute
+ * line numbers: clients resume reading from nextOffset (or nextLine).
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@ToString
+@JsonPropertyOrder(alphabetic = true)
+public class LogRange {
+
+    private String id;
+    private String run;
+
+    //position of the first byte/line returned
+    private long offset;
+    private long line;
+
+    //position to resume from
+    private long nextOffset;
+    private long nextLine;
+
+    //total bytes written to the stream so far
+    private long length;
+
+    //more content is available after nextOffset
+    private boolean more;
+
+    @Builder.Default
+    @JsonIgnore
+    @ToString.Exclude
+    private String content = "";
+
+    @JsonProperty("content")
+    public String getContentAsBase64() {
+        return StringUtils.hasText(content)
+            ? Base64.getEncoder().encodeToString(content.getBytes(StandardCharsets.UTF_8))
+            : "";
+    }
+}
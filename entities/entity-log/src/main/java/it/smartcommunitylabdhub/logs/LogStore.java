@@ -27,7 +27,9 @@ import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
 import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
 import java.util.List;
+import java.util.Map;
 import org.springframework.lang.Nullable;
 import org.springframework.validation.BindException;
 
@@ -50,6 +52,20 @@ public interface LogStore {
      */
     List<Log> getLogsByRunId(@NotNull String runId) throws SystemException;
 
+    /**
+     * List the ids of all logs for a given run, without content
+     * @param runId
+     * @return
+     */
+    List<String> listLogIdsByRunId(@NotNull String runId) throws SystemException;
+
+    /**
+     * List all logs for a given run, without content
+     * @param runId
+     * @return
+     */
+    List<Log> listLogHeadersByRunId(@NotNull String runId) throws SystemException;
+
     /**
      * Get a specific log (version) via unique ID. Throws exception if not found
      * @param id
@@ -77,6 +93,50 @@ public interface LogStore {
     Log updateLog(@NotNull String id, @NotNull Log logDTO)
         throws NoSuchEntityException, BindException, IllegalArgumentException, SystemException;
 
+    /**
+     * Append content to a specific log. The returned log carries only the appended content
+     * @param id
+     * @param content
+     * @return
+     * @throws NoSuchEntityException
+     */
+    Log appendLog(@NotNull String id, @NotNull String content) throws NoSuchEntityException, SystemException;
+
+    /**
+     * Append content found at the given byte offset of the producer stream, replacing
+     * extensions when provided. Content before the end of the last positional append is
+     * skipped, so retried appends are idempotent. Creates and full updates move the position to
+     * the end of their content. Appends past the position leave a gap and are not written: the
+     * producer is expected to resume from the stored position with a full update.
+     * The returned log carries only the appended content
+     * @param id
+     * @param content
+     * @param offset
+     * @param extensions
+     * @return
+     * @throws NoSuchEntityException
+     */
+    Log appendLog(
+        @NotNull String id,
+        @NotNull String content,
+        long offset,
+        @Nullable Map<String, Serializable> extensions
+    ) throws NoSuchEntityException, SystemException;
+
+    /**
+     * Read a range of a specific log, starting at the given byte offset or line
+     * number. When both are missing the tail of the log is returned. Content is
+     * bounded by limit (bytes).
+     * @param id
+     * @param offset
+     * @param line
+     * @param limit
+     * @return
+     * @throws NoSuchEntityException
+     */
+    LogRange readLog(@NotNull String id, @Nullable Long offset, @Nullable Long line, int limit)
+        throws NoSuchEntityException, SystemException;
+
     /**
      * Delete a specific log (version) via unique ID
      * @param id
@@ -0,0 +1,328 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.logs.follow;
+
+import it.smartcommunitylabdhub.commons.Keys;
+import it.smartcommunitylabdhub.commons.accessors.fields.StatusFieldAccessor;
+import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
+import it.smartcommunitylabdhub.commons.exceptions.StoreException;
+import it.smartcommunitylabdhub.components.cloud.CloudEntityEvent;
+import it.smartcommunitylabdhub.logs.LogEvent;
+import it.smartcommunitylabdhub.logs.LogRange;
+import it.smartcommunitylabdhub.logs.LogStore;
+import it.smartcommunitylabdhub.runs.Run;
+import it.smartcommunitylabdhub.runs.lifecycle.RunState;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Push newly appended log content for a run to SSE subscribers.
+ *
+ * Subscribers keep only a position per log: on every append they are flagged and
+ * drained by reading bounded ranges from the store, so per-subscriber buffering
+ * is limited to a single range. Event ids carry all the positions, clients
+ * resume via Last-Event-ID. Only logs of the followed run are streamed, streams
+ * are completed once the run reaches a final state and every log was sent.
+ */
+@Component
+@Slf4j
+public class LogFollowService {
+
+    public static final String EVENT_NAME = "log";
+    public static final int DEFAULT_LIMIT = 64 * 1024; //64KB
+
+    private static final long TAIL = -1L;
+    private static final Set<String> FINAL_STATES = Set.of(
+        RunState.COMPLETED.name(),
+        RunState.ERROR.name(),
+        RunState.STOPPED.name(),
+        RunState.DELETED.name()
+    );
+
+    @Value("${logs.follow.timeout:1800}")
+    private long timeout = 1800;
+
+    @Value("${logs.follow.limit:65536}")
+    private int limit = DEFAULT_LIMIT;
+
+    @Value("${logs.follow.max-subscribers:256}")
+    private int maxSubscribers = 256;
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger count = new AtomicInteger();
+
+    private LogStore logStore;
+    private Executor executor;
+
+    @Autowired(required = false)
+    public void setLogStore(LogStore logStore) {
+        this.logStore = logStore;
+    }
+
+    //shared async pool, subscribers are drained one task at a time
+    @Autowired
+    public void setExecutor(@Qualifier("taskExecutor") Executor executor) {
+        Assert.notNull(executor, "executor can not be null");
+        this.executor = executor;
+    }
+
+    public SseEmitter follow(@NotNull Run run, @Nullable String lastEventId) throws StoreException {
+        String state = StatusFieldAccessor.with(run.getStatus()).getState();
+        return follow(run.getId(), state != null && FINAL_STATES.contains(state), lastEventId);
+    }
+
+    public SseEmitter follow(@NotNull String run, @Nullable String lastEventId) throws StoreException {
+        return follow(run, false, lastEventId);
+    }
+
+    protected SseEmitter follow(@NotNull String run, boolean finished, @Nullable String lastEventId)
+        throws StoreException {
+        if (logStore == null || executor == null) {
+            throw new StoreException("log store not available");
+        }
+
+        if (count.incrementAndGet() > maxSubscribers) {
+            count.decrementAndGet();
+            throw new StoreException("too many log subscribers");
+        }
+
+        log.debug("follow logs for run {} from {}", run, lastEventId);
+        SseEmitter emitter = createEmitter(timeout * 1000);
+        Subscriber sub = new Subscriber(run, emitter);
+        sub.finished.set(finished);
+
+        //resume from client positions for logs of this run only, start from tail for the others
+        Map<String, Long> resume = parse(lastEventId);
+        logStore.listLogIdsByRunId(run).forEach(id -> sub.positions.put(id, resume.getOrDefault(id, TAIL)));
+
+        subscribers.computeIfAbsent(run, k -> ConcurrentHashMap.newKeySet()).add(sub);
+        emitter.onCompletion(() -> remove(sub));
+        emitter.onTimeout(() -> remove(sub));
+        emitter.onError(e -> remove(sub));
+
+        schedule(sub);
+        return emitter;
+    }
+
+    @EventListener
+    public void receive(LogEvent event) {
+        Set<Subscriber> subs = subscribers.get(event.getRun());
+        if (subs == null || subs.isEmpty()) {
+            return;
+        }
+
+        log.trace("log {} updated to {}, notify {} subscribers", event.getId(), event.getNextOffset(), subs.size());
+        subs.forEach(sub -> {
+            //new logs are streamed from the start
+            sub.positions.putIfAbsent(event.getId(), 0L);
+            schedule(sub);
+        });
+    }
+
+    @EventListener
+    public void receive(CloudEntityEvent<Run> event) {
+        Run run = event.getDto();
+        Set<Subscriber> subs = run != null ? subscribers.get(run.getId()) : null;
+        if (subs == null || subs.isEmpty()) {
+            return;
+        }
+
+        String state = StatusFieldAccessor.with(run.getStatus()).getState();
+        if (state != null && FINAL_STATES.contains(state)) {
+            //send what is left, then complete
+            log.debug("run {} is {}, complete {} subscribers", run.getId(), state, subs.size());
+            subs.forEach(sub -> {
+                sub.finished.set(true);
+                schedule(sub);
+            });
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscribers.values().forEach(subs -> subs.forEach(sub -> sub.emitter.complete()));
+    }
+
+    protected SseEmitter createEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    /*
+     * Drain
+     */
+
+    private void schedule(Subscriber sub) {
+        //coalesce notifications: at most one drain task per subscriber
+        sub.pending.set(true);
+        if (sub.active.get() && sub.running.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> drain(sub));
+            } catch (TaskRejectedException | RejectedExecutionException e) {
+                //overloaded: close, client will resume from last event
+                log.warn("log follow pool full, close subscriber for run {}", sub.run);
+                sub.running.set(false);
+                sub.emitter.complete();
+            }
+        }
+    }
+
+    private void drain(Subscriber sub) {
+        try {
+            while (sub.active.get() && sub.pending.getAndSet(false)) {
+                for (String id : sub.positions.keySet()) {
+                    long pos = sub.positions.get(id);
+                    try {
+                        LogRange range = logStore.readLog(id, pos == TAIL ? null : pos, null, limit);
+                        if (range.getRun() != null && !sub.run.equals(range.getRun())) {
+                            //never stream logs of other runs
+                            sub.positions.remove(id);
+                            continue;
+                        }
+
+                        sub.positions.put(id, range.getNextOffset());
+
+                        if (StringUtils.hasLength(range.getContent())) {
+                            sub.emitter.send(
+                                SseEmitter.event()
+                                    .id(sub.eventId())
+                                    .name(EVENT_NAME)
+                                    .data(range, MediaType.APPLICATION_JSON)
+                            );
+                        }
+
+                        if (range.isMore()) {
+                            //bounded read, continue on next round
+                            sub.pending.set(true);
+                        }
+                    } catch (NoSuchEntityException e) {
+                        sub.positions.remove(id);
+                    }
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            //client gone
+            log.debug("error sending logs for run {}: {}", sub.run, e.getMessage());
+            remove(sub);
+        } catch (RuntimeException e) {
+            log.error("error reading logs for run {}: {}", sub.run, e.getMessage());
+            sub.emitter.completeWithError(e);
+        } finally {
+            sub.running.set(false);
+        }
+
+        //pick up notifications received after the last round
+        if (sub.active.get() && sub.pending.get()) {
+            schedule(sub);
+        } else if (sub.active.get() && sub.finished.get()) {
+            //run is over and every log was sent
+            log.debug("logs for run {} completed", sub.run);
+            sub.emitter.complete();
+            remove(sub);
+        }
+    }
+
+    private void remove(Subscriber sub) {
+        if (sub.active.compareAndSet(true, false)) {
+            log.debug("remove log subscriber for run {}", sub.run);
+            count.decrementAndGet();
+            subscribers.computeIfPresent(sub.run, (k, subs) -> {
+                subs.remove(sub);
+                return subs.isEmpty() ? null : subs;
+            });
+        }
+    }
+
+    //positions are encoded as id:offset pairs
+    private static Map<String, Long> parse(@Nullable String eventId) {
+        if (!StringUtils.hasText(eventId)) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Long> positions = new HashMap<>();
+        for (String p : StringUtils.commaDelimitedListToStringArray(eventId)) {
+            int idx = p.lastIndexOf(':');
+            if (idx > 0) {
+                String id = p.substring(0, idx).trim();
+                try {
+                    long offset = Long.parseLong(p.substring(idx + 1).trim());
+                    if (id.matches(Keys.SLUG_PATTERN) && offset >= 0) {
+                        positions.put(id, offset);
+                    }
+                } catch (NumberFormatException e) {
+                    //skip invalid
+                }
+            }
+        }
+
+        return positions;
+    }
+
+    private static class Subscriber {
+
+        private final String run;
+        private final SseEmitter emitter;
+        private final Map<String, Long> positions = new ConcurrentHashMap<>();
+        private final AtomicBoolean pending = new AtomicBoolean(false);
+        private final AtomicBoolean running = new AtomicBoolean(false);
+        private final AtomicBoolean active = new AtomicBoolean(true);
+        private final AtomicBoolean finished = new AtomicBoolean(false);
+
+        Subscriber(String run, SseEmitter emitter) {
+            this.run = run;
+            this.emitter = emitter;
+        }
+
+        String eventId() {
+            return positions
+                .entrySet()
+                .stream()
+                .filter(e -> e.getValue() >= 0)
+                .map(e -> e.getKey() + ":" + e.getValue())
+                .collect(Collectors.joining(","));
+        }
+    }
+}
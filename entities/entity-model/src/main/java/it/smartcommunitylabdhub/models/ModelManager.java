@@ -26,6 +26,7 @@ package it.smartcommunitylabdhub.models;
 import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
@@ -199,6 +200,20 @@ public interface ModelManager {
     Model updateModel(@NotNull String id, @NotNull Model modelDTO)
         throws NoSuchEntityException, SystemException, BindException, IllegalArgumentException;
 
+    /**
+     * Create a batch of models, each item is validated and reported on its own
+     * @param dtos
+     * @return
+     */
+    BatchResult<Model> createModels(@NotNull List<Model> dtos) throws SystemException;
+
+    /**
+     * Update a batch of models versions, each item is validated and reported on its own
+     * @param dtos
+     * @return
+     */
+    BatchResult<Model> updateModels(@NotNull List<Model> dtos) throws SystemException;
+
     /**
      * Delete a specific model (version) via unique ID
      * @param id
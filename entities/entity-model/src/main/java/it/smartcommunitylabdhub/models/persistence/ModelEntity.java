@@ -29,6 +29,7 @@ import it.smartcommunitylabdhub.core.persistence.SpecEntity;
 import it.smartcommunitylabdhub.core.persistence.StatusEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.sql.Types;
 import lombok.AllArgsConstructor;
@@ -46,7 +47,10 @@ import org.hibernate.annotations.JdbcTypeCode;
 @SuperBuilder
 @ToString
 @Entity
-@Table(name = "models")
+@Table(
+    name = "models",
+    indexes = { @Index(name = "models_prj_name_created_index", columnList = "project, name, created") }
+)
 public class ModelEntity extends AbstractEntity implements MetadataEntity, SpecEntity, StatusEntity {
 
     @Column(nullable = false)
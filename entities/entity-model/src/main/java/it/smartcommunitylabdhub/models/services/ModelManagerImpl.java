@@ -27,6 +27,7 @@ import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import it.smartcommunitylabdhub.core.services.EntityService;
 import it.smartcommunitylabdhub.core.services.VersionableEntityService;
@@ -286,6 +287,30 @@ public class ModelManagerImpl implements ModelManager {
         }
     }
 
+    @Override
+    public BatchResult<Model> createModels(@NotNull List<Model> dtos) {
+        log.debug("create models batch with size {}", dtos.size());
+
+        try {
+            return entityService.createAll(dtos);
+        } catch (StoreException e) {
+            log.error("store error: {}", e.getMessage());
+            throw new SystemException(e.getMessage());
+        }
+    }
+
+    @Override
+    public BatchResult<Model> updateModels(@NotNull List<Model> dtos) {
+        log.debug("update models batch with size {}", dtos.size());
+
+        try {
+            return entityService.updateAll(dtos);
+        } catch (StoreException e) {
+            log.error("store error: {}", e.getMessage());
+            throw new SystemException(e.getMessage());
+        }
+    }
+
     @Override
     public void deleteModel(@NotNull String id, @Nullable Boolean cascade) {
         log.debug("delete model with id {}", String.valueOf(id));
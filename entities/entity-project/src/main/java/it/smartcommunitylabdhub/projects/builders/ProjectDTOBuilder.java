@@ -27,6 +27,7 @@ import it.smartcommunitylabdhub.commons.models.project.Project;
 import it.smartcommunitylabdhub.commons.utils.MapUtils;
 import it.smartcommunitylabdhub.core.metadata.AuditMetadataBuilder;
 import it.smartcommunitylabdhub.core.metadata.BaseMetadataBuilder;
+import it.smartcommunitylabdhub.core.repositories.LazyMap;
 import it.smartcommunitylabdhub.projects.persistence.ProjectEntity;
 import jakarta.persistence.AttributeConverter;
 import java.io.Serializable;
@@ -59,32 +60,38 @@ public class ProjectDTOBuilder implements Converter<ProjectEntity, Project> {
     }
 
     public Project build(ProjectEntity entity) {
-        //read metadata map as-is
-        Map<String, Serializable> meta = converter.convertToEntityAttribute(entity.getMetadata());
-
-        // build metadata
-        Map<String, Serializable> metadata = new HashMap<>();
-        metadata.putAll(meta);
-
-        Optional.ofNullable(baseMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
-        Optional.ofNullable(auditingMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
-
         return Project
             .builder()
             .id(entity.getId())
             .name(entity.getName())
             .user(entity.getCreatedBy())
-            .metadata(metadata)
-            .spec(converter.convertToEntityAttribute(entity.getSpec()))
+            .metadata(LazyMap.of(() -> buildMetadata(entity)))
+            .spec(LazyMap.of(entity.getSpec(), converter))
             .status(
-                MapUtils.mergeMultipleMaps(
-                    converter.convertToEntityAttribute(entity.getStatus()),
-                    Map.of("state", entity.getState().toString())
+                LazyMap.of(() ->
+                    MapUtils.mergeMultipleMaps(
+                        converter.convertToEntityAttribute(entity.getStatus()),
+                        Map.of("state", entity.getState().toString())
+                    )
                 )
             )
             .build();
     }
 
+    private Map<String, Serializable> buildMetadata(ProjectEntity entity) {
+        //read metadata map as-is
+        Map<String, Serializable> meta = converter.convertToEntityAttribute(entity.getMetadata());
+
+        // build metadata
+        Map<String, Serializable> metadata = new HashMap<>();
+        metadata.putAll(meta);
+
+        Optional.ofNullable(baseMetadataBuilder.convert(entity, meta)).ifPresent(m -> metadata.putAll(m.toMap()));
+        Optional.ofNullable(auditingMetadataBuilder.convert(entity, meta)).ifPresent(m -> metadata.putAll(m.toMap()));
+
+        return metadata;
+    }
+
     @Override
     public Project convert(ProjectEntity source) {
         return build(source);
@@ -26,6 +26,7 @@ package it.smartcommunitylabdhub.runs;
 import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
@@ -135,6 +136,20 @@ public interface RunManager {
     Run updateRun(@NotNull String id, @NotNull Run runDTO)
         throws NoSuchEntityException, BindException, IllegalArgumentException, SystemException;
 
+    /**
+     * Create a batch of runs, each item is validated and reported on its own
+     * @param dtos
+     * @return
+     */
+    BatchResult<Run> createRuns(@NotNull List<Run> dtos) throws SystemException;
+
+    /**
+     * Update a batch of runs, each item is validated and reported on its own
+     * @param dtos
+     * @return
+     */
+    BatchResult<Run> updateRuns(@NotNull List<Run> dtos) throws SystemException;
+
     /**
      * Delete a specific run via unique ID, with optional cascade
      *
@@ -24,6 +24,7 @@
 package it.smartcommunitylabdhub.runs.listeners;
 
 import it.smartcommunitylabdhub.core.events.AbstractEntityListener;
+import it.smartcommunitylabdhub.core.events.EntityBatchEvent;
 import it.smartcommunitylabdhub.core.events.EntityEvent;
 import it.smartcommunitylabdhub.runs.Run;
 import it.smartcommunitylabdhub.runs.persistence.RunEntity;
@@ -50,6 +51,11 @@ public class RunEntityListener extends AbstractEntityListener<RunEntity, Run> {
         super.dispatch(event);
     }
 
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void receiveAll(EntityBatchEvent<RunEntity> event) {
+        super.dispatchAll(event);
+    }
+
     @Override
     public void handle(Message<EntityEvent<RunEntity>> message) {
         // index + relationships
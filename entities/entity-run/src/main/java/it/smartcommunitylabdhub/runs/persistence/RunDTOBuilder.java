@@ -27,6 +27,7 @@ import it.smartcommunitylabdhub.commons.accessors.spec.RunSpecAccessor;
 import it.smartcommunitylabdhub.commons.utils.MapUtils;
 import it.smartcommunitylabdhub.core.metadata.AuditMetadataBuilder;
 import it.smartcommunitylabdhub.core.metadata.BaseMetadataBuilder;
+import it.smartcommunitylabdhub.core.repositories.LazyMap;
 import it.smartcommunitylabdhub.runs.Run;
 import jakarta.persistence.AttributeConverter;
 import java.io.Serializable;
@@ -63,31 +64,21 @@ public class RunDTOBuilder implements Converter<RunEntity, Run> {
     }
 
     public Run build(RunEntity entity) {
-        //extract spec now
-        Map<String, Serializable> spec = converter.convertToEntityAttribute(entity.getSpec());
-        RunSpecAccessor accessor = RunSpecAccessor.with(spec);
+        //spec is decoded on first access, summaries do not carry it
+        Map<String, Serializable> spec = LazyMap.of(entity.getSpec(), converter);
         //derive name if missing
         String name = entity.getName();
         if (!StringUtils.hasText(name)) {
             name = entity.getId();
-            if (StringUtils.hasText(accessor.getFunction())) {
+            RunSpecAccessor accessor = spec != null ? RunSpecAccessor.with(spec) : null;
+            if (accessor != null && StringUtils.hasText(accessor.getFunction())) {
                 name = accessor.getFunction() + "/" + entity.getId();
             }
-            if (StringUtils.hasText(accessor.getWorkflow())) {
+            if (accessor != null && StringUtils.hasText(accessor.getWorkflow())) {
                 name = accessor.getWorkflow() + "/" + entity.getId();
             }
         }
 
-        //read metadata map as-is
-        Map<String, Serializable> meta = converter.convertToEntityAttribute(entity.getMetadata());
-
-        // build metadata
-        Map<String, Serializable> metadata = new HashMap<>();
-        metadata.putAll(meta);
-
-        Optional.ofNullable(baseMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
-        Optional.ofNullable(auditingMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
-
         return Run
             .builder()
             .id(entity.getId())
@@ -95,17 +86,33 @@ public class RunDTOBuilder implements Converter<RunEntity, Run> {
             .kind(entity.getKind())
             .project(entity.getProject())
             .user(entity.getCreatedBy())
-            .metadata(metadata)
+            .metadata(LazyMap.of(() -> buildMetadata(entity)))
             .spec(spec)
             .status(
-                MapUtils.mergeMultipleMaps(
-                    converter.convertToEntityAttribute(entity.getStatus()),
-                    Map.of("state", entity.getState().toString())
+                LazyMap.of(() ->
+                    MapUtils.mergeMultipleMaps(
+                        converter.convertToEntityAttribute(entity.getStatus()),
+                        Map.of("state", entity.getState().toString())
+                    )
                 )
             )
             .build();
     }
 
+    private Map<String, Serializable> buildMetadata(RunEntity entity) {
+        //read metadata map as-is
+        Map<String, Serializable> meta = converter.convertToEntityAttribute(entity.getMetadata());
+
+        // build metadata
+        Map<String, Serializable> metadata = new HashMap<>();
+        metadata.putAll(meta);
+
+        Optional.ofNullable(baseMetadataBuilder.convert(entity, meta)).ifPresent(m -> metadata.putAll(m.toMap()));
+        Optional.ofNullable(auditingMetadataBuilder.convert(entity, meta)).ifPresent(m -> metadata.putAll(m.toMap()));
+
+        return metadata;
+    }
+
     @Override
     public Run convert(RunEntity source) {
         return build(source);
@@ -23,8 +23,6 @@
 
 package it.smartcommunitylabdhub.runs.service;
 
-import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
-import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.core.services.BaseEntityServiceImpl;
 import it.smartcommunitylabdhub.runs.Run;
 import it.smartcommunitylabdhub.runs.persistence.RunEntity;
@@ -33,7 +31,6 @@ import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
-import org.springframework.validation.BindException;
 
 @Service
 @Transactional
@@ -41,13 +38,12 @@ import org.springframework.validation.BindException;
 public class RunEntityServiceImpl extends BaseEntityServiceImpl<Run, RunEntity> {
 
     @Override
-    public Run create(@NotNull Run dto)
-        throws IllegalArgumentException, BindException, DuplicatedEntityException, StoreException {
+    protected String prepareCreate(@NotNull Run dto) throws IllegalArgumentException {
         //generate random name if missing
         if (!StringUtils.hasText(dto.getName())) {
             String name = nameGenerator.generateKey();
             dto.setName(name);
         }
-        return super.create(dto);
+        return super.prepareCreate(dto);
     }
 }
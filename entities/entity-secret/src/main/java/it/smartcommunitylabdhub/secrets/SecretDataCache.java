@@ -0,0 +1,162 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.secrets;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Short-lived cache of secret values read from providers, keyed by provider path.
+ *
+ * Values are kept encrypted with a random key generated on startup and never persisted,
+ * so that plaintext secrets do not linger in the heap. Entries expire after the ttl to
+ * pick up changes made by other replicas, a ttl of zero disables the cache.
+ */
+@Slf4j
+public class SecretDataCache {
+
+    private static final String ALGORITHM = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH = 128;
+    private static final int MAX_SIZE = 10000;
+
+    private final long ttl;
+    private final SecretKey key;
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, Sealed> values = new ConcurrentHashMap<>();
+
+    public SecretDataCache(Duration ttl) {
+        Assert.notNull(ttl, "ttl can not be null");
+        Assert.isTrue(!ttl.isNegative(), "ttl can not be negative");
+        this.ttl = ttl.toMillis();
+
+        try {
+            KeyGenerator generator = KeyGenerator.getInstance("AES");
+            generator.init(256, random);
+            this.key = generator.generateKey();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("error initializing secret cache: " + e.getMessage());
+        }
+    }
+
+    public boolean isEnabled() {
+        return ttl > 0;
+    }
+
+    /**
+     * Return the cached values for the given paths, missing or expired entries are skipped
+     */
+    public Map<String, String> get(Collection<String> paths) {
+        Map<String, String> result = new HashMap<>();
+        if (!isEnabled()) {
+            return result;
+        }
+
+        long now = System.currentTimeMillis();
+        for (String path : paths) {
+            Sealed sealed = values.get(path);
+            if (sealed != null && sealed.expires() > now) {
+                String value = open(sealed);
+                if (value != null) {
+                    result.put(path, value);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    public @Nullable String get(String path) {
+        return get(List.of(path)).get(path);
+    }
+
+    public void put(String path, String value) {
+        if (!isEnabled() || path == null || value == null) {
+            return;
+        }
+
+        if (values.size() >= MAX_SIZE) {
+            evict();
+        }
+
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+
+            Cipher cipher = Cipher.getInstance(ALGORITHM);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH, iv));
+            byte[] data = cipher.doFinal(value.getBytes(StandardCharsets.UTF_8));
+
+            values.put(path, new Sealed(iv, data, System.currentTimeMillis() + ttl));
+        } catch (GeneralSecurityException e) {
+            //skip caching, reads will hit the provider
+            log.error("error sealing secret value: {}", e.getMessage());
+        }
+    }
+
+    public void invalidate(String path) {
+        values.remove(path);
+    }
+
+    public void clear() {
+        values.clear();
+    }
+
+    private @Nullable String open(Sealed sealed) {
+        try {
+            Cipher cipher = Cipher.getInstance(ALGORITHM);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH, sealed.iv()));
+            return new String(cipher.doFinal(sealed.data()), StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            log.error("error opening secret value: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        values.values().removeIf(s -> s.expires() <= now);
+
+        if (values.size() >= MAX_SIZE) {
+            //still full: drop everything, entries are cheap to reload
+            values.clear();
+        }
+    }
+
+    private record Sealed(byte[] iv, byte[] data, long expires) {}
+}
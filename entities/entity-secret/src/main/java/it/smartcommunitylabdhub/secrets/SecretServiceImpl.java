@@ -28,6 +28,7 @@ import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.project.Project;
 import it.smartcommunitylabdhub.commons.models.secret.Secret;
 import it.smartcommunitylabdhub.commons.models.specs.Spec;
@@ -36,14 +37,17 @@ import it.smartcommunitylabdhub.commons.services.SecretService;
 import it.smartcommunitylabdhub.commons.services.SecretsProvider;
 import it.smartcommunitylabdhub.commons.services.SpecRegistry;
 import it.smartcommunitylabdhub.commons.services.SpecValidator;
+import it.smartcommunitylabdhub.commons.utils.BatchUtils;
 import it.smartcommunitylabdhub.core.queries.specifications.CommonSpecification;
 import it.smartcommunitylabdhub.core.repositories.SearchableEntityRepository;
 import it.smartcommunitylabdhub.secrets.persistence.SecretEntity;
 import it.smartcommunitylabdhub.secrets.specs.SecretBaseSpec;
 import jakarta.transaction.Transactional;
 import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -54,6 +58,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -85,6 +90,14 @@ public class SecretServiceImpl implements SecretService {
 
     private Map<String, SecretsProvider> providers = new HashMap<>();
 
+    //disabled until configured
+    private SecretDataCache cache = new SecretDataCache(Duration.ZERO);
+
+    @Autowired
+    public void setCacheTtl(@Value("${secrets.cache.ttl}") int ttl) {
+        this.cache = new SecretDataCache(Duration.ofSeconds(ttl));
+    }
+
     @Autowired(required = false)
     public void setProviders(List<SecretsProvider> providers) {
         this.providers = new HashMap<>();
@@ -178,46 +191,7 @@ public class SecretServiceImpl implements SecretService {
         throws DuplicatedEntityException, BindException, IllegalArgumentException {
         log.debug("create secret");
         try {
-            //validate project
-            String projectId = dto.getProject();
-            if (!StringUtils.hasText(projectId) || projectService.find(projectId) == null) {
-                throw new IllegalArgumentException("invalid or missing project");
-            }
-
-            //parse base
-            SecretBaseSpec secretSpec = new SecretBaseSpec();
-            secretSpec.configure(dto.getSpec());
-
-            String path = secretSpec.getPath();
-            if (!StringUtils.hasText(path)) {
-                throw new IllegalArgumentException("invalid or missing path in spec");
-            }
-
-            //path must match
-            if (!PATH_PATTERN.matcher(path).matches()) {
-                throw new IllegalArgumentException("invalid or missing path in spec");
-            }
-
-            // Parse and export Spec
-            Spec spec = specRegistry.createSpec(dto.getKind(), dto.getSpec());
-            if (spec == null) {
-                throw new IllegalArgumentException("invalid kind");
-            }
-
-            //validate
-            validator.validateSpec(spec);
-
-            //update spec as exported
-            dto.setSpec(spec.toMap());
-
-            //check if a secret with this name already exists for the project
-            Optional<Secret> existingSecret = listSecretsByProject(projectId)
-                .stream()
-                .filter(s -> s.getName().equals(dto.getName()))
-                .findFirst();
-            if (existingSecret.isPresent()) {
-                throw new DuplicatedEntityException(Secret.class, dto.getName());
-            }
+            validateCreate(dto);
 
             // store in DB, do not create physically the secret
             return entityRepository.create(dto);
@@ -246,6 +220,72 @@ public class SecretServiceImpl implements SecretService {
         }
     }
 
+    @Override
+    public BatchResult<Secret> createSecrets(@NotNull List<Secret> dtos) {
+        log.debug("create secrets batch with size {}", dtos.size());
+        try {
+            //names must be unique within the batch too
+            Set<String> names = new HashSet<>();
+            return BatchUtils.process(
+                dtos,
+                dto -> {
+                    validateCreate(dto);
+                    if (!names.add(dto.getProject() + "/" + dto.getName())) {
+                        throw new DuplicatedEntityException(Secret.class, dto.getName());
+                    }
+                },
+                valid -> {
+                    try {
+                        return BatchUtils.succeeded(entityRepository.createAll(valid));
+                    } catch (DuplicatedEntityException | StoreException | RuntimeException e) {
+                        //whole batch is rolled back
+                        log.error("error creating batch: {}", e.getMessage());
+                        return BatchUtils.failed(valid, e.getMessage());
+                    }
+                }
+            );
+        } catch (StoreException e) {
+            log.error("store error: {}", e.getMessage());
+            throw new SystemException(e.getMessage());
+        }
+    }
+
+    @Override
+    public BatchResult<Secret> updateSecrets(@NotNull List<Secret> dtos) {
+        log.debug("update secrets batch with size {}", dtos.size());
+        try {
+            return BatchUtils.process(
+                dtos,
+                dto -> {
+                    if (dto.getId() == null) {
+                        throw new IllegalArgumentException("missing id");
+                    }
+
+                    //check for project match
+                    Secret current = entityRepository.get(dto.getId());
+                    if (dto.getProject() != null && !dto.getProject().equals(current.getProject())) {
+                        throw new IllegalArgumentException("invalid project");
+                    }
+
+                    //keep spec
+                    dto.setSpec(current.getSpec());
+                },
+                valid -> {
+                    try {
+                        return BatchUtils.succeeded(entityRepository.updateAll(valid));
+                    } catch (StoreException | RuntimeException e) {
+                        //whole batch is rolled back
+                        log.error("error updating batch: {}", e.getMessage());
+                        return BatchUtils.failed(valid, e.getMessage());
+                    }
+                }
+            );
+        } catch (StoreException e) {
+            log.error("store error: {}", e.getMessage());
+            throw new SystemException(e.getMessage());
+        }
+    }
+
     @Override
     public void deleteSecret(@NotNull String id) {
         log.debug("delete secret with id {}", String.valueOf(id));
@@ -274,9 +314,13 @@ public class SecretServiceImpl implements SecretService {
                     );
 
                     String key = matcher.group(1);
-                    providers
-                        .get(provider)
-                        .clearSecretData(getSecretPath(provider, getProjectSecretName(secret.getProject()), key));
+                    String secretPath = getSecretPath(provider, getProjectSecretName(secret.getProject()), key);
+                    try {
+                        providers.get(provider).clearSecretData(secretPath);
+                    } finally {
+                        //invalidate after the provider, concurrent reads may have cached the old value
+                        cache.invalidate(secretPath);
+                    }
                 }
 
                 //delete the secret
@@ -328,9 +372,12 @@ public class SecretServiceImpl implements SecretService {
                 log.debug("read secret data for secret with id {} via provider {}", String.valueOf(id), provider);
 
                 String key = matcher.group(1);
-                String value = providers
-                    .get(provider)
-                    .readSecretData(getSecretPath(provider, getProjectSecretName(secret.getProject()), key));
+                String secretPath = getSecretPath(provider, getProjectSecretName(secret.getProject()), key);
+                String value = cache.get(secretPath);
+                if (value == null) {
+                    value = providers.get(provider).readSecretData(secretPath);
+                    cache.put(secretPath, value);
+                }
 
                 return Map.entry(key, value);
             }
@@ -365,9 +412,13 @@ public class SecretServiceImpl implements SecretService {
                 log.debug("store secret data for secret with id {} via provider {}", String.valueOf(id), provider);
 
                 String key = matcher.group(1);
-                providers
-                    .get(provider)
-                    .writeSecretData(getSecretPath(provider, getProjectSecretName(secret.getProject()), key), value);
+                String secretPath = getSecretPath(provider, getProjectSecretName(secret.getProject()), key);
+                try {
+                    providers.get(provider).writeSecretData(secretPath, value);
+                } finally {
+                    //invalidate after the provider, concurrent reads may have cached the old value
+                    cache.invalidate(secretPath);
+                }
             } else {
                 throw new StoreException("invalid or unavailable provider");
             }
@@ -385,17 +436,60 @@ public class SecretServiceImpl implements SecretService {
             return Collections.emptyMap();
         }
 
-        //fetch requested secrets
-        List<Secret> secrets = listSecretsByProject(project)
-            .stream()
-            .filter(s -> names.contains(s.getName()))
-            .collect(Collectors.toList());
+        try {
+            //fetch only requested secrets in a single query
+            Specification<SecretEntity> specification = Specification.allOf(
+                CommonSpecification.projectEquals(project),
+                CommonSpecification.nameIn(names)
+            );
+            List<Secret> secrets = entityRepository.searchAll(specification);
 
-        //unseal project secret data via provider
-        return secrets
-            .stream()
-            .map(s -> getSecretData(s.getId()))
-            .collect(Collectors.toMap(Entry::getKey, Entry::getValue));
+            //resolve provider paths, grouped by provider
+            Map<String, Map<String, String>> paths = new HashMap<>();
+            for (Secret secret : secrets) {
+                SecretBaseSpec secretSpec = new SecretBaseSpec();
+                secretSpec.configure(secret.getSpec());
+
+                String path = secretSpec.getPath();
+                String provider = secretSpec.getProvider();
+                Matcher matcher = PATH_PATTERN.matcher(StringUtils.hasText(path) ? path : "");
+
+                if (!StringUtils.hasText(provider) || !matcher.matches() || !providers.containsKey(provider)) {
+                    throw new StoreException("invalid or unavailable provider");
+                }
+
+                String key = matcher.group(1);
+                paths
+                    .computeIfAbsent(provider, p -> new HashMap<>())
+                    .put(getSecretPath(provider, getProjectSecretName(project), key), key);
+            }
+
+            //unseal project secret data via provider, one call per provider for cache misses
+            Map<String, String> result = new HashMap<>();
+            for (Entry<String, Map<String, String>> entry : paths.entrySet()) {
+                Map<String, String> keys = entry.getValue();
+                Map<String, String> values = cache.get(keys.keySet());
+
+                Set<String> missing = keys
+                    .keySet()
+                    .stream()
+                    .filter(k -> !values.containsKey(k))
+                    .collect(Collectors.toSet());
+                if (!missing.isEmpty()) {
+                    log.debug("read {} secret values via provider {}", missing.size(), entry.getKey());
+                    Map<String, String> read = providers.get(entry.getKey()).readSecretData(missing);
+                    read.forEach((k, v) -> cache.put(k, v));
+                    values.putAll(read);
+                }
+
+                values.forEach((k, v) -> result.put(keys.get(k), v));
+            }
+
+            return result;
+        } catch (StoreException e) {
+            log.error("store error: {}", e.getMessage());
+            throw new SystemException(e.getMessage());
+        }
     }
 
     @Override
@@ -472,4 +566,47 @@ public class SecretServiceImpl implements SecretService {
     private String getSecretPath(String provider, String secret, String key) {
         return String.format(PATH_FORMAT, provider, secret, key);
     }
+
+    private void validateCreate(Secret dto) throws DuplicatedEntityException, StoreException {
+        //validate project
+        String projectId = dto.getProject();
+        if (!StringUtils.hasText(projectId) || projectService.find(projectId) == null) {
+            throw new IllegalArgumentException("invalid or missing project");
+        }
+
+        //parse base
+        SecretBaseSpec secretSpec = new SecretBaseSpec();
+        secretSpec.configure(dto.getSpec());
+
+        String path = secretSpec.getPath();
+        if (!StringUtils.hasText(path)) {
+            throw new IllegalArgumentException("invalid or missing path in spec");
+        }
+
+        //path must match
+        if (!PATH_PATTERN.matcher(path).matches()) {
+            throw new IllegalArgumentException("invalid or missing path in spec");
+        }
+
+        // Parse and export Spec
+        Spec spec = specRegistry.createSpec(dto.getKind(), dto.getSpec());
+        if (spec == null) {
+            throw new IllegalArgumentException("invalid kind");
+        }
+
+        //validate
+        validator.validateSpec(spec);
+
+        //update spec as exported
+        dto.setSpec(spec.toMap());
+
+        //check if a secret with this name already exists for the project
+        Optional<Secret> existingSecret = listSecretsByProject(projectId)
+            .stream()
+            .filter(s -> s.getName().equals(dto.getName()))
+            .findFirst();
+        if (existingSecret.isPresent()) {
+            throw new DuplicatedEntityException(Secret.class, dto.getName());
+        }
+    }
 }
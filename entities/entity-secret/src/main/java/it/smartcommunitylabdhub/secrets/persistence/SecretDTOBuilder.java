@@ -28,6 +28,7 @@ import it.smartcommunitylabdhub.commons.models.secret.Secret;
 import it.smartcommunitylabdhub.commons.utils.MapUtils;
 import it.smartcommunitylabdhub.core.metadata.AuditMetadataBuilder;
 import it.smartcommunitylabdhub.core.metadata.BaseMetadataBuilder;
+import it.smartcommunitylabdhub.core.repositories.LazyMap;
 import jakarta.persistence.AttributeConverter;
 import java.io.Serializable;
 import java.util.HashMap;
@@ -62,6 +63,27 @@ public class SecretDTOBuilder implements Converter<SecretEntity, Secret> {
     }
 
     public Secret build(SecretEntity entity) {
+        return Secret
+            .builder()
+            .id(entity.getId())
+            .name(entity.getName())
+            .kind(entity.getKind())
+            .project(entity.getProject())
+            .user(entity.getCreatedBy())
+            .metadata(LazyMap.of(() -> buildMetadata(entity)))
+            .spec(LazyMap.of(entity.getSpec(), converter))
+            .status(
+                LazyMap.of(() ->
+                    MapUtils.mergeMultipleMaps(
+                        converter.convertToEntityAttribute(entity.getStatus()),
+                        Map.of("state", entity.getState())
+                    )
+                )
+            )
+            .build();
+    }
+
+    private Map<String, Serializable> buildMetadata(SecretEntity entity) {
         //read metadata map as-is
         Map<String, Serializable> meta = converter.convertToEntityAttribute(entity.getMetadata());
 
@@ -73,25 +95,10 @@ public class SecretDTOBuilder implements Converter<SecretEntity, Secret> {
         embeddable.setEmbedded(entity.getEmbedded());
         metadata.putAll(embeddable.toMap());
 
-        Optional.ofNullable(baseMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
-        Optional.ofNullable(auditingMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
+        Optional.ofNullable(baseMetadataBuilder.convert(entity, meta)).ifPresent(m -> metadata.putAll(m.toMap()));
+        Optional.ofNullable(auditingMetadataBuilder.convert(entity, meta)).ifPresent(m -> metadata.putAll(m.toMap()));
 
-        return Secret
-            .builder()
-            .id(entity.getId())
-            .name(entity.getName())
-            .kind(entity.getKind())
-            .project(entity.getProject())
-            .user(entity.getCreatedBy())
-            .metadata(metadata)
-            .spec(converter.convertToEntityAttribute(entity.getSpec()))
-            .status(
-                MapUtils.mergeMultipleMaps(
-                    converter.convertToEntityAttribute(entity.getStatus()),
-                    Map.of("state", entity.getState())
-                )
-            )
-            .build();
+        return metadata;
     }
 
     @Override
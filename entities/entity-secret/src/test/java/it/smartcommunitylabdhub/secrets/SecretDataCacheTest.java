@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.secrets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SecretDataCacheTest {
+
+    private static final String A = "kubernetes://proj-secrets-p1/a";
+    private static final String B = "kubernetes://proj-secrets-p1/b";
+    private static final String C = "kubernetes://proj-secrets-p1/c";
+
+    @Test
+    void cachedValuesRoundTrip() {
+        SecretDataCache cache = new SecretDataCache(Duration.ofSeconds(30));
+        cache.put(A, "value-a");
+        cache.put(B, "value-b");
+
+        Map<String, String> values = cache.get(List.of(A, B, C));
+        assertEquals(Map.of(A, "value-a", B, "value-b"), values);
+
+        cache.invalidate(A);
+        assertNull(cache.get(A));
+        assertEquals("value-b", cache.get(B));
+    }
+
+    @Test
+    void entriesExpire() throws InterruptedException {
+        SecretDataCache cache = new SecretDataCache(Duration.ofMillis(20));
+        cache.put(A, "value-a");
+        assertEquals("value-a", cache.get(A));
+
+        Thread.sleep(50);
+        assertNull(cache.get(A));
+    }
+
+    @Test
+    void zeroTtlDisablesCache() {
+        SecretDataCache cache = new SecretDataCache(Duration.ZERO);
+        assertFalse(cache.isEnabled());
+
+        cache.put(A, "value-a");
+        assertTrue(cache.get(List.of(A)).isEmpty());
+    }
+}
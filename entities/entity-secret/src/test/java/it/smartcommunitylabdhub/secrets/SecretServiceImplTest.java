@@ -0,0 +1,161 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.secrets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import it.smartcommunitylabdhub.commons.annotations.common.Identifier;
+import it.smartcommunitylabdhub.commons.models.secret.Secret;
+import it.smartcommunitylabdhub.commons.services.SecretsProvider;
+import it.smartcommunitylabdhub.core.repositories.SearchableEntityRepository;
+import it.smartcommunitylabdhub.secrets.persistence.SecretEntity;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SecretServiceImplTest {
+
+    private SearchableEntityRepository<SecretEntity, Secret> repository;
+    private KubernetesProvider kubernetes;
+    private VaultProvider vault;
+    private SecretServiceImpl service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        repository = mock(SearchableEntityRepository.class);
+        when(repository.searchAll(any()))
+            .thenReturn(List.of(secret("a", "kubernetes"), secret("b", "kubernetes"), secret("c", "vault")));
+
+        kubernetes = new KubernetesProvider();
+        vault = new VaultProvider();
+
+        service = new SecretServiceImpl();
+        ReflectionTestUtils.setField(service, "entityRepository", repository);
+        service.setProviders(List.of(kubernetes, vault));
+        service.setCacheTtl(30);
+    }
+
+    @Test
+    void oneQueryAndOneCallPerProvider() throws Exception {
+        Map<String, String> values = service.getSecretData("p1", Set.of("a", "b", "c"));
+
+        assertEquals(Map.of("a", "value-a", "b", "value-b", "c", "value-c"), values);
+        verify(repository, times(1)).searchAll(any());
+        assertEquals(List.of(2), kubernetes.reads);
+        assertEquals(List.of(1), vault.reads);
+    }
+
+    @Test
+    void cacheHitsSkipProvider() throws Exception {
+        service.getSecretData("p1", Set.of("a", "b", "c"));
+        Map<String, String> values = service.getSecretData("p1", Set.of("a", "b", "c"));
+
+        assertEquals(Map.of("a", "value-a", "b", "value-b", "c", "value-c"), values);
+        assertEquals(List.of(2), kubernetes.reads);
+        assertEquals(List.of(1), vault.reads);
+    }
+
+    @Test
+    void disabledCacheReadsProvider() throws Exception {
+        service.setCacheTtl(0);
+        service.getSecretData("p1", Set.of("a", "b", "c"));
+        service.getSecretData("p1", Set.of("a", "b", "c"));
+
+        assertEquals(List.of(2, 2), kubernetes.reads);
+        assertEquals(List.of(1, 1), vault.reads);
+    }
+
+    @Test
+    void readsDuringWritesDoNotKeepOldValues() throws Exception {
+        when(repository.get("a")).thenReturn(secret("a", "kubernetes"));
+        assertEquals("value-a", service.getSecretData("a").getValue());
+
+        //a read running while the provider writes caches the old value
+        kubernetes.onWrite = () -> service.getSecretData("a");
+        service.storeSecretData("a", "new-a");
+
+        assertEquals("new-a", service.getSecretData("a").getValue());
+        assertEquals("new-a", service.getSecretData("p1", Set.of("a")).get("a"));
+    }
+
+    private static Secret secret(String name, String provider) {
+        Map<String, Serializable> spec = new HashMap<>();
+        spec.put("path", "secret://" + name);
+        spec.put("provider", provider);
+
+        return Secret.builder().id(name).name(name).kind("secret").project("p1").spec(spec).build();
+    }
+
+    private abstract static class RecordingProvider implements SecretsProvider {
+
+        //number of paths requested by each read
+        final List<Integer> reads = new ArrayList<>();
+        final Map<String, String> written = new HashMap<>();
+        Runnable onWrite;
+
+        @Override
+        public String readSecretData(String path) {
+            return written.getOrDefault(path, "value-" + path.substring(path.lastIndexOf('/') + 1));
+        }
+
+        @Override
+        public Map<String, String> readSecretData(Collection<String> paths) {
+            reads.add(paths.size());
+
+            Map<String, String> values = new HashMap<>();
+            paths.forEach(path -> values.put(path, readSecretData(path)));
+            return values;
+        }
+
+        @Override
+        public void writeSecretData(String path, String value) {
+            if (onWrite != null) {
+                onWrite.run();
+            }
+            written.put(path, value);
+        }
+
+        @Override
+        public void clearSecretData(String path) {}
+    }
+
+    @Identifier("kubernetes")
+    private static class KubernetesProvider extends RecordingProvider {}
+
+    @Identifier("vault")
+    private static class VaultProvider extends RecordingProvider {}
+}
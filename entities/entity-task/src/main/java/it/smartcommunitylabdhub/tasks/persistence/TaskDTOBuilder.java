@@ -24,6 +24,7 @@
 package it.smartcommunitylabdhub.tasks.persistence;
 
 import it.smartcommunitylabdhub.commons.models.task.Task;
+import it.smartcommunitylabdhub.core.repositories.LazyMap;
 import jakarta.persistence.AttributeConverter;
 import java.io.Serializable;
 import java.util.Map;
@@ -46,7 +47,7 @@ public class TaskDTOBuilder implements Converter<TaskEntity, Task> {
             .kind(entity.getKind())
             .project(entity.getProject())
             .user(entity.getCreatedBy())
-            .spec(converter.convertToEntityAttribute(entity.getSpec()))
+            .spec(LazyMap.of(entity.getSpec(), converter))
             .build();
     }
 
@@ -26,6 +26,7 @@ package it.smartcommunitylabdhub.triggers;
 import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
@@ -131,6 +132,20 @@ public interface TriggerManager {
     Trigger updateTrigger(@NotNull String id, @NotNull Trigger triggerDTO)
         throws NoSuchEntityException, BindException, IllegalArgumentException, SystemException;
 
+    /**
+     * Create a batch of triggers, each item is validated and reported on its own
+     * @param dtos
+     * @return
+     */
+    BatchResult<Trigger> createTriggers(@NotNull List<Trigger> dtos) throws SystemException;
+
+    /**
+     * Update a batch of triggers, each item is validated and reported on its own
+     * @param dtos
+     * @return
+     */
+    BatchResult<Trigger> updateTriggers(@NotNull List<Trigger> dtos) throws SystemException;
+
     /**
      * Delete a specific trigger via unique ID, with optional cascade
      * @param id
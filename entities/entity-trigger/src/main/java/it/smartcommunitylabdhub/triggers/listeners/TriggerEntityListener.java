@@ -24,6 +24,7 @@
 package it.smartcommunitylabdhub.triggers.listeners;
 
 import it.smartcommunitylabdhub.core.events.AbstractEntityListener;
+import it.smartcommunitylabdhub.core.events.EntityBatchEvent;
 import it.smartcommunitylabdhub.core.events.EntityEvent;
 import it.smartcommunitylabdhub.triggers.Trigger;
 import it.smartcommunitylabdhub.triggers.persistence.TriggerEntity;
@@ -50,6 +51,11 @@ public class TriggerEntityListener extends AbstractEntityListener<TriggerEntity,
         super.dispatch(event);
     }
 
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void receiveAll(EntityBatchEvent<TriggerEntity> event) {
+        super.dispatchAll(event);
+    }
+
     @Override
     public void handle(Message<EntityEvent<TriggerEntity>> message) {
         // index + relationships
@@ -29,7 +29,9 @@ import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
+import it.smartcommunitylabdhub.commons.utils.BatchUtils;
 import it.smartcommunitylabdhub.core.persistence.AbstractEntity_;
 import it.smartcommunitylabdhub.core.queries.specifications.CommonSpecification;
 import it.smartcommunitylabdhub.core.repositories.SearchableEntityRepository;
@@ -192,28 +194,7 @@ public class TriggerManagerImpl implements TriggerManager {
         throws DuplicatedEntityException, BindException, IllegalArgumentException {
         log.debug("create trigger");
         try {
-            //validate project
-            String projectId = dto.getProject();
-            if (!StringUtils.hasText(projectId)) {
-                throw new IllegalArgumentException("invalid or missing project");
-            }
-
-            //check task is valid
-            TriggerBaseSpec baseSpec = TriggerBaseSpec.from(dto.getSpec());
-            if (!StringUtils.hasText(baseSpec.getTask())) {
-                throw new IllegalArgumentException("spec: missing task");
-            }
-            if (!StringUtils.hasText(baseSpec.getFunction()) && !StringUtils.hasText(baseSpec.getWorkflow())) {
-                throw new IllegalArgumentException("spec: missing function or workflow");
-            }
-
-            //access task details from ref, same as run
-            RunSpecAccessor specAccessor = RunSpecAccessor.with(dto.getSpec());
-
-            //check project match
-            if (dto.getProject() != null && !dto.getProject().equals(specAccessor.getProject())) {
-                throw new IllegalArgumentException("project mismatch");
-            }
+            validateCreate(dto);
 
             //create as new
             return entityService.create(dto);
@@ -235,6 +216,29 @@ public class TriggerManagerImpl implements TriggerManager {
         }
     }
 
+    @Override
+    public BatchResult<Trigger> createTriggers(@NotNull List<Trigger> dtos) {
+        log.debug("create triggers batch with size {}", dtos.size());
+        try {
+            //check every trigger on its own, store the valid ones at once
+            return BatchUtils.process(dtos, this::validateCreate, valid -> entityService.createAll(valid));
+        } catch (StoreException e) {
+            log.error("store error: {}", e.getMessage());
+            throw new SystemException(e.getMessage());
+        }
+    }
+
+    @Override
+    public BatchResult<Trigger> updateTriggers(@NotNull List<Trigger> dtos) {
+        log.debug("update triggers batch with size {}", dtos.size());
+        try {
+            return entityService.updateAll(dtos);
+        } catch (StoreException e) {
+            log.error("store error: {}", e.getMessage());
+            throw new SystemException(e.getMessage());
+        }
+    }
+
     @Override
     public void deleteTrigger(@NotNull String id, @Nullable Boolean cascade) {
         log.debug("delete trigger with id {}", String.valueOf(id));
@@ -246,6 +250,31 @@ public class TriggerManagerImpl implements TriggerManager {
         }
     }
 
+    private void validateCreate(Trigger dto) {
+        //validate project
+        String projectId = dto.getProject();
+        if (!StringUtils.hasText(projectId)) {
+            throw new IllegalArgumentException("invalid or missing project");
+        }
+
+        //check task is valid
+        TriggerBaseSpec baseSpec = TriggerBaseSpec.from(dto.getSpec());
+        if (!StringUtils.hasText(baseSpec.getTask())) {
+            throw new IllegalArgumentException("spec: missing task");
+        }
+        if (!StringUtils.hasText(baseSpec.getFunction()) && !StringUtils.hasText(baseSpec.getWorkflow())) {
+            throw new IllegalArgumentException("spec: missing function or workflow");
+        }
+
+        //access task details from ref, same as run
+        RunSpecAccessor specAccessor = RunSpecAccessor.with(dto.getSpec());
+
+        //check project match
+        if (dto.getProject() != null && !dto.getProject().equals(specAccessor.getProject())) {
+            throw new IllegalArgumentException("project mismatch");
+        }
+    }
+
     private Specification<TriggerEntity> createTaskSpecification(String task) {
         return (root, query, criteriaBuilder) -> {
             return criteriaBuilder.equal(root.get(Fields.TASK), task);
@@ -11,6 +11,7 @@ import it.smartcommunitylabdhub.commons.config.YamlPropertySourceFactory;
 import it.smartcommunitylabdhub.framework.argo.infrastructure.k8s.K8sArgoWorkflowFramework;
 import it.smartcommunitylabdhub.framework.argo.runnables.K8sArgoWorkflowRunnable;
 import it.smartcommunitylabdhub.framework.k8s.annotations.ConditionalOnKubernetes;
+import it.smartcommunitylabdhub.framework.k8s.runnables.K8sRunnable;
 import it.smartcommunitylabdhub.runtimes.persistence.RunnableRepository;
 import it.smartcommunitylabdhub.runtimes.store.RunnableStore;
 import it.smartcommunitylabdhub.runtimes.store.RunnableStoreImpl;
@@ -29,7 +30,13 @@ public class K8sArgoFrameworkConfig {
         RunnableRepository runnableRepository,
         PlatformTransactionManager transactionManager
     ) {
-        return new RunnableStoreImpl<>(K8sArgoWorkflowRunnable.class, runnableRepository, transactionManager);
+        RunnableStoreImpl<K8sArgoWorkflowRunnable> store = new RunnableStoreImpl<>(
+            K8sArgoWorkflowRunnable.class,
+            runnableRepository,
+            transactionManager
+        );
+        store.setDetached(K8sRunnable.DETACHED_FIELDS);
+        return store;
     }
 
     @Bean
@@ -107,9 +107,8 @@ public class K8sArgoWorkflowMonitor extends K8sBaseMonitor<K8sArgoWorkflowRunnab
 
             //collect logs, optional
             try {
-                // TODO add sinceTime when available
                 // TODO read native argo logs
-                runnable.setLogs(framework.logs(workflow));
+                runnable.setLogs(logs(framework, workflow, runnable));
             } catch (K8sFrameworkException e1) {
                 log.error("error collecting logs for Argo Workflow {}: {}", runnable.getId(), e1.getMessage());
             }
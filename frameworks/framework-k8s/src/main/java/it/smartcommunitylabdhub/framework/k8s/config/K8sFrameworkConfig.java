@@ -39,6 +39,7 @@ import it.smartcommunitylabdhub.framework.k8s.listeners.K8sServeListener;
 import it.smartcommunitylabdhub.framework.k8s.runnables.K8sCRRunnable;
 import it.smartcommunitylabdhub.framework.k8s.runnables.K8sDeploymentRunnable;
 import it.smartcommunitylabdhub.framework.k8s.runnables.K8sJobRunnable;
+import it.smartcommunitylabdhub.framework.k8s.runnables.K8sRunnable;
 import it.smartcommunitylabdhub.framework.k8s.runnables.K8sServeRunnable;
 import it.smartcommunitylabdhub.framework.k8s.service.K8sMetricsService;
 import it.smartcommunitylabdhub.runtimes.persistence.RunnableRepository;
@@ -69,6 +70,7 @@ public class K8sFrameworkConfig {
         RunnableStoreImpl<K8sServeRunnable> store = new RunnableStoreImpl<>(
                 K8sServeRunnable.class, runnableRepository, transactionManager);
         store.setObjectMapper(KubernetesMapper.CBOR_OBJECT_MAPPER);
+        store.setDetached(K8sRunnable.DETACHED_FIELDS);
         return store;
     }
 
@@ -82,6 +84,7 @@ public class K8sFrameworkConfig {
                 runnableRepository,
                 transactionManager);
         store.setObjectMapper(KubernetesMapper.CBOR_OBJECT_MAPPER);
+        store.setDetached(K8sRunnable.DETACHED_FIELDS);
         return store;
     }
 
@@ -93,6 +96,7 @@ public class K8sFrameworkConfig {
         RunnableStoreImpl<K8sJobRunnable> store = new RunnableStoreImpl<>(
                 K8sJobRunnable.class, runnableRepository, transactionManager);
         store.setObjectMapper(KubernetesMapper.CBOR_OBJECT_MAPPER);
+        store.setDetached(K8sRunnable.DETACHED_FIELDS);
         return store;
     }
 
@@ -104,6 +108,7 @@ public class K8sFrameworkConfig {
         RunnableStoreImpl<K8sCRRunnable> store = new RunnableStoreImpl<>(
                 K8sCRRunnable.class, runnableRepository, transactionManager);
         store.setObjectMapper(KubernetesMapper.CBOR_OBJECT_MAPPER);
+        store.setDetached(K8sRunnable.DETACHED_FIELDS);
         return store;
     }
 
@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.framework.k8s.config;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import it.smartcommunitylabdhub.commons.config.ApplicationProperties;
+import it.smartcommunitylabdhub.framework.k8s.annotations.ConditionalOnKubernetes;
+import it.smartcommunitylabdhub.framework.k8s.infrastructure.informer.K8sInformerCache;
+import it.smartcommunitylabdhub.framework.k8s.kubernetes.K8sBuilderHelper;
+import it.smartcommunitylabdhub.framework.k8s.kubernetes.K8sLabelHelper;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+@Configuration
+@Slf4j
+@Order(5)
+@ConditionalOnKubernetes
+public class K8sInformerConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "kubernetes.informers.enabled", havingValue = "true", matchIfMissing = true)
+    public K8sInformerCache k8sInformerCache(
+        KubernetesClient kubernetesClient,
+        ApplicationProperties applicationProperties,
+        @Value("${kubernetes.namespace}") String namespace,
+        @Value("${kubernetes.informers.resync:0}") long resync
+    ) {
+        //scope informers to objects managed by this platform, for every framework
+        Map<String, String> labels = Map.of(
+            "app.kubernetes.io/managed-by",
+            K8sLabelHelper.NAME,
+            "app.kubernetes.io/part-of",
+            K8sBuilderHelper.sanitizeNames(applicationProperties.getName())
+        );
+
+        K8sInformerCache cache = new K8sInformerCache(kubernetesClient, namespace, labels);
+        cache.setResyncPeriod(resync * 1000);
+
+        log.debug("start k8s informer cache for namespace {}", namespace);
+        cache.start();
+
+        return cache;
+    }
+}
@@ -58,6 +58,15 @@ public class K8sWatcherConfig {
     @Value("${kubernetes.namespace}")
     private String namespace;
 
+    @Value("${kubernetes.watchers.threads}")
+    private Integer threads;
+
+    @Value("${kubernetes.watchers.debounce}")
+    private Long debounce;
+
+    @Value("${kubernetes.watchers.debounce-ttl}")
+    private Long debounceTtl;
+
     @Bean
     @ConditionalOnKubernetes
     public K8sJobWatcher k8sJobWatcher(K8sJobMonitor k8sJobMonitor) {
@@ -65,6 +74,9 @@ public class K8sWatcherConfig {
         watcher.setK8sLabelHelper(k8sLabelHelper);
         watcher.setNamespace(namespace);
         watcher.setApplicationProperties(applicationProperties);
+        watcher.setThreads(threads);
+        watcher.setDebounce(debounce);
+        watcher.setDebounceTtl(debounceTtl);
 
         watcher.start();
 
@@ -78,6 +90,9 @@ public class K8sWatcherConfig {
         watcher.setK8sLabelHelper(k8sLabelHelper);
         watcher.setNamespace(namespace);
         watcher.setApplicationProperties(applicationProperties);
+        watcher.setThreads(threads);
+        watcher.setDebounce(debounce);
+        watcher.setDebounceTtl(debounceTtl);
 
         watcher.start();
 
@@ -91,6 +106,9 @@ public class K8sWatcherConfig {
         watcher.setK8sLabelHelper(k8sLabelHelper);
         watcher.setNamespace(namespace);
         watcher.setApplicationProperties(applicationProperties);
+        watcher.setThreads(threads);
+        watcher.setDebounce(debounce);
+        watcher.setDebounceTtl(debounceTtl);
 
         watcher.start();
 
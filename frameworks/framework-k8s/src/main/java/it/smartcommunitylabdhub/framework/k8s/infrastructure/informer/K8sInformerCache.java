@@ -0,0 +1,203 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.framework.k8s.infrastructure.informer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import io.fabric8.kubernetes.api.model.events.v1.Event;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.kubernetes.client.openapi.models.EventsV1Event;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import it.smartcommunitylabdhub.framework.k8s.jackson.KubernetesMapper;
+import jakarta.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Local, informer-backed cache of the k8s resources managed by the platform.
+ *
+ * Jobs, deployments, services and pods are watched with the core platform labels,
+ * events are watched for the whole namespace and indexed by the regarding object.
+ * Monitors read from here so that a monitor pass does not hit the api server,
+ * frameworks fall back to remote calls when the cache is not (yet) synced.
+ */
+@Slf4j
+public class K8sInformerCache {
+
+    public static final String INSTANCE_LABEL = "app.kubernetes.io/instance";
+    public static final String INSTANCE_INDEX = "instance";
+    public static final String REGARDING_INDEX = "regarding";
+
+    //custom object mapper with mixIn for IntOrString
+    private static final ObjectMapper mapper = KubernetesMapper.OBJECT_MAPPER;
+
+    private final KubernetesClient client;
+    private final String namespace;
+    private final Map<String, String> labels;
+
+    private long resyncPeriod = 0L;
+
+    private SharedIndexInformer<Job> jobs;
+    private SharedIndexInformer<Deployment> deployments;
+    private SharedIndexInformer<Service> services;
+    private SharedIndexInformer<Pod> pods;
+    private SharedIndexInformer<Event> events;
+
+    public K8sInformerCache(KubernetesClient client, String namespace, Map<String, String> labels) {
+        Assert.notNull(client, "k8s client is required");
+        Assert.hasText(namespace, "k8s namespace is required");
+        Assert.notEmpty(labels, "labels are required");
+
+        this.client = client;
+        this.namespace = namespace;
+        this.labels = Collections.unmodifiableMap(labels);
+    }
+
+    public void setResyncPeriod(long resyncPeriod) {
+        this.resyncPeriod = resyncPeriod;
+    }
+
+    public void start() {
+        log.debug("start informers in {} with labels: {}", namespace, labels);
+
+        jobs = client.batch().v1().jobs().inNamespace(namespace).withLabels(labels).runnableInformer(resyncPeriod);
+        deployments =
+            client.apps().deployments().inNamespace(namespace).withLabels(labels).runnableInformer(resyncPeriod);
+        services = client.services().inNamespace(namespace).withLabels(labels).runnableInformer(resyncPeriod);
+
+        //index pods by instance label, pods share the labels with their parent
+        pods = client.pods().inNamespace(namespace).withLabels(labels).runnableInformer(resyncPeriod);
+        pods.addIndexers(Map.of(INSTANCE_INDEX, p -> instance(p)));
+
+        //events are not labeled: watch the namespace and index by regarding object
+        events = client.events().v1().events().inNamespace(namespace).runnableInformer(resyncPeriod);
+        events.addIndexers(
+            Map.of(
+                REGARDING_INDEX,
+                e ->
+                    e.getRegarding() != null && e.getRegarding().getName() != null
+                        ? List.of(e.getRegarding().getName())
+                        : Collections.emptyList()
+            )
+        );
+
+        //start without waiting for sync, consumers check readiness
+        List.of(jobs, deployments, services, pods, events).forEach(i -> i.start());
+    }
+
+    public boolean isSynced() {
+        return (
+            jobs != null &&
+            jobs.hasSynced() &&
+            deployments.hasSynced() &&
+            services.hasSynced() &&
+            pods.hasSynced() &&
+            events.hasSynced()
+        );
+    }
+
+    /*
+     * Lookups
+     */
+
+    public @Nullable V1Job getJob(String name) {
+        return get(jobs, name, V1Job.class);
+    }
+
+    public @Nullable V1Deployment getDeployment(String name) {
+        return get(deployments, name, V1Deployment.class);
+    }
+
+    public @Nullable V1Service getService(String name) {
+        return get(services, name, V1Service.class);
+    }
+
+    public List<V1Pod> getPods(String instance) {
+        return list(pods, INSTANCE_INDEX, instance, V1Pod.class);
+    }
+
+    public List<EventsV1Event> getEvents(String regarding) {
+        return list(events, REGARDING_INDEX, regarding, EventsV1Event.class);
+    }
+
+    @PreDestroy
+    public void stop() {
+        log.info("Shutting down informers...");
+        Stream.of(jobs, deployments, services, pods, events).filter(Objects::nonNull).forEach(i -> i.stop());
+    }
+
+    /*
+     * Helpers
+     */
+
+    private static List<String> instance(HasMetadata obj) {
+        return Optional.ofNullable(obj.getMetadata().getLabels())
+            .map(m -> m.get(INSTANCE_LABEL))
+            .map(v -> List.of(v))
+            .orElse(Collections.emptyList());
+    }
+
+    private <M extends HasMetadata, V> V get(SharedIndexInformer<M> informer, String name, Class<V> clazz) {
+        if (informer == null || name == null) {
+            return null;
+        }
+
+        M obj = informer.getStore().getByKey(Cache.namespaceKeyFunc(namespace, name));
+        return obj != null ? convert(obj, clazz) : null;
+    }
+
+    private <M extends HasMetadata, V> List<V> list(
+        SharedIndexInformer<M> informer,
+        String index,
+        String key,
+        Class<V> clazz
+    ) {
+        if (informer == null || key == null) {
+            return Collections.emptyList();
+        }
+
+        return informer.getIndexer().byIndex(index, key).stream().map(obj -> convert(obj, clazz)).toList();
+    }
+
+    //convert fabric8 models into k8s client models via json, the wire format is the same
+    private static <V> V convert(Object obj, Class<V> clazz) {
+        return mapper.convertValue(obj, clazz);
+    }
+}
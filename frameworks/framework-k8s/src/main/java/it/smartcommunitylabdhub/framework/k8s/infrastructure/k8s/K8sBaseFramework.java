@@ -63,6 +63,7 @@ import it.smartcommunitylabdhub.commons.infrastructure.Framework;
 import it.smartcommunitylabdhub.commons.utils.MapUtils;
 import it.smartcommunitylabdhub.framework.k8s.config.KubernetesProperties;
 import it.smartcommunitylabdhub.framework.k8s.exceptions.K8sFrameworkException;
+import it.smartcommunitylabdhub.framework.k8s.infrastructure.informer.K8sInformerCache;
 import it.smartcommunitylabdhub.framework.k8s.jackson.KubernetesMapper;
 import it.smartcommunitylabdhub.framework.k8s.kubernetes.K8sBuilderHelper;
 import it.smartcommunitylabdhub.framework.k8s.kubernetes.K8sLabelHelper;
@@ -72,6 +73,7 @@ import it.smartcommunitylabdhub.framework.k8s.model.ContextSource;
 import it.smartcommunitylabdhub.framework.k8s.model.K8sTemplate;
 import it.smartcommunitylabdhub.framework.k8s.objects.CoreLabel;
 import it.smartcommunitylabdhub.framework.k8s.objects.CoreLog;
+import it.smartcommunitylabdhub.framework.k8s.objects.CoreLogCursor;
 import it.smartcommunitylabdhub.framework.k8s.objects.CoreMetric;
 import it.smartcommunitylabdhub.framework.k8s.objects.CoreNodeSelector;
 import it.smartcommunitylabdhub.framework.k8s.objects.CoreResourceDefinition;
@@ -84,15 +86,20 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
@@ -169,6 +176,7 @@ public abstract class K8sBaseFramework<
     protected K8sBuilderHelper k8sBuilderHelper;
     protected K8sSecretHelper k8sSecretHelper;
     protected K8sLabelHelper k8sLabelHelper;
+    protected K8sInformerCache informerCache;
 
     protected K8sBaseFramework(ApiClient apiClient) {
         Assert.notNull(apiClient, "k8s api client is required");
@@ -402,6 +410,11 @@ public abstract class K8sBaseFramework<
         this.k8sLabelHelper = k8sLabelHelper;
     }
 
+    @Autowired(required = false)
+    public void setInformerCache(K8sInformerCache informerCache) {
+        this.informerCache = informerCache;
+    }
+
     @Override
     public void afterPropertiesSet() throws Exception {
         Assert.notNull(k8sBuilderHelper, "k8s helper is required");
@@ -474,6 +487,40 @@ public abstract class K8sBaseFramework<
 
     public abstract K get(K obj) throws K8sFrameworkException;
 
+    /**
+     * Find the object by reading from the local informer cache when synced,
+     * falling back to a remote get on cache miss (ex. for objects just created).
+     */
+    public K find(K obj) throws K8sFrameworkException {
+        if (isCacheable()) {
+            K cached = cached(obj);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        return get(obj);
+    }
+
+    /**
+     * Read the object from the informer cache, when supported by the framework
+     */
+    protected @Nullable K cached(K obj) {
+        return null;
+    }
+
+    /**
+     * Frameworks opt-in for cached reads only when their objects (and pods) carry
+     * the platform labels watched by the informers.
+     */
+    protected boolean isCacheable() {
+        return false;
+    }
+
+    protected boolean hasSyncedCache() {
+        return informerCache != null && informerCache.isSynced();
+    }
+
     /*
      * K8s methods
      */
@@ -483,6 +530,11 @@ public abstract class K8sBaseFramework<
             return null;
         }
 
+        if (hasSyncedCache()) {
+            //events are indexed locally for the whole namespace
+            return informerCache.getEvents(object.getMetadata().getName());
+        }
+
         String fieldSelector = "regarding.name=" + object.getMetadata().getName();
         try {
             EventsV1Api eventsApi = new EventsV1Api(coreV1Api.getApiClient());
@@ -529,6 +581,12 @@ public abstract class K8sBaseFramework<
             return null;
         }
 
+        if (isCacheable()) {
+            //pods are indexed locally by instance
+            log.debug("read cached pods for {}", labelValue);
+            return informerCache.getPods(labelValue);
+        }
+
         String labelSelector = "app.kubernetes.io/instance=" + labelValue;
         try {
             log.debug("load pods for {}", labelSelector);
@@ -558,11 +616,21 @@ public abstract class K8sBaseFramework<
         }
     }
 
-    //TODO support sinceTime when implemented by api
-    //https://github.com/kubernetes-client/java/issues/2648
-    // public Map<String, String> logs(K object, @Nullable Long sinceTime) throws K8sFrameworkException {
-
     public List<CoreLog> logs(K object) throws K8sFrameworkException {
+        return logs(object, null);
+    }
+
+    /**
+     * Read container logs for the object's pods.
+     *
+     * When a cursor map is provided, logs are read incrementally: for containers with a cursor
+     * only the lines after the cursor are returned (as append), the map is updated in place
+     * with the new positions and pruned of containers not seen anymore.
+     * Note: sinceTime is not supported by the api client
+     * (https://github.com/kubernetes-client/java/issues/2648), we use sinceSeconds with
+     * timestamps and drop the boundary lines already read.
+     */
+    public List<CoreLog> logs(K object, @Nullable Map<String, CoreLogCursor> cursors) throws K8sFrameworkException {
         if (object == null || object.getMetadata() == null) {
             return null;
         }
@@ -573,81 +641,144 @@ public abstract class K8sBaseFramework<
 
         List<CoreLog> logs = new ArrayList<>();
         List<V1Pod> pods = pods(object);
+        if (pods == null) {
+            return logs;
+        }
 
+        Set<String> keys = new HashSet<>();
         for (V1Pod p : pods) {
             if (p.getMetadata() != null && p.getStatus() != null) {
                 String pod = p.getMetadata().getName();
 
-                //read init-containers first
+                //read init-containers first, then containers
+                List<V1ContainerStatus> containers = new ArrayList<>();
                 if (p.getStatus().getInitContainerStatuses() != null) {
-                    List<V1ContainerStatus> containers = p.getStatus().getInitContainerStatuses();
+                    containers.addAll(p.getStatus().getInitContainerStatuses());
+                }
+                if (p.getStatus().getContainerStatuses() != null) {
+                    containers.addAll(p.getStatus().getContainerStatuses());
+                }
 
-                    for (V1ContainerStatus c : containers) {
-                        try {
-                            String log = coreV1Api.readNamespacedPodLog(
-                                pod,
-                                namespace,
-                                c.getName(),
-                                Boolean.FALSE,
-                                null,
-                                null,
-                                null,
-                                null,
-                                null,
-                                null,
-                                null,
-                                null
-                            );
-
-                            String id = c.getContainerID() != null ? URI.create(c.getContainerID()).getHost() : null;
-
-                            logs.add(new CoreLog(pod, log, c.getName(), namespace, id));
-                        } catch (ApiException e) {
-                            //catch and skip this container's logs
-                            log.error("Error with k8s: {}", e.getMessage());
-                            if (log.isTraceEnabled()) {
-                                log.trace("k8s api response: {}", e.getResponseBody());
-                            }
+                for (V1ContainerStatus c : containers) {
+                    try {
+                        String id = c.getContainerID() != null ? URI.create(c.getContainerID()).getHost() : null;
+                        CoreLog ref = new CoreLog(pod, "", c.getName(), namespace, id);
+                        keys.add(ref.key());
+
+                        if (cursors == null) {
+                            //full read
+                            String value = readLog(pod, c.getName(), null, false);
+                            logs.add(new CoreLog(pod, value, c.getName(), namespace, id));
+                        } else {
+                            logs.add(readLog(ref, cursors));
+                        }
+                    } catch (ApiException e) {
+                        //catch and skip this container's logs
+                        log.error("Error with k8s: {}", e.getMessage());
+                        if (log.isTraceEnabled()) {
+                            log.trace("k8s api response: {}", e.getResponseBody());
                         }
                     }
                 }
+            }
+        }
 
-                //read container
-                if (p.getStatus().getContainerStatuses() != null) {
-                    List<V1ContainerStatus> containers = p.getStatus().getContainerStatuses();
-                    for (V1ContainerStatus c : containers) {
-                        try {
-                            String log = coreV1Api.readNamespacedPodLog(
-                                pod,
-                                namespace,
-                                c.getName(),
-                                Boolean.FALSE,
-                                null,
-                                null,
-                                null,
-                                null,
-                                null,
-                                null,
-                                null,
-                                null
-                            );
-
-                            String id = c.getContainerID() != null ? URI.create(c.getContainerID()).getHost() : null;
-
-                            logs.add(new CoreLog(pod, log, c.getName(), namespace, id));
-                        } catch (ApiException e) {
-                            //catch and skip this container's logs
-                            log.error("Error with k8s: {}", e.getMessage());
-                            if (log.isTraceEnabled()) {
-                                log.trace("k8s api response: {}", e.getResponseBody());
-                            }
+        if (cursors != null) {
+            //drop cursors for containers gone
+            cursors.keySet().retainAll(keys);
+        }
+
+        return logs;
+    }
+
+    private CoreLog readLog(CoreLog ref, Map<String, CoreLogCursor> cursors) throws ApiException {
+        CoreLogCursor cursor = cursors.get(ref.key());
+        Instant since = cursor != null && cursor.timestamp() != null ? parseLogTimestamp(cursor.timestamp()) : null;
+
+        //sinceSeconds has seconds resolution: round up and filter locally
+        Integer sinceSeconds = since != null
+            ? (int) Math.max(1, Duration.between(since, Instant.now()).getSeconds() + 1)
+            : null;
+
+        String value = readLog(ref.pod(), ref.container(), sinceSeconds, true);
+        boolean append = since != null;
+
+        StringBuilder sb = new StringBuilder();
+        String lastTimestamp = cursor != null ? cursor.timestamp() : null;
+        String lastLine = cursor != null ? cursor.line() : null;
+        //skip lines up to the boundary line when resuming on the same timestamp
+        boolean skip = append && lastLine != null;
+
+        if (value != null) {
+            for (String line : value.split("\n", -1)) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                int idx = line.indexOf(' ');
+                String timestamp = idx > 0 ? line.substring(0, idx) : null;
+                Instant ts = timestamp != null ? parseLogTimestamp(timestamp) : null;
+                String content = ts != null ? line.substring(idx + 1) : line;
+
+                if (append && ts != null) {
+                    int cmp = ts.compareTo(since);
+                    if (cmp < 0) {
+                        //already read
+                        continue;
+                    }
+
+                    if (cmp == 0 && skip) {
+                        //same timestamp as cursor: drop until boundary line is passed
+                        if (line.equals(lastLine)) {
+                            skip = false;
                         }
+                        continue;
                     }
                 }
+
+                skip = false;
+                sb.append(content).append("\n");
+
+                if (ts != null) {
+                    lastTimestamp = timestamp;
+                    lastLine = line;
+                }
             }
         }
 
-        return logs;
+        //deltas are positioned at the end of the content produced so far
+        String content = sb.toString();
+        long offset = append && cursor != null ? cursor.offset() : 0;
+        long next = offset + content.getBytes(StandardCharsets.UTF_8).length;
+        cursors.put(ref.key(), new CoreLogCursor(lastTimestamp, lastLine, next));
+
+        return new CoreLog(ref.pod(), content, ref.container(), ref.namespace(), ref.containerId(), append, offset);
+    }
+
+    private String readLog(String pod, String container, @Nullable Integer sinceSeconds, boolean timestamps)
+        throws ApiException {
+        return coreV1Api.readNamespacedPodLog(
+            pod,
+            namespace,
+            container,
+            Boolean.FALSE,
+            null,
+            null,
+            null,
+            null,
+            sinceSeconds,
+            null,
+            null,
+            timestamps
+        );
+    }
+
+    private static @Nullable Instant parseLogTimestamp(String value) {
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
     }
 
     public List<CoreMetric> metrics(K object) throws K8sFrameworkException {
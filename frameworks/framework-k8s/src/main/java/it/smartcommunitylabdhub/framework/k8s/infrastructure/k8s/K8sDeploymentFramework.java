@@ -624,6 +624,17 @@ public class K8sDeploymentFramework extends K8sBaseFramework<K8sDeploymentRunnab
         }
     }
 
+    @Override
+    protected boolean isCacheable() {
+        return hasSyncedCache();
+    }
+
+    @Override
+    protected V1Deployment cached(@NotNull V1Deployment deployment) {
+        Assert.notNull(deployment.getMetadata(), "metadata can not be null");
+        return informerCache.getDeployment(deployment.getMetadata().getName());
+    }
+
     public V1Deployment get(@NotNull V1Deployment deployment) throws K8sFrameworkException {
         Assert.notNull(deployment.getMetadata(), "metadata can not be null");
 
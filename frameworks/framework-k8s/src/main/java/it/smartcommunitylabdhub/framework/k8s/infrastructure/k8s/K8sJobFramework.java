@@ -559,6 +559,17 @@ public class K8sJobFramework extends K8sBaseFramework<K8sJobRunnable, V1Job> {
      * K8s
      */
 
+    @Override
+    protected boolean isCacheable() {
+        return hasSyncedCache();
+    }
+
+    @Override
+    protected V1Job cached(@NotNull V1Job job) {
+        Assert.notNull(job.getMetadata(), "metadata can not be null");
+        return informerCache.getJob(job.getMetadata().getName());
+    }
+
     public V1Job get(@NotNull V1Job job) throws K8sFrameworkException {
         Assert.notNull(job.getMetadata(), "metadata can not be null");
 
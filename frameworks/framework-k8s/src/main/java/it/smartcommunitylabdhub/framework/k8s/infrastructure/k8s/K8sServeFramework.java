@@ -660,6 +660,17 @@ public class K8sServeFramework extends K8sBaseFramework<K8sServeRunnable, V1Serv
      * K8s
      */
 
+    @Override
+    protected boolean isCacheable() {
+        return hasSyncedCache();
+    }
+
+    @Override
+    protected V1Service cached(@NotNull V1Service service) {
+        Assert.notNull(service.getMetadata(), "metadata can not be null");
+        return informerCache.getService(service.getMetadata().getName());
+    }
+
     public V1Service get(@NotNull V1Service service) throws K8sFrameworkException {
         Assert.notNull(service.getMetadata(), "metadata can not be null");
 
@@ -25,16 +25,41 @@ package it.smartcommunitylabdhub.framework.k8s.infrastructure.monitor;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kubernetes.client.common.KubernetesObject;
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
+import it.smartcommunitylabdhub.framework.k8s.exceptions.K8sFrameworkException;
+import it.smartcommunitylabdhub.framework.k8s.infrastructure.k8s.K8sBaseFramework;
 import it.smartcommunitylabdhub.framework.k8s.jackson.KubernetesMapper;
+import it.smartcommunitylabdhub.framework.k8s.model.K8sLogStatus;
+import it.smartcommunitylabdhub.framework.k8s.objects.CoreLog;
+import it.smartcommunitylabdhub.framework.k8s.objects.CoreLogCursor;
 import it.smartcommunitylabdhub.framework.k8s.runnables.K8sRunnable;
 import it.smartcommunitylabdhub.framework.k8s.runnables.RunnableEventPublisher;
+import it.smartcommunitylabdhub.logs.LogStore;
 import it.smartcommunitylabdhub.runtimes.events.RunnableChangedEvent;
 import it.smartcommunitylabdhub.runtimes.store.RunnableStore;
+import jakarta.annotation.PreDestroy;
 import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -52,13 +77,30 @@ public abstract class K8sBaseMonitor<T extends K8sRunnable> implements Runnable
         ArrayList<HashMap<String, Serializable>>
     >() {};
 
+    private static final long QUEUED = 0;
+    private static final long CANCELLED = Long.MIN_VALUE;
+
     protected final RunnableStore<T> store;
     private RunnableEventPublisher eventPublisher;
+    private LogStore logStore;
 
     protected Boolean collectLogs = Boolean.TRUE;
     protected Boolean collectMetrics = Boolean.TRUE;
     protected String collectResults = "default";
 
+    protected int concurrency = 4;
+    protected int timeout = 30;
+    protected int idleBackoff = 4;
+
+    //cycle when each runnable is due for refresh, and number of consecutive idle refreshes
+    private final Map<String, Long> schedules = new ConcurrentHashMap<>();
+    private final Map<String, Long> idles = new ConcurrentHashMap<>();
+    private final Set<String> inflight = ConcurrentHashMap.newKeySet();
+    private final AtomicLong cycles = new AtomicLong();
+
+    private ExecutorService executor;
+    private volatile MonitorCycle lastCycle;
+
     protected K8sBaseMonitor(RunnableStore<T> runnableStore) {
         Assert.notNull(runnableStore, "runnable store is required");
 
@@ -70,6 +112,11 @@ public abstract class K8sBaseMonitor<T extends K8sRunnable> implements Runnable
         this.eventPublisher = eventPublisher;
     }
 
+    @Autowired(required = false)
+    public void setLogStore(LogStore logStore) {
+        this.logStore = logStore;
+    }
+
     @Autowired
     public void setCollectLogs(@Value("${kubernetes.logs}") Boolean collectLogs) {
         this.collectLogs = collectLogs;
@@ -85,6 +132,28 @@ public abstract class K8sBaseMonitor<T extends K8sRunnable> implements Runnable
         this.collectResults = collectResults;
     }
 
+    @Autowired
+    public void setConcurrency(@Value("${monitors.concurrency}") Integer concurrency) {
+        Assert.isTrue(concurrency != null && concurrency > 0, "concurrency must be greater than 0");
+        this.concurrency = concurrency;
+    }
+
+    @Autowired
+    public void setTimeout(@Value("${monitors.timeout}") Integer timeout) {
+        Assert.isTrue(timeout != null && timeout > 0, "timeout must be greater than 0");
+        this.timeout = timeout;
+    }
+
+    @Autowired
+    public void setIdleBackoff(@Value("${monitors.idle-backoff}") Integer idleBackoff) {
+        Assert.isTrue(idleBackoff != null && idleBackoff >= 0, "idle backoff must be positive");
+        this.idleBackoff = idleBackoff;
+    }
+
+    public MonitorCycle getLastCycle() {
+        return lastCycle;
+    }
+
     @Override
     public void run() {
         monitor();
@@ -92,48 +161,66 @@ public abstract class K8sBaseMonitor<T extends K8sRunnable> implements Runnable
 
     public void monitor() {
         log.debug("monitor all active...");
+        long cycle = cycles.incrementAndGet();
+        Instant start = Instant.now();
 
-        //fetch all active runnables and THEN update to detach from repository and avoid lazy loading issues
+        //fetch state of all active runnables, complete runnables are loaded only when refreshed
         List<T> runnables = store
-            .findAll()
+            .findAllStates()
             .stream()
             .filter(runnable -> runnable.getState() != null && !runnable.isTransient())
             .toList();
 
-        runnables
-            .stream()
-            .forEach(runnable -> {
-                log.debug("monitor run {}", runnable.getId());
+        //forget schedules for runnables not in store anymore
+        Set<String> ids = runnables.stream().map(T::getId).collect(Collectors.toSet());
+        schedules.keySet().retainAll(ids);
+        idles.keySet().retainAll(ids);
 
-                if (log.isTraceEnabled()) {
-                    log.trace("runnable: {}", runnable);
-                }
+        //refresh in parallel, bounded by the executor size and by a timeout per run
+        Map<String, Task> tasks = new LinkedHashMap<>();
+        int skipped = 0;
+        for (T runnable : runnables) {
+            String id = runnable.getId();
+            Long next = schedules.get(id);
+            if (inflight.contains(id) || (!runnable.isFinal() && next != null && next > cycle)) {
+                //still running from a previous cycle or idle, check later
+                skipped++;
+                continue;
+            }
 
-                //if final avoid refresh
-                T refreshed = runnable.isFinal() ? runnable : refresh(runnable);
-                if (log.isTraceEnabled()) {
-                    log.trace("refreshed: {}", refreshed);
-                }
+            inflight.add(id);
+            AtomicLong started = new AtomicLong(QUEUED);
+            Future<Boolean> future = executor()
+                .submit(() -> started.compareAndSet(QUEUED, System.nanoTime()) ? process(runnable, cycle) : false);
+            tasks.put(id, new Task(future, started));
+        }
 
-                // Update the runnable
-                try {
-                    //if runnable state is final, remove from store, otherwise update
-                    if (refreshed.isFinal()) {
-                        log.debug("delete run {} with state {}", refreshed.getId(), refreshed.getState());
-                        store.remove(refreshed.getId());
-                    } else {
-                        log.debug("store run {} with state {}", refreshed.getId(), refreshed.getState());
-                        store.store(refreshed.getId(), refreshed);
-                    }
+        //wait for the whole cycle: monitors run with fixed delay so cycles never overlap
+        //tasks are awaited in submission order, so each one starts once those ahead are done
+        int failed = 0;
+        long progress = System.nanoTime();
+        for (Map.Entry<String, Task> entry : tasks.entrySet()) {
+            if (!await(entry.getKey(), entry.getValue(), progress)) {
+                failed++;
+            }
 
-                    //always publish, even if final. We expect receivers to be idempotent
-                    publish(refreshed);
-                } catch (StoreException e) {
-                    log.error("Error with runnable store: {}", e.getMessage());
-                }
-            });
+            //track progress: once workers are stuck, runs still queued are not waited for again
+            if (entry.getValue().started().get() != CANCELLED) {
+                progress = System.nanoTime();
+            }
+        }
+
+        MonitorCycle result = new MonitorCycle(
+            start,
+            Duration.between(start, Instant.now()),
+            runnables.size(),
+            tasks.size(),
+            skipped,
+            failed
+        );
+        lastCycle = result;
 
-        log.debug("monitor completed.");
+        log.debug("monitor completed: {}", result);
     }
 
     public void monitor(String id) throws StoreException {
@@ -157,26 +244,185 @@ public abstract class K8sBaseMonitor<T extends K8sRunnable> implements Runnable
                 log.trace("refreshed: {}", refreshed);
             }
 
-            // Update the runnable
-            //if runnable state is final, remove from store, otherwise update
-            if (refreshed.isFinal()) {
-                log.debug("delete run {} with state {}", refreshed.getId(), refreshed.getState());
-                store.remove(refreshed.getId());
-            } else {
-                log.debug("store run {} with state {}", refreshed.getId(), refreshed.getState());
-                store.store(refreshed.getId(), refreshed);
-            }
+            //explicit requests signal activity, reset schedule
+            schedules.remove(id);
 
-            //always publish, even if final. We expect receivers to be idempotent
-            publish(refreshed);
+            update(refreshed);
         } catch (StoreException e) {
             log.error("Error with runnable store: {}", e.getMessage());
             throw e;
         }
     }
 
+    private boolean await(String id, Task task, long since) {
+        long budget = TimeUnit.SECONDS.toNanos(timeout);
+        try {
+            while (true) {
+                //timeout starts with the run: queued runs are not charged for slow ones ahead
+                long begin = task.started().get();
+                long wait = (begin != QUEUED ? begin : since) + budget - System.nanoTime();
+                try {
+                    return Boolean.TRUE.equals(task.future().get(Math.max(0, wait), TimeUnit.NANOSECONDS));
+                } catch (TimeoutException e) {
+                    if (begin == QUEUED && task.started().get() != QUEUED) {
+                        //started while waiting, apply its own timeout
+                        continue;
+                    }
+
+                    log.warn("monitor run {} timed out{}", id, begin == QUEUED ? " waiting to start" : "");
+                    cancel(id, task);
+                    return false;
+                }
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.error("monitor run {} failed: {}", id, cause.getMessage());
+            return false;
+        } catch (CancellationException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(id, task);
+            return false;
+        }
+    }
+
+    private void cancel(String id, Task task) {
+        //release runs never started here, running ones release themselves once interrupted
+        if (task.started().compareAndSet(QUEUED, CANCELLED)) {
+            inflight.remove(id);
+        }
+        task.future().cancel(true);
+    }
+
+    private boolean process(T listed, long cycle) {
+        try {
+            log.debug("monitor run {}", listed.getId());
+
+            //load a private copy of the complete runnable, including detached results
+            T runnable = store.load(listed.getId());
+            if (runnable == null || (runnable.getState() != null && runnable.isTransient())) {
+                //removed or operation in progress since listing
+                log.debug("runnable {} not available for refresh, skip", listed.getId());
+                return true;
+            }
+
+            if (log.isTraceEnabled()) {
+                log.trace("runnable: {}", runnable);
+            }
+
+            String state = runnable.getState();
+            String message = runnable.getMessage();
+
+            //if final avoid refresh
+            T refreshed = runnable.isFinal() ? runnable : refresh(runnable);
+            if (log.isTraceEnabled()) {
+                log.trace("refreshed: {}", refreshed);
+            }
+
+            //back off on idle runs, linearly up to the configured number of cycles
+            boolean changed =
+                !Objects.equals(state, refreshed.getState()) || !Objects.equals(message, refreshed.getMessage());
+            long idle = changed ? 0 : idles.merge(refreshed.getId(), 1L, Long::sum);
+            if (changed) {
+                idles.remove(refreshed.getId());
+            }
+            schedules.put(refreshed.getId(), cycle + 1 + Math.min(idle, idleBackoff));
+
+            update(refreshed);
+            return true;
+        } catch (StoreException e) {
+            log.error("Error with runnable store: {}", e.getMessage());
+            return false;
+        } finally {
+            inflight.remove(listed.getId());
+        }
+    }
+
+    private void update(T refreshed) throws StoreException {
+        //if runnable state is final, remove from store, otherwise update
+        if (refreshed.isFinal()) {
+            log.debug("delete run {} with state {}", refreshed.getId(), refreshed.getState());
+            store.remove(refreshed.getId());
+            schedules.remove(refreshed.getId());
+            idles.remove(refreshed.getId());
+        } else {
+            log.debug("store run {} with state {}", refreshed.getId(), refreshed.getState());
+            store.store(refreshed.getId(), refreshed);
+        }
+
+        //always publish, even if final. We expect receivers to be idempotent
+        publish(refreshed);
+    }
+
+    //start time of the task, or queued/cancelled before starting
+    private record Task(Future<Boolean> future, AtomicLong started) {}
+
+    private synchronized ExecutorService executor() {
+        if (executor == null) {
+            String name = getClass().getSimpleName();
+            AtomicInteger count = new AtomicInteger();
+            executor =
+                Executors.newFixedThreadPool(
+                    concurrency,
+                    r -> {
+                        Thread t = new Thread(r, name + "-" + count.incrementAndGet());
+                        t.setDaemon(true);
+                        return t;
+                    }
+                );
+        }
+
+        return executor;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
     public abstract T refresh(T runnable);
 
+    /**
+     * Collect logs incrementally, starting from the cursors stored in the runnable
+     */
+    protected <K extends KubernetesObject> List<CoreLog> logs(K8sBaseFramework<?, K> framework, K object, T runnable)
+        throws K8sFrameworkException {
+        Map<String, CoreLogCursor> cursors = runnable.getLogCursors() != null
+            ? new HashMap<>(runnable.getLogCursors())
+            : new HashMap<>();
+
+        if (logStore != null && !cursors.isEmpty()) {
+            //cursors advance before logs are persisted: resume from the stored position,
+            //containers whose lines were not applied are read again in full
+            Map<String, Long> positions = new HashMap<>();
+            logStore
+                .listLogHeadersByRunId(runnable.getId())
+                .forEach(l -> {
+                    K8sLogStatus status = new K8sLogStatus();
+                    status.configure(l.getExtensions());
+                    if (l.getSourceOffset() != null) {
+                        positions.put(status.key(), l.getSourceOffset());
+                    }
+                });
+
+            cursors
+                .entrySet()
+                .removeIf(e -> {
+                    Long position = positions.get(e.getKey());
+                    return position == null || position < e.getValue().offset();
+                });
+        }
+
+        List<CoreLog> logs = framework.logs(object, cursors);
+        runnable.setLogCursors(cursors);
+
+        return logs;
+    }
+
     protected void publish(T runnable) {
         if (eventPublisher != null) {
             log.debug("publish run {}", runnable.getId());
@@ -147,9 +147,8 @@ public class K8sCRMonitor extends K8sBaseMonitor<K8sCRRunnable> {
 
             //collect logs, optional
             try {
-                // TODO add sinceTime when available
                 // TODO read native argo logs
-                runnable.setLogs(framework.logs(cr));
+                runnable.setLogs(logs(framework, cr, runnable));
             } catch (K8sFrameworkException e1) {
                 log.error("error collecting logs for {}: {}", runnable.getId(), e1.getMessage());
             }
@@ -63,7 +63,7 @@ public class K8sDeploymentMonitor extends K8sBaseMonitor<K8sDeploymentRunnable>
     @Override
     public K8sDeploymentRunnable refresh(K8sDeploymentRunnable runnable) {
         try {
-            V1Deployment deployment = framework.get(framework.build(runnable));
+            V1Deployment deployment = framework.find(framework.build(runnable));
 
             // check status
             // if ERROR signal, otherwise let RUNNING
@@ -198,8 +198,7 @@ public class K8sDeploymentMonitor extends K8sBaseMonitor<K8sDeploymentRunnable>
                         deployment.getMetadata().getName(),
                         runnable.getId()
                     );
-                    //TODO add sinceTime when available
-                    runnable.setLogs(framework.logs(deployment));
+                    runnable.setLogs(logs(framework, deployment, runnable));
                 } catch (K8sFrameworkException e1) {
                     log.error("error collecting logs for {}: {}", runnable.getId(), e1.getMessage());
                 }
@@ -61,7 +61,7 @@ public class K8sJobMonitor extends K8sBaseMonitor<K8sJobRunnable> {
     public K8sJobRunnable refresh(K8sJobRunnable runnable) {
         try {
             log.debug("load job for {}", runnable.getId());
-            V1Job job = framework.get(framework.build(runnable));
+            V1Job job = framework.find(framework.build(runnable));
 
             if (job == null || job.getStatus() == null) {
                 // something is missing, no recovery
@@ -195,8 +195,7 @@ public class K8sJobMonitor extends K8sBaseMonitor<K8sJobRunnable> {
                 //collect logs, optional
                 try {
                     log.debug("Collect logs for job {} for run {}", job.getMetadata().getName(), runnable.getId());
-                    //TODO add sinceTime when available
-                    runnable.setLogs(framework.logs(job));
+                    runnable.setLogs(logs(framework, job, runnable));
                 } catch (K8sFrameworkException e1) {
                     log.error("error collecting logs for job {}: {}", runnable.getId(), e1.getMessage());
                 }
@@ -0,0 +1,44 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.framework.k8s.infrastructure.monitor;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Outcome of a monitor pass over the runnable store
+ */
+public record MonitorCycle(Instant start, Duration duration, int total, int refreshed, int skipped, int failed) {
+    @Override
+    public String toString() {
+        return String.format(
+            "%d runs in %d ms (refreshed %d, skipped %d, failed %d)",
+            total,
+            duration.toMillis(),
+            refreshed,
+            skipped,
+            failed
+        );
+    }
+}
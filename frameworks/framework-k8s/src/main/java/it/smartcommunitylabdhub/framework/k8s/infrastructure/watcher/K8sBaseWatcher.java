@@ -33,13 +33,13 @@ import it.smartcommunitylabdhub.framework.k8s.infrastructure.monitor.K8sBaseMoni
 import it.smartcommunitylabdhub.framework.k8s.kubernetes.K8sLabelHelper;
 import it.smartcommunitylabdhub.framework.k8s.runnables.K8sRunnable;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import javax.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
@@ -50,14 +50,8 @@ import org.springframework.util.Assert;
 @Slf4j
 public abstract class K8sBaseWatcher<T extends K8sRunnable> implements InitializingBean {
 
-    protected final ExecutorService executor = new ThreadPoolExecutor(
-        1,
-        1,
-        0L,
-        TimeUnit.MILLISECONDS,
-        new LinkedBlockingQueue<>(100),
-        (r, ex) -> log.debug("Executor queue full, dropping monitor task")
-    );
+    //per kind executor, at most one queued refresh per runnable
+    protected final ScheduledThreadPoolExecutor executor;
     protected final KubernetesClient client;
     protected final K8sBaseMonitor<T> k8sMonitor;
 
@@ -65,16 +59,22 @@ public abstract class K8sBaseWatcher<T extends K8sRunnable> implements Initializ
     protected K8sLabelHelper k8sLabelHelper;
     protected ApplicationProperties applicationProperties;
 
-    // Debounce: rate-limit refreshes to at most once per DEBOUNCE_INTERVAL_MS per runnableId,
-    // regardless of whether a task is actively running.
-    // TODO add cleanup for expired entries
+    // Debounce: rate-limit refreshes to at most once per debounce interval per runnableId.
+    // Events arriving within the interval are coalesced into a delayed refresh, never dropped,
+    // so that the last (final) state is always observed.
     private final Map<String, Long> debounceMap = new ConcurrentHashMap<>();
-    private static final long DEBOUNCE_INTERVAL_MS = 1000;
+    private long debounce = 1000;
+    private long debounceTtl = 60000;
+    private static final long EVICTION_INTERVAL = 30; //seconds
 
-    // In-flight guard: if a monitor task is already queued/running for a runnableId, drop the event.
-    // monitor() reads current resource state, so the in-flight task captures any intermediate changes.
-    // This prevents executor thread pile-up under high event rates.
-    private final Set<String> inFlightSet = ConcurrentHashMap.newKeySet();
+    // Pending refreshes per runnableId: events for a queued refresh are merged into it,
+    // events for a running refresh schedule a single follow-up.
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
 
     protected K8sBaseWatcher(KubernetesClient client, K8sBaseMonitor<T> k8sMonitor) {
         Assert.notNull(k8sMonitor, "k8s monitor is required");
@@ -82,6 +82,20 @@ public abstract class K8sBaseWatcher<T extends K8sRunnable> implements Initializ
 
         this.client = client;
         this.k8sMonitor = k8sMonitor;
+
+        String name = getClass().getSimpleName();
+        AtomicInteger count = new AtomicInteger();
+        this.executor =
+            new ScheduledThreadPoolExecutor(
+                1,
+                r -> {
+                    Thread t = new Thread(r, name + "-" + count.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+            );
+        this.executor.setRemoveOnCancelPolicy(true);
+        this.executor.scheduleWithFixedDelay(this::evict, EVICTION_INTERVAL, EVICTION_INTERVAL, TimeUnit.SECONDS);
     }
 
     @Autowired
@@ -99,6 +113,24 @@ public abstract class K8sBaseWatcher<T extends K8sRunnable> implements Initializ
         this.namespace = namespace;
     }
 
+    @Autowired
+    public void setThreads(@Value("${kubernetes.watchers.threads}") Integer threads) {
+        Assert.isTrue(threads != null && threads > 0, "threads must be greater than 0");
+        executor.setCorePoolSize(threads);
+    }
+
+    @Autowired
+    public void setDebounce(@Value("${kubernetes.watchers.debounce}") Long debounce) {
+        Assert.isTrue(debounce != null && debounce >= 0, "debounce must be positive");
+        this.debounce = debounce;
+    }
+
+    @Autowired
+    public void setDebounceTtl(@Value("${kubernetes.watchers.debounce-ttl}") Long debounceTtl) {
+        Assert.isTrue(debounceTtl != null && debounceTtl > 0, "debounce ttl must be greater than 0");
+        this.debounceTtl = debounceTtl * 1000;
+    }
+
     @Override
     public void afterPropertiesSet() throws Exception {
         Assert.notNull(k8sLabelHelper, "k8s label helper is required");
@@ -108,6 +140,17 @@ public abstract class K8sBaseWatcher<T extends K8sRunnable> implements Initializ
 
     public abstract void start();
 
+    public WatcherStats getStats() {
+        return new WatcherStats(
+            received.sum(),
+            coalesced.sum(),
+            dropped.sum(),
+            evicted.sum(),
+            pending.size(),
+            debounceMap.size()
+        );
+    }
+
     protected <M extends HasMetadata> Watcher<M> buildWatcher() {
         return new Watcher<M>() {
             @Override
@@ -172,40 +215,90 @@ public abstract class K8sBaseWatcher<T extends K8sRunnable> implements Initializ
         };
     }
 
-    //TODO replace simple coalescing with debounce+comparison logic to avoid ignoring final states
     protected void debounceAndRefresh(String runnableId, Runnable refreshAction) {
-        long now = System.currentTimeMillis();
-
-        // Gate 1 – time-based debounce: drop events arriving faster than DEBOUNCE_INTERVAL_MS,
-        // even when no task is currently running for this runnableId.
-        AtomicReference<Long> scheduled = new AtomicReference<>();
-        debounceMap.compute(runnableId, (key, lastTime) -> {
-            if (lastTime == null || (now - lastTime) > DEBOUNCE_INTERVAL_MS) {
-                scheduled.set(now);
-                return now;
+        received.increment();
+
+        //enqueue only when nothing is pending, otherwise merge into the pending refresh
+        AtomicBoolean created = new AtomicBoolean(false);
+        pending.compute(runnableId, (key, current) -> {
+            if (current == null) {
+                created.set(true);
+                return new Pending(refreshAction);
             }
-            return lastTime;
+
+            coalesced.increment();
+            if (current.running) {
+                //refresh may have read a stale state, run again once done
+                current.again = true;
+            }
+            return current;
         });
 
-        if (scheduled.get() == null) {
-            log.trace("Dropping event for runnable {}: debounce interval not elapsed", runnableId);
-            return;
+        if (created.get()) {
+            schedule(runnableId);
+        } else {
+            log.trace("Coalescing event for runnable {} into pending refresh", runnableId);
         }
+    }
 
-        // Gate 2 – in-flight guard: drop if a task is already queued/running.
-        // monitor() reads current state so the active task captures any intermediate changes.
-        if (!inFlightSet.add(runnableId)) {
-            log.trace("Dropping event for runnable {}: monitor task already in flight", runnableId);
+    private void schedule(String runnableId) {
+        //rate-limit per runnable: delay up to the debounce interval since last refresh
+        Long last = debounceMap.get(runnableId);
+        long delay = last != null ? Math.max(0, last + debounce - System.currentTimeMillis()) : 0;
+
+        try {
+            executor.schedule(() -> execute(runnableId), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("Executor rejected refresh for runnable {}, dropping", runnableId);
+            dropped.increment();
+            pending.remove(runnableId);
+        }
+    }
+
+    private void execute(String runnableId) {
+        Pending p = pending.computeIfPresent(runnableId, (key, current) -> {
+            current.running = true;
+            current.again = false;
+            return current;
+        });
+
+        if (p == null) {
             return;
         }
 
-        executor.submit(() -> {
-            try {
-                refreshAction.run();
-            } finally {
-                inFlightSet.remove(runnableId);
+        try {
+            debounceMap.put(runnableId, System.currentTimeMillis());
+            p.action.run();
+        } catch (RuntimeException e) {
+            log.error("Error refreshing runnable {}: {}", runnableId, e.getMessage());
+        } finally {
+            //release or reschedule if events arrived while running
+            Pending next = pending.computeIfPresent(runnableId, (key, current) -> {
+                if (!current.again) {
+                    return null;
+                }
+
+                current.running = false;
+                current.again = false;
+                return current;
+            });
+
+            if (next != null) {
+                schedule(runnableId);
             }
-        });
+        }
+    }
+
+    //evict debounce state for runnables without recent refreshes
+    protected void evict() {
+        long threshold = System.currentTimeMillis() - Math.max(debounceTtl, debounce);
+        int size = debounceMap.size();
+        debounceMap.entrySet().removeIf(e -> e.getValue() < threshold && !pending.containsKey(e.getKey()));
+        evicted.add(size - debounceMap.size());
+
+        if (log.isDebugEnabled()) {
+            log.debug("watcher {} stats: {}", getClass().getSimpleName(), getStats());
+        }
     }
 
     @PreDestroy
@@ -213,4 +306,15 @@ public abstract class K8sBaseWatcher<T extends K8sRunnable> implements Initializ
         log.info("Shutting down watchers...");
         executor.shutdownNow();
     }
+
+    private static class Pending {
+
+        private final Runnable action;
+        private boolean running = false;
+        private boolean again = false;
+
+        private Pending(Runnable action) {
+            this.action = action;
+        }
+    }
 }
@@ -30,7 +30,9 @@ import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.services.SecretsProvider;
 import it.smartcommunitylabdhub.framework.k8s.annotations.ConditionalOnKubernetes;
 import jakarta.validation.constraints.NotNull;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -82,6 +84,48 @@ public class K8sSecretsProvider implements SecretsProvider {
         }
     }
 
+    @Override
+    public Map<String, String> readSecretData(@NotNull Collection<String> paths) throws StoreException {
+        log.debug("read secrets data from {}", String.valueOf(paths));
+
+        //group keys by secret to read every secret once
+        Map<String, Map<String, String>> keys = new HashMap<>();
+        for (String path : paths) {
+            Matcher matcher = PATH_PATTERN.matcher(path);
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("invalid path");
+            }
+
+            keys.computeIfAbsent(matcher.group(1), k -> new HashMap<>()).put(path, matcher.group(2));
+        }
+
+        //unseal
+        try {
+            Map<String, String> values = new HashMap<>();
+            for (Map.Entry<String, Map<String, String>> entry : keys.entrySet()) {
+                Map<String, String> data = secretHelper.getSecretData(entry.getKey());
+                entry
+                    .getValue()
+                    .forEach((path, key) -> {
+                        //value may be null
+                        String value = data.get(key);
+                        if (value != null) {
+                            values.put(path, value);
+                        }
+                    });
+            }
+
+            return values;
+        } catch (ApiException e) {
+            log.error("Error with k8s: {}", e.getMessage());
+            if (log.isTraceEnabled()) {
+                log.trace("k8s api response: {}", e.getResponseBody());
+            }
+
+            throw new StoreException("error with k8s");
+        }
+    }
+
     @Override
     public void writeSecretData(@NotNull String path, @NotNull String value) throws StoreException {
         log.debug("write secrets data for {}", String.valueOf(path));
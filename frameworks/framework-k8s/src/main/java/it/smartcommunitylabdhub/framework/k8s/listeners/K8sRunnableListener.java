@@ -26,6 +26,8 @@ package it.smartcommunitylabdhub.framework.k8s.listeners;
 import it.smartcommunitylabdhub.commons.exceptions.FrameworkException;
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.infrastructure.RunRunnable;
+import it.smartcommunitylabdhub.commons.locks.LockRegistry;
+import it.smartcommunitylabdhub.commons.locks.VersionedLock;
 import it.smartcommunitylabdhub.framework.k8s.exceptions.K8sFrameworkException;
 import it.smartcommunitylabdhub.framework.k8s.infrastructure.k8s.K8sBaseFramework;
 import it.smartcommunitylabdhub.framework.k8s.runnables.K8sRunnable;
@@ -34,16 +36,11 @@ import it.smartcommunitylabdhub.framework.k8s.runnables.RunnableEventPublisher;
 import it.smartcommunitylabdhub.runtimes.events.RunnableChangedEvent;
 import it.smartcommunitylabdhub.runtimes.events.RunnableListener;
 import it.smartcommunitylabdhub.runtimes.store.RunnableStore;
-import java.time.Instant;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantLock;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.ResolvableTypeProvider;
-import org.springframework.data.util.Pair;
 import org.springframework.util.Assert;
 
 @Slf4j
@@ -61,17 +58,7 @@ public abstract class K8sRunnableListener<
 
     private RunnableEventPublisher eventPublisher;
 
-    private Map<String, Pair<ReentrantLock, Instant>> locks = new ConcurrentHashMap<>();
-
-    private synchronized ReentrantLock getLock(String id) {
-        //build lock
-        ReentrantLock l = locks.containsKey(id) ? locks.get(id).getFirst() : new ReentrantLock();
-
-        //update last used date
-        locks.put(id, Pair.of(l, Instant.now()));
-
-        return l;
-    }
+    private final LockRegistry locks = new LockRegistry();
 
     @SuppressWarnings("unchecked")
     protected K8sRunnableListener(K8sBaseFramework<R, ?> k8sFramework, RunnableStore<R> runnableStore) {
@@ -114,7 +101,7 @@ public abstract class K8sRunnableListener<
         String framework = runnable.getFramework();
         String state = runnable.getState();
 
-        ReentrantLock lock = getLock(id);
+        VersionedLock lock = locks.get(id);
         boolean acquired = false;
         try {
             acquired = lock.tryLock(LOCK_TIMEOUT, TimeUnit.SECONDS);
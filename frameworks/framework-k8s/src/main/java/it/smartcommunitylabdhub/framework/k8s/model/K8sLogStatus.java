@@ -61,4 +61,14 @@ public class K8sLogStatus extends BaseSpec implements Status {
 
         this.metrics = spec.getMetrics();
     }
+
+    //container key, matches CoreLog.key()
+    public String key() {
+        return (
+            (namespace != null ? namespace : "") +
+            (pod != null ? pod : "") +
+            (container != null ? container : "") +
+            (containerId != null ? containerId : "")
+        );
+    }
 }
@@ -32,6 +32,16 @@ public record CoreLog(
     @NotBlank String value,
     String container,
     String namespace,
-    @Nullable String containerId
+    @Nullable String containerId,
+    boolean append,
+    long offset
 )
-    implements Serializable {}
+    implements Serializable {
+    public CoreLog(String pod, String value, String container, String namespace, String containerId) {
+        this(pod, value, container, namespace, containerId, false, 0);
+    }
+
+    public String key() {
+        return namespace + pod + container + (containerId != null ? containerId : "");
+    }
+}
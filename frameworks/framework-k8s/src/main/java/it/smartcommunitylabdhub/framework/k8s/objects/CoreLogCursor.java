@@ -0,0 +1,35 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package it.smartcommunitylabdhub.framework.k8s.objects;
+
+import jakarta.annotation.Nullable;
+import java.io.Serializable;
+
+/**
+ * Read position of a container log: timestamp of the last line read and the
+ * line itself, used to skip the boundary lines returned again by sinceSeconds.
+ * The offset is the length in bytes of the content produced so far, deltas are
+ * positioned at it so that stores can skip retried appends.
+ */
+public record CoreLogCursor(@Nullable String timestamp, @Nullable String line, long offset)
+    implements Serializable {}
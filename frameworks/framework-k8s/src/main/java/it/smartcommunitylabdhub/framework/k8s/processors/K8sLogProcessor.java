@@ -90,19 +90,15 @@ public class K8sLogProcessor implements Processor<Run, RunBaseStatus> {
         String runId = run.getId();
         Instant now = Instant.now();
 
-        //logs are grouped by pod+container, search by run and create/append
+        //logs are grouped by pod+container, search headers by run and create/append
         Map<String, Log> entries = logService
-            .getLogsByRunId(runId)
+            .listLogHeadersByRunId(runId)
             .stream()
             .map(e -> {
                 K8sLogStatus status = new K8sLogStatus();
                 status.configure(e.getExtensions());
 
-                String pod = status.getPod() != null ? status.getPod() : "";
-                String container = status.getContainer() != null ? status.getContainer() : "";
-                String namespace = status.getNamespace() != null ? status.getNamespace() : "";
-                String containerId = status.getContainerId() != null ? status.getContainerId() : "";
-                String key = namespace + pod + container + containerId;
+                String key = status.key();
 
                 if (StringUtils.hasText(key)) {
                     return Map.entry(key, e);
@@ -156,7 +152,6 @@ public class K8sLogProcessor implements Processor<Run, RunBaseStatus> {
                 if (entries.get(key) != null) {
                     //update
                     Log log = entries.get(key);
-                    log.setContent(l.value());
 
                     // check if metric is available
                     // note: we match on baseKey because metrics are per container,
@@ -189,7 +184,13 @@ public class K8sLogProcessor implements Processor<Run, RunBaseStatus> {
                         log.setExtensions(logStatus.toMap());
                     }
 
-                    logService.updateLog(log.getId(), log);
+                    if (l.append()) {
+                        //incremental read, append only new content at its position, store metrics
+                        logService.appendLog(log.getId(), l.value(), l.offset(), log.getExtensions());
+                    } else {
+                        log.setContent(l.value());
+                        logService.updateLog(log.getId(), log);
+                    }
                 } else {
                     //add as new
 
@@ -37,6 +37,7 @@ import it.smartcommunitylabdhub.framework.k8s.objects.CoreEnv;
 import it.smartcommunitylabdhub.framework.k8s.objects.CoreImagePullPolicy;
 import it.smartcommunitylabdhub.framework.k8s.objects.CoreLabel;
 import it.smartcommunitylabdhub.framework.k8s.objects.CoreLog;
+import it.smartcommunitylabdhub.framework.k8s.objects.CoreLogCursor;
 import it.smartcommunitylabdhub.framework.k8s.objects.CoreMetric;
 import it.smartcommunitylabdhub.framework.k8s.objects.CoreNodeSelector;
 import it.smartcommunitylabdhub.framework.k8s.objects.CoreResources;
@@ -71,6 +72,9 @@ public class K8sRunnable implements RunRunnable, SecuredRunnable, ConfigurableRu
         K8sRunnableState.STOPPED.name(),
     };
 
+    //large fields stored apart from the runnable state
+    public static final String[] DETACHED_FIELDS = { "results", "events" };
+
     public static final String[] TRANSIENT_STATES = {
         K8sRunnableState.READY.name(),
         K8sRunnableState.STOP.name(),
@@ -141,6 +145,10 @@ public class K8sRunnable implements RunRunnable, SecuredRunnable, ConfigurableRu
     @ToString.Exclude
     private List<CoreMetric> metrics;
 
+    //read position per container log, for incremental collection
+    @ToString.Exclude
+    private Map<String, CoreLogCursor> logCursors;
+
     @ToString.Exclude
     private Map<String, String> credentialsMap;
 
@@ -0,0 +1,236 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.framework.k8s;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import io.fabric8.kubernetes.api.model.batch.v1.JobBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import it.smartcommunitylabdhub.framework.k8s.infrastructure.monitor.K8sBaseMonitor;
+import it.smartcommunitylabdhub.framework.k8s.infrastructure.monitor.MonitorCycle;
+import it.smartcommunitylabdhub.framework.k8s.runnables.K8sRunnable;
+import it.smartcommunitylabdhub.runtimes.store.RunnableStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+
+@EnableKubernetesMockClient(crud = true)
+class K8sBaseMonitorTest {
+
+    private static final String NAMESPACE = "test";
+    private static final int RUNS = 200;
+    private static final long LATENCY = 20;
+
+    //injected by mock server extension
+    KubernetesClient client;
+
+    private TestStore store;
+    private TestMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        store = new TestStore();
+        for (int i = 0; i < RUNS; i++) {
+            String id = "run" + i;
+            client
+                .batch()
+                .v1()
+                .jobs()
+                .inNamespace(NAMESPACE)
+                .resource(
+                    new JobBuilder()
+                        .withNewMetadata()
+                        .withName("j-" + id)
+                        .withLabels(Map.of("state", "RUNNING"))
+                        .endMetadata()
+                        .build()
+                )
+                .create();
+            store.store(id, K8sRunnable.builder().id(id).state("RUNNING").build());
+        }
+
+        monitor = new TestMonitor(store);
+        monitor.setConcurrency(10);
+        monitor.setTimeout(5);
+        monitor.setIdleBackoff(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.shutdown();
+    }
+
+    @Test
+    void refreshInParallel() {
+        monitor.monitor();
+        MonitorCycle cycle = monitor.getLastCycle();
+
+        assertEquals(RUNS, cycle.total());
+        assertEquals(RUNS, cycle.refreshed());
+        assertEquals(0, cycle.failed());
+
+        //sequential refresh takes at least RUNS * LATENCY
+        assertTrue(cycle.duration().toMillis() < (RUNS * LATENCY) / 2, "cycle " + cycle);
+    }
+
+    @Test
+    void idleRunsAreRefreshedLessOften() {
+        monitor.monitor();
+        assertEquals(RUNS, monitor.getLastCycle().refreshed());
+
+        //nothing changed: every run backs off for a cycle
+        monitor.monitor();
+        assertEquals(0, monitor.getLastCycle().refreshed());
+        assertEquals(RUNS, monitor.getLastCycle().skipped());
+
+        //change one run, every other stays idle
+        client
+            .batch()
+            .v1()
+            .jobs()
+            .inNamespace(NAMESPACE)
+            .withName("j-run0")
+            .edit(j -> new JobBuilder(j).editMetadata().addToLabels("state", "COMPLETED").endMetadata().build());
+
+        monitor.monitor();
+        assertEquals(RUNS, monitor.getLastCycle().refreshed());
+
+        //the changed run is refreshed again, idle ones back off further
+        monitor.monitor();
+        MonitorCycle cycle = monitor.getLastCycle();
+        assertEquals(1, cycle.refreshed());
+        assertEquals(RUNS - 1, cycle.skipped());
+        assertEquals("COMPLETED", store.find("run0").getState());
+    }
+
+    @Test
+    void slowRunsDoNotBlockTheCycle() {
+        monitor.setTimeout(1);
+        monitor.slow = "run1";
+
+        monitor.monitor();
+        MonitorCycle cycle = monitor.getLastCycle();
+
+        assertEquals(1, cycle.failed());
+        assertEquals(RUNS - 1, cycle.refreshed() - cycle.failed());
+        assertTrue(cycle.duration().toMillis() < 4000, "cycle " + cycle);
+
+        //still in flight: skipped by the next cycle
+        monitor.monitor();
+        assertTrue(monitor.getLastCycle().skipped() >= 1);
+    }
+
+    @Test
+    void timeoutStartsWithTheRun() {
+        //the whole cycle takes longer than the timeout, no single run does
+        monitor.setTimeout(1);
+        monitor.latency = 100;
+
+        monitor.monitor();
+        MonitorCycle cycle = monitor.getLastCycle();
+
+        assertEquals(0, cycle.failed());
+        assertEquals(RUNS, cycle.refreshed());
+        assertTrue(cycle.duration().toMillis() > 1000, "cycle " + cycle);
+    }
+
+    @Test
+    void finalRunsAreRemoved() {
+        client
+            .batch()
+            .v1()
+            .jobs()
+            .inNamespace(NAMESPACE)
+            .withName("j-run2")
+            .edit(j -> new JobBuilder(j).editMetadata().addToLabels("state", "DELETED").endMetadata().build());
+
+        monitor.monitor();
+        assertNull(store.find("run2"));
+        assertEquals(RUNS - 1, store.findAll().size());
+    }
+
+    private class TestMonitor extends K8sBaseMonitor<K8sRunnable> {
+
+        private volatile String slow;
+        private volatile long latency = LATENCY;
+
+        TestMonitor(RunnableStore<K8sRunnable> store) {
+            super(store);
+        }
+
+        @Override
+        public K8sRunnable refresh(K8sRunnable runnable) {
+            try {
+                //simulate api latency on top of the mock server
+                Thread.sleep(runnable.getId().equals(slow) ? 5000 : latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return runnable;
+            }
+
+            Job job = client.batch().v1().jobs().inNamespace(NAMESPACE).withName("j-" + runnable.getId()).get();
+            runnable.setState(job.getMetadata().getLabels().get("state"));
+            return runnable;
+        }
+    }
+
+    private static class TestStore implements RunnableStore<K8sRunnable> {
+
+        private final Map<String, K8sRunnable> runnables = new ConcurrentHashMap<>();
+
+        @Override
+        public void store(String id, K8sRunnable e) {
+            runnables.put(id, e);
+        }
+
+        @Override
+        public void remove(String id) {
+            runnables.remove(id);
+        }
+
+        @Override
+        public K8sRunnable find(String id) {
+            return runnables.get(id);
+        }
+
+        @Override
+        public List<K8sRunnable> findAll() {
+            return new ArrayList<>(runnables.values());
+        }
+
+        @Override
+        public ResolvableType getResolvableType() {
+            return ResolvableType.forClassWithGenerics(RunnableStore.class, K8sRunnable.class);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.framework.k8s;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import it.smartcommunitylabdhub.framework.k8s.infrastructure.monitor.K8sBaseMonitor;
+import it.smartcommunitylabdhub.framework.k8s.infrastructure.watcher.K8sBaseWatcher;
+import it.smartcommunitylabdhub.framework.k8s.infrastructure.watcher.WatcherStats;
+import it.smartcommunitylabdhub.framework.k8s.runnables.K8sRunnable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class K8sBaseWatcherTest {
+
+    private static final int RUNS = 10;
+    private static final int EVENTS = 1000;
+
+    private TestWatcher watcher;
+    private final Map<String, AtomicInteger> refreshes = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        watcher = new TestWatcher(mock(KubernetesClient.class), mock(K8sBaseMonitor.class));
+        watcher.setDebounce(100L);
+        watcher.setDebounceTtl(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        watcher.shutdown();
+    }
+
+    @Test
+    void burstsAreCoalescedPerRun() throws InterruptedException {
+        for (int i = 0; i < EVENTS; i++) {
+            watcher.fire("run" + (i % RUNS), 50);
+        }
+
+        awaitIdle();
+
+        WatcherStats stats = watcher.getStats();
+        assertEquals(EVENTS, stats.received());
+        assertEquals(0, stats.dropped());
+        assertEquals(RUNS, refreshes.size());
+
+        //one refresh per run, plus at most one follow-up for events received while running
+        refreshes.values().forEach(c -> assertTrue(c.get() >= 1 && c.get() <= 2, "refreshes " + c.get()));
+        assertEquals(EVENTS - RUNS, stats.coalesced());
+    }
+
+    @Test
+    void eventsWhileRunningAreNotLost() throws InterruptedException {
+        watcher.fire("run1", 300);
+        Thread.sleep(100);
+
+        //refresh in progress may read a stale state: expect a follow-up
+        watcher.fire("run1", 0);
+        awaitIdle();
+
+        assertEquals(2, refreshes.get("run1").get());
+    }
+
+    @Test
+    void debounceStateIsEvicted() throws InterruptedException {
+        watcher.fire("run1", 0);
+        watcher.fire("run2", 0);
+        awaitIdle();
+        assertEquals(2, watcher.getStats().debounced());
+
+        Thread.sleep(1100);
+        watcher.evictNow();
+
+        assertEquals(0, watcher.getStats().debounced());
+        assertEquals(2, watcher.getStats().evicted());
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+        while (watcher.getStats().pending() > 0 && Instant.now().isBefore(deadline)) {
+            Thread.sleep(20);
+        }
+
+        assertEquals(0, watcher.getStats().pending());
+    }
+
+    private class TestWatcher extends K8sBaseWatcher<K8sRunnable> {
+
+        TestWatcher(KubernetesClient client, K8sBaseMonitor<K8sRunnable> monitor) {
+            super(client, monitor);
+        }
+
+        @Override
+        public void start() {
+            //nothing to watch
+        }
+
+        void fire(String id, long duration) {
+            debounceAndRefresh(
+                id,
+                () -> {
+                    refreshes.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+                    try {
+                        Thread.sleep(duration);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            );
+        }
+
+        void evictNow() {
+            evict();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.framework.k8s;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.batch.v1.JobBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1Pod;
+import it.smartcommunitylabdhub.framework.k8s.infrastructure.informer.K8sInformerCache;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@EnableKubernetesMockClient(crud = true)
+class K8sInformerCacheTest {
+
+    private static final String NAMESPACE = "test";
+    private static final Map<String, String> LABELS = Map.of(
+        "app.kubernetes.io/managed-by",
+        "dhcore",
+        "app.kubernetes.io/part-of",
+        "dhcore"
+    );
+
+    //injected by mock server extension
+    KubernetesClient client;
+
+    private K8sInformerCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new K8sInformerCache(client, NAMESPACE, LABELS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.stop();
+    }
+
+    @Test
+    void readManagedObjectsFromCache() throws InterruptedException {
+        Map<String, String> labels = Map.of(
+            "app.kubernetes.io/managed-by",
+            "dhcore",
+            "app.kubernetes.io/part-of",
+            "dhcore",
+            K8sInformerCache.INSTANCE_LABEL,
+            "dhcore-run1"
+        );
+
+        client
+            .batch()
+            .v1()
+            .jobs()
+            .inNamespace(NAMESPACE)
+            .resource(new JobBuilder().withNewMetadata().withName("j-run1").withLabels(labels).endMetadata().build())
+            .create();
+        client
+            .pods()
+            .inNamespace(NAMESPACE)
+            .resource(new PodBuilder().withNewMetadata().withName("j-run1-abc").withLabels(labels).endMetadata().build())
+            .create();
+
+        //unmanaged objects are not cached
+        client
+            .pods()
+            .inNamespace(NAMESPACE)
+            .resource(new PodBuilder().withNewMetadata().withName("other").endMetadata().build())
+            .create();
+
+        cache.start();
+        awaitSync();
+
+        V1Job job = cache.getJob("j-run1");
+        assertNotNull(job);
+        assertEquals("j-run1", job.getMetadata().getName());
+
+        List<V1Pod> pods = cache.getPods("dhcore-run1");
+        assertEquals(1, pods.size());
+        assertEquals("j-run1-abc", pods.get(0).getMetadata().getName());
+
+        assertNull(cache.getJob("missing"));
+        assertTrue(cache.getPods("missing").isEmpty());
+    }
+
+    @Test
+    void updatesAreVisibleWithoutRemoteCalls() throws InterruptedException {
+        cache.start();
+        awaitSync();
+        assertNull(cache.getJob("j-run2"));
+
+        client
+            .batch()
+            .v1()
+            .jobs()
+            .inNamespace(NAMESPACE)
+            .resource(new JobBuilder().withNewMetadata().withName("j-run2").withLabels(LABELS).endMetadata().build())
+            .create();
+
+        //informer receives the watch event
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+        while (cache.getJob("j-run2") == null && Instant.now().isBefore(deadline)) {
+            Thread.sleep(50);
+        }
+
+        assertNotNull(cache.getJob("j-run2"));
+    }
+
+    private void awaitSync() throws InterruptedException {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+        while (!cache.isSynced() && Instant.now().isBefore(deadline)) {
+            Thread.sleep(50);
+        }
+
+        assertTrue(cache.isSynced());
+    }
+}
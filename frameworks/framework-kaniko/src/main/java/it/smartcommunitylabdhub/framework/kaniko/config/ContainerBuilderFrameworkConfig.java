@@ -26,6 +26,7 @@ package it.smartcommunitylabdhub.framework.kaniko.config;
 import io.kubernetes.client.openapi.ApiClient;
 import it.smartcommunitylabdhub.commons.config.YamlPropertySourceFactory;
 import it.smartcommunitylabdhub.framework.k8s.annotations.ConditionalOnKubernetes;
+import it.smartcommunitylabdhub.framework.k8s.runnables.K8sRunnable;
 import it.smartcommunitylabdhub.framework.kaniko.infrastructure.k8s.K8sBuildkitFramework;
 import it.smartcommunitylabdhub.framework.kaniko.infrastructure.k8s.K8sKanikoFramework;
 import it.smartcommunitylabdhub.framework.kaniko.runnables.K8sContainerBuilderRunnable;
@@ -50,7 +51,13 @@ public class ContainerBuilderFrameworkConfig {
         RunnableRepository runnableRepository,
         PlatformTransactionManager transactionManager
     ) {
-        return new RunnableStoreImpl<>(K8sContainerBuilderRunnable.class, runnableRepository, transactionManager);
+        RunnableStoreImpl<K8sContainerBuilderRunnable> store = new RunnableStoreImpl<>(
+            K8sContainerBuilderRunnable.class,
+            runnableRepository,
+            transactionManager
+        );
+        store.setDetached(K8sRunnable.DETACHED_FIELDS);
+        return store;
     }
 
     @Bean
@@ -190,8 +190,7 @@ public class K8sContainerBuilderMonitor extends K8sBaseMonitor<K8sContainerBuild
                 // collect logs, optional
                 try {
                     log.debug("Collect logs for job {} for run {}", job.getMetadata().getName(), runnable.getId());
-                    // TODO add sinceTime when available
-                    runnable.setLogs(framework.logs(job));
+                        runnable.setLogs(logs(framework, job, runnable));
                 } catch (K8sFrameworkException e1) {
                     log.error("error collecting logs for job {}: {}", runnable.getId(), e1.getMessage());
                 }
@@ -48,6 +48,7 @@ public class PersonalAccessTokenRepository {
         "INSERT INTO personal_access_tokens (id, name, _user, issued_at, expires_at, token, scope, ip_addr, _auth) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
     private static final String SELECT_SQL = "SELECT * FROM personal_access_tokens WHERE id = ?";
     private static final String SELECT_TOKEN_SQL = "SELECT * FROM personal_access_tokens WHERE token = ?";
+    private static final String COUNT_TOKEN_SQL = "SELECT COUNT(*) FROM personal_access_tokens WHERE token = ?";
     private static final String SELECT_USER_SQL = "SELECT * FROM personal_access_tokens WHERE _user = ?";
     private static final String DELETE_SQL = "DELETE FROM personal_access_tokens WHERE id = ?";
 
@@ -150,6 +151,19 @@ public class PersonalAccessTokenRepository {
         }
     }
 
+    public boolean exists(@NotNull String value) throws StoreException {
+        Assert.hasText(value, "value must not be empty");
+        log.trace("check personal access token {}", value);
+
+        Long count = jdbcTemplate.queryForObject(
+            COUNT_TOKEN_SQL,
+            new Object[] { value },
+            new int[] { Types.VARCHAR },
+            Long.class
+        );
+        return count != null && count > 0;
+    }
+
     public List<PersonalAccessToken> findByUser(@NotNull String user) throws StoreException {
         Assert.hasText(user, "user must not be empty");
         log.debug("find personal access by user {}", user);
@@ -55,6 +55,7 @@ import jakarta.transaction.Transactional;
 import jakarta.validation.constraints.NotNull;
 import java.io.IOException;
 import java.sql.SQLTimeoutException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
@@ -143,6 +144,12 @@ public class JwtTokenService implements InitializingBean {
     //custom serialization
     SerializationDelegate serializer = new SerializationDelegate(this.getClass().getClassLoader());
 
+    //validated personal access tokens
+    private PersonalAccessTokenCache personalAccessTokenCache;
+    private int personalTokenCacheSize = PersonalAccessTokenCache.DEFAULT_MAX_SIZE;
+    private Duration personalTokenCacheTtl = PersonalAccessTokenCache.DEFAULT_TTL;
+    private Duration personalTokenCacheRevalidate = PersonalAccessTokenCache.DEFAULT_REVALIDATE;
+
     public JwtTokenService() {
         log.debug("create jwks service");
         this.keyGenerator = new SecureKeyGenerator(DEFAULT_KEY_LENGTH);
@@ -168,6 +175,23 @@ public class JwtTokenService implements InitializingBean {
         }
     }
 
+    @Autowired
+    public void setPersonalTokenCache(
+        @Value("${jwt.personal-token.cache.size:1000}") Integer size,
+        @Value("${jwt.personal-token.cache.ttl:3600}") Integer ttl,
+        @Value("${jwt.personal-token.cache.revalidate:60}") Integer revalidate
+    ) {
+        if (size != null) {
+            this.personalTokenCacheSize = size.intValue();
+        }
+        if (ttl != null) {
+            this.personalTokenCacheTtl = Duration.ofSeconds(ttl);
+        }
+        if (revalidate != null) {
+            this.personalTokenCacheRevalidate = Duration.ofSeconds(revalidate);
+        }
+    }
+
     @Autowired
     public void setApplicationProperties(ApplicationProperties applicationProperties) {
         Assert.notNull(applicationProperties, "app properties are required");
@@ -180,6 +204,12 @@ public class JwtTokenService implements InitializingBean {
         Assert.hasText(audience, "audience can not be null");
         Assert.hasText(issuer, "issuer can not be null");
 
+        //build cache for pat introspection
+        this.personalAccessTokenCache =
+            new PersonalAccessTokenCache(personalAccessTokenRepository, serializer, personalTokenCacheSize);
+        this.personalAccessTokenCache.setTtl(personalTokenCacheTtl);
+        this.personalAccessTokenCache.setRevalidate(personalTokenCacheRevalidate);
+
         if (keyStore != null) {
             //build signer for the given keys
             this.jwk = keyStore.getJwk();
@@ -246,29 +276,27 @@ public class JwtTokenService implements InitializingBean {
             @Override
             public OAuth2AuthenticatedPrincipal introspect(String token) {
                 try {
-                    // Find the token
-                    PersonalAccessToken pat = personalAccessTokenRepository.consume(token);
+                    // Find the token, via cache
+                    PersonalAccessTokenCache.Entry pat = personalAccessTokenCache.get(token);
                     if (pat == null) {
                         return null;
                     }
 
                     if (log.isTraceEnabled()) {
-                        log.trace("token: {}", pat);
+                        log.trace("token: {}", pat.id());
                     }
 
                     // Check expiration
-                    if (pat.getExpiresAt().before(Date.from(Instant.now()))) {
+                    if (pat.expiresAt().isBefore(Instant.now())) {
                         throw new JwtTokenServiceException("Personal access token is expired");
                     }
 
-                    //deserialize authentication
-                    byte[] bytes = pat.getAuth();
-                    if (bytes == null || bytes.length == 0) {
+                    //restored authentication
+                    UserAuthentication<?> user = pat.authentication();
+                    if (user == null) {
                         throw new JwtTokenServiceException("Missing authentication for token");
                     }
 
-                    UserAuthentication<?> user = (UserAuthentication<?>) serializer.deserializeFromByteArray(bytes);
-
                     log.debug("Personal access token successfully restored");
 
                     //map attributes
@@ -282,7 +310,7 @@ public class JwtTokenService implements InitializingBean {
                     attributes.put("iss", issuer);
                     attributes.put("iat", now);
                     attributes.put("exp", now.plusSeconds(accessTokenDuration));
-                    attributes.put("scope", StringUtils.collectionToCommaDelimitedString(pat.getScopes()));
+                    attributes.put("scope", StringUtils.collectionToCommaDelimitedString(pat.scopes()));
 
                     //inject extended attributes
                     attributes.put("credentials", user.getCredentials());
@@ -713,8 +741,9 @@ public class JwtTokenService implements InitializingBean {
                 throw new JwtTokenServiceException("Invalid user for personal access token");
             }
 
-            //remove
+            //remove and evict from cache, other nodes will notice on revalidation
             personalAccessTokenRepository.remove(personalAccessToken);
+            personalAccessTokenCache.evict(token.getToken());
         } catch (StoreException e) {
             throw new JwtTokenServiceException(e.getMessage());
         }
@@ -0,0 +1,252 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.authorization.services;
+
+import it.smartcommunitylabdhub.authorization.model.PersonalAccessToken;
+import it.smartcommunitylabdhub.authorization.model.UserAuthentication;
+import it.smartcommunitylabdhub.authorization.repositories.PersonalAccessTokenRepository;
+import it.smartcommunitylabdhub.commons.exceptions.StoreException;
+import it.smartcommunitylabdhub.commons.infrastructure.Credentials;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.serializer.support.SerializationDelegate;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded cache of validated personal access tokens.
+ *
+ * Entries keep an immutable snapshot of the restored authentication, keyed by a digest
+ * of the token value: every request gets a new authentication built from it.
+ * Local revocations evict entries immediately; tokens revoked on other nodes are
+ * detected by a lightweight existence check, once every revalidation window.
+ * Entries are fully reloaded after the ttl.
+ */
+@Slf4j
+public class PersonalAccessTokenCache {
+
+    public static final int DEFAULT_MAX_SIZE = 1000;
+    public static final Duration DEFAULT_TTL = Duration.ofHours(1);
+    public static final Duration DEFAULT_REVALIDATE = Duration.ofSeconds(60);
+
+    private final PersonalAccessTokenRepository repository;
+    private final SerializationDelegate serializer;
+
+    private Duration ttl = DEFAULT_TTL;
+    private Duration revalidate = DEFAULT_REVALIDATE;
+    private final Map<String, Entry> entries;
+
+    public PersonalAccessTokenCache(PersonalAccessTokenRepository repository, SerializationDelegate serializer) {
+        this(repository, serializer, DEFAULT_MAX_SIZE);
+    }
+
+    public PersonalAccessTokenCache(
+        PersonalAccessTokenRepository repository,
+        SerializationDelegate serializer,
+        int maxSize
+    ) {
+        Assert.notNull(repository, "repository is required");
+        Assert.notNull(serializer, "serializer is required");
+        Assert.isTrue(maxSize >= 0, "max size can not be negative");
+
+        this.repository = repository;
+        this.serializer = serializer;
+
+        //access ordered map as lru
+        this.entries =
+            Collections.synchronizedMap(
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                        return size() > maxSize;
+                    }
+                }
+            );
+    }
+
+    public void setTtl(Duration ttl) {
+        Assert.notNull(ttl, "ttl can not be null");
+        this.ttl = ttl;
+    }
+
+    public void setRevalidate(Duration revalidate) {
+        Assert.notNull(revalidate, "revalidate can not be null");
+        this.revalidate = revalidate;
+    }
+
+    /**
+     * Resolve a token value to its entry, loading from the store when missing or stale.
+     *
+     * @return the entry, or null when the token does not exist
+     */
+    public @Nullable Entry get(String token) throws StoreException, IOException {
+        Assert.hasText(token, "token can not be empty");
+        String key = digest(token);
+        Instant now = Instant.now();
+
+        Entry entry = entries.get(key);
+        if (entry != null && now.isBefore(entry.loadedAt().plus(ttl))) {
+            if (now.isBefore(entry.validatedAt().plus(revalidate))) {
+                return entry;
+            }
+
+            //check the token is still there, ex. revoked on another node
+            if (repository.exists(token)) {
+                Entry valid = new Entry(
+                    entry.id(),
+                    entry.restored(),
+                    entry.scopes(),
+                    entry.expiresAt(),
+                    entry.loadedAt(),
+                    now
+                );
+                entries.put(key, valid);
+                return valid;
+            }
+
+            log.debug("personal access token {} revoked", entry.id());
+            entries.remove(key);
+            return null;
+        }
+
+        //full load
+        PersonalAccessToken pat = repository.consume(token);
+        if (pat == null) {
+            entries.remove(key);
+            return null;
+        }
+
+        Set<String> scopes = pat.getScopes() != null
+            ? Collections.unmodifiableSet(new HashSet<>(pat.getScopes()))
+            : Collections.emptySet();
+        byte[] bytes = pat.getAuth();
+        if (bytes == null || bytes.length == 0) {
+            //not cacheable, let the caller handle
+            entries.remove(key);
+            return new Entry(pat.getId(), null, scopes, pat.getExpiresAt().toInstant(), now, now);
+        }
+
+        UserAuthentication<?> user = (UserAuthentication<?>) serializer.deserializeFromByteArray(bytes);
+        Entry loaded = new Entry(pat.getId(), Restored.of(user), scopes, pat.getExpiresAt().toInstant(), now, now);
+        entries.put(key, loaded);
+
+        return loaded;
+    }
+
+    public void evict(String token) {
+        if (token != null) {
+            entries.remove(digest(token));
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static String digest(String token) {
+        //avoid keeping token values in memory
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Entry(
+        String id,
+        Restored restored,
+        Set<String> scopes,
+        Instant expiresAt,
+        Instant loadedAt,
+        Instant validatedAt
+    ) {
+        /**
+         * Build a new authentication for the current request, owned by the caller.
+         *
+         * @return the authentication, or null when the token has none
+         */
+        public @Nullable UserAuthentication<?> authentication() {
+            return restored != null ? restored.build() : null;
+        }
+    }
+
+    /**
+     * Immutable parts of a restored authentication, shared between requests.
+     */
+    public record Restored(
+        AbstractAuthenticationToken token,
+        String username,
+        List<GrantedAuthority> authorities,
+        List<Credentials> credentials,
+        Object details,
+        boolean authenticated
+    ) {
+        public static Restored of(UserAuthentication<?> user) {
+            List<Credentials> credentials = user.getCredentials() != null
+                ? Collections.unmodifiableList(new ArrayList<>(user.getCredentials()))
+                : null;
+
+            return new Restored(
+                user.getToken(),
+                user.getUsername(),
+                List.copyOf(user.getAuthorities()),
+                credentials,
+                user.getDetails(),
+                user.isAuthenticated()
+            );
+        }
+
+        public UserAuthentication<?> build() {
+            UserAuthentication<AbstractAuthenticationToken> user = new UserAuthentication<>(
+                token,
+                username,
+                authorities
+            );
+            user.setAuthenticated(authenticated);
+            user.setDetails(details);
+            user.setCredentials(credentials != null ? new ArrayList<>(credentials) : null);
+            return user;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.authorization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.smartcommunitylabdhub.authorization.model.PersonalAccessToken;
+import it.smartcommunitylabdhub.authorization.model.UserAuthentication;
+import it.smartcommunitylabdhub.authorization.repositories.PersonalAccessTokenRepository;
+import it.smartcommunitylabdhub.authorization.services.PersonalAccessTokenCache;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.serializer.support.SerializationDelegate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+class PersonalAccessTokenCacheTest {
+
+    private final SerializationDelegate serializer = new SerializationDelegate(getClass().getClassLoader());
+
+    private CountingRepository repository;
+    private PersonalAccessTokenCache cache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        repository = new CountingRepository();
+        for (int i = 0; i < 10; i++) {
+            repository.add("token-" + i, "user-" + i);
+        }
+
+        cache = new PersonalAccessTokenCache(repository, serializer, 100);
+    }
+
+    @Test
+    void loadDropsQueriesPerRequest() throws Exception {
+        int threads = 8;
+        int requests = 20000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            futures.add(
+                executor.submit(() -> {
+                    for (int i = 0; i < requests / threads; i++) {
+                        PersonalAccessTokenCache.Entry entry = cache.get("token-" + ((i + offset) % 10));
+                        assertNotNull(entry.authentication());
+                    }
+                    return null;
+                })
+            );
+        }
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        executor.shutdown();
+
+        double perRequest = (double) repository.queries.get() / requests;
+        //one load per token, plus a few concurrent misses
+        assertTrue(perRequest < 0.01, "queries per request " + perRequest);
+    }
+
+    @Test
+    void authenticationIsNotShared() throws Exception {
+        UserAuthentication<?> first = cache.get("token-4").authentication();
+        first.setCredentials(new ArrayList<>());
+        first.setDetails("changed");
+
+        UserAuthentication<?> second = cache.get("token-4").authentication();
+        assertNotSame(first, second);
+        assertNull(second.getCredentials());
+        assertNull(second.getDetails());
+        assertEquals("user-4", second.getName());
+        assertTrue(second.isAuthenticated());
+        assertEquals(1, repository.loads.get());
+    }
+
+    @Test
+    void localRevocationIsImmediate() throws Exception {
+        assertNotNull(cache.get("token-1"));
+
+        repository.tokens.remove("token-1");
+        cache.evict("token-1");
+
+        assertNull(cache.get("token-1"));
+    }
+
+    @Test
+    void remoteRevocationWithinWindow() throws Exception {
+        cache.setRevalidate(Duration.ofMillis(100));
+        assertNotNull(cache.get("token-2"));
+
+        //revoked elsewhere: still served within the window
+        repository.tokens.remove("token-2");
+        assertNotNull(cache.get("token-2"));
+
+        Thread.sleep(150);
+        assertNull(cache.get("token-2"));
+    }
+
+    @Test
+    void revalidationSkipsReload() throws Exception {
+        cache.setRevalidate(Duration.ZERO);
+        cache.get("token-3");
+        cache.get("token-3");
+        cache.get("token-3");
+
+        assertEquals(1, repository.loads.get());
+        assertEquals(2, repository.checks.get());
+    }
+
+    @Test
+    void boundedSize() throws Exception {
+        cache = new PersonalAccessTokenCache(repository, serializer, 5);
+        for (int i = 0; i < 10; i++) {
+            cache.get("token-" + i);
+        }
+
+        assertEquals(5, cache.size());
+    }
+
+    private class CountingRepository extends PersonalAccessTokenRepository {
+
+        private final Map<String, PersonalAccessToken> tokens = new ConcurrentHashMap<>();
+        private final AtomicLong queries = new AtomicLong();
+        private final AtomicLong loads = new AtomicLong();
+        private final AtomicLong checks = new AtomicLong();
+
+        CountingRepository() {
+            super(new DriverManagerDataSource());
+        }
+
+        void add(String value, String user) throws Exception {
+            UserAuthentication<?> auth = new UserAuthentication<>(
+                UsernamePasswordAuthenticationToken.authenticated(
+                    user,
+                    null,
+                    List.of(new SimpleGrantedAuthority("ROLE_USER"))
+                )
+            );
+
+            tokens.put(
+                value,
+                PersonalAccessToken
+                    .builder()
+                    .id(value)
+                    .user(user)
+                    .token(value)
+                    .scopes(Set.of("openid"))
+                    .expiresAt(Date.from(Instant.now().plusSeconds(3600)))
+                    .auth(serializer.serializeToByteArray(auth))
+                    .build()
+            );
+        }
+
+        @Override
+        public PersonalAccessToken consume(String value) {
+            queries.incrementAndGet();
+            loads.incrementAndGet();
+            return tokens.get(value);
+        }
+
+        @Override
+        public boolean exists(String value) {
+            queries.incrementAndGet();
+            checks.incrementAndGet();
+            return tokens.containsKey(value);
+        }
+    }
+}
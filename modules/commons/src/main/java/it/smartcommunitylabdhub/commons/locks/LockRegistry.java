@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.commons.locks;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.util.Assert;
+
+/**
+ * Registry of per-key locks held by weak reference.
+ *
+ * A lock stays registered as long as some thread references it (holding or waiting),
+ * afterwards it is collected and its entry purged, so the registry is bounded by the
+ * number of keys in use instead of growing with every id ever seen.
+ * Callers must keep the returned lock for the whole lock/unlock cycle.
+ */
+public class LockRegistry {
+
+    private final ConcurrentHashMap<String, LockReference> locks = new ConcurrentHashMap<>();
+    private final ReferenceQueue<VersionedLock> queue = new ReferenceQueue<>();
+
+    public VersionedLock get(String key) {
+        Assert.notNull(key, "key can not be null");
+        purge();
+
+        while (true) {
+            LockReference ref = locks.get(key);
+            VersionedLock lock = ref != null ? ref.get() : null;
+            if (lock != null) {
+                return lock;
+            }
+
+            //register a fresh lock, replacing a cleared reference if any
+            VersionedLock l = new VersionedLock();
+            LockReference r = new LockReference(key, l, queue);
+            boolean registered = ref == null ? locks.putIfAbsent(key, r) == null : locks.replace(key, ref, r);
+            if (registered) {
+                return l;
+            }
+        }
+    }
+
+    public int size() {
+        purge();
+        return locks.size();
+    }
+
+    private void purge() {
+        LockReference ref;
+        while ((ref = (LockReference) queue.poll()) != null) {
+            //remove only if not already replaced
+            locks.remove(ref.key, ref);
+        }
+    }
+
+    private static class LockReference extends WeakReference<VersionedLock> {
+
+        private final String key;
+
+        LockReference(String key, VersionedLock lock, ReferenceQueue<VersionedLock> queue) {
+            super(lock, queue);
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.commons.locks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Reentrant exclusive lock paired with a version counter for optimistic reads.
+ *
+ * Writers acquire the lock as usual: the version is odd while a writer holds it and
+ * is bumped again on release. Readers take a stamp, read without locking and then
+ * validate the stamp, retrying when a write happened in between.
+ */
+public class VersionedLock {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong version = new AtomicLong();
+
+    public boolean tryLock(long timeout, TimeUnit unit) throws InterruptedException {
+        if (!lock.tryLock(timeout, unit)) {
+            return false;
+        }
+
+        //bump only on the outermost acquire to keep reentrancy transparent
+        if (lock.getHoldCount() == 1) {
+            version.incrementAndGet();
+        }
+
+        return true;
+    }
+
+    public void unlock() {
+        if (lock.isHeldByCurrentThread() && lock.getHoldCount() == 1) {
+            version.incrementAndGet();
+        }
+
+        lock.unlock();
+    }
+
+    public boolean isLocked() {
+        return lock.isLocked();
+    }
+
+    /*
+     * Optimistic reads
+     */
+
+    public long stamp() {
+        return version.get();
+    }
+
+    public boolean validate(long stamp) {
+        //valid only if no writer was active at stamp time and none ran since
+        return (stamp & 1L) == 0 && version.get() == stamp;
+    }
+}
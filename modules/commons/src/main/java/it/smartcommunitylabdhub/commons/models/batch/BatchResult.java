@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.commons.models.batch;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Result of a batch operation: per item outcomes, in request order, with totals.
+ * Failed items do not affect the others.
+ */
+@Getter
+@JsonPropertyOrder(alphabetic = true)
+public class BatchResult<D extends Serializable> implements Serializable {
+
+    private final List<BatchItem<D>> items;
+    private final int total;
+    private final int succeeded;
+    private final int failed;
+
+    public BatchResult(List<BatchItem<D>> items) {
+        this.items = items != null
+            ? items.stream().sorted(Comparator.comparingInt(BatchItem::getIndex)).toList()
+            : Collections.emptyList();
+        this.total = this.items.size();
+        this.succeeded = (int) this.items.stream().filter(BatchItem::isSuccess).count();
+        this.failed = this.total - this.succeeded;
+    }
+}
@@ -24,6 +24,7 @@
 package it.smartcommunitylabdhub.commons.models.project;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import it.smartcommunitylabdhub.commons.Keys;
 import it.smartcommunitylabdhub.commons.models.base.BaseDTO;
@@ -78,6 +79,11 @@ public class Project implements BaseDTO, MetadataDTO, SpecDTO, StatusDTO {
     @Builder.Default
     private Map<String, Serializable> metadata = new HashMap<>();
 
+    //counts of embedded content, computed on read and never persisted
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Map<String, Serializable> summary;
+
     @Override
     public String getProject() {
         return name;
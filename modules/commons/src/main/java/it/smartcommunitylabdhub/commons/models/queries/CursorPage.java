@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.commons.models.queries;
+
+import java.util.List;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.Nullable;
+
+/**
+ * Page produced by a cursor request. Totals are not counted: the page only knows whether
+ * more content follows, and exposes the cursor to request it.
+ *
+ * Totals are reported as {@link #UNKNOWN} while more content follows, and as the number
+ * of elements seen up to this page on the last one.
+ */
+public class CursorPage<T> extends PageImpl<T> {
+
+    public static final int UNKNOWN = -1;
+
+    private final CursorPageable pageable;
+    private final String next;
+
+    public CursorPage(List<T> content, CursorPageable pageable, @Nullable String next) {
+        super(content, pageable, pageable.getOffset() + content.size());
+        this.pageable = pageable;
+        this.next = next;
+    }
+
+    public @Nullable String getNext() {
+        return next;
+    }
+
+    @Override
+    public long getTotalElements() {
+        return next != null ? UNKNOWN : super.getTotalElements();
+    }
+
+    @Override
+    public int getTotalPages() {
+        return next != null ? UNKNOWN : super.getTotalPages();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public boolean isLast() {
+        return next == null;
+    }
+
+    @Override
+    public Pageable nextPageable() {
+        return next != null
+            ? new CursorPageable(next, pageable.getPageSize(), pageable.getDirection())
+            : Pageable.unpaged();
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.commons.models.queries;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Keyset page request: pages are positioned after the (created, id) pair encoded in an
+ * opaque cursor instead of an offset, so the store seeks directly to the next rows and
+ * ordering stays stable when new entities are inserted while scrolling.
+ *
+ * Positions keep microsecond precision, as stored by databases. The cursor carries the
+ * page number as well: requests for pages by number, without a position, fall back to
+ * offsets in the same order.
+ *
+ * An empty cursor requests the first page.
+ */
+public class CursorPageable implements Pageable, Serializable {
+
+    public static final String CREATED = "created";
+    public static final String ID = "id";
+
+    private static final String SEPARATOR = ":";
+    private static final long MAX_POSITION = micros(Instant.parse("9999-12-31T23:59:59.999999Z"));
+
+    private final String cursor;
+    private final int size;
+    private final Direction direction;
+
+    private final int page;
+    private final Date created;
+    private final String id;
+
+    public CursorPageable(@Nullable String cursor, int size, @Nullable Direction direction) {
+        Assert.isTrue(size > 0, "page size must be greater than zero");
+
+        this.cursor = StringUtils.hasText(cursor) ? cursor : null;
+        this.size = size;
+        this.direction = direction != null ? direction : Direction.DESC;
+
+        if (this.cursor != null) {
+            //decode position as micros:page:id
+            try {
+                String[] values = new String(Base64.getUrlDecoder().decode(this.cursor), StandardCharsets.UTF_8)
+                    .split(SEPARATOR, 3);
+                long micros = Long.parseLong(values[0]);
+                this.page = Integer.parseInt(values[1]);
+                this.id = values[2];
+
+                //bounded values only, stores reject out of range timestamps
+                if (micros < 0 || micros > MAX_POSITION || page < 1 || !StringUtils.hasText(id)) {
+                    throw new IllegalArgumentException();
+                }
+
+                this.created = Timestamp.from(Instant.EPOCH.plus(micros, ChronoUnit.MICROS));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("invalid cursor");
+            }
+        } else {
+            this.page = 0;
+            this.created = null;
+            this.id = null;
+        }
+    }
+
+    /**
+     * Request for the page following the given element of the current one
+     */
+    public CursorPageable after(Date created, String id) {
+        Assert.notNull(created, "created can not be null");
+        Assert.hasText(id, "id can not be null or empty");
+
+        //timestamps read from stores keep sub-millisecond precision
+        Instant instant = created instanceof Timestamp ? ((Timestamp) created).toInstant() : created.toInstant();
+        String value = micros(instant) + SEPARATOR + (page + 1) + SEPARATOR + id;
+        String next = Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+
+        return new CursorPageable(next, size, direction);
+    }
+
+    public @Nullable String getCursor() {
+        return cursor;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public @Nullable Date cursorCreated() {
+        return created;
+    }
+
+    public @Nullable String cursorId() {
+        return id;
+    }
+
+    /*
+     * Pageable
+     */
+
+    @Override
+    public int getPageNumber() {
+        return page;
+    }
+
+    @Override
+    public int getPageSize() {
+        return size;
+    }
+
+    @Override
+    public long getOffset() {
+        return (long) page * size;
+    }
+
+    @Override
+    public Sort getSort() {
+        //id breaks ties between entities created at the same time
+        return Sort.by(direction, CREATED, ID);
+    }
+
+    @Override
+    public Pageable next() {
+        //next position is known only from the last element, see CursorPage
+        return PageRequest.of(page + 1, size, getSort());
+    }
+
+    @Override
+    public Pageable previousOrFirst() {
+        return hasPrevious() ? withPage(page - 1) : first();
+    }
+
+    @Override
+    public Pageable first() {
+        return new CursorPageable(null, size, direction);
+    }
+
+    @Override
+    public Pageable withPage(int pageNumber) {
+        if (pageNumber == 0) {
+            return first();
+        }
+        if (pageNumber == page) {
+            return this;
+        }
+
+        return PageRequest.of(pageNumber, size, getSort());
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return page > 0;
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "CursorPageable [cursor=" + cursor + ", page=" + page + ", size=" + size + ", direction=" + direction + "]"
+        );
+    }
+
+    private static long micros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1000);
+    }
+}
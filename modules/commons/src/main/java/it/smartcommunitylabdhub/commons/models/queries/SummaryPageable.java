@@ -0,0 +1,124 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.commons.models.queries;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Page request for summaries: stores fetch only the scalar (header) columns of entities,
+ * skipping metadata, spec and status blobs, plus the optional set of promoted fields
+ * requested by the caller.
+ *
+ * Paging (offset or cursor) is delegated to the wrapped request.
+ */
+public class SummaryPageable implements Pageable, Serializable {
+
+    private final Pageable pageable;
+    private final Set<String> fields;
+
+    public SummaryPageable(Pageable pageable, @Nullable Collection<String> fields) {
+        Assert.notNull(pageable, "pageable can not be null");
+        Assert.isTrue(!(pageable instanceof SummaryPageable), "pageable is already a summary");
+
+        this.pageable = pageable;
+        this.fields = fields != null
+            ? Collections.unmodifiableSet(new LinkedHashSet<>(fields))
+            : Collections.emptySet();
+    }
+
+    public Pageable getPageable() {
+        return pageable;
+    }
+
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    /*
+     * Pageable
+     */
+
+    @Override
+    public boolean isPaged() {
+        return pageable.isPaged();
+    }
+
+    @Override
+    public int getPageNumber() {
+        return pageable.getPageNumber();
+    }
+
+    @Override
+    public int getPageSize() {
+        return pageable.getPageSize();
+    }
+
+    @Override
+    public long getOffset() {
+        return pageable.getOffset();
+    }
+
+    @Override
+    public Sort getSort() {
+        return pageable.getSort();
+    }
+
+    @Override
+    public Pageable next() {
+        return new SummaryPageable(pageable.next(), fields);
+    }
+
+    @Override
+    public Pageable previousOrFirst() {
+        return new SummaryPageable(pageable.previousOrFirst(), fields);
+    }
+
+    @Override
+    public Pageable first() {
+        return new SummaryPageable(pageable.first(), fields);
+    }
+
+    @Override
+    public Pageable withPage(int pageNumber) {
+        return new SummaryPageable(pageable.withPage(pageNumber), fields);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return pageable.hasPrevious();
+    }
+
+    @Override
+    public String toString() {
+        return "SummaryPageable [pageable=" + pageable + ", fields=" + fields + "]";
+    }
+}
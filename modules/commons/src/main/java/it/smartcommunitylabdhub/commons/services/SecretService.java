@@ -26,6 +26,7 @@ package it.smartcommunitylabdhub.commons.services;
 import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.secret.Secret;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
@@ -100,6 +101,20 @@ public interface SecretService {
     Secret updateSecret(@NotNull String id, @NotNull Secret secret)
         throws NoSuchEntityException, BindException, IllegalArgumentException, SystemException;
 
+    /**
+     * Create a batch of secrets, each item is validated and reported on its own
+     * @param dtos
+     * @return
+     */
+    BatchResult<Secret> createSecrets(@NotNull List<Secret> dtos) throws SystemException;
+
+    /**
+     * Update a batch of secrets, each item is validated and reported on its own
+     * @param dtos
+     * @return
+     */
+    BatchResult<Secret> updateSecrets(@NotNull List<Secret> dtos) throws SystemException;
+
     /**
      * Delete the secret with the specified id. Throw error if not found or if the operation cannot be performed.
      * @param id
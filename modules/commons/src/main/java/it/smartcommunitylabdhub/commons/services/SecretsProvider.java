@@ -25,10 +25,28 @@ package it.smartcommunitylabdhub.commons.services;
 
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import jakarta.validation.constraints.NotNull;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 public interface SecretsProvider {
     public String readSecretData(@NotNull String path) throws StoreException;
 
+    /**
+     * Read multiple paths at once, returning values keyed by path. Missing values are omitted.
+     */
+    public default Map<String, String> readSecretData(@NotNull Collection<String> paths) throws StoreException {
+        Map<String, String> values = new HashMap<>();
+        for (String path : paths) {
+            String value = readSecretData(path);
+            if (value != null) {
+                values.put(path, value);
+            }
+        }
+
+        return values;
+    }
+
     public void writeSecretData(@NotNull String path, @NotNull String value) throws StoreException;
 
     public void clearSecretData(@NotNull String path) throws StoreException;
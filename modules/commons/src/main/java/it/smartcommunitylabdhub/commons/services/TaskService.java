@@ -26,6 +26,7 @@ package it.smartcommunitylabdhub.commons.services;
 import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import it.smartcommunitylabdhub.commons.models.task.Task;
 import jakarta.validation.constraints.NotNull;
@@ -121,6 +122,20 @@ public interface TaskService {
     Task updateTask(@NotNull String id, @NotNull Task taskDTO)
         throws NoSuchEntityException, BindException, IllegalArgumentException, SystemException;
 
+    /**
+     * Create a batch of tasks, each item is validated and reported on its own
+     * @param dtos
+     * @return
+     */
+    BatchResult<Task> createTasks(@NotNull List<Task> dtos) throws SystemException;
+
+    /**
+     * Update a batch of tasks, each item is validated and reported on its own
+     * @param dtos
+     * @return
+     */
+    BatchResult<Task> updateTasks(@NotNull List<Task> dtos) throws SystemException;
+
     /**
      * Delete a specific task via unique ID, with optional cascade
      * @param id
@@ -26,6 +26,7 @@ package it.smartcommunitylabdhub.commons.services;
 import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import it.smartcommunitylabdhub.commons.models.task.Task;
 import it.smartcommunitylabdhub.commons.models.workflow.Workflow;
@@ -202,6 +203,20 @@ public interface WorkflowManager {
     Workflow updateWorkflow(@NotNull String id, @NotNull Workflow workflowDTO)
         throws NoSuchEntityException, BindException, IllegalArgumentException, SystemException;
 
+    /**
+     * Create a batch of workflows, each item is validated and reported on its own
+     * @param dtos
+     * @return
+     */
+    BatchResult<Workflow> createWorkflows(@NotNull List<Workflow> dtos) throws SystemException;
+
+    /**
+     * Update a batch of workflows, each item is validated and reported on its own
+     * @param dtos
+     * @return
+     */
+    BatchResult<Workflow> updateWorkflows(@NotNull List<Workflow> dtos) throws SystemException;
+
     /**
      * Update a specific workflow version
      * @param id
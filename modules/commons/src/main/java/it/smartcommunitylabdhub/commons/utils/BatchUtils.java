@@ -0,0 +1,110 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/**
+ * Copyright 2025 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package it.smartcommunitylabdhub.commons.utils;
+
+import it.smartcommunitylabdhub.commons.exceptions.StoreException;
+import it.smartcommunitylabdhub.commons.models.base.BaseDTO;
+import it.smartcommunitylabdhub.commons.models.batch.BatchItem;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
+import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BatchUtils {
+
+    private BatchUtils() {
+        // Utility class, no instantiation
+    }
+
+    /**
+     * Run a batch operation on the items accepted by a per item check.
+     * Rejected items are reported as failures, the outcomes of the accepted ones are
+     * reported at their position in the request. Store errors raised by checks abort the batch.
+     */
+    public static <D extends BaseDTO> BatchResult<D> process(
+        @NotNull List<D> dtos,
+        @NotNull Check<D> check,
+        @NotNull Operation<D> operation
+    ) throws StoreException {
+        List<BatchItem<D>> items = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        List<D> accepted = new ArrayList<>();
+
+        for (int i = 0; i < dtos.size(); i++) {
+            D dto = dtos.get(i);
+            try {
+                check.check(dto);
+                indexes.add(i);
+                accepted.add(dto);
+            } catch (StoreException e) {
+                throw e;
+            } catch (Exception e) {
+                items.add(BatchItem.failure(i, dto.getId(), e.getMessage()));
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            //map back to request positions
+            for (BatchItem<D> item : operation.apply(accepted).getItems()) {
+                item.setIndex(indexes.get(item.getIndex()));
+                items.add(item);
+            }
+        }
+
+        return new BatchResult<>(items);
+    }
+
+    /**
+     * Report every item as succeeded, for stores writing all or nothing
+     */
+    public static <D extends BaseDTO> BatchResult<D> succeeded(@NotNull List<D> results) {
+        List<BatchItem<D>> items = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            items.add(BatchItem.success(i, results.get(i), results.get(i).getId()));
+        }
+
+        return new BatchResult<>(items);
+    }
+
+    /**
+     * Report every item as failed with the same error, for stores writing all or nothing
+     */
+    public static <D extends BaseDTO> BatchResult<D> failed(@NotNull List<D> dtos, String error) {
+        List<BatchItem<D>> items = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            items.add(BatchItem.failure(i, dtos.get(i).getId(), error));
+        }
+
+        return new BatchResult<>(items);
+    }
+
+    @FunctionalInterface
+    public interface Check<D> {
+        void check(D dto) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface Operation<D extends BaseDTO> {
+        BatchResult<D> apply(List<D> dtos) throws StoreException;
+    }
+}
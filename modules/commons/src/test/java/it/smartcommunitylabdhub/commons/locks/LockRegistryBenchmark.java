@@ -0,0 +1,145 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.commons.locks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Read throughput on a hot key with concurrent writers.
+ *
+ * The baseline is a global monitor registry with an exclusive lock for reads and writes, as
+ * used before the lock registry. Reads and writes simulate store access: reads are a short
+ * round trip, writes hold the lock for a transaction. Compare the read scores of the two
+ * groups. Run via the main method on the test classpath, it is not part of the unit tests.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LockRegistryBenchmark {
+
+    private static final String KEY = "hot";
+
+    private final Map<String, ReentrantLock> legacy = new ConcurrentHashMap<>();
+    private final LockRegistry registry = new LockRegistry();
+    private final AtomicLong value = new AtomicLong();
+
+    private ReentrantLock legacyLock() {
+        synchronized (legacy) {
+            return legacy.computeIfAbsent(KEY, k -> new ReentrantLock());
+        }
+    }
+
+    @Benchmark
+    @Group("exclusive")
+    @GroupThreads(8)
+    public long exclusiveRead() {
+        ReentrantLock l = legacyLock();
+        l.lock();
+        try {
+            return read();
+        } finally {
+            l.unlock();
+        }
+    }
+
+    @Benchmark
+    @Group("exclusive")
+    @GroupThreads(2)
+    public void exclusiveWrite() {
+        ReentrantLock l = legacyLock();
+        l.lock();
+        try {
+            write();
+        } finally {
+            l.unlock();
+        }
+    }
+
+    @Benchmark
+    @Group("optimistic")
+    @GroupThreads(8)
+    public long optimisticRead() {
+        //retry a few times, then accept the last read as the store does
+        VersionedLock l = registry.get(KEY);
+        long v = 0;
+        for (int i = 0; i < 3; i++) {
+            long stamp = l.stamp();
+            v = read();
+            if (l.validate(stamp)) {
+                break;
+            }
+        }
+        return v;
+    }
+
+    @Benchmark
+    @Group("optimistic")
+    @GroupThreads(2)
+    public void optimisticWrite() throws InterruptedException {
+        VersionedLock l = registry.get(KEY);
+        if (l.tryLock(1, TimeUnit.SECONDS)) {
+            try {
+                write();
+            } finally {
+                l.unlock();
+            }
+        }
+    }
+
+    private long read() {
+        LockSupport.parkNanos(100_000);
+        return value.get();
+    }
+
+    private void write() {
+        value.incrementAndGet();
+        LockSupport.parkNanos(1_000_000);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LockRegistryBenchmark.class.getSimpleName()).build()).run();
+    }
+}
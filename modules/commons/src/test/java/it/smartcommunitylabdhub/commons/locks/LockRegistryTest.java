@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.commons.locks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class LockRegistryTest {
+
+    @Test
+    void sameKeySharesLock() {
+        LockRegistry registry = new LockRegistry();
+
+        VersionedLock a = registry.get("a");
+        assertSame(a, registry.get("a"));
+        assertNotSame(a, registry.get("b"));
+    }
+
+    @Test
+    void unusedLocksAreEvicted() throws InterruptedException {
+        LockRegistry registry = new LockRegistry();
+        VersionedLock held = registry.get("held");
+
+        for (int i = 0; i < 10000; i++) {
+            registry.get("id" + i);
+        }
+
+        //locks without references are collected and purged
+        Instant deadline = Instant.now().plusSeconds(10);
+        while (registry.size() > 1 && Instant.now().isBefore(deadline)) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertTrue(registry.size() < 10000, "registry should shrink, size " + registry.size());
+        assertSame(held, registry.get("held"));
+    }
+
+    @Test
+    void stampIsInvalidatedByWriters() throws InterruptedException {
+        VersionedLock lock = new VersionedLock();
+
+        long stamp = lock.stamp();
+        assertTrue(lock.validate(stamp));
+
+        assertTrue(lock.tryLock(1, TimeUnit.SECONDS));
+        //reentrant acquire does not change the version
+        assertTrue(lock.tryLock(1, TimeUnit.SECONDS));
+        long during = lock.stamp();
+        assertFalse(lock.validate(during));
+        lock.unlock();
+        assertEquals(during, lock.stamp());
+        lock.unlock();
+
+        assertFalse(lock.validate(stamp));
+        assertTrue(lock.validate(lock.stamp()));
+        assertFalse(lock.isLocked());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.commons.models.queries;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Direction;
+
+class CursorPageableTest {
+
+    private static final Instant CREATED = Instant.parse("2025-01-02T03:04:05.123456789Z");
+
+    @Test
+    void firstPage() {
+        CursorPageable first = new CursorPageable("", 10, null);
+
+        assertNull(first.getCursor());
+        assertEquals(Direction.DESC, first.getDirection());
+        assertEquals(0, first.getPageNumber());
+        assertEquals(0, first.getOffset());
+        assertFalse(first.hasPrevious());
+    }
+
+    @Test
+    void positionsKeepMicroseconds() {
+        CursorPageable next = new CursorPageable(null, 10, Direction.ASC).after(Timestamp.from(CREATED), "a1");
+        CursorPageable decoded = new CursorPageable(next.getCursor(), 10, Direction.ASC);
+
+        assertEquals(Instant.parse("2025-01-02T03:04:05.123456Z"), decoded.cursorCreated().toInstant());
+        assertEquals("a1", decoded.cursorId());
+        assertEquals(1, decoded.getPageNumber());
+        assertEquals(10, decoded.getOffset());
+
+        //plain dates keep milliseconds
+        CursorPageable millis = decoded.after(Date.from(CREATED), "a2");
+        assertEquals(Instant.parse("2025-01-02T03:04:05.123Z"), millis.cursorCreated().toInstant());
+        assertEquals(2, millis.getPageNumber());
+    }
+
+    @Test
+    void pagesByNumberUseOffsets() {
+        CursorPageable first = new CursorPageable(null, 10, Direction.ASC);
+        CursorPageable second = first.after(Timestamp.from(CREATED), "a1");
+
+        assertEquals(PageRequest.of(1, 10, first.getSort()), first.next());
+        assertEquals(PageRequest.of(2, 10, second.getSort()), second.next());
+        assertEquals(PageRequest.of(3, 10, second.getSort()), second.withPage(3));
+        assertSame(second, second.withPage(1));
+        assertEquals(first.toString(), second.withPage(0).toString());
+        assertEquals(first.toString(), second.previousOrFirst().toString());
+        assertTrue(second.hasPrevious());
+    }
+
+    @Test
+    void invalidCursorsAreRejected() {
+        for (String value : List.of("abc", "1:a1", "x:1:a1", "1:0:a1", "-1:1:a1", "1:1:", "253402300800000000:1:a1")) {
+            assertThrows(IllegalArgumentException.class, () -> new CursorPageable(encode(value), 10, null), value);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new CursorPageable("%%", 10, null));
+    }
+
+    @Test
+    void pageTotalsAreUnknownUntilTheLast() {
+        CursorPageable first = new CursorPageable(null, 2, Direction.DESC);
+        CursorPageable second = first.after(Timestamp.from(CREATED), "a1");
+
+        CursorPage<String> page = new CursorPage<>(List.of("a0", "a1"), first, second.getCursor());
+        assertEquals(CursorPage.UNKNOWN, page.getTotalElements());
+        assertEquals(CursorPage.UNKNOWN, page.getTotalPages());
+        assertTrue(page.hasNext());
+        assertFalse(page.isLast());
+        Pageable next = page.nextPageable();
+        assertEquals(second.getCursor(), assertInstanceOf(CursorPageable.class, next).getCursor());
+
+        CursorPage<String> last = new CursorPage<>(List.of("a2"), second, null);
+        assertEquals(3, last.getTotalElements());
+        assertEquals(2, last.getTotalPages());
+        assertFalse(last.hasNext());
+        assertTrue(last.isLast());
+        assertFalse(last.nextPageable().isPaged());
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -32,46 +32,84 @@ import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import it.smartcommunitylabdhub.commons.repositories.EntityRepository;
 import it.smartcommunitylabdhub.core.persistence.AbstractEntity_;
 import it.smartcommunitylabdhub.logs.Log;
+import it.smartcommunitylabdhub.logs.LogEvent;
+import it.smartcommunitylabdhub.logs.LogRange;
 import it.smartcommunitylabdhub.logs.LogService;
 import it.smartcommunitylabdhub.logs.LogStore;
+import it.smartcommunitylabdhub.logs.local.persistence.LogChunkEntity;
+import it.smartcommunitylabdhub.logs.local.persistence.LogChunkRepository;
 import it.smartcommunitylabdhub.logs.local.persistence.LogEntity;
 import it.smartcommunitylabdhub.logs.local.persistence.LogRepository;
 import it.smartcommunitylabdhub.runs.Run;
 import jakarta.transaction.Transactional;
 import jakarta.validation.constraints.NotNull;
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.security.crypto.keygen.StringKeyGenerator;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.BindException;
 
+/**
+ * Local log store backed by append-only chunks.
+ *
+ * Every log is a stream addressed by absolute byte offset and line number: writes
+ * only add new chunks, retention keeps the stream within the byte budget by
+ * dropping whole chunks from the head, reads return bounded ranges. Logs returned by
+ * lookups carry only the tail of the stream as content.
+ */
 @Transactional
 @Slf4j
 public class LocalLogServiceImpl implements LogService, LogStore {
 
     public static final int MAX_LENGTH = 2 * 1024 * 1024; //2MB
+    public static final int CHUNK_SIZE = 64 * 1024; //64KB
+    public static final int CONTENT_LENGTH = 64 * 1024; //64KB
 
+    //retention budget in bytes
     @Value("${logs.max-length}")
     private int maxLength = MAX_LENGTH;
 
+    //content returned with logs, as tail of the stream
+    @Value("${logs.content-length:65536}")
+    private int contentLength = CONTENT_LENGTH;
+
+    //soft limit, chunks are split on line boundaries
+    @Value("${logs.chunk-size:65536}")
+    private int chunkSize = CHUNK_SIZE;
+
     private LogRepository logRepository;
+    private LogChunkRepository chunkRepository;
     private Converter<LogEntity, Log> entityConverter;
     private Converter<Log, LogEntity> dtoConverter;
     private Converter<SearchFilter<Log>, SearchFilter<LogEntity>> filterConverter;
 
     private StringKeyGenerator keyGenerator = () -> UUID.randomUUID().toString().replace("-", "");
 
+    private ApplicationEventPublisher eventPublisher;
+
     @Autowired
     private EntityRepository<Run> runEntityService;
 
@@ -80,14 +118,17 @@ public class LocalLogServiceImpl implements LogService, LogStore {
 
     public LocalLogServiceImpl(
         LogRepository logRepository,
+        LogChunkRepository chunkRepository,
         Converter<LogEntity, Log> entityConverter,
         Converter<Log, LogEntity> dtoConverter
     ) {
         Assert.notNull(logRepository, "log repository can not be null");
+        Assert.notNull(chunkRepository, "chunk repository can not be null");
         Assert.notNull(entityConverter, "entity converter can not be null");
         Assert.notNull(dtoConverter, "dto converter can not be null");
 
         this.logRepository = logRepository;
+        this.chunkRepository = chunkRepository;
         this.entityConverter = entityConverter;
         this.dtoConverter = dtoConverter;
     }
@@ -103,9 +144,14 @@ public class LocalLogServiceImpl implements LogService, LogStore {
         this.keyGenerator = keyGenerator;
     }
 
+    @Autowired(required = false)
+    public void setEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
     public Page<Log> listLogs(@NonNull Pageable pageable) {
         log.debug("list logs page {}", pageable);
-        return logRepository.findAll(pageable).map(entityConverter::convert);
+        return toDto(logRepository.findAll(pageable));
     }
 
     @Override
@@ -118,28 +164,28 @@ public class LocalLogServiceImpl implements LogService, LogStore {
                 throw new IllegalArgumentException("invalid filter");
             }
 
-            return logRepository.findAll(ef.toSpecification(), pageable).map(entityConverter::convert);
+            return toDto(logRepository.findAll(ef.toSpecification(), pageable));
         } else {
-            return logRepository.findAll(pageable).map(entityConverter::convert);
+            return toDto(logRepository.findAll(pageable));
         }
     }
 
     public List<Log> listLogsByUser(@NotNull String user) {
         log.debug("list all logs for user {}  ", user);
-        return logRepository.findByCreatedBy(user).stream().map(entityConverter::convert).toList();
+        return toDto(logRepository.findByCreatedBy(user));
     }
 
     @Override
     public List<Log> listLogsByProject(@NotNull String project) {
         log.debug("list all logs for project {}  ", project);
-        return logRepository.findByProject(project).stream().map(entityConverter::convert).toList();
+        return toDto(logRepository.findByProject(project));
     }
 
     @Override
     public Page<Log> listLogsByProject(@NotNull String project, @NonNull Pageable pageable) {
         log.debug("list logs for project {} page {}", project, pageable);
 
-        return logRepository.findByProject(project, pageable).map(entityConverter::convert);
+        return toDto(logRepository.findByProject(project, pageable));
     }
 
     @Override
@@ -168,9 +214,9 @@ public class LocalLogServiceImpl implements LogService, LogStore {
                 return where.toPredicate(root, query, builder);
             };
 
-            return logRepository.findAll(specification, pageable).map(entityConverter::convert);
+            return toDto(logRepository.findAll(specification, pageable));
         } else {
-            return logRepository.findByProject(project, pageable).map(entityConverter::convert);
+            return toDto(logRepository.findByProject(project, pageable));
         }
     }
 
@@ -178,34 +224,56 @@ public class LocalLogServiceImpl implements LogService, LogStore {
     public List<Log> getLogsByRunId(@NotNull String runId) {
         log.debug("list logs for run {}", runId);
         try {
-            Run run = runEntityService.find(runId);
-            if (run == null) {
-                return Collections.emptyList();
-            }
-
-            //define a spec for logs building run path
-            Specification<LogEntity> where = Specification.allOf(
-                createProjectSpecification(run.getProject()),
-                createRunSpecification(runId)
-            );
-
-            //fetch all logs ordered by date ASC
-            Specification<LogEntity> specification = (root, query, builder) -> {
-                query.orderBy(builder.asc(root.get(AbstractEntity_.CREATED)));
-                return where.toPredicate(root, query, builder);
-            };
+            return toDto(findByRun(runId));
+        } catch (StoreException e) {
+            log.error("error fetching logs for run {}", runId, e);
+            throw new SystemException(e.getMessage());
+        }
+    }
 
-            return logRepository.findAll(specification).stream().map(entityConverter::convert).toList();
+    @Override
+    public List<Log> listLogHeadersByRunId(@NotNull String runId) {
+        log.debug("list log headers for run {}", runId);
+        try {
+            //headers only, content is not read
+            return findByRun(runId).stream().map(entityConverter::convert).toList();
         } catch (StoreException e) {
             log.error("error fetching logs for run {}", runId, e);
             throw new SystemException(e.getMessage());
         }
     }
 
+    private List<LogEntity> findByRun(String runId) {
+        Run run = runEntityService.find(runId);
+        if (run == null) {
+            return Collections.emptyList();
+        }
+
+        //define a spec for logs building run path
+        Specification<LogEntity> where = Specification.allOf(
+            createProjectSpecification(run.getProject()),
+            createRunSpecification(runId)
+        );
+
+        //fetch all logs ordered by date ASC
+        Specification<LogEntity> specification = (root, query, builder) -> {
+            query.orderBy(builder.asc(root.get(AbstractEntity_.CREATED)));
+            return where.toPredicate(root, query, builder);
+        };
+
+        return logRepository.findAll(specification);
+    }
+
+    @Override
+    public List<String> listLogIdsByRunId(@NotNull String runId) {
+        log.debug("list log ids for run {}", runId);
+        return logRepository.findIdsByRun(runId);
+    }
+
     @Override
     public Log findLog(@NotNull String id) {
         log.debug("find log with id {}", String.valueOf(id));
-        return logRepository.findById(id).map(entityConverter::convert).orElse(null);
+        return logRepository.findById(id).map(this::toDto).orElse(null);
     }
 
     @Override
@@ -214,7 +282,7 @@ public class LocalLogServiceImpl implements LogService, LogStore {
 
         return logRepository
             .findById(id)
-            .map(entityConverter::convert)
+            .map(this::toDto)
             .orElseThrow(() -> new NoSuchEntityException("log not found with id " + String.valueOf(id)));
     }
 
@@ -242,13 +310,8 @@ public class LocalLogServiceImpl implements LogService, LogStore {
                 throw new IllegalArgumentException("project mismatch");
             }
 
-            //check if too big and slice
-            if (dto.getContent() != null && dto.getContent().length() > maxLength) {
-                log.debug("log content too long, slice to {}", maxLength);
-                dto.setContent(dto.getContent().substring(dto.getContent().length() - maxLength));
-            }
-
             //create as new
+            String content = dto.getContent();
             LogEntity e = dtoConverter.convert(dto);
             if (e == null) {
                 throw new IllegalArgumentException("invalid log entry");
@@ -261,8 +324,21 @@ public class LocalLogServiceImpl implements LogService, LogStore {
                 e.setId(keyGenerator.generateKey());
             }
 
+            //content is stored as chunks
+            e.setContent(null);
+            e.setNextOffset(0L);
+            e.setNextLine(0L);
+            e.setNextSeq(0L);
+
+            //positional appends continue from the end of the created content
+            e.setSourceOffset(length(content));
+
+            write(e, content);
             e = logRepository.saveAndFlush(e);
+            notify(e);
+
             Log d = entityConverter.convert(e);
+            d.setContent(content != null ? content : "");
             if (log.isTraceEnabled()) {
                 log.trace("log: {}", d);
             }
@@ -279,37 +355,222 @@ public class LocalLogServiceImpl implements LogService, LogStore {
         throws NoSuchEntityException, BindException, IllegalArgumentException {
         log.debug("update log with id {}", String.valueOf(id));
         //fetch current and merge
-        LogEntity current = logRepository
-            .findById(id)
-            .orElseThrow(() -> new NoSuchEntityException("log not found with id " + String.valueOf(id)));
+        LogEntity current = lock(id);
 
         //hardcoded: run ref is not modifiable
         if (!current.getRun().equals(dto.getRun())) {
             throw new IllegalArgumentException("run reference can not be modified");
         }
 
-        //check if too big and slice
-        if (dto.getContent() != null && dto.getContent().length() > maxLength) {
-            log.debug("log content too long, slice to {}", maxLength);
-            dto.setContent(dto.getContent().substring(dto.getContent().length() - maxLength));
+        //headers are modifiable when provided
+        LogEntity headers = dtoConverter.convert(dto);
+        if (dto.getMetadata() != null) {
+            current.setMetadata(headers.getMetadata());
+        }
+        if (dto.getExtensions() != null) {
+            current.setStatus(headers.getStatus());
+        }
+
+        //positional appends continue from the end of the full content
+        String content = dto.getContent();
+        byte[] bytes = content != null ? content.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        current.setSourceOffset((long) bytes.length);
+        long position = current.getNextOffset();
+
+        int tail = tail(current, bytes);
+        if (tail >= 0) {
+            //content extends the stream: write only the new bytes, followers keep their position
+            if (tail < bytes.length) {
+                write(current, new String(bytes, tail, bytes.length - tail, StandardCharsets.UTF_8));
+            }
+        } else {
+            //full update, log is modifiable: replace chunks keeping the stream position
+            current.setBaseOffset(current.getNextOffset());
+            chunkRepository.deleteByLog(id);
+            write(current, content);
+        }
+
+        current = logRepository.saveAndFlush(current);
+        if (current.getNextOffset() != position) {
+            notify(current);
+        }
+
+        Log d = entityConverter.convert(current);
+        d.setContent(content != null ? content : "");
+        return d;
+    }
+
+    @Override
+    public Log appendLog(@NotNull String id, @NotNull String content) throws NoSuchEntityException {
+        log.debug("append to log with id {}", String.valueOf(id));
+        LogEntity current = lock(id);
+
+        if (StringUtils.hasLength(content)) {
+            //write only the new bytes
+            write(current, content);
+            current = logRepository.saveAndFlush(current);
+            notify(current);
+        }
+
+        //return the appended content only
+        Log d = entityConverter.convert(current);
+        d.setContent(content != null ? content : "");
+        return d;
+    }
+
+    @Override
+    public Log appendLog(
+        @NotNull String id,
+        @NotNull String content,
+        long offset,
+        @Nullable Map<String, Serializable> extensions
+    ) throws NoSuchEntityException {
+        log.debug("append to log with id {} at {}", String.valueOf(id), offset);
+        LogEntity current = lock(id);
+        long position = current.getNextOffset();
+
+        if (extensions != null) {
+            current.setStatus(dtoConverter.convert(Log.builder().extensions(extensions).build()).getStatus());
+        }
+
+        //skip what was already applied by a previous append of the same range
+        byte[] bytes = content != null ? content.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        long applied = current.getSourceOffset() != null ? current.getSourceOffset() : offset;
+        String delta = "";
+        if (offset > applied) {
+            //missing range: keep the position, producer will send a full update
+            log.warn("gap in log {} between {} and {}", String.valueOf(id), applied, offset);
+        } else {
+            //skip on a char boundary to avoid splitting multibyte sequences
+            int skip = skipBytes(bytes, applied - offset);
+            delta = new String(bytes, skip, bytes.length - skip, StandardCharsets.UTF_8);
+            current.setSourceOffset(Math.max(applied, offset + bytes.length));
+            write(current, delta);
         }
 
-        //full update, log is modifiable
-        LogEntity e = dtoConverter.convert(dto);
-        current.setContent(e.getContent());
         current = logRepository.saveAndFlush(current);
-        return entityConverter.convert(current);
+        if (current.getNextOffset() != position) {
+            notify(current);
+        }
+
+        //return the appended content only
+        Log d = entityConverter.convert(current);
+        d.setContent(delta);
+        return d;
+    }
+
+    @Override
+    public LogRange readLog(@NotNull String id, @Nullable Long offset, @Nullable Long line, int limit)
+        throws NoSuchEntityException {
+        log.debug("read log with id {} from offset {} line {}", String.valueOf(id), offset, line);
+        LogEntity current = logRepository
+            .findById(id)
+            .orElseThrow(() -> new NoSuchEntityException("log not found with id " + String.valueOf(id)));
+
+        if (current.getNextOffset() == null) {
+            //legacy log, move content to chunks
+            current = lock(id);
+            current = logRepository.saveAndFlush(current);
+        }
+
+        return read(current, offset, line, limit > 0 ? Math.min(limit, maxLength) : maxLength);
+    }
+
+    //read a range of at most max bytes from the chunks, from offset or line, or the tail when none is given
+    private LogRange read(LogEntity current, @Nullable Long offset, @Nullable Long line, int max) {
+        String id = current.getId();
+        long length = current.getNextOffset();
+
+        //tail when no position is requested
+        boolean tail = offset == null && line == null;
+        long from = offset != null ? Math.max(0, offset) : Math.max(0, length - max);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long start = -1;
+        long startLine = -1;
+        long pos = length;
+        long posLine = current.getNextLine();
+        int size = Math.max(1, max / chunkSize) + 1;
+        boolean full = false;
+
+        //read page by page from the current position, bounded by max
+        while (!full) {
+            List<LogChunkEntity> chunks = start < 0 && offset == null && line != null
+                ? chunkRepository.findByLogFromLine(id, Math.max(0, line), PageRequest.of(0, size))
+                : chunkRepository.findByLogFromOffset(id, start < 0 ? from : pos, PageRequest.of(0, size));
+
+            for (LogChunkEntity c : chunks) {
+                byte[] bytes = c.getContent() != null ? c.getContent() : new byte[0];
+                int skip = 0;
+                if (start < 0) {
+                    //position inside first chunk
+                    if (offset == null && line != null) {
+                        skip = skipLines(bytes, line - c.getStartLine());
+                    } else {
+                        skip = skipBytes(bytes, from - c.getStartOffset());
+                        if (tail && skip > 0) {
+                            //align to line start, when available
+                            int nl = indexOf(bytes, skip, bytes.length);
+                            skip = nl >= 0 ? nl + 1 : skip;
+                        }
+                    }
+
+                    start = c.getStartOffset() + skip;
+                    startLine = c.getStartLine() + count(bytes, 0, skip);
+                    posLine = startLine;
+                }
+
+                int end = bytes.length;
+                if (out.size() + (end - skip) > max) {
+                    end = cut(bytes, skip, skip + (max - out.size()), out.size() == 0);
+                    full = true;
+                }
+
+                out.write(bytes, skip, end - skip);
+                pos = c.getStartOffset() + end;
+                posLine += count(bytes, skip, end);
+
+                if (full) {
+                    break;
+                }
+            }
+
+            if (chunks.size() < size) {
+                break;
+            }
+        }
+
+        if (start < 0) {
+            //nothing to read
+            start = pos;
+            startLine = posLine;
+        }
+
+        return LogRange.builder()
+            .id(id)
+            .run(current.getRun())
+            .offset(start)
+            .line(startLine)
+            .nextOffset(pos)
+            .nextLine(posLine)
+            .length(length)
+            .more(pos < length)
+            .content(out.toString(StandardCharsets.UTF_8))
+            .build();
     }
 
     @Override
     public void deleteLog(@NotNull String id) {
         log.debug("delete log with id {}", String.valueOf(id));
+        chunkRepository.deleteByLog(id);
         logRepository.deleteById(id);
     }
 
     @Override
     public void deleteLogsByRunId(@NotNull String runId) {
         log.debug("delete logs for run {}", runId);
+        chunkRepository.deleteByRun(runId);
+
         List<LogEntity> logs = logRepository.findByRun(runId);
         if (!logs.isEmpty()) {
             logRepository.deleteAll(logs);
@@ -319,12 +580,260 @@ public class LocalLogServiceImpl implements LogService, LogStore {
     @Override
     public void deleteLogsByProject(@NotNull String project) {
         log.debug("delete logs for project {}", project);
+        chunkRepository.deleteByProject(project);
+
         List<LogEntity> logs = logRepository.findByProject(project);
         if (!logs.isEmpty()) {
             logRepository.deleteAll(logs);
         }
     }
 
+    /*
+     * Chunks
+     */
+
+    //fetch header for write, migrating legacy inline content
+    private LogEntity lock(String id) throws NoSuchEntityException {
+        LogEntity current = logRepository
+            .findByIdForUpdate(id)
+            .orElseThrow(() -> new NoSuchEntityException("log not found with id " + String.valueOf(id)));
+
+        if (current.getNextOffset() == null) {
+            String content = entityConverter.convert(current).getContent();
+
+            current.setContent(null);
+            current.setNextOffset(0L);
+            current.setNextLine(0L);
+            current.setNextSeq(0L);
+
+            write(current, content);
+        }
+
+        return current;
+    }
+
+    //append content as new chunks and advance the stream position
+    private void write(LogEntity current, @Nullable String content) {
+        if (!StringUtils.hasLength(content)) {
+            return;
+        }
+
+        Date now = new Date();
+        List<LogChunkEntity> chunks = new ArrayList<>();
+        for (String part : split(content)) {
+            byte[] bytes = part.getBytes(StandardCharsets.UTF_8);
+            int lines = count(bytes, 0, bytes.length);
+
+            chunks.add(
+                LogChunkEntity.builder()
+                    .id(keyGenerator.generateKey())
+                    .log(current.getId())
+                    .run(current.getRun())
+                    .project(current.getProject())
+                    .seq(current.getNextSeq())
+                    .startOffset(current.getNextOffset())
+                    .startLine(current.getNextLine())
+                    .lines(lines)
+                    .length(bytes.length)
+                    .content(bytes)
+                    .created(now)
+                    .build()
+            );
+
+            current.setNextSeq(current.getNextSeq() + 1);
+            current.setNextOffset(current.getNextOffset() + bytes.length);
+            current.setNextLine(current.getNextLine() + lines);
+        }
+
+        chunkRepository.saveAll(chunks);
+        chunkRepository.flush();
+
+        retain(current);
+    }
+
+    //end of the stream inside content, when content repeats the stream written since the last full update
+    //(matched on the last chunk only), -1 otherwise
+    private int tail(LogEntity current, byte[] bytes) {
+        long base = current.getBaseOffset() != null ? current.getBaseOffset() : 0;
+        long length = current.getNextOffset() - base;
+        if (length <= 0) {
+            return 0;
+        }
+        if (bytes.length < length) {
+            return -1;
+        }
+
+        //chunks before the base were replaced, retention only drops the head
+        LogChunkEntity last = chunkRepository.findFirstByLogOrderBySeqDesc(current.getId());
+        if (last == null || last.getStartOffset() < base) {
+            return -1;
+        }
+
+        byte[] b = last.getContent() != null ? last.getContent() : new byte[0];
+        int from = (int) (last.getStartOffset() - base);
+        if (from + b.length != length || !Arrays.equals(b, 0, b.length, bytes, from, from + b.length)) {
+            return -1;
+        }
+
+        return (int) length;
+    }
+
+    //publish stream position once the transaction is committed
+    private void notify(LogEntity current) {
+        if (eventPublisher == null) {
+            return;
+        }
+
+        LogEvent event = new LogEvent(
+            current.getId(),
+            current.getRun(),
+            current.getProject(),
+            current.getNextOffset()
+        );
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        eventPublisher.publishEvent(event);
+                    }
+                }
+            );
+        } else {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    //drop whole chunks from the head until the stream fits the budget, always keep the last
+    private void retain(LogEntity current) {
+        List<Object[]> sizes = chunkRepository.findSizesByLog(current.getId());
+        long total = sizes.stream().mapToLong(r -> ((Number) r[1]).longValue()).sum();
+
+        int i = 0;
+        while (total > maxLength && i < sizes.size() - 1) {
+            total -= ((Number) sizes.get(i)[1]).longValue();
+            i++;
+        }
+
+        if (i > 0) {
+            long seq = ((Number) sizes.get(i)[0]).longValue();
+            log.debug("log {} over budget, drop chunks before {}", current.getId(), seq);
+            chunkRepository.deleteByLogBefore(current.getId(), seq);
+        }
+    }
+
+    //split on line boundaries in parts of about chunkSize bytes
+    private List<String> split(String content) {
+        List<String> parts = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        int size = 0;
+        int idx = 0;
+        while (idx < content.length()) {
+            int nl = content.indexOf('\n', idx);
+            int end = nl < 0 ? content.length() : nl + 1;
+            String line = content.substring(idx, end);
+            int len = line.getBytes(StandardCharsets.UTF_8).length;
+            if (size > 0 && size + len > chunkSize) {
+                parts.add(sb.toString());
+                sb.setLength(0);
+                size = 0;
+            }
+
+            sb.append(line);
+            size += len;
+            idx = end;
+        }
+
+        if (!sb.isEmpty()) {
+            parts.add(sb.toString());
+        }
+
+        return parts;
+    }
+
+    private Log toDto(LogEntity entity) {
+        Log dto = entityConverter.convert(entity);
+        if (entity.getNextOffset() != null) {
+            dto.setContent(read(entity, null, null, Math.min(contentLength, maxLength)).getContent());
+        }
+
+        return dto;
+    }
+
+    private List<Log> toDto(List<LogEntity> entities) {
+        return entities.stream().map(this::toDto).toList();
+    }
+
+    private Page<Log> toDto(Page<LogEntity> page) {
+        return new PageImpl<>(toDto(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    private static int count(byte[] bytes, int from, int to) {
+        int n = 0;
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == '\n') {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    private static int indexOf(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static long length(String content) {
+        return content != null ? content.getBytes(StandardCharsets.UTF_8).length : 0;
+    }
+
+    //skip n bytes, moving forward to a char boundary
+    private static int skipBytes(byte[] bytes, long n) {
+        int i = (int) Math.min(Math.max(0, n), bytes.length);
+        while (i < bytes.length && (bytes[i] & 0xC0) == 0x80) {
+            i++;
+        }
+        return i;
+    }
+
+    //skip n lines
+    private static int skipLines(byte[] bytes, long n) {
+        int i = 0;
+        while (n > 0 && i < bytes.length) {
+            int nl = indexOf(bytes, i, bytes.length);
+            if (nl < 0) {
+                return bytes.length;
+            }
+            i = nl + 1;
+            n--;
+        }
+        return i;
+    }
+
+    //cut at the last line end before limit, or at a char boundary when nothing else fits
+    private static int cut(byte[] bytes, int from, int limit, boolean force) {
+        for (int i = limit - 1; i >= from; i--) {
+            if (bytes[i] == '\n') {
+                return i + 1;
+            }
+        }
+
+        if (!force) {
+            return from;
+        }
+
+        int i = limit;
+        while (i > from && (bytes[i] & 0xC0) == 0x80) {
+            i--;
+        }
+        return i;
+    }
+
     private Specification<LogEntity> createRunSpecification(String run) {
         return (root, query, criteriaBuilder) -> {
             return criteriaBuilder.equal(root.get("run"), run);
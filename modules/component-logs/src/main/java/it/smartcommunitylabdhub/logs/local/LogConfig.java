@@ -19,6 +19,7 @@ package it.smartcommunitylabdhub.logs.local;
 
 import it.smartcommunitylabdhub.logs.Log;
 import it.smartcommunitylabdhub.logs.LogService;
+import it.smartcommunitylabdhub.logs.local.persistence.LogChunkRepository;
 import it.smartcommunitylabdhub.logs.local.persistence.LogEntity;
 import it.smartcommunitylabdhub.logs.local.persistence.LogRepository;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -33,9 +34,10 @@ public class LogConfig {
     @ConditionalOnMissingBean(LogService.class)
     public LocalLogServiceImpl logService(
         LogRepository repository,
+        LogChunkRepository chunkRepository,
         Converter<Log, LogEntity> entityBuilder,
         Converter<LogEntity, Log> dtoBuilder
     ) {
-        return new LocalLogServiceImpl(repository, dtoBuilder, entityBuilder);
+        return new LocalLogServiceImpl(repository, chunkRepository, dtoBuilder, entityBuilder);
     }
 }
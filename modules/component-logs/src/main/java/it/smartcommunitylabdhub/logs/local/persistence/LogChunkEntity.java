@@ -0,0 +1,113 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.logs.local.persistence;
+
+import it.smartcommunitylabdhub.logs.local.LocalLogServiceImpl;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.sql.Types;
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.JdbcTypeCode;
+
+/**
+ * Append-only chunk of a log: raw UTF-8 content addressed by sequence, absolute
+ * byte offset and first line number. Chunks are never rewritten, retention drops
+ * whole chunks from the head.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@ToString
+@Entity
+@Table(
+    name = "log_chunks",
+    indexes = {
+        @Index(name = "log_chunks_log_seq_index", columnList = "log, seq", unique = true),
+        @Index(name = "log_chunks_run_index", columnList = "run"),
+        @Index(name = "log_chunks_project_index", columnList = "project"),
+    }
+)
+public class LogChunkEntity {
+
+    @Id
+    @Column(unique = true, updatable = false)
+    private String id;
+
+    @Column(nullable = false, updatable = false)
+    private String log;
+
+    @Column(nullable = false, updatable = false)
+    private String run;
+
+    @Column(nullable = false, updatable = false)
+    private String project;
+
+    @Column(nullable = false, updatable = false)
+    private Long seq;
+
+    //absolute offset (bytes) of the first byte in the log stream
+    @Column(name = "start_offset", nullable = false, updatable = false)
+    private Long startOffset;
+
+    //absolute number of the first line in the log stream
+    @Column(name = "start_line", nullable = false, updatable = false)
+    private Long startLine;
+
+    //number of line terminators in content
+    @Column(nullable = false, updatable = false)
+    private Integer lines;
+
+    //content size in bytes
+    @Column(nullable = false, updatable = false)
+    private Integer length;
+
+    @Column(updatable = false)
+    private Date created;
+
+    @Lob
+    @JdbcTypeCode(Types.LONGVARBINARY)
+    @Column(length = LocalLogServiceImpl.MAX_LENGTH, updatable = false)
+    @ToString.Exclude
+    private byte[] content;
+
+    public long getEndOffset() {
+        return startOffset + length;
+    }
+
+    public long getEndLine() {
+        return startLine + lines;
+    }
+}
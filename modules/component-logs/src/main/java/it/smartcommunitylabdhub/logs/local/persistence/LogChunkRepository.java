@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.logs.local.persistence;
+
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface LogChunkRepository extends JpaRepository<LogChunkEntity, String> {
+    List<LogChunkEntity> findByLogOrderBySeqAsc(String log);
+
+    LogChunkEntity findFirstByLogOrderBySeqDesc(String log);
+
+    @Query(
+        "select c from LogChunkEntity c where c.log = :log and c.startOffset + c.length > :offset order by c.seq asc"
+    )
+    List<LogChunkEntity> findByLogFromOffset(
+        @Param("log") String log,
+        @Param("offset") long offset,
+        Pageable pageable
+    );
+
+    @Query("select c from LogChunkEntity c where c.log = :log and c.startLine + c.lines > :line order by c.seq asc")
+    List<LogChunkEntity> findByLogFromLine(@Param("log") String log, @Param("line") long line, Pageable pageable);
+
+    //lightweight view for retention: seq and length only, no content
+    @Query("select c.seq, c.length from LogChunkEntity c where c.log = :log order by c.seq asc")
+    List<Object[]> findSizesByLog(@Param("log") String log);
+
+    @Modifying
+    @Query("delete from LogChunkEntity c where c.log = :log and c.seq < :seq")
+    int deleteByLogBefore(@Param("log") String log, @Param("seq") long seq);
+
+    @Modifying
+    @Query("delete from LogChunkEntity c where c.log = :log")
+    int deleteByLog(@Param("log") String log);
+
+    @Modifying
+    @Query("delete from LogChunkEntity c where c.run = :run")
+    int deleteByRun(@Param("run") String run);
+
+    @Modifying
+    @Query("delete from LogChunkEntity c where c.project = :project")
+    int deleteByProject(@Param("project") String project);
+}
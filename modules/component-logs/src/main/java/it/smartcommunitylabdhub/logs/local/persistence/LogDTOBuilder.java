@@ -85,6 +85,7 @@ public class LogDTOBuilder implements Converter<LogEntity, Log> {
             .metadata(metadata)
             .content(stringConverter.convertToEntityAttribute(entity.getContent()))
             .extensions(converter.convertToEntityAttribute(entity.getStatus()))
+            .sourceOffset(entity.getSourceOffset())
             .build();
     }
 }
@@ -77,6 +77,25 @@ public class LogEntity {
     @Column(name = "updated_by")
     protected String updatedBy;
 
+    //stream position, content is stored as chunks
+    @Column(name = "next_offset")
+    private Long nextOffset;
+
+    @Column(name = "next_line")
+    private Long nextLine;
+
+    @Column(name = "next_seq")
+    private Long nextSeq;
+
+    //stream position of the content sent by the last full update
+    @Column(name = "base_offset")
+    private Long baseOffset;
+
+    //end of the last positional append, in the producer stream
+    @Column(name = "source_offset")
+    private Long sourceOffset;
+
+    //legacy inline content, migrated to chunks on first write
     @Lob
     @JdbcTypeCode(Types.LONGVARBINARY)
     @Column(length = LocalLogServiceImpl.MAX_LENGTH)
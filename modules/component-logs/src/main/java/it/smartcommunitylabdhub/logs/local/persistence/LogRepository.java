@@ -23,11 +23,16 @@
 
 package it.smartcommunitylabdhub.logs.local.persistence;
 
+import jakarta.persistence.LockModeType;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface LogRepository extends JpaRepository<LogEntity, String>, JpaSpecificationExecutor<LogEntity> {
     List<LogEntity> findByProject(String name);
@@ -38,4 +43,12 @@ public interface LogRepository extends JpaRepository<LogEntity, String>, JpaSpec
 
     List<LogEntity> findByCreatedBy(String user);
     Page<LogEntity> findByCreatedBy(String user, Pageable pageable);
+
+    @Query("select l.id from LogEntity l where l.run = :run order by l.created asc")
+    List<String> findIdsByRun(@Param("run") String run);
+
+    //lock header row to serialize chunk appends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from LogEntity l where l.id = :id")
+    Optional<LogEntity> findByIdForUpdate(@Param("id") String id);
 }
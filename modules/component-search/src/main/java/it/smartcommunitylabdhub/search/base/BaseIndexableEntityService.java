@@ -27,24 +27,48 @@ import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
 import it.smartcommunitylabdhub.commons.models.base.BaseDTO;
+import it.smartcommunitylabdhub.commons.models.metadata.AuditMetadata;
+import it.smartcommunitylabdhub.commons.models.metadata.MetadataDTO;
+import it.smartcommunitylabdhub.commons.models.queries.CursorPage;
+import it.smartcommunitylabdhub.commons.models.queries.CursorPageable;
+import it.smartcommunitylabdhub.commons.models.queries.SummaryPageable;
 import it.smartcommunitylabdhub.commons.repositories.EntityRepository;
 import it.smartcommunitylabdhub.search.indexers.EntityIndexer;
+import it.smartcommunitylabdhub.search.indexers.ReindexProgress;
 import it.smartcommunitylabdhub.search.service.IndexableEntityService;
 import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.util.Assert;
 
 @Slf4j
 public class BaseIndexableEntityService<D extends BaseDTO> implements IndexableEntityService<D>, InitializingBean {
 
+    private static final int PROGRESS_PAGES = 50;
+
+    //tolerance for clock skew between writers and updates committed during a pass
+    private static final Duration MARK_MARGIN = Duration.ofMinutes(5);
+
     protected EntityRepository<D> entityService;
     private EntityIndexer<D> indexer;
 
+    private final AtomicBoolean reindexing = new AtomicBoolean(false);
+    private volatile ReindexProgress progress;
+
     @Autowired(required = false)
     public void setIndexer(EntityIndexer<D> indexer) {
         this.indexer = indexer;
@@ -74,30 +98,202 @@ public class BaseIndexableEntityService<D extends BaseDTO> implements IndexableE
         }
     }
 
+    @Override
+    public ReindexProgress getReindexProgress() {
+        return progress;
+    }
+
     @Async
     @Override
     public void reindexAll() {
         if (indexer != null) {
-            log.debug("reindex all");
-
-            //clear index
-            indexer.clearIndex();
-
-            //use pagination and batch
-            boolean hasMore = false;
-            int pageNumber = 0;
-            do {
-                try {
-                    log.trace("index page {}", pageNumber);
-                    Page<D> page = entityService.list(PageRequest.of(pageNumber, EntityIndexer.PAGE_MAX_SIZE));
-                    indexer.indexAll(page.getContent());
-                    hasMore = page.hasNext();
-                    pageNumber++;
-                } catch (IllegalArgumentException | StoreException | SystemException e) {
-                    hasMore = false;
-                    log.error("error with indexing: {}", e.getMessage());
+            String type = entityService.getType().getSimpleName();
+            log.debug("reindex all {}", type);
+
+            Instant started = Instant.now();
+            if (!reindexing.compareAndSet(false, true)) {
+                log.warn("reindex for {} already running, skip", type);
+                return;
+            }
+
+            try {
+                //documents written from now on belong to the new generation,
+                //previous ones stay searchable until completion
+                String generation = indexer.beginReindex();
+                progress = new ReindexProgress(type, started, null, 0, 0, false);
+
+                //keyset pagination: each page seeks after the last one
+                long count = 0;
+                int pages = 0;
+                boolean failed = false;
+                int size = EntityIndexer.PAGE_MAX_SIZE;
+                Pageable pageable = new CursorPageable(null, size, Direction.ASC);
+                do {
+                    try {
+                        log.trace("index page {} for {}", pages, type);
+                        Page<D> page = entityService.list(pageable);
+                        indexer.indexAll(page.getContent());
+
+                        count += page.getNumberOfElements();
+                        pages++;
+                        progress = new ReindexProgress(type, started, null, count, pages, false);
+
+                        if (page instanceof CursorPage<D> cursorPage) {
+                            String next = cursorPage.getNext();
+                            pageable = next != null ? new CursorPageable(next, size, Direction.ASC) : null;
+                        } else {
+                            //store without keyset support, fall back to offsets
+                            pageable = page.hasNext() ? PageRequest.of(pages, size) : null;
+                        }
+
+                        if (pages % PROGRESS_PAGES == 0) {
+                            log.info("reindex {}: {} documents indexed", type, count);
+                        }
+                    } catch (UnsupportedOperationException e) {
+                        //store without keyset support, restart with offsets
+                        pageable = pages == 0 && pageable instanceof CursorPageable ? PageRequest.of(0, size) : null;
+                        failed = pageable == null;
+                    } catch (IllegalArgumentException | StoreException | SystemException e) {
+                        pageable = null;
+                        failed = true;
+                        log.error("error with indexing: {}", e.getMessage());
+                    }
+                } while (pageable != null);
+
+                //drop stale documents only when the new generation is complete
+                if (!failed && generation != null) {
+                    indexer.completeReindex(generation);
+                }
+
+                //advance the mark only after a fully successful pass
+                if (!failed) {
+                    try {
+                        indexer.setMark(started);
+                    } catch (StoreException e) {
+                        failed = true;
+                        log.error("error storing reindex mark: {}", e.getMessage());
+                    }
+                }
+
+                progress = new ReindexProgress(type, started, Instant.now(), count, pages, failed);
+                log.info(
+                    "reindex {} completed: {} documents in {} ms",
+                    type,
+                    count,
+                    Duration.between(started, Instant.now()).toMillis()
+                );
+            } finally {
+                reindexing.set(false);
+            }
+        }
+    }
+
+    @Async
+    @Override
+    public void reindexChanged() {
+        if (indexer != null) {
+            String type = entityService.getType().getSimpleName();
+            log.debug("reindex changed {}", type);
+
+            Instant mark = indexer.getMark();
+            Set<String> indexed = indexer.listIds();
+            if (mark == null || indexed == null) {
+                //no successful pass recorded in the index: full rebuild
+                log.debug("no reindex mark for {}, reindex all", type);
+                reindexAll();
+                return;
+            }
+
+            Instant started = Instant.now();
+            if (!reindexing.compareAndSet(false, true)) {
+                log.warn("reindex for {} already running, skip", type);
+                return;
+            }
+
+            try {
+                progress = new ReindexProgress(type, started, null, 0, 0, false);
+
+                //scan headers only: collect ids, pick entities updated after the mark or missing
+                Instant threshold = mark.minus(MARK_MARGIN);
+                Set<String> stored = new HashSet<>();
+                List<String> changed = new ArrayList<>();
+                int size = EntityIndexer.PAGE_MAX_SIZE;
+                String cursor = null;
+                do {
+                    Page<D> page = entityService.list(
+                        new SummaryPageable(new CursorPageable(cursor, size, Direction.ASC), null)
+                    );
+                    if (!(page instanceof CursorPage<D> cursorPage)) {
+                        //store without keyset support
+                        log.debug("no keyset support for {}, reindex all", type);
+                        reindexing.set(false);
+                        reindexAll();
+                        return;
+                    }
+
+                    for (D item : page.getContent()) {
+                        stored.add(item.getId());
+                        if (!indexed.contains(item.getId()) || isUpdatedAfter(item, threshold)) {
+                            changed.add(item.getId());
+                        }
+                    }
+
+                    cursor = cursorPage.getNext();
+                } while (cursor != null);
+
+                //index changed entities in batches
+                long count = 0;
+                int pages = 0;
+                for (int i = 0; i < changed.size(); i += size) {
+                    List<D> items = new ArrayList<>();
+                    for (String id : changed.subList(i, Math.min(i + size, changed.size()))) {
+                        D item = entityService.find(id);
+                        if (item != null) {
+                            items.add(item);
+                        }
+                    }
+
+                    indexer.indexAll(items);
+                    count += items.size();
+                    pages++;
+                    progress = new ReindexProgress(type, started, null, count, pages, false);
+                }
+
+                //reconcile deletions
+                List<String> removed = indexed.stream().filter(id -> !stored.contains(id)).toList();
+                if (!removed.isEmpty()) {
+                    indexer.removeAll(removed);
                 }
-            } while (hasMore);
+
+                //every change is indexed, advance the mark
+                indexer.setMark(started);
+
+                progress = new ReindexProgress(type, started, Instant.now(), count, pages, false);
+                log.info(
+                    "reindex {} changed since {} completed: {} indexed, {} removed in {} ms",
+                    type,
+                    mark,
+                    count,
+                    removed.size(),
+                    Duration.between(started, Instant.now()).toMillis()
+                );
+            } catch (IllegalArgumentException | UnsupportedOperationException | StoreException e) {
+                //mark is left in place, the next pass picks up from there
+                log.error("error with indexing: {}", e.getMessage());
+                progress = new ReindexProgress(type, started, Instant.now(), 0, 0, true);
+            } finally {
+                reindexing.set(false);
+            }
         }
     }
+
+    private boolean isUpdatedAfter(D item, Instant threshold) {
+        if (item instanceof MetadataDTO metadataItem && metadataItem.getMetadata() != null) {
+            OffsetDateTime updated = AuditMetadata.from(metadataItem.getMetadata()).getUpdated();
+            return updated == null || updated.toInstant().isAfter(threshold);
+        }
+
+        //can not tell
+        return true;
+    }
 }
@@ -23,20 +23,66 @@
 
 package it.smartcommunitylabdhub.search.indexers;
 
+import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.models.base.BaseDTO;
+import java.time.Instant;
 import java.util.Collection;
+import java.util.Set;
 
 public interface EntityIndexer<T extends BaseDTO> {
     public static final int PAGE_MAX_SIZE = 100;
+    public static final String GENERATION_FIELD = "generation";
 
     public void index(T entity);
 
-    public void indexAll(Collection<T> entities);
+    public void indexAll(Collection<T> entities) throws StoreException;
 
     public void clearIndex();
 
     public void remove(T entity);
 
+    /**
+     * Start a full reindex, returning the generation of the documents written from now on.
+     * Generations are assigned by the index on write, never by the caller's clock.
+     * Existing documents stay searchable until the reindex is completed.
+     *
+     * Indexers without generations clear the index and return null.
+     */
+    public default String beginReindex() {
+        clearIndex();
+        return null;
+    }
+
+    /**
+     * Complete a full reindex by removing the documents older than the given generation
+     */
+    public default void completeReindex(String generation) {}
+
+    /**
+     * Start time of the last fully successful reindex pass, as stored in the index,
+     * or null when none is stored or not supported
+     */
+    public default Instant getMark() {
+        return null;
+    }
+
+    /**
+     * Store the start time of a fully successful reindex pass in the index
+     */
+    public default void setMark(Instant mark) throws StoreException {}
+
+    /**
+     * Ids of all indexed documents, or null when not supported
+     */
+    public default Set<String> listIds() {
+        return null;
+    }
+
+    /**
+     * Remove documents by id with a single delete
+     */
+    public default void removeAll(Collection<String> ids) throws StoreException {}
+
     @FunctionalInterface
     interface Factory {
         <T extends BaseDTO> EntityIndexer<T> build(Class<T> clazz);
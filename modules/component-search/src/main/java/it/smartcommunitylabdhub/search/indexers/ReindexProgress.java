@@ -0,0 +1,43 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.search.indexers;
+
+import java.time.Instant;
+import org.springframework.lang.Nullable;
+
+/**
+ * Progress of a full reindex for an entity type
+ */
+public record ReindexProgress(
+    String type,
+    Instant started,
+    @Nullable Instant completed,
+    long indexed,
+    int pages,
+    boolean failed
+) {
+    public boolean isRunning() {
+        return completed == null;
+    }
+}
@@ -26,7 +26,9 @@ package it.smartcommunitylabdhub.search.service;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
 import it.smartcommunitylabdhub.commons.models.base.BaseDTO;
+import it.smartcommunitylabdhub.search.indexers.ReindexProgress;
 import jakarta.validation.constraints.NotNull;
+import org.springframework.lang.Nullable;
 import org.springframework.scheduling.annotation.Async;
 
 public interface IndexableEntityService<T extends BaseDTO> {
@@ -34,4 +36,20 @@ public interface IndexableEntityService<T extends BaseDTO> {
 
     @Async
     public void reindexAll() throws SystemException;
+
+    /**
+     * Reindex only entities changed since the mark of the last successful pass stored in the
+     * index, and drop deleted ones. Falls back to a full reindex when no mark is stored.
+     */
+    @Async
+    public default void reindexChanged() throws SystemException {
+        reindexAll();
+    }
+
+    /**
+     * Progress of the current or last reindex, if any
+     */
+    public default @Nullable ReindexProgress getReindexProgress() {
+        return null;
+    }
 }
@@ -27,11 +27,14 @@ import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.models.base.BaseDTO;
 import it.smartcommunitylabdhub.components.cloud.CloudEntityEvent;
 import it.smartcommunitylabdhub.components.websocket.UserNotificationEntityEvent;
+import it.smartcommunitylabdhub.core.outbox.EventOutbox;
 import it.smartcommunitylabdhub.core.persistence.BaseEntity;
+import it.smartcommunitylabdhub.events.EntityAction;
 import it.smartcommunitylabdhub.relationships.EntityRelationshipsManager;
 import it.smartcommunitylabdhub.search.indexers.EntityIndexer;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -58,6 +61,7 @@ public abstract class AbstractEntityListener<
 
     protected MessageChannel entityEventChannel;
     protected ApplicationEventPublisher eventPublisher;
+    protected EventOutbox outbox;
 
     protected AbstractEntityListener(Converter<E, D> converter) {
         this.converter = converter;
@@ -76,6 +80,11 @@ public abstract class AbstractEntityListener<
         this.eventPublisher = eventPublisher;
     }
 
+    @Autowired(required = false)
+    public void setOutbox(EventOutbox outbox) {
+        this.outbox = outbox;
+    }
+
     @Autowired(required = false)
     public void setIndexer(EntityIndexer<D> indexer) {
         this.indexer = indexer;
@@ -88,7 +97,10 @@ public abstract class AbstractEntityListener<
 
     protected void dispatch(EntityEvent<E> event) {
         log.debug("dispatch event for {} {}", clazz.getSimpleName(), event.getAction());
-        if (entityEventChannel != null) {
+        if (outbox != null) {
+            //already stored in the outbox with the entity, the relay will deliver it
+            log.trace("event for {} delivered via outbox", clazz.getSimpleName());
+        } else if (entityEventChannel != null) {
             entityEventChannel.send(MessageBuilder.withPayload(event).build());
         } else {
             log.warn("entityEventChannel not wired, handling event inline for {}", clazz.getSimpleName());
@@ -96,6 +108,57 @@ public abstract class AbstractEntityListener<
         }
     }
 
+    protected void dispatchAll(EntityBatchEvent<E> batch) {
+        log.debug("dispatch batch of {} events for {}", batch.getEvents().size(), clazz.getSimpleName());
+        if (outbox != null) {
+            //every event is stored in the outbox with the entities, the relay will deliver them
+            log.trace("batch for {} delivered via outbox", clazz.getSimpleName());
+        } else if (entityEventChannel != null) {
+            entityEventChannel.send(MessageBuilder.withPayload(batch).build());
+        } else {
+            log.warn("entityEventChannel not wired, handling batch inline for {}", clazz.getSimpleName());
+            handleAll(batch);
+        }
+    }
+
+    public void handleAll(EntityBatchEvent<E> batch) {
+        if (batch == null) {
+            return;
+        }
+
+        //index once, then handle every event on its own
+        indexAll(batch);
+        batch.getEvents().forEach(e -> handle(MessageBuilder.withPayload(e).build()));
+    }
+
+    /*
+     * Index created and updated entities of a batch with a single write.
+     * On errors events are left as not indexed and will be indexed one by one
+     */
+    public void indexAll(EntityBatchEvent<E> batch) {
+        if (indexer == null || batch == null) {
+            return;
+        }
+
+        List<EntityEvent<E>> events = batch
+            .getEvents()
+            .stream()
+            .filter(e -> e.getEntity() != null)
+            .filter(e -> e.getAction() == EntityAction.CREATE || e.getAction() == EntityAction.UPDATE)
+            .toList();
+        if (events.isEmpty()) {
+            return;
+        }
+
+        try {
+            log.debug("index {} documents for {}", events.size(), clazz.getSimpleName());
+            indexer.indexAll(events.stream().map(e -> convert(e)).toList());
+            events.forEach(e -> e.setIndexed(true));
+        } catch (Exception e) {
+            log.error("error with indexer: {}", e.getMessage());
+        }
+    }
+
     public void handle(Message<EntityEvent<E>> message) {
         if (message == null) {
             return;
@@ -117,13 +180,15 @@ public abstract class AbstractEntityListener<
             return;
         }
 
-        D dto = converter.convert(entity);
+        D dto = convert(event);
         switch (event.getAction()) {
             case CREATE: {
+                index(event, dto);
                 onCreate(entity, dto);
                 break;
             }
             case UPDATE: {
+                index(event, dto);
                 onUpdate(entity, dto);
                 break;
             }
@@ -149,7 +214,7 @@ public abstract class AbstractEntityListener<
                 return;
             }
 
-            D dto = converter.convert(entity);
+            D dto = convert(event);
 
             log.debug("publish cloud event: {} for {} {}", event.getAction(), clazz.getSimpleName(), dto.getId());
             CloudEntityEvent<D> cloud = new CloudEntityEvent<>(dto, dtoClazz, event.getAction());
@@ -174,7 +239,7 @@ public abstract class AbstractEntityListener<
                 return;
             }
 
-            D dto = converter.convert(entity);
+            D dto = convert(event);
 
             log.debug("publish notify event: {} for {} {}", event.getAction(), dtoClazz.getSimpleName(), dto.getId());
             UserNotificationEntityEvent<D> cloud = new UserNotificationEntityEvent<>(
@@ -191,10 +256,23 @@ public abstract class AbstractEntityListener<
         }
     }
 
-    protected void onCreate(E entity, D dto) {
-        log.debug("onCreate for {}", entity.getId());
-        // index
-        if (indexer != null) {
+    /*
+     * Convert the event entity once per event: handle, broadcast and notify share the dto
+     */
+    @SuppressWarnings("unchecked")
+    protected D convert(EntityEvent<E> event) {
+        Object dto = event.getDto();
+        if (!dtoClazz.isInstance(dto)) {
+            dto = converter.convert(event.getEntity());
+            event.setDto(dto);
+        }
+
+        return (D) dto;
+    }
+
+    protected void index(EntityEvent<E> event, D dto) {
+        //skip entities already indexed with their batch
+        if (indexer != null && !event.isIndexed()) {
             try {
                 log.debug("index document with id {}", dto.getId());
                 indexer.index(dto);
@@ -202,7 +280,10 @@ public abstract class AbstractEntityListener<
                 log.error("error with solr: {}", e.getMessage());
             }
         }
+    }
 
+    protected void onCreate(E entity, D dto) {
+        log.debug("onCreate for {}", entity.getId());
         // relationships
         if (relationshipsManager != null) {
             try {
@@ -216,16 +297,6 @@ public abstract class AbstractEntityListener<
 
     protected void onUpdate(E entity, D dto) {
         log.debug("onUpdate for {}", entity.getId());
-        // index
-        if (indexer != null) {
-            try {
-                log.debug("index document with id {}", dto.getId());
-                indexer.index(dto);
-            } catch (Exception e) {
-                log.error("error with solr: {}", e.getMessage());
-            }
-        }
-
         // relationships
         if (relationshipsManager != null) {
             try {
@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.events;
+
+import it.smartcommunitylabdhub.core.persistence.BaseEntity;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+import org.springframework.util.Assert;
+
+/**
+ * Events for the entities written by a single batch, in write order.
+ * Listeners can handle shared work (e.g. indexing) once for the whole batch.
+ */
+public class EntityBatchEvent<T extends BaseEntity> extends ApplicationEvent implements ResolvableTypeProvider {
+
+    private final List<EntityEvent<T>> events;
+
+    public EntityBatchEvent(List<EntityEvent<T>> events) {
+        super(events);
+        Assert.notEmpty(events, "events can not be empty");
+        this.events = Collections.unmodifiableList(new ArrayList<>(events));
+    }
+
+    public List<EntityEvent<T>> getEvents() {
+        return events;
+    }
+
+    @Override
+    public ResolvableType getResolvableType() {
+        return ResolvableType.forClassWithGenerics(
+            getClass(),
+            ResolvableType.forInstance(this.events.get(0).getEntity())
+        );
+    }
+}
@@ -36,6 +36,12 @@ public class EntityEvent<T extends BaseEntity> extends ApplicationEvent implemen
     private final T entity;
     private final T prev;
 
+    //converted dto memoized for the current dispatch, never serialized
+    private transient Object dto;
+
+    //set when the entity was already indexed with its batch
+    private transient boolean indexed;
+
     public EntityEvent(T entity, EntityAction action) {
         super(entity);
         Assert.notNull(action, "action can not be null");
@@ -64,6 +70,22 @@ public class EntityEvent<T extends BaseEntity> extends ApplicationEvent implemen
         return prev;
     }
 
+    Object getDto() {
+        return dto;
+    }
+
+    void setDto(Object dto) {
+        this.dto = dto;
+    }
+
+    boolean isIndexed() {
+        return indexed;
+    }
+
+    void setIndexed(boolean indexed) {
+        this.indexed = indexed;
+    }
+
     @Override
     public ResolvableType getResolvableType() {
         return ResolvableType.forClassWithGenerics(getClass(), ResolvableType.forInstance(this.entity));
@@ -28,7 +28,6 @@ import it.smartcommunitylabdhub.commons.infrastructure.Effect;
 import it.smartcommunitylabdhub.commons.infrastructure.EffectRegistry;
 import it.smartcommunitylabdhub.commons.infrastructure.Processor;
 import it.smartcommunitylabdhub.commons.infrastructure.ProcessorRegistry;
-import it.smartcommunitylabdhub.commons.jackson.JacksonMapper;
 import it.smartcommunitylabdhub.commons.lifecycle.LifecycleEvent;
 import it.smartcommunitylabdhub.commons.models.base.BaseDTO;
 import it.smartcommunitylabdhub.commons.models.metadata.Metadata;
@@ -47,7 +46,6 @@ import it.smartcommunitylabdhub.lifecycle.AbstractLifecycleManager;
 import it.smartcommunitylabdhub.lifecycle.LifecycleManager;
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
-import java.io.IOException;
 import java.io.Serializable;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -448,16 +446,24 @@ public abstract class BaseLifecycleManager<D extends BaseDTO & SpecDTO & StatusD
         @Nullable I input
     ) {
         try {
-            //safeguard dto from side effects by deep cloning it for each processor
-            D cd = JacksonMapper.deepClone(dto, typeClass);
+            //safeguard dto from side effects with a copy-on-write view for each processor
+            D cd = view(dto);
             Spec s = processor.process(stage, cd, input);
             return s != null ? s.toMap() : null;
-        } catch (IOException | CoreRuntimeException e) {
+        } catch (CoreRuntimeException e) {
             log.error("Error processing stage {} for {}", stage, dto.getId(), e);
             return null;
         }
     }
 
+    /**
+     * Build a shallow copy of the dto with copy-on-write maps: processors and effects can read
+     * and modify it without affecting the original, and only touched sections are copied.
+     */
+    protected D view(D dto) {
+        return CopyOnWriteMap.view(dto, typeClass);
+    }
+
     protected <I extends Serializable> I effectSaga(
         @NotNull D dto,
         @NotNull String state,
@@ -473,13 +479,13 @@ public abstract class BaseLifecycleManager<D extends BaseDTO & SpecDTO & StatusD
         for (Effect<D> effect : effectRegistry.getEffects(stage)) {
             final I currentOutput = output;
             try {
-                //safeguard dto from side effects by deep cloning it for each effect
+                //safeguard dto from side effects with a copy-on-write view for each effect
                 I o = CompletableFuture.supplyAsync(
                     () -> {
                         try {
-                            D cd = JacksonMapper.deepClone(dto, typeClass);
+                            D cd = view(dto);
                             return effect.process(stage, cd, currentOutput);
-                        } catch (IOException | CoreRuntimeException e) {
+                        } catch (CoreRuntimeException e) {
                             throw new CompletionException(e);
                         }
                     },
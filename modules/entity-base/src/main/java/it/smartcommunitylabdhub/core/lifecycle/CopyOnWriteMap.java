@@ -0,0 +1,208 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.lifecycle;
+
+import it.smartcommunitylabdhub.commons.exceptions.CoreRuntimeException;
+import java.beans.PropertyDescriptor;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeansException;
+
+/**
+ * Copy-on-write view over a map, the source is never modified.
+ *
+ * Reads go to the source until a write or an access to a nested container: at that
+ * point this level is copied and nested maps are replaced by views of their own, so
+ * that copies are shallow and made only for the levels actually touched.
+ */
+public class CopyOnWriteMap extends AbstractMap<String, Serializable> implements Serializable {
+
+    private final transient Map<String, Serializable> source;
+    private Map<String, Serializable> map;
+
+    public CopyOnWriteMap(Map<String, Serializable> source) {
+        this.source = source != null ? source : Map.of();
+    }
+
+    public static CopyOnWriteMap of(Map<String, Serializable> source) {
+        return source != null ? new CopyOnWriteMap(source) : null;
+    }
+
+    /**
+     * Protect a value from modifications: maps are wrapped as views, collections are copied
+     * with protected elements, other values are returned as-is.
+     */
+    @SuppressWarnings("unchecked")
+    public static Object protect(Object value) {
+        if (value instanceof Map) {
+            return new CopyOnWriteMap((Map<String, Serializable>) value);
+        }
+        if (value instanceof List) {
+            List<Object> list = new ArrayList<>(((List<?>) value).size());
+            ((List<?>) value).forEach(v -> list.add(protect(v)));
+            return list;
+        }
+        if (value instanceof Set) {
+            Set<Object> set = new LinkedHashSet<>();
+            ((Set<?>) value).forEach(v -> set.add(protect(v)));
+            return set;
+        }
+
+        return value;
+    }
+
+    /**
+     * Build a shallow copy of a bean where every read/write property is protected: the copy can
+     * be freely modified without side effects on the original.
+     */
+    public static <T> T view(T bean, Class<T> clazz) {
+        if (bean == null) {
+            return null;
+        }
+
+        try {
+            T view = BeanUtils.instantiateClass(clazz);
+            for (PropertyDescriptor pd : BeanUtils.getPropertyDescriptors(clazz)) {
+                if (pd.getReadMethod() == null || pd.getWriteMethod() == null) {
+                    continue;
+                }
+
+                Object value = pd.getReadMethod().invoke(bean);
+                Object protectedValue = protect(value);
+
+                //keep the original when the declared type does not accept the protected copy
+                pd
+                    .getWriteMethod()
+                    .invoke(view, pd.getPropertyType().isInstance(protectedValue) ? protectedValue : value);
+            }
+
+            return view;
+        } catch (BeansException | ReflectiveOperationException e) {
+            throw new CoreRuntimeException("error building view for " + clazz.getSimpleName(), e);
+        }
+    }
+
+    public boolean isCopied() {
+        return map != null;
+    }
+
+    private Map<String, Serializable> current() {
+        return map != null ? map : source;
+    }
+
+    private Map<String, Serializable> copy() {
+        if (map == null) {
+            Map<String, Serializable> m = new HashMap<>();
+            source.forEach((k, v) -> m.put(k, (Serializable) protect(v)));
+            map = m;
+        }
+
+        return map;
+    }
+
+    @Override
+    public int size() {
+        return current().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return current().isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return current().containsKey(key);
+    }
+
+    @Override
+    public Serializable get(Object key) {
+        Serializable value = current().get(key);
+
+        //containers are mutable: hand out protected copies only
+        return value instanceof Map || value instanceof Collection ? copy().get(key) : value;
+    }
+
+    @Override
+    public Set<Entry<String, Serializable>> entrySet() {
+        return copy().entrySet();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return copy().keySet();
+    }
+
+    @Override
+    public Collection<Serializable> values() {
+        return copy().values();
+    }
+
+    @Override
+    public Serializable put(String key, Serializable value) {
+        return copy().put(key, value);
+    }
+
+    @Override
+    public Serializable remove(Object key) {
+        return copy().remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends Serializable> m) {
+        copy().putAll(m);
+    }
+
+    @Override
+    public void clear() {
+        copy().clear();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o == this || current().equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return current().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return current().toString();
+    }
+
+    private Object writeReplace() {
+        return new HashMap<>(copy());
+    }
+}
@@ -53,6 +53,11 @@ public class AuditMetadataBuilder implements Converter<BaseEntity, AuditMetadata
         //read metadata map as-is
         Map<String, Serializable> meta = converter.convertToEntityAttribute(((MetadataEntity) entity).getMetadata());
 
+        return convert(entity, meta);
+    }
+
+    public AuditMetadata convert(@NonNull BaseEntity entity, Map<String, Serializable> meta) {
+        //build from an already decoded metadata map
         AuditMetadata metadata = AuditMetadata.from(meta);
 
         //inflate with values from entity
@@ -54,6 +54,11 @@ public class BaseMetadataBuilder implements Converter<BaseEntity, BaseMetadata>
         //read metadata map as-is
         Map<String, Serializable> meta = converter.convertToEntityAttribute(((MetadataEntity) entity).getMetadata());
 
+        return convert(entity, meta);
+    }
+
+    public BaseMetadata convert(@NonNull BaseEntity entity, Map<String, Serializable> meta) {
+        //build from an already decoded metadata map
         BaseMetadata metadata = BaseMetadata.from(meta);
 
         //inflate with values from entity
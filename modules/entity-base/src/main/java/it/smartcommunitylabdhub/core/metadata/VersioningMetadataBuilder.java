@@ -55,6 +55,11 @@ public class VersioningMetadataBuilder implements Converter<BaseEntity, Versioni
         //read metadata map as-is
         Map<String, Serializable> meta = converter.convertToEntityAttribute(((MetadataEntity) entity).getMetadata());
 
+        return convert(entity, meta);
+    }
+
+    public VersioningMetadata convert(@NonNull BaseEntity entity, Map<String, Serializable> meta) {
+        //build from an already decoded metadata map
         VersioningMetadata metadata = VersioningMetadata.from(meta);
 
         //inflate with values from entity
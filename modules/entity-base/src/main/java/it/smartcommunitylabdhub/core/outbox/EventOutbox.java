@@ -0,0 +1,164 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.outbox;
+
+import java.io.Serializable;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Durable outbox for events dispatched to the async channels.
+ *
+ * Events are serialized and stored in the outbox table, joining the current transaction
+ * when one is active: a relay will then deliver them to the named channel.
+ * Every event gets a unique id, propagated as idempotency key to consumers.
+ */
+@Slf4j
+public class EventOutbox {
+
+    private final OutboxRepository repository;
+    private final SerializingConverter serializer = new SerializingConverter();
+    private final DeserializingConverter deserializer = new DeserializingConverter();
+
+    //callback invoked once new events are visible
+    private Runnable listener;
+
+    public EventOutbox(OutboxRepository repository) {
+        Assert.notNull(repository, "repository is required");
+        this.repository = repository;
+    }
+
+    public void setListener(Runnable listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Append an event for the given channel.
+     *
+     * @param channel the destination channel name
+     * @param key the partition key, events with the same key are delivered in order
+     * @param payload the event
+     * @return the event id
+     */
+    public String append(String channel, @Nullable String key, Serializable payload) {
+        Assert.hasText(channel, "channel is required");
+        Assert.notNull(payload, "payload can not be null");
+
+        String id = UUID.randomUUID().toString().replace("-", "");
+        log.debug("append event {} for channel {} key {}", id, channel, key);
+        if (log.isTraceEnabled()) {
+            log.trace("payload: {}", payload);
+        }
+
+        OutboxEntity entity = OutboxEntity.builder()
+            .id(id)
+            .channel(channel)
+            .key(key)
+            .data(serializer.convert(payload))
+            .build();
+
+        repository.save(entity);
+
+        //wake up the relay once the row is visible
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        signal();
+                    }
+                }
+            );
+        } else {
+            signal();
+        }
+
+        return id;
+    }
+
+    /**
+     * Build a channel which appends every message sent to the outbox, for the given destination.
+     * Only the payload is stored, headers are not preserved.
+     */
+    public MessageChannel channel(String channel, Function<Object, String> partitioner) {
+        Assert.hasText(channel, "channel is required");
+        Assert.notNull(partitioner, "partitioner is required");
+
+        return new OutboxChannel(channel, partitioner);
+    }
+
+    public Object read(byte[] data) {
+        Assert.notNull(data, "data can not be null");
+        return deserializer.convert(data);
+    }
+
+    private void signal() {
+        if (listener != null) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                log.error("error signaling outbox listener: {}", e.getMessage());
+            }
+        }
+    }
+
+    private class OutboxChannel implements MessageChannel {
+
+        private final String channel;
+        private final Function<Object, String> partitioner;
+
+        public OutboxChannel(String channel, Function<Object, String> partitioner) {
+            this.channel = channel;
+            this.partitioner = partitioner;
+        }
+
+        @Override
+        public boolean send(Message<?> message, long timeout) {
+            if (message == null) {
+                return false;
+            }
+
+            if (!(message.getPayload() instanceof Serializable payload)) {
+                throw new IllegalArgumentException("payload is not serializable");
+            }
+
+            append(channel, partitioner.apply(payload), payload);
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "outbox:" + channel;
+        }
+    }
+}
@@ -0,0 +1,388 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.Assert;
+
+/**
+ * Relay delivering outbox events to their channels, with at-least-once semantics.
+ *
+ * Events are polled in batches, claimed with a lease and sent with their id as idempotency key.
+ * Consumers ack once handled: acked events are deleted, released ones are retried with backoff
+ * and moved to dead letter after the max attempts.
+ * Events sharing a key are handed over in insertion order, and never overtake an event
+ * of the same key which is waiting for a retry or leased by another instance.
+ */
+@Slf4j
+public class OutboxRelay implements SmartLifecycle {
+
+    public static final String IDEMPOTENCY_KEY = "idempotencyKey";
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final int DEFAULT_MAX_ATTEMPTS = 10;
+    private static final int DELIVERED_CACHE_SIZE = 10000;
+
+    private final EventOutbox outbox;
+    private final OutboxRepository repository;
+    private final Map<String, MessageChannel> channels;
+    private final String owner = UUID.randomUUID().toString();
+
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private Duration interval = Duration.ofSeconds(1);
+    private Duration lease = Duration.ofSeconds(30);
+    private Duration backoff = Duration.ofSeconds(1);
+
+    //events handed over and not yet acked/released, by id
+    private final Map<String, Delivery> inflight = new ConcurrentHashMap<>();
+    private final Queue<String> acked = new ConcurrentLinkedQueue<>();
+    private final Queue<Delivery> released = new ConcurrentLinkedQueue<>();
+
+    //ids acked by this instance, to skip duplicates redelivered while acks are pending.
+    //best effort: not persisted, after a restart consumers must tolerate redelivery
+    private final Set<String> delivered = Collections.newSetFromMap(
+        Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > DELIVERED_CACHE_SIZE;
+                }
+            }
+        )
+    );
+
+    private final AtomicBoolean signaled = new AtomicBoolean(false);
+    private ScheduledExecutorService executor;
+    private volatile boolean running = false;
+
+    public OutboxRelay(EventOutbox outbox, OutboxRepository repository, Map<String, MessageChannel> channels) {
+        Assert.notNull(outbox, "outbox is required");
+        Assert.notNull(repository, "repository is required");
+        Assert.notEmpty(channels, "channels are required");
+
+        this.outbox = outbox;
+        this.repository = repository;
+        this.channels = Collections.unmodifiableMap(channels);
+    }
+
+    public void setBatchSize(int batchSize) {
+        Assert.isTrue(batchSize > 0, "batch size must be positive");
+        this.batchSize = batchSize;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        Assert.isTrue(maxAttempts > 0, "max attempts must be positive");
+        this.maxAttempts = maxAttempts;
+    }
+
+    public void setInterval(Duration interval) {
+        Assert.notNull(interval, "interval can not be null");
+        this.interval = interval;
+    }
+
+    public void setLease(Duration lease) {
+        Assert.notNull(lease, "lease can not be null");
+        this.lease = lease;
+    }
+
+    public void setBackoff(Duration backoff) {
+        Assert.notNull(backoff, "backoff can not be null");
+        this.backoff = backoff;
+    }
+
+    /*
+     * Lifecycle
+     */
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+
+        log.debug("start outbox relay {}", owner);
+        executor =
+            Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "outbox-relay");
+                t.setDaemon(true);
+                return t;
+            });
+
+        //poll on new events and periodically, for retries and recovery
+        outbox.setListener(this::signal);
+        executor.scheduleWithFixedDelay(this::poll, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+
+        log.debug("stop outbox relay {}", owner);
+        running = false;
+        outbox.setListener(null);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(interval.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        //persist pending acks, unacked events will be redelivered after the lease
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        //start after consumers, stop before them
+        return Integer.MAX_VALUE;
+    }
+
+    /*
+     * Delivery
+     */
+
+    public void signal() {
+        if (running && signaled.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                signaled.set(false);
+                poll();
+            });
+        }
+    }
+
+    public boolean isDelivered(String id) {
+        return id != null && delivered.contains(id);
+    }
+
+    public void ack(String id) {
+        if (id == null) {
+            return;
+        }
+
+        log.trace("ack event {}", id);
+        delivered.add(id);
+        inflight.remove(id);
+        acked.add(id);
+    }
+
+    public void release(String id) {
+        if (id == null) {
+            return;
+        }
+
+        Delivery d = inflight.remove(id);
+        if (d != null) {
+            log.debug("release event {} after {} attempts", id, d.attempts());
+            released.add(d);
+        }
+    }
+
+    /**
+     * Run a relay pass: persist acks and releases, then deliver pending events in batches.
+     */
+    public synchronized void poll() {
+        try {
+            flush();
+
+            //keep leases for events still being processed
+            if (!inflight.isEmpty()) {
+                repository.renew(owner, Instant.now().plus(lease));
+            }
+
+            int count;
+            do {
+                count = dispatch();
+            } while (count >= batchSize);
+        } catch (RuntimeException e) {
+            log.error("error relaying outbox events: {}", e.getMessage());
+        }
+    }
+
+    protected synchronized void flush() {
+        List<String> ids = new ArrayList<>();
+        String id;
+        while ((id = acked.poll()) != null) {
+            ids.add(id);
+        }
+
+        Delivery d;
+        while ((d = released.poll()) != null) {
+            if (d.attempts() >= maxAttempts) {
+                log.error("dead letter event {} for {} after {} attempts", d.id(), d.channel(), d.attempts());
+                repository.deadLetter(d.id(), owner);
+            } else {
+                repository.release(d.id(), owner, Instant.now().plus(delay(d.attempts())));
+            }
+        }
+
+        if (!ids.isEmpty()) {
+            log.trace("delete {} delivered events", ids.size());
+            repository.delete(ids);
+        }
+    }
+
+    private int dispatch() {
+        Instant now = Instant.now();
+        List<OutboxEntity> pending = repository.findPending(owner, batchSize);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        //keys with events waiting for a retry can not move forward
+        Set<String> blocked = new HashSet<>();
+        released.forEach(d -> {
+            if (d.key() != null) {
+                blocked.add(d.key());
+            }
+        });
+
+        List<OutboxEntity> eligible = new ArrayList<>();
+        for (OutboxEntity e : pending) {
+            String key = e.getKey();
+            if (key != null && blocked.contains(key)) {
+                continue;
+            }
+
+            boolean leased = e.getLockedUntil() != null && e.getLockedUntil().toInstant().isAfter(now);
+            boolean waiting = e.getNextAttempt() != null && e.getNextAttempt().toInstant().isAfter(now);
+            if (leased || waiting) {
+                if (key != null) {
+                    blocked.add(key);
+                }
+
+                continue;
+            }
+
+            eligible.add(e);
+        }
+
+        List<String> claimed = repository.claim(
+            eligible.stream().map(OutboxEntity::getId).toList(),
+            owner,
+            now.plus(lease)
+        );
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        log.debug("relay {} outbox events", claimed.size());
+        Set<String> ids = new HashSet<>(claimed);
+        Map<String, byte[]> data = repository.findData(claimed);
+
+        for (OutboxEntity e : eligible) {
+            if (!ids.contains(e.getId())) {
+                continue;
+            }
+
+            Delivery d = new Delivery(e.getId(), e.getChannel(), e.getKey(), e.getAttempts() + 1);
+            if (d.key() != null && isReleased(d.key())) {
+                //keep order: wait for the previous event
+                inflight.put(d.id(), d);
+                release(d.id());
+                continue;
+            }
+
+            send(d, data.get(d.id()));
+        }
+
+        return claimed.size();
+    }
+
+    private boolean send(Delivery d, byte[] bytes) {
+        MessageChannel channel = channels.get(d.channel());
+        if (channel == null) {
+            log.warn("no channel {} for event {}", d.channel(), d.id());
+            inflight.put(d.id(), d);
+            release(d.id());
+            return false;
+        }
+
+        Object payload;
+        try {
+            payload = outbox.read(bytes);
+        } catch (RuntimeException ex) {
+            //can not be delivered, ever
+            log.error("error reading event {} for {}: {}", d.id(), d.channel(), ex.getMessage());
+            acked.add(d.id());
+            return true;
+        }
+
+        Message<Object> message = MessageBuilder.withPayload(payload).setHeader(IDEMPOTENCY_KEY, d.id()).build();
+        inflight.put(d.id(), d);
+        try {
+            if (!channel.send(message)) {
+                release(d.id());
+                return false;
+            }
+
+            return true;
+        } catch (RuntimeException ex) {
+            //ex. executor queue full, retry later
+            log.warn("error sending event {} to {}: {}", d.id(), d.channel(), ex.getMessage());
+            release(d.id());
+            return false;
+        }
+    }
+
+    private boolean isReleased(String key) {
+        return released.stream().anyMatch(d -> key.equals(d.key()));
+    }
+
+    private Duration delay(int attempts) {
+        //exponential backoff, capped
+        long factor = 1L << Math.min(Math.max(attempts - 1, 0), 8);
+        return backoff.multipliedBy(factor);
+    }
+
+    private record Delivery(String id, String channel, String key, int attempts) {}
+}
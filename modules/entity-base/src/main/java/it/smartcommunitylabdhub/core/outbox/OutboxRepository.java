@@ -0,0 +1,241 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.outbox;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.support.SqlLobValue;
+import org.springframework.util.Assert;
+
+/**
+ * Jdbc access to the events outbox table.
+ *
+ * Writes go through the datasource bound to the current transaction (if any),
+ * so that an event appended while persisting an entity commits or rolls back with it.
+ */
+public class OutboxRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO outbox_events (id, _channel, _key, created, attempts, _data) VALUES (?, ?, ?, ?, 0, ?)";
+    //events free to deliver, excluding those queued behind a leased or waiting event of the same key
+    private static final String SELECT_PENDING_SQL =
+        "SELECT e.id, e.seq, e._channel, e._key, e.created, e.attempts, e.next_attempt, e.owner, e.locked_until " +
+        "FROM outbox_events e WHERE (e.dead_letter IS NULL OR e.dead_letter = FALSE) " +
+        "AND (e.owner IS NULL OR e.owner <> ?) " +
+        "AND (e.locked_until IS NULL OR e.locked_until < ?) " +
+        "AND (e.next_attempt IS NULL OR e.next_attempt <= ?) " +
+        "AND (e._key IS NULL OR NOT EXISTS (SELECT 1 FROM outbox_events b " +
+        "WHERE b._key = e._key AND b.seq < e.seq AND (b.dead_letter IS NULL OR b.dead_letter = FALSE) " +
+        "AND ((b.locked_until >= ? AND (b.owner IS NULL OR b.owner <> ?)) OR b.next_attempt > ?))) " +
+        "ORDER BY e.seq ASC LIMIT ?";
+    private static final String SELECT_DATA_SQL = "SELECT id, _data FROM outbox_events WHERE id IN (:ids)";
+    private static final String CLAIM_SQL =
+        "UPDATE outbox_events SET owner = ?, locked_until = ?, attempts = attempts + 1 " +
+        "WHERE id = ? AND (locked_until IS NULL OR locked_until < ?)";
+    private static final String RENEW_SQL = "UPDATE outbox_events SET locked_until = ? WHERE owner = ?";
+    private static final String RELEASE_SQL =
+        "UPDATE outbox_events SET owner = NULL, locked_until = NULL, next_attempt = ? WHERE id = ? AND owner = ?";
+    private static final String DEAD_LETTER_SQL =
+        "UPDATE outbox_events SET dead_letter = TRUE, owner = NULL, locked_until = NULL WHERE id = ? AND owner = ?";
+    private static final String COUNT_DEAD_LETTER_SQL = "SELECT COUNT(*) FROM outbox_events WHERE dead_letter = TRUE";
+    private static final String DELETE_SQL = "DELETE FROM outbox_events WHERE id = ?";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM outbox_events";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final RowMapper<OutboxEntity> rowMapper;
+
+    public OutboxRepository(DataSource dataSource) {
+        Assert.notNull(dataSource, "DataSource required");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+
+        this.rowMapper = new OutboxEntityRowMapper();
+    }
+
+    public void save(OutboxEntity entity) {
+        if (entity == null || entity.getId() == null || entity.getChannel() == null) {
+            throw new IllegalArgumentException("invalid data");
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        SqlLobValue lob = new SqlLobValue(entity.getData());
+
+        jdbcTemplate.update(
+            INSERT_SQL,
+            new Object[] { entity.getId(), entity.getChannel(), entity.getKey(), now, lob },
+            new int[] { Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.BLOB }
+        );
+    }
+
+    /**
+     * List the oldest events ready for delivery, in insertion order: events leased, waiting for a retry
+     * or dead lettered are skipped, as well as events with the same key queued behind them.
+     * Events leased by the given owner do not block later ones. Payloads are not loaded.
+     */
+    public List<OutboxEntity> findPending(String owner, int limit) {
+        Assert.hasText(owner, "owner is required");
+
+        Timestamp now = Timestamp.from(Instant.now());
+        return jdbcTemplate.query(
+            SELECT_PENDING_SQL,
+            new Object[] { owner, now, now, now, owner, now, limit },
+            new int[] {
+                Types.VARCHAR,
+                Types.TIMESTAMP,
+                Types.TIMESTAMP,
+                Types.TIMESTAMP,
+                Types.VARCHAR,
+                Types.TIMESTAMP,
+                Types.INTEGER,
+            },
+            rowMapper
+        );
+    }
+
+    public Map<String, byte[]> findData(Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, byte[]> data = new HashMap<>();
+        namedJdbcTemplate.query(
+            SELECT_DATA_SQL,
+            new MapSqlParameterSource("ids", ids),
+            rs -> {
+                data.put(rs.getString("id"), rs.getBytes("_data"));
+            }
+        );
+
+        return data;
+    }
+
+    /**
+     * Claim events for the given owner until the lease expires.
+     * Events leased by someone else are skipped.
+     *
+     * @return the ids effectively claimed
+     */
+    public List<String> claim(List<String> ids, String owner, Instant until) {
+        Assert.hasText(owner, "owner is required");
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        Timestamp lease = Timestamp.from(until);
+        List<Object[]> args = ids.stream().map(id -> new Object[] { owner, lease, id, now }).toList();
+        int[] counts = jdbcTemplate.batchUpdate(
+            CLAIM_SQL,
+            args,
+            new int[] { Types.VARCHAR, Types.TIMESTAMP, Types.VARCHAR, Types.TIMESTAMP }
+        );
+
+        List<String> claimed = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            //some drivers report success without counts
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                claimed.add(ids.get(i));
+            }
+        }
+
+        return claimed;
+    }
+
+    public int renew(String owner, Instant until) {
+        Assert.hasText(owner, "owner is required");
+        return jdbcTemplate.update(RENEW_SQL, Timestamp.from(until), owner);
+    }
+
+    public void release(String id, String owner, Instant nextAttempt) {
+        Assert.hasText(owner, "owner is required");
+        jdbcTemplate.update(RELEASE_SQL, nextAttempt != null ? Timestamp.from(nextAttempt) : null, id, owner);
+    }
+
+    /**
+     * Park an event which can not be delivered, keeping it for inspection
+     */
+    public void deadLetter(String id, String owner) {
+        Assert.hasText(owner, "owner is required");
+        jdbcTemplate.update(DEAD_LETTER_SQL, id, owner);
+    }
+
+    public long countDeadLetters() {
+        Long count = jdbcTemplate.queryForObject(COUNT_DEAD_LETTER_SQL, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    public void delete(Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(DELETE_SQL, ids.stream().map(id -> new Object[] { id }).toList());
+    }
+
+    public long count() {
+        Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    private class OutboxEntityRowMapper implements RowMapper<OutboxEntity> {
+
+        @Override
+        public OutboxEntity mapRow(ResultSet rs, int rowNum) throws SQLException {
+            String id = rs.getString("id");
+            String channel = rs.getString("_channel");
+
+            if (id == null || channel == null) {
+                return null;
+            }
+
+            return OutboxEntity.builder()
+                .id(id)
+                .seq(rs.getLong("seq"))
+                .channel(channel)
+                .key(rs.getString("_key"))
+                .created(rs.getTimestamp("created"))
+                .attempts(rs.getInt("attempts"))
+                .nextAttempt(rs.getTimestamp("next_attempt"))
+                .owner(rs.getString("owner"))
+                .lockedUntil(rs.getTimestamp("locked_until"))
+                .build();
+        }
+    }
+}
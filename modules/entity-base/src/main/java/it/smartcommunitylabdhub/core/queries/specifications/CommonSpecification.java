@@ -26,12 +26,23 @@ package it.smartcommunitylabdhub.core.queries.specifications;
 import it.smartcommunitylabdhub.commons.Fields;
 import it.smartcommunitylabdhub.core.persistence.AbstractEntity_;
 import it.smartcommunitylabdhub.core.persistence.BaseEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
+import java.util.Collection;
+import java.util.Date;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 
 public class CommonSpecification {
 
+    public static <T extends BaseEntity> Specification<T> idIn(Collection<String> ids) {
+        return (root, query, criteriaBuilder) -> {
+            return root.get(AbstractEntity_.ID).in(ids);
+        };
+    }
+
     public static <T extends BaseEntity> Specification<T> projectEquals(String project) {
         return (root, query, criteriaBuilder) -> {
             return criteriaBuilder.equal(root.get(AbstractEntity_.PROJECT), project);
@@ -56,6 +67,12 @@ public class CommonSpecification {
         };
     }
 
+    public static <T extends BaseEntity> Specification<T> nameIn(Collection<String> names) {
+        return (root, query, criteriaBuilder) -> {
+            return root.get(Fields.NAME).in(names);
+        };
+    }
+
     public static <T extends BaseEntity> Specification<T> kindEquals(String kind) {
         return (root, query, criteriaBuilder) -> {
             return criteriaBuilder.equal(root.get(AbstractEntity_.KIND), kind);
@@ -63,33 +80,17 @@ public class CommonSpecification {
     }
 
     public static <T extends BaseEntity> Specification<T> latest() {
+        //latest version per project and name: no newer version exists
         return (root, query, criteriaBuilder) -> {
-            Subquery<Number> subquery = query.subquery(Number.class);
-            Root<T> subqueryRoot = (Root<T>) subquery.from(root.getJavaType());
-
-            subquery.select(criteriaBuilder.max(subqueryRoot.get(AbstractEntity_.CREATED)));
-            subquery.where(criteriaBuilder.equal(subqueryRoot.get(Fields.NAME), root.get(Fields.NAME)));
-            subquery.groupBy(subqueryRoot.get(Fields.NAME), subqueryRoot.get(AbstractEntity_.PROJECT));
-
-            return criteriaBuilder.and(criteriaBuilder.in(root.get(AbstractEntity_.CREATED)).value(subquery));
+            return criteriaBuilder.not(criteriaBuilder.exists(newer(root, query, criteriaBuilder)));
         };
     }
 
     public static <T extends BaseEntity> Specification<T> latestByProject(String project) {
         return (root, query, criteriaBuilder) -> {
-            Subquery<Number> subquery = query.subquery(Number.class);
-            Root<T> subqueryRoot = (Root<T>) subquery.from(root.getJavaType());
-
-            subquery.select(criteriaBuilder.max(subqueryRoot.get(AbstractEntity_.CREATED)));
-            subquery.where(
-                criteriaBuilder.equal(subqueryRoot.get(AbstractEntity_.PROJECT), project),
-                criteriaBuilder.equal(subqueryRoot.get(Fields.NAME), root.get(Fields.NAME))
-            );
-            subquery.groupBy(subqueryRoot.get(Fields.NAME), subqueryRoot.get(AbstractEntity_.PROJECT));
-
             return criteriaBuilder.and(
                 criteriaBuilder.equal(root.get(AbstractEntity_.PROJECT), project),
-                criteriaBuilder.in(root.get(AbstractEntity_.CREATED)).value(subquery)
+                criteriaBuilder.not(criteriaBuilder.exists(newer(root, query, criteriaBuilder)))
             );
         };
     }
@@ -113,5 +114,55 @@ public class CommonSpecification {
         };
     }
 
+    public static <T extends BaseEntity> Specification<T> after(Date created, String id, Direction direction) {
+        //keyset position: strictly after (created, id) in the given order
+        return (root, query, criteriaBuilder) -> {
+            if (direction == Direction.ASC) {
+                return criteriaBuilder.or(
+                    criteriaBuilder.greaterThan(root.<Date>get(AbstractEntity_.CREATED), created),
+                    criteriaBuilder.and(
+                        criteriaBuilder.equal(root.get(AbstractEntity_.CREATED), created),
+                        criteriaBuilder.greaterThan(root.<String>get(Fields.ID), id)
+                    )
+                );
+            }
+
+            return criteriaBuilder.or(
+                criteriaBuilder.lessThan(root.<Date>get(AbstractEntity_.CREATED), created),
+                criteriaBuilder.and(
+                    criteriaBuilder.equal(root.get(AbstractEntity_.CREATED), created),
+                    criteriaBuilder.lessThan(root.<String>get(Fields.ID), id)
+                )
+            );
+        };
+    }
+
+    /*
+     * Anti-join on versions newer than root within the same project and name.
+     * Resolved as an index seek on (project, name, created) instead of grouping
+     * every version, on every supported database.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends BaseEntity> Subquery<Integer> newer(
+        Root<T> root,
+        CriteriaQuery<?> query,
+        CriteriaBuilder criteriaBuilder
+    ) {
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        Root<T> subqueryRoot = (Root<T>) subquery.from(root.getJavaType());
+
+        subquery.select(criteriaBuilder.literal(1));
+        subquery.where(
+            criteriaBuilder.equal(subqueryRoot.get(AbstractEntity_.PROJECT), root.get(AbstractEntity_.PROJECT)),
+            criteriaBuilder.equal(subqueryRoot.get(Fields.NAME), root.get(Fields.NAME)),
+            criteriaBuilder.greaterThan(
+                subqueryRoot.<Date>get(AbstractEntity_.CREATED),
+                root.<Date>get(AbstractEntity_.CREATED)
+            )
+        );
+
+        return subquery;
+    }
+
     private CommonSpecification() {}
 }
@@ -104,36 +104,45 @@ public class BaseDTOBuilder<E extends BaseEntity, D extends BaseDTO> implements
 
         D dto = mapper.convertValue(map, clazz);
 
+        //sections are decoded lazily, on first access
         //metadata is optional
         if (dto instanceof MetadataDTO metadataDto && entity instanceof MetadataEntity metadataEntity) {
-            //read metadata map as-is
-            Map<String, Serializable> meta = converter.convertToEntityAttribute(metadataEntity.getMetadata());
-
-            // build metadata
-            Map<String, Serializable> metadata = new HashMap<>();
-            metadata.putAll(meta);
-
-            Optional.ofNullable(baseMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
-            Optional.ofNullable(auditingMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
-            Optional.ofNullable(versioningMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
-
-            metadataDto.setMetadata(metadata);
+            byte[] source = metadataEntity.getMetadata();
+            metadataDto.setMetadata(
+                LazyMap.of(() -> buildMetadata(entity, converter.convertToEntityAttribute(source)))
+            );
         }
 
         //spec is optional
         if (dto instanceof SpecDTO specDto && entity instanceof SpecEntity specEntity) {
-            specDto.setSpec(converter.convertToEntityAttribute(specEntity.getSpec()));
+            specDto.setSpec(LazyMap.of(specEntity.getSpec(), converter));
         }
 
         //status is optional
         if (dto instanceof StatusDTO statusDto && entity instanceof StatusEntity statusEntity) {
-            Map<String, Serializable> status = MapUtils.mergeMultipleMaps(
-                converter.convertToEntityAttribute(statusEntity.getStatus()),
-                Map.of("state", statusEntity.getState())
+            byte[] source = statusEntity.getStatus();
+            Map<String, Serializable> state = Map.of("state", statusEntity.getState());
+            statusDto.setStatus(
+                LazyMap.of(() -> MapUtils.mergeMultipleMaps(converter.convertToEntityAttribute(source), state))
             );
-            statusDto.setStatus(status);
         }
 
         return dto;
     }
+
+    protected Map<String, Serializable> buildMetadata(E entity, Map<String, Serializable> meta) {
+        // build metadata from the map decoded once
+        Map<String, Serializable> metadata = new HashMap<>();
+        if (meta != null) {
+            metadata.putAll(meta);
+        }
+
+        Optional.ofNullable(baseMetadataBuilder.convert(entity, meta)).ifPresent(m -> metadata.putAll(m.toMap()));
+        Optional.ofNullable(auditingMetadataBuilder.convert(entity, meta)).ifPresent(m -> metadata.putAll(m.toMap()));
+        Optional.ofNullable(versioningMetadataBuilder.convert(entity, meta)).ifPresent(m ->
+            metadata.putAll(m.toMap())
+        );
+
+        return metadata;
+    }
 }
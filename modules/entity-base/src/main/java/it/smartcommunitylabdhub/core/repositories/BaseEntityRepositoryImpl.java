@@ -26,25 +26,48 @@ package it.smartcommunitylabdhub.core.repositories;
 import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
+import it.smartcommunitylabdhub.commons.locks.LockRegistry;
+import it.smartcommunitylabdhub.commons.locks.VersionedLock;
 import it.smartcommunitylabdhub.commons.models.base.BaseDTO;
+import it.smartcommunitylabdhub.commons.models.queries.CursorPage;
+import it.smartcommunitylabdhub.commons.models.queries.CursorPageable;
+import it.smartcommunitylabdhub.commons.models.queries.SummaryPageable;
+import it.smartcommunitylabdhub.core.events.EntityBatchEvent;
 import it.smartcommunitylabdhub.core.events.EntityEvent;
+import it.smartcommunitylabdhub.core.outbox.EventOutbox;
 import it.smartcommunitylabdhub.core.persistence.AbstractEntity;
 import it.smartcommunitylabdhub.core.persistence.BaseEntity;
+import it.smartcommunitylabdhub.core.persistence.MetadataEntity;
+import it.smartcommunitylabdhub.core.queries.specifications.CommonSpecification;
 import it.smartcommunitylabdhub.events.EntityAction;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.Attribute.PersistentAttributeType;
 import jakarta.validation.constraints.NotNull;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
@@ -60,7 +83,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
-import org.springframework.data.util.Pair;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.security.crypto.keygen.StringKeyGenerator;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
@@ -76,6 +100,24 @@ public abstract class BaseEntityRepositoryImpl<
 
     public static final int PAGE_MAX_SIZE = 1000;
     public static final int DEFAULT_TIMEOUT = 30;
+    public static final int READ_ATTEMPTS = 3;
+    public static final String EVENTS_CHANNEL = "entityEventQueueChannel";
+    public static final Set<String> SUMMARY_ATTRIBUTES = Set.of(
+        "id",
+        "kind",
+        "project",
+        "name",
+        "state",
+        "created",
+        "updated",
+        "createdBy",
+        "updatedBy"
+    );
+
+    //empty metadata for summaries, builders still inflate headers into metadata
+    private static final byte[] EMPTY_METADATA = new MapToCborAttributeConverter()
+        .convertToDatabaseColumn(new HashMap<>());
+
     protected JpaRepository<E, String> repository;
 
     protected final Class<D> type;
@@ -86,12 +128,13 @@ public abstract class BaseEntityRepositoryImpl<
 
     private StringKeyGenerator keyGenerator = () -> UUID.randomUUID().toString().replace("-", "");
     private ApplicationEventPublisher eventPublisher;
+    private EventOutbox outbox;
     private TransactionTemplate transactionTemplate;
 
     @PersistenceContext
     private EntityManager entityManager;
 
-    private Map<String, Pair<ReentrantLock, Instant>> locks = new ConcurrentHashMap<>();
+    private final LockRegistry locks = new LockRegistry();
     private int timeout = DEFAULT_TIMEOUT;
 
     @SuppressWarnings("unchecked")
@@ -172,6 +215,11 @@ public abstract class BaseEntityRepositoryImpl<
         this.eventPublisher = eventPublisher;
     }
 
+    @Autowired(required = false)
+    public void setOutbox(EventOutbox outbox) {
+        this.outbox = outbox;
+    }
+
     @Autowired
     public void setTransactionManager(PlatformTransactionManager transactionManager) {
         if (transactionManager == null) {
@@ -208,14 +256,8 @@ public abstract class BaseEntityRepositoryImpl<
         this.timeout = t;
     }
 
-    private synchronized ReentrantLock getLock(String id) {
-        //build lock
-        ReentrantLock l = locks.containsKey(id) ? locks.get(id).getFirst() : new ReentrantLock();
-
-        //update last used date
-        locks.put(id, Pair.of(l, Instant.now()));
-
-        return l;
+    private VersionedLock getLock(String id) {
+        return locks.get(id);
     }
 
     /*
@@ -253,9 +295,10 @@ public abstract class BaseEntityRepositoryImpl<
         String id = entity.getId();
         final E toSave = entity;
 
+        VersionedLock lock = getLock(id);
         try {
             //acquire write lock BEFORE starting the transaction to avoid holding a connection while waiting
-            if (!getLock(id).tryLock(timeout, TimeUnit.SECONDS)) {
+            if (!lock.tryLock(timeout, TimeUnit.SECONDS)) {
                 log.warn("Lock timeout on create for id {}", id);
                 throw new StoreException("unable to acquire lock for create " + id);
             }
@@ -277,6 +320,11 @@ public abstract class BaseEntityRepositoryImpl<
                             log.trace("event: {}", String.valueOf(event));
                         }
 
+                        if (outbox != null) {
+                            //persist within the transaction, the relay delivers after commit
+                            outbox.append(EVENTS_CHANNEL, event.getEntity().getId(), event);
+                        }
+
                         eventPublisher.publishEvent(event);
                     }
 
@@ -296,7 +344,7 @@ public abstract class BaseEntityRepositoryImpl<
             } catch (DataIntegrityViolationException ex) {
                 throw new DuplicatedEntityException(type, id);
             } finally {
-                getLock(id).unlock();
+                lock.unlock();
             }
         } catch (InterruptedException e) {
             log.error("Thread interrupted waiting for create lock on id {}", id);
@@ -312,9 +360,10 @@ public abstract class BaseEntityRepositoryImpl<
             log.trace("dto: {}", dto);
         }
 
+        VersionedLock lock = getLock(id);
         try {
             //acquire write lock BEFORE starting the transaction to avoid holding a connection while waiting
-            if (!getLock(id).tryLock(timeout, TimeUnit.SECONDS)) {
+            if (!lock.tryLock(timeout, TimeUnit.SECONDS)) {
                 log.warn("Lock timeout on update for id {}", id);
                 throw new StoreException("unable to acquire lock for update " + id);
             }
@@ -356,6 +405,11 @@ public abstract class BaseEntityRepositoryImpl<
                             log.trace("event: {}", String.valueOf(event));
                         }
 
+                        if (outbox != null) {
+                            //persist within the transaction, the relay delivers after commit
+                            outbox.append(EVENTS_CHANNEL, event.getEntity().getId(), event);
+                        }
+
                         eventPublisher.publishEvent(event);
                     }
 
@@ -373,7 +427,7 @@ public abstract class BaseEntityRepositoryImpl<
 
                 return res;
             } finally {
-                getLock(id).unlock();
+                lock.unlock();
             }
         } catch (InterruptedException ex) {
             log.error("Thread interrupted waiting for update lock on id {}", id);
@@ -385,9 +439,10 @@ public abstract class BaseEntityRepositoryImpl<
     @CacheEvict(cacheResolver = "resolvableTypeCacheResolver", value = "repository.find", key = "#id")
     public void delete(@NotNull String id) throws StoreException {
         log.debug("delete with id {}", id);
+        VersionedLock lock = getLock(id);
         try {
             //acquire write lock BEFORE starting the transaction to avoid holding a connection while waiting
-            if (!getLock(id).tryLock(timeout, TimeUnit.SECONDS)) {
+            if (!lock.tryLock(timeout, TimeUnit.SECONDS)) {
                 log.warn("Lock timeout on delete for id {}", id);
                 throw new StoreException("unable to acquire lock for delete " + id);
             }
@@ -417,12 +472,17 @@ public abstract class BaseEntityRepositoryImpl<
                                     log.trace("event: {}", String.valueOf(event));
                                 }
 
+                                if (outbox != null) {
+                                    //persist within the transaction, the relay delivers after commit
+                                    outbox.append(EVENTS_CHANNEL, event.getEntity().getId(), event);
+                                }
+
                                 eventPublisher.publishEvent(event);
                             }
                         })
                 );
             } finally {
-                getLock(id).unlock();
+                lock.unlock();
             }
         } catch (InterruptedException e) {
             log.error("Thread interrupted waiting for delete lock on id {}", id);
@@ -430,6 +490,189 @@ public abstract class BaseEntityRepositoryImpl<
         }
     }
 
+    /*
+     * Batch: write all entities in a single transaction with batched statements,
+     * a single batch event is published in the same transaction and delivered after commit
+     */
+    @Override
+    public List<D> createAll(@NotNull List<D> dtos) throws DuplicatedEntityException, StoreException {
+        log.debug("create all with size {}", dtos.size());
+
+        if (dtos.size() > PAGE_MAX_SIZE) {
+            throw new IllegalArgumentException("max batch size exceeded");
+        }
+
+        //build entities and generate missing ids
+        List<E> entities = new ArrayList<>();
+        for (D dto : dtos) {
+            E entity = entityBuilder.convert(dto);
+            if (entity.getId() == null) {
+                if (!(entity instanceof AbstractEntity)) {
+                    throw new StoreException("id is null");
+                }
+
+                ((AbstractEntity) entity).setId(keyGenerator.generateKey());
+            }
+
+            entities.add(entity);
+        }
+
+        //check for duplicated ids in batch and store
+        Set<String> ids = new HashSet<>();
+        for (E entity : entities) {
+            if (!ids.add(entity.getId())) {
+                throw new DuplicatedEntityException(type, entity.getId());
+            }
+        }
+
+        Optional<E> existing = repository.findAllById(ids).stream().findFirst();
+        if (existing.isPresent()) {
+            throw new DuplicatedEntityException(type, existing.get().getId());
+        }
+
+        List<VersionedLock> acquired = lockAll(ids);
+        try {
+            List<E> saved = transactionTemplate.execute(status -> {
+                //persist directly: ids are assigned, merge would select every row first
+                entities.forEach(e -> entityManager.persist(e));
+                entityManager.flush();
+
+                entities.forEach(e -> entityManager.detach(e));
+                publishAll(entities.stream().map(e -> new EntityEvent<>(e, EntityAction.CREATE)).toList());
+
+                return entities;
+            });
+
+            return saved
+                .stream()
+                .map(e -> dtoBuilder.convert(e))
+                .collect(Collectors.toList());
+        } catch (DataIntegrityViolationException ex) {
+            throw new DuplicatedEntityException(type, String.join(",", ids), ex);
+        } finally {
+            acquired.forEach(l -> l.unlock());
+        }
+    }
+
+    @Override
+    @CacheEvict(cacheResolver = "resolvableTypeCacheResolver", value = "repository.find", allEntries = true)
+    public List<D> updateAll(@NotNull List<D> dtos) throws NoSuchEntityException, StoreException {
+        log.debug("update all with size {}", dtos.size());
+
+        if (dtos.size() > PAGE_MAX_SIZE) {
+            throw new IllegalArgumentException("max batch size exceeded");
+        }
+
+        Set<String> ids = new HashSet<>();
+        for (D dto : dtos) {
+            if (dto.getId() == null || !ids.add(dto.getId())) {
+                throw new IllegalArgumentException("invalid or duplicated id " + dto.getId());
+            }
+        }
+
+        List<VersionedLock> acquired = lockAll(ids);
+        try {
+            List<E> updated = transactionTemplate.execute(status -> {
+                //load all current entities at once, they stay managed to be updated in place
+                Map<String, E> current = repository
+                    .findAllById(ids)
+                    .stream()
+                    .collect(Collectors.toMap(e -> e.getId(), e -> e));
+                if (current.size() != ids.size()) {
+                    throw new NoSuchEntityException(type);
+                }
+
+                List<E> saved = new ArrayList<>();
+                List<E> prevs = new ArrayList<>();
+                for (D dto : dtos) {
+                    E entity = current.get(dto.getId());
+
+                    //shallow snapshot of prev, fields are replaced and never modified in place
+                    E prev = BeanUtils.instantiateClass(clazz);
+                    BeanUtils.copyProperties(entity, prev);
+
+                    //build entity
+                    E e = entityBuilder.convert(dto);
+
+                    if (e instanceof AbstractEntity ae && prev instanceof AbstractEntity prevAe) {
+                        //enforce non-modifiable fields
+                        ae.setId(prevAe.getId());
+                        ae.setKind(prevAe.getKind());
+                        ae.setProject(prevAe.getProject());
+                        ae.setName(prevAe.getName());
+
+                        ae.setCreated(prevAe.getCreated());
+                        ae.setCreatedBy(prevAe.getCreatedBy());
+                    }
+
+                    saved.add(entityManager.merge(e));
+                    prevs.add(prev);
+                }
+
+                entityManager.flush();
+
+                List<EntityEvent<E>> events = new ArrayList<>();
+                for (int i = 0; i < saved.size(); i++) {
+                    entityManager.detach(saved.get(i));
+                    events.add(new EntityEvent<>(saved.get(i), prevs.get(i), EntityAction.UPDATE));
+                }
+
+                publishAll(events);
+
+                return saved;
+            });
+
+            return updated
+                .stream()
+                .map(e -> dtoBuilder.convert(e))
+                .collect(Collectors.toList());
+        } finally {
+            acquired.forEach(l -> l.unlock());
+        }
+    }
+
+    //acquire write locks in a stable order to avoid deadlocks between concurrent batches
+    private List<VersionedLock> lockAll(Set<String> ids) throws StoreException {
+        List<VersionedLock> acquired = new ArrayList<>();
+        try {
+            for (String id : ids.stream().sorted().toList()) {
+                VersionedLock lock = getLock(id);
+                if (!lock.tryLock(timeout, TimeUnit.SECONDS)) {
+                    log.warn("Lock timeout on batch for id {}", id);
+                    throw new StoreException("unable to acquire lock for batch " + id);
+                }
+
+                acquired.add(lock);
+            }
+
+            return acquired;
+        } catch (InterruptedException e) {
+            log.error("Thread interrupted waiting for batch locks");
+            acquired.forEach(l -> l.unlock());
+            throw new StoreException("unable to access the store: " + e.getMessage());
+        } catch (StoreException e) {
+            acquired.forEach(l -> l.unlock());
+            throw e;
+        }
+    }
+
+    private void publishAll(List<EntityEvent<E>> events) {
+        if (eventPublisher != null && !events.isEmpty()) {
+            log.debug("publish batch event: {} events", events.size());
+            if (log.isTraceEnabled()) {
+                log.trace("events: {}", String.valueOf(events));
+            }
+
+            if (outbox != null) {
+                //persist within the transaction, one per entity to keep per key ordering on delivery
+                events.forEach(event -> outbox.append(EVENTS_CHANNEL, event.getEntity().getId(), event));
+            }
+
+            //single event for the batch, listeners handle shared work once
+            eventPublisher.publishEvent(new EntityBatchEvent<>(events));
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     @Cacheable(
@@ -441,30 +684,12 @@ public abstract class BaseEntityRepositoryImpl<
     public D find(@NotNull String id) throws StoreException {
         log.debug("find with id {}", id);
 
-        try {
-            //acquire read lock
-            if (!getLock(id).tryLock(timeout, TimeUnit.SECONDS)) {
-                log.warn("Lock timeout on find for id {}", id);
-                throw new StoreException("unable to acquire lock for find " + id);
-            }
-
-            try {
-                D res = repository
-                    .findById(id)
-                    .map(e -> dtoBuilder.convert(e))
-                    .orElse(null);
-                if (log.isTraceEnabled()) {
-                    log.trace("res: {}", res);
-                }
-
-                return res;
-            } finally {
-                getLock(id).unlock();
-            }
-        } catch (InterruptedException e) {
-            log.error("Thread interrupted waiting for find lock on id {}", id);
-            throw new StoreException("unable to access the store: " + e.getMessage());
+        D res = read(id).map(e -> dtoBuilder.convert(e)).orElse(null);
+        if (log.isTraceEnabled()) {
+            log.trace("res: {}", res);
         }
+
+        return res;
     }
 
     @Override
@@ -477,28 +702,57 @@ public abstract class BaseEntityRepositoryImpl<
     )
     public D get(@NotNull String id) throws NoSuchEntityException, StoreException {
         log.debug("get with id {}", id);
+
+        D res = read(id).map(e -> dtoBuilder.convert(e)).orElseThrow(() -> new NoSuchEntityException(type));
+        if (log.isTraceEnabled()) {
+            log.trace("res: {}", res);
+        }
+
+        return res;
+    }
+
+    /*
+     * Optimistic read: do not wait for writers, the db returns the last committed state.
+     * When a write overlaps the read, retry a bounded number of times to pick up the new version
+     * and then fall back to a read under the lock, so callers never get a torn snapshot.
+     */
+    private Optional<E> read(String id) throws StoreException {
+        VersionedLock lock = getLock(id);
+
+        E entity = null;
+        for (int i = 0; i < READ_ATTEMPTS; i++) {
+            long stamp = lock.stamp();
+            if (entity != null) {
+                //drop the stale snapshot from the persistence context to read again from db
+                entityManager.detach(entity);
+            }
+
+            entity = repository.findById(id).orElse(null);
+            if (lock.validate(stamp)) {
+                return Optional.ofNullable(entity);
+            }
+
+            log.debug("concurrent write on id {} during read, attempt {}", id, i + 1);
+        }
+
+        //contended: wait for the writer and read again while holding the lock
         try {
-            //acquire read lock
-            if (!getLock(id).tryLock(timeout, TimeUnit.SECONDS)) {
-                log.warn("Lock timeout on get for id {}", id);
-                throw new StoreException("unable to acquire lock for get " + id);
+            if (!lock.tryLock(timeout, TimeUnit.SECONDS)) {
+                log.warn("Lock timeout on read for id {}", id);
+                throw new StoreException("unable to acquire lock for read " + id);
             }
 
             try {
-                D res = repository
-                    .findById(id)
-                    .map(e -> dtoBuilder.convert(e))
-                    .orElseThrow(() -> new NoSuchEntityException(type));
-                if (log.isTraceEnabled()) {
-                    log.trace("res: {}", res);
+                if (entity != null) {
+                    entityManager.detach(entity);
                 }
 
-                return res;
+                return repository.findById(id);
             } finally {
-                getLock(id).unlock();
+                lock.unlock();
             }
         } catch (InterruptedException e) {
-            log.error("Thread interrupted waiting for get lock on id {}", id);
+            log.error("Thread interrupted waiting for read lock on id {}", id);
             throw new StoreException("unable to access the store: " + e.getMessage());
         }
     }
@@ -512,6 +766,14 @@ public abstract class BaseEntityRepositoryImpl<
             throw new IllegalArgumentException("max page size exceeded");
         }
 
+        if (pageable instanceof SummaryPageable) {
+            return summarize(null, (SummaryPageable) pageable);
+        }
+
+        if (pageable instanceof CursorPageable) {
+            return seek(null, (CursorPageable) pageable);
+        }
+
         Page<E> page = repository.findAll(pageable);
         List<D> content = page
             .stream()
@@ -542,6 +804,14 @@ public abstract class BaseEntityRepositoryImpl<
             throw new IllegalArgumentException("max page size exceeded");
         }
 
+        if (pageable instanceof SummaryPageable) {
+            return summarize(specification, (SummaryPageable) pageable);
+        }
+
+        if (pageable instanceof CursorPageable) {
+            return seek(specification, (CursorPageable) pageable);
+        }
+
         if (repository instanceof JpaSpecificationExecutor) {
             @SuppressWarnings("unchecked")
             Page<E> page = ((JpaSpecificationExecutor<E>) repository).findAll(specification, pageable);
@@ -556,6 +826,169 @@ public abstract class BaseEntityRepositoryImpl<
         throw new UnsupportedOperationException();
     }
 
+    /*
+     * Keyset pagination: seek past the cursor position on (created, id) instead of
+     * skipping offset rows, and fetch one extra row to detect a following page
+     * without counting.
+     */
+    private Page<D> seek(Specification<E> specification, CursorPageable pageable) {
+        log.debug("seek with spec {} page {}", specification, pageable);
+
+        if (!(repository instanceof JpaSpecificationExecutor)) {
+            throw new UnsupportedOperationException();
+        }
+
+        @SuppressWarnings("unchecked")
+        List<E> list = ((JpaSpecificationExecutor<E>) repository).findBy(after(specification, pageable), q ->
+            q.sortBy(pageable.getSort()).limit(pageable.getPageSize() + 1).all()
+        );
+
+        return toCursorPage(list, pageable);
+    }
+
+    //restrict the specification to the rows following the cursor position, if any
+    private Specification<E> after(Specification<E> specification, CursorPageable pageable) {
+        if (pageable.getCursor() == null) {
+            return specification;
+        }
+
+        return Specification.allOf(
+            specification,
+            CommonSpecification.<E>after(pageable.cursorCreated(), pageable.cursorId(), pageable.getDirection())
+        );
+    }
+
+    //build a cursor page from size + 1 rows: the extra row tells that a following page exists
+    private Page<D> toCursorPage(List<E> list, CursorPageable pageable) {
+        int size = pageable.getPageSize();
+        boolean hasNext = list.size() > size;
+        List<E> entities = hasNext ? list.subList(0, size) : list;
+
+        String next = null;
+        if (hasNext) {
+            E last = entities.get(entities.size() - 1);
+            next = pageable.after(last.getCreated(), last.getId()).getCursor();
+        }
+
+        List<D> content = entities
+            .stream()
+            .map(e -> dtoBuilder.convert(e))
+            .collect(Collectors.toList());
+
+        return new CursorPage<>(content, pageable, next);
+    }
+
+    /*
+     * Summary projection: select only scalar columns into a tuple and skip the blobs,
+     * then build detached entities with the selected values. Paging follows the
+     * wrapped request, either offset with count or keyset.
+     */
+    private Page<D> summarize(Specification<E> specification, SummaryPageable pageable) {
+        log.debug("summarize with spec {} page {}", specification, pageable);
+
+        List<String> attributes = summaryAttributes(pageable.getFields());
+        Pageable request = pageable.getPageable();
+        CursorPageable cursor = request instanceof CursorPageable ? (CursorPageable) request : null;
+
+        Specification<E> spec = cursor != null ? after(specification, cursor) : specification;
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(clazz);
+        List<Selection<?>> selections = attributes
+            .stream()
+            .<Selection<?>>map(a -> root.get(a).alias(a))
+            .collect(Collectors.toList());
+        query.multiselect(selections);
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(QueryUtils.toOrders(request.getSort(), root, cb));
+
+        TypedQuery<Tuple> q = entityManager.createQuery(query);
+        if (cursor != null) {
+            //fetch one extra row to detect a following page
+            q.setMaxResults(cursor.getPageSize() + 1);
+        } else if (request.isPaged()) {
+            q.setFirstResult((int) request.getOffset());
+            q.setMaxResults(request.getPageSize());
+        }
+
+        List<E> entities = q
+            .getResultList()
+            .stream()
+            .map(t -> summary(t, attributes))
+            .collect(Collectors.toList());
+
+        if (cursor != null) {
+            return toCursorPage(entities, cursor);
+        }
+
+        List<D> content = entities
+            .stream()
+            .map(e -> dtoBuilder.convert(e))
+            .collect(Collectors.toList());
+
+        //count only when the page does not tell the total by itself
+        final Specification<E> countSpec = spec;
+        return PageableExecutionUtils.getPage(content, request, () -> count(countSpec));
+    }
+
+    private long count(Specification<E> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<E> root = query.from(clazz);
+        query.select(cb.count(root));
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    //scalar attributes in summaries: headers and the requested promoted fields
+    private List<String> summaryAttributes(Set<String> fields) {
+        Set<String> scalars = entityManager
+            .getMetamodel()
+            .entity(clazz)
+            .getSingularAttributes()
+            .stream()
+            .filter(a -> a.getPersistentAttributeType() == PersistentAttributeType.BASIC)
+            .filter(a -> !byte[].class.equals(a.getJavaType()))
+            .map(Attribute::getName)
+            .collect(Collectors.toSet());
+
+        fields.forEach(f -> {
+            if (!scalars.contains(f)) {
+                throw new IllegalArgumentException("invalid summary field " + f);
+            }
+        });
+
+        return scalars
+            .stream()
+            .filter(a -> SUMMARY_ATTRIBUTES.contains(a) || fields.contains(a))
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    private E summary(Tuple tuple, List<String> attributes) {
+        E entity = BeanUtils.instantiateClass(clazz);
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+        attributes.forEach(a -> wrapper.setPropertyValue(a, tuple.get(a)));
+
+        if (entity instanceof MetadataEntity) {
+            ((MetadataEntity) entity).setMetadata(EMPTY_METADATA);
+        }
+
+        return entity;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     @Transactional(readOnly = true)
@@ -601,6 +1034,11 @@ public abstract class BaseEntityRepositoryImpl<
                     log.trace("event: {}", String.valueOf(event));
                 }
 
+                if (outbox != null) {
+                    //persist within the transaction, the relay delivers after commit
+                    outbox.append(EVENTS_CHANNEL, event.getEntity().getId(), event);
+                }
+
                 eventPublisher.publishEvent(event);
             });
         }
@@ -640,6 +1078,11 @@ public abstract class BaseEntityRepositoryImpl<
                         log.trace("event: {}", String.valueOf(event));
                     }
 
+                    if (outbox != null) {
+                        //persist within the transaction, the relay delivers after commit
+                        outbox.append(EVENTS_CHANNEL, event.getEntity().getId(), event);
+                    }
+
                     eventPublisher.publishEvent(event);
                 });
             }
@@ -0,0 +1,224 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.repositories;
+
+import jakarta.persistence.AttributeConverter;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.util.Assert;
+
+/**
+ * Map materialized on first access.
+ *
+ * DTO builders use it for the sections stored as CBOR blobs (spec, status, metadata), so
+ * that consumers reading only headers never decode them and every section is decoded at
+ * most once per DTO. Once loaded it behaves as a plain mutable hash map, and it is
+ * serialized as one. Content that can not be decoded is reported on first access.
+ *
+ * When built from a stored blob the source is kept, so that untouched sections are written
+ * back as-is without encoding them again. Direct writes always discard the source, once
+ * loaded the content is compared against the decoded original, kept aside as a copy of the
+ * nested maps and lists, so that changes to nested values or via views are never lost.
+ */
+public class LazyMap extends AbstractMap<String, Serializable> implements Serializable {
+
+    private transient Supplier<Map<String, Serializable>> supplier;
+    private transient volatile Map<String, Serializable> map;
+    private transient volatile byte[] source;
+    private transient volatile Map<String, Serializable> original;
+    private transient volatile boolean modified;
+
+    public LazyMap(Supplier<Map<String, Serializable>> supplier) {
+        Assert.notNull(supplier, "supplier can not be null");
+        this.supplier = supplier;
+    }
+
+    private LazyMap(byte[] source, Function<byte[], Map<String, Serializable>> decoder) {
+        this(() -> decoder.apply(source));
+        this.source = source;
+    }
+
+    public static LazyMap of(Supplier<Map<String, Serializable>> supplier) {
+        return new LazyMap(supplier);
+    }
+
+    public static LazyMap of(byte[] source, AttributeConverter<Map<String, Serializable>, byte[]> converter) {
+        Assert.notNull(converter, "converter can not be null");
+        return source != null ? new LazyMap(source, converter::convertToEntityAttribute) : null;
+    }
+
+    public boolean isLoaded() {
+        return map != null;
+    }
+
+    /**
+     * Stored blob this map was built from, when still unmodified.
+     *
+     * @return the source bytes or null if not available
+     */
+    public byte[] getSource() {
+        byte[] s = source;
+        if (s == null || modified) {
+            return null;
+        }
+
+        //not loaded means untouched, otherwise compare the full content with the decoded one
+        Map<String, Serializable> m = map;
+        return m == null || m.equals(original) ? s : null;
+    }
+
+    protected Map<String, Serializable> modify() {
+        modified = true;
+        return map();
+    }
+
+    protected Map<String, Serializable> map() {
+        Map<String, Serializable> m = map;
+        if (m == null) {
+            synchronized (this) {
+                m = map;
+                if (m == null) {
+                    Map<String, Serializable> value = supplier.get();
+                    if (value == null) {
+                        //never replace undecodable content with an empty map, it would be written back
+                        throw new IllegalStateException("unable to decode map content");
+                    }
+
+                    m = value instanceof HashMap ? value : new HashMap<>(value);
+                    if (source != null) {
+                        //keep the decoded content to detect changes without decoding again
+                        original = m;
+                        m = copy(m);
+                    }
+                    map = m;
+
+                    //release captured sources
+                    supplier = null;
+                }
+            }
+        }
+
+        return m;
+    }
+
+    @Override
+    public Set<Entry<String, Serializable>> entrySet() {
+        return map().entrySet();
+    }
+
+    @Override
+    public int size() {
+        return map().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map().isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map().containsKey(key);
+    }
+
+    @Override
+    public Serializable get(Object key) {
+        return map().get(key);
+    }
+
+    @Override
+    public Serializable put(String key, Serializable value) {
+        return modify().put(key, value);
+    }
+
+    @Override
+    public Serializable remove(Object key) {
+        return modify().remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends Serializable> m) {
+        modify().putAll(m);
+    }
+
+    @Override
+    public void clear() {
+        modify().clear();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return map().keySet();
+    }
+
+    @Override
+    public Collection<Serializable> values() {
+        return map().values();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o == this || map().equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return map().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return map().toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V copy(V value) {
+        //containers are copied, immutable leaves are shared
+        if (value instanceof Map<?, ?> m) {
+            HashMap<Object, Object> c = new HashMap<>(m.size());
+            m.forEach((k, v) -> c.put(k, copy(v)));
+            return (V) c;
+        } else if (value instanceof List<?> l) {
+            ArrayList<Object> c = new ArrayList<>(l.size());
+            l.forEach(v -> c.add(copy(v)));
+            return (V) c;
+        } else if (value instanceof byte[] b) {
+            return (V) b.clone();
+        }
+
+        return value;
+    }
+
+    private Object writeReplace() {
+        return new HashMap<>(map());
+    }
+}
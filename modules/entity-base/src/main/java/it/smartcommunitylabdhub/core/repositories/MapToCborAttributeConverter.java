@@ -48,6 +48,14 @@ public class MapToCborAttributeConverter implements AttributeConverter<Map<Strin
 
     @Override
     public byte[] convertToDatabaseColumn(Map<String, Serializable> map) {
+        if (map instanceof LazyMap) {
+            //untouched section read from store, write back as-is
+            byte[] source = ((LazyMap) map).getSource();
+            if (source != null) {
+                return source;
+            }
+        }
+
         byte[] value = null;
         if (map != null) {
             try {
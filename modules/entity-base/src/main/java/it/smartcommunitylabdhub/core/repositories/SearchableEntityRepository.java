@@ -23,6 +23,8 @@
 
 package it.smartcommunitylabdhub.core.repositories;
 
+import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
+import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.models.base.BaseDTO;
 import it.smartcommunitylabdhub.commons.repositories.EntityRepository;
@@ -37,4 +39,7 @@ public interface SearchableEntityRepository<E extends BaseEntity, D extends Base
     Page<D> search(Specification<E> specification, Pageable page) throws StoreException;
 
     long deleteAll(Specification<E> specification) throws StoreException;
+
+    List<D> createAll(List<D> dtos) throws DuplicatedEntityException, StoreException;
+    List<D> updateAll(List<D> dtos) throws NoSuchEntityException, StoreException;
 }
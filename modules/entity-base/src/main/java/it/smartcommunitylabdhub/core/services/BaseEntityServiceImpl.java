@@ -29,9 +29,12 @@ import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.models.base.BaseDTO;
+import it.smartcommunitylabdhub.commons.models.batch.BatchItem;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.metadata.MetadataDTO;
 import it.smartcommunitylabdhub.commons.models.metadata.VersioningMetadata;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
+import it.smartcommunitylabdhub.commons.models.queries.SummaryPageable;
 import it.smartcommunitylabdhub.commons.models.specs.Spec;
 import it.smartcommunitylabdhub.commons.models.specs.SpecDTO;
 import it.smartcommunitylabdhub.commons.models.status.StatusDTO;
@@ -53,9 +56,14 @@ import jakarta.validation.constraints.NotNull;
 import java.io.Serializable;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -64,6 +72,7 @@ import org.springframework.core.ResolvableType;
 import org.springframework.core.ResolvableTypeProvider;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.Nullable;
@@ -269,6 +278,236 @@ public abstract class BaseEntityServiceImpl<
             log.trace("dto: {}", dto);
         }
 
+        //validate and prepare, keep the requested state for lifecycle
+        String nextState = prepareCreate(dto);
+
+        //save
+        if (log.isTraceEnabled()) {
+            log.trace("dto: {}", dto);
+        }
+
+        //persist
+        D res = repository.create(dto);
+        if (log.isTraceEnabled()) {
+            log.trace("res: {}", res);
+        }
+
+        if (nextState != null) {
+            //perform transition
+            res = getLifecycleManager().handle(res, nextState);
+        }
+
+        return res;
+    }
+
+    @Override
+    public D update(@NotNull String id, @NotNull D dto) throws NoSuchEntityException, StoreException {
+        return update(id, dto, false);
+    }
+
+    @Override
+    public D update(@NotNull String id, @NotNull D dto, boolean forceUpdate)
+        throws NoSuchEntityException, StoreException {
+        log.debug("update with id {}", String.valueOf(dto.getId()));
+        if (log.isTraceEnabled()) {
+            log.trace("dto: {}", dto);
+        }
+        //fetch current and merge
+        D current = repository.get(id);
+        if (current == null) {
+            throw new StoreException("Invalid or broken entity in store");
+        }
+
+        //validate and prepare, keep the current state for update
+        String nextState = prepareUpdate(current, dto, forceUpdate);
+
+        if (nextState != null) {
+            //move to next state
+            log.debug("state change update to {}, handle via lifecycle", nextState);
+
+            //update via lifecycle transition
+            D res = getLifecycleManager().handle(dto, nextState);
+            if (log.isTraceEnabled()) {
+                log.trace("res: {}", res);
+            }
+
+            return res;
+        } else {
+            //keep same state
+            log.debug("same state update, handle via store");
+
+            //direct update
+            if (log.isTraceEnabled()) {
+                log.trace("dto: {}", dto);
+            }
+
+            //persist
+            D res = repository.update(id, dto);
+            if (log.isTraceEnabled()) {
+                log.trace("res: {}", res);
+            }
+
+            return res;
+        }
+    }
+
+    @Override
+    public BatchResult<D> createAll(@NotNull List<D> dtos) throws StoreException {
+        log.debug("create all with size {}", dtos.size());
+        if (dtos.size() > PAGE_MAX_SIZE) {
+            throw new IllegalArgumentException("max batch size exceeded");
+        }
+
+        List<BatchItem<D>> items = new ArrayList<>();
+
+        //validate and prepare every item on its own, collect valid ones for store
+        Map<Integer, String> pending = new LinkedHashMap<>();
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            D dto = dtos.get(i);
+            try {
+                if (dto.getId() != null && !ids.add(dto.getId())) {
+                    throw new DuplicatedEntityException(type, dto.getId());
+                }
+
+                pending.put(i, prepareCreate(dto));
+            } catch (DuplicatedEntityException | RuntimeException e) {
+                //any item failure is reported, the batch goes on
+                items.add(BatchItem.failure(i, dto.getId(), e.getMessage()));
+            }
+        }
+
+        if (!ids.isEmpty()) {
+            //check existing ids with a single header-only query
+            Set<String> existing = repository
+                .search(CommonSpecification.idIn(ids), new SummaryPageable(PageRequest.of(0, ids.size()), null))
+                .map(d -> d.getId())
+                .toSet();
+
+            pending
+                .keySet()
+                .removeIf(i -> {
+                    String id = dtos.get(i).getId();
+                    if (id != null && existing.contains(id)) {
+                        items.add(BatchItem.failure(i, id, new DuplicatedEntityException(type, id).getMessage()));
+                        return true;
+                    }
+                    return false;
+                });
+        }
+
+        if (pending.isEmpty()) {
+            return new BatchResult<>(items);
+        }
+
+        //persist in a single transaction
+        List<Integer> indexes = new ArrayList<>(pending.keySet());
+        List<D> created;
+        try {
+            created = repository.createAll(indexes.stream().map(i -> dtos.get(i)).toList());
+        } catch (DuplicatedEntityException | StoreException | RuntimeException e) {
+            //whole batch is rolled back
+            log.error("error creating batch: {}", e.getMessage());
+            indexes.forEach(i -> items.add(BatchItem.failure(i, dtos.get(i).getId(), e.getMessage())));
+            return new BatchResult<>(items);
+        }
+
+        for (int j = 0; j < created.size(); j++) {
+            int i = indexes.get(j);
+            D res = created.get(j);
+            String nextState = pending.get(i);
+
+            try {
+                if (nextState != null) {
+                    //perform transition
+                    res = getLifecycleManager().handle(res, nextState);
+                }
+
+                items.add(BatchItem.success(i, res, res.getId()));
+            } catch (RuntimeException e) {
+                //entity is stored but transition failed
+                items.add(BatchItem.failure(i, res.getId(), e.getMessage()));
+            }
+        }
+
+        return new BatchResult<>(items);
+    }
+
+    @Override
+    public BatchResult<D> updateAll(@NotNull List<D> dtos, boolean forceUpdate) throws StoreException {
+        log.debug("update all with size {}", dtos.size());
+        if (dtos.size() > PAGE_MAX_SIZE) {
+            throw new IllegalArgumentException("max batch size exceeded");
+        }
+
+        List<BatchItem<D>> items = new ArrayList<>();
+
+        //fetch all current values at once
+        Set<String> ids = dtos.stream().map(d -> d.getId()).filter(id -> id != null).collect(Collectors.toSet());
+        Map<String, D> currents = ids.isEmpty()
+            ? Map.of()
+            : repository
+                .searchAll(CommonSpecification.idIn(ids))
+                .stream()
+                .collect(Collectors.toMap(d -> d.getId(), d -> d));
+
+        //validate and prepare, same state updates are batched
+        List<Integer> indexes = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            D dto = dtos.get(i);
+            try {
+                if (dto.getId() == null || !seen.add(dto.getId())) {
+                    throw new IllegalArgumentException("invalid or duplicated id");
+                }
+
+                D current = currents.get(dto.getId());
+                if (current == null) {
+                    throw new NoSuchEntityException(type);
+                }
+
+                //check for project match
+                if (dto.getProject() != null && !dto.getProject().equals(current.getProject())) {
+                    throw new IllegalArgumentException("invalid project");
+                }
+
+                String nextState = prepareUpdate(current, dto, forceUpdate);
+                if (nextState != null) {
+                    //update via lifecycle transition
+                    D res = getLifecycleManager().handle(dto, nextState);
+                    items.add(BatchItem.success(i, res, res.getId()));
+                } else {
+                    indexes.add(i);
+                }
+            } catch (RuntimeException e) {
+                items.add(BatchItem.failure(i, dto.getId(), e.getMessage()));
+            }
+        }
+
+        if (indexes.isEmpty()) {
+            return new BatchResult<>(items);
+        }
+
+        //persist in a single transaction
+        try {
+            List<D> updated = repository.updateAll(indexes.stream().map(i -> dtos.get(i)).toList());
+            for (int j = 0; j < updated.size(); j++) {
+                items.add(BatchItem.success(indexes.get(j), updated.get(j), updated.get(j).getId()));
+            }
+        } catch (StoreException | RuntimeException e) {
+            //whole batch is rolled back
+            log.error("error updating batch: {}", e.getMessage());
+            indexes.forEach(i -> items.add(BatchItem.failure(i, dtos.get(i).getId(), e.getMessage())));
+        }
+
+        return new BatchResult<>(items);
+    }
+
+    /*
+     * Validate and prepare a dto for create: the status is set to the initial state,
+     * returns the requested state when a lifecycle transition is needed, null otherwise
+     */
+    protected String prepareCreate(@NotNull D dto) throws IllegalArgumentException {
         //validate project
         String projectId = dto.getProject();
         if (!StringUtils.hasText(projectId)) {
@@ -321,43 +560,15 @@ public abstract class BaseEntityServiceImpl<
 
         dto.setStatus(MapUtils.mergeMultipleMaps(dto.getStatus(), Map.of(Fields.STATE, curState)));
 
-        //save
-        if (log.isTraceEnabled()) {
-            log.trace("dto: {}", dto);
-        }
-
-        //persist
-        D res = repository.create(dto);
-        if (log.isTraceEnabled()) {
-            log.trace("res: {}", res);
-        }
-
-        if (getLifecycleManager() != null && !nextState.equals(curState)) {
-            //perform transition
-            res = getLifecycleManager().handle(res, nextState);
-        }
-
-        return res;
-    }
-
-    @Override
-    public D update(@NotNull String id, @NotNull D dto) throws NoSuchEntityException, StoreException {
-        return update(id, dto, false);
+        return nextState.equals(curState) ? null : nextState;
     }
 
-    @Override
-    public D update(@NotNull String id, @NotNull D dto, boolean forceUpdate)
-        throws NoSuchEntityException, StoreException {
-        log.debug("update with id {}", String.valueOf(dto.getId()));
-        if (log.isTraceEnabled()) {
-            log.trace("dto: {}", dto);
-        }
-        //fetch current and merge
-        D current = repository.get(id);
-        if (current == null) {
-            throw new StoreException("Invalid or broken entity in store");
-        }
-
+    /*
+     * Validate and prepare a dto for update against the current value: the status keeps the current state,
+     * returns the requested state when a lifecycle transition is needed, null otherwise
+     */
+    protected String prepareUpdate(@NotNull D current, @NotNull D dto, boolean forceUpdate)
+        throws IllegalArgumentException {
         //we assume that missing status means CREATED
         StatusFieldAccessor curStatus = StatusFieldAccessor.with(current.getStatus());
         String curState = curStatus.getState() == null ? "CREATED" : curStatus.getState();
@@ -376,9 +587,12 @@ public abstract class BaseEntityServiceImpl<
         if (!forceUpdate) {
             //spec is not modifiable: enforce current
             dto.setSpec(current.getSpec());
+        } else if (current.getSpec() != null && current.getSpec().equals(dto.getSpec())) {
+            //spec unchanged: skip parsing and validation, keep the stored section
+            log.trace("same spec for {}, skip parsing", current.getId());
+            dto.setSpec(current.getSpec());
         } else {
-            //validate spec if changed
-            //TODO diff check to avoid reparsing on same spec
+            //validate spec as changed
             if (getSpecRegistry() != null) {
                 // Parse and export Spec
                 Spec spec = getSpecRegistry().createSpec(dto.getKind(), dto.getSpec());
@@ -396,34 +610,7 @@ public abstract class BaseEntityServiceImpl<
             }
         }
 
-        if (!curState.equals(nextState) && getLifecycleManager() != null) {
-            //move to next state
-            log.debug("state change update from {} to {}, handle via lifecycle", curState, nextState);
-
-            //update via lifecycle transition
-            D res = getLifecycleManager().handle(dto, nextState);
-            if (log.isTraceEnabled()) {
-                log.trace("res: {}", res);
-            }
-
-            return res;
-        } else {
-            //keep same state
-            log.debug("same state update {}, handle via store", curState);
-
-            //direct update
-            if (log.isTraceEnabled()) {
-                log.trace("dto: {}", dto);
-            }
-
-            //persist
-            D res = repository.update(id, dto);
-            if (log.isTraceEnabled()) {
-                log.trace("res: {}", res);
-            }
-
-            return res;
-        }
+        return curState.equals(nextState) || getLifecycleManager() == null ? null : nextState;
     }
 
     @Override
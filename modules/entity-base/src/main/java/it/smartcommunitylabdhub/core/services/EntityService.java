@@ -27,8 +27,11 @@ import it.smartcommunitylabdhub.commons.exceptions.DuplicatedEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.NoSuchEntityException;
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.models.base.BaseDTO;
+import it.smartcommunitylabdhub.commons.models.batch.BatchItem;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
 import it.smartcommunitylabdhub.commons.models.queries.SearchFilter;
 import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -50,6 +53,55 @@ public interface EntityService<D extends BaseDTO> {
     D update(@NotNull String id, @NotNull D dto, boolean forceUpdate)
         throws BindException, IllegalArgumentException, NoSuchEntityException, StoreException;
 
+    /*
+     * Batch: every item is processed and reported on its own, a failure does not abort the batch.
+     * Updates are checked against the project declared in each item.
+     * Default implementations are sequential, stores should override with batched writes
+     */
+    default BatchResult<D> createAll(@NotNull List<D> dtos) throws StoreException {
+        List<BatchItem<D>> items = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            D dto = dtos.get(i);
+            try {
+                D res = create(dto);
+                items.add(BatchItem.success(i, res, res.getId()));
+            } catch (BindException | DuplicatedEntityException | RuntimeException e) {
+                items.add(BatchItem.failure(i, dto.getId(), e.getMessage()));
+            }
+        }
+
+        return new BatchResult<>(items);
+    }
+
+    default BatchResult<D> updateAll(@NotNull List<D> dtos) throws StoreException {
+        return updateAll(dtos, false);
+    }
+
+    default BatchResult<D> updateAll(@NotNull List<D> dtos, boolean forceUpdate) throws StoreException {
+        List<BatchItem<D>> items = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            D dto = dtos.get(i);
+            try {
+                if (dto.getId() == null) {
+                    throw new IllegalArgumentException("missing id");
+                }
+
+                //check for project match
+                D current = get(dto.getId());
+                if (dto.getProject() != null && !dto.getProject().equals(current.getProject())) {
+                    throw new IllegalArgumentException("invalid project");
+                }
+
+                D res = update(dto.getId(), dto, forceUpdate);
+                items.add(BatchItem.success(i, res, res.getId()));
+            } catch (BindException | RuntimeException e) {
+                items.add(BatchItem.failure(i, dto.getId(), e.getMessage()));
+            }
+        }
+
+        return new BatchResult<>(items);
+    }
+
     void delete(@NotNull String id, @Nullable Boolean cascade) throws StoreException;
     void deleteAll(@Nullable Boolean cascade) throws StoreException;
     void deleteByUser(@NotNull String user, @Nullable Boolean cascade) throws StoreException;
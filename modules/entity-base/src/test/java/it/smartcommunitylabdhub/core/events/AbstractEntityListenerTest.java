@@ -0,0 +1,154 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import it.smartcommunitylabdhub.commons.exceptions.StoreException;
+import it.smartcommunitylabdhub.commons.models.base.BaseDTO;
+import it.smartcommunitylabdhub.core.persistence.BaseEntity;
+import it.smartcommunitylabdhub.events.EntityAction;
+import it.smartcommunitylabdhub.search.indexers.EntityIndexer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class AbstractEntityListenerTest {
+
+    private EntityIndexer<TestDTO> indexer;
+    private TestListener listener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        indexer = mock(EntityIndexer.class);
+
+        //no channel wired, batches are handled inline
+        listener = new TestListener();
+        listener.setIndexer(indexer);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void batchIsIndexedOnce() throws Exception {
+        List<EntityEvent<BaseEntity>> events = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            events.add(new EntityEvent<>(entity("id" + i), EntityAction.CREATE));
+        }
+        events.add(new EntityEvent<>(entity("id3"), EntityAction.DELETE));
+
+        listener.dispatchAll(new EntityBatchEvent<>(events));
+
+        ArgumentCaptor<Collection<TestDTO>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(indexer, times(1)).indexAll(captor.capture());
+        assertEquals(3, captor.getValue().size());
+
+        //every event is still handled on its own
+        verify(indexer, never()).index(any());
+        verify(indexer, times(1)).remove(any());
+        assertEquals(3, listener.created);
+    }
+
+    @Test
+    void failedBatchIsIndexedPerItem() throws Exception {
+        doThrow(new StoreException("unavailable")).when(indexer).indexAll(anyCollection());
+
+        List<EntityEvent<BaseEntity>> events = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            events.add(new EntityEvent<>(entity("id" + i), EntityAction.UPDATE));
+        }
+
+        listener.dispatchAll(new EntityBatchEvent<>(events));
+
+        verify(indexer, times(3)).index(any());
+        assertEquals(3, listener.updated);
+    }
+
+    @Test
+    void singleEventIsIndexed() {
+        listener.dispatch(new EntityEvent<>(entity("id0"), EntityAction.CREATE));
+
+        verify(indexer, times(1)).index(any());
+        assertEquals(1, listener.created);
+    }
+
+    private BaseEntity entity(String id) {
+        BaseEntity entity = mock(BaseEntity.class);
+        when(entity.getId()).thenReturn(id);
+        return entity;
+    }
+
+    private static class TestListener extends AbstractEntityListener<BaseEntity, TestDTO> {
+
+        private int created = 0;
+        private int updated = 0;
+
+        TestListener() {
+            super(e -> new TestDTO(e.getId(), e.getName(), "test", "prj1", null));
+        }
+
+        @Override
+        protected void onCreate(BaseEntity entity, TestDTO dto) {
+            super.onCreate(entity, dto);
+            created++;
+        }
+
+        @Override
+        protected void onUpdate(BaseEntity entity, TestDTO dto) {
+            super.onUpdate(entity, dto);
+            updated++;
+        }
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    private static class TestDTO implements BaseDTO {
+
+        private String id;
+        private String name;
+        private String kind;
+        private String project;
+        private String user;
+
+        @Override
+        public String getKey() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.lifecycle;
+
+import it.smartcommunitylabdhub.commons.jackson.JacksonMapper;
+import it.smartcommunitylabdhub.core.lifecycle.CopyOnWriteMapTest.TestDTO;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Time and allocation per dto handed to a processor.
+ *
+ * The baseline deep clones the dto with a json round trip, as done for every processor
+ * before copy on write views. Processors usually read a few fields, some write the status.
+ * Allocation per operation is reported by the gc profiler as gc.alloc.rate.norm. Run via
+ * the main method on the test classpath, it is not part of the unit tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CopyOnWriteMapBenchmark {
+
+    private TestDTO dto;
+
+    @Setup
+    public void setUp() {
+        //realistic sections: nested spec, status with results, metadata with labels
+        HashMap<String, Serializable> spec = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            spec.put("key" + i, "value-" + i);
+        }
+        HashMap<String, Serializable> resources = new HashMap<>();
+        resources.put("cpu", "1");
+        resources.put("mem", "1Gi");
+        spec.put("resources", resources);
+
+        HashMap<String, Serializable> status = new HashMap<>();
+        status.put("state", "READY");
+        ArrayList<Serializable> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            results.add("result-" + i);
+        }
+        status.put("results", results);
+
+        HashMap<String, Serializable> metadata = new HashMap<>();
+        metadata.put("description", "test entity");
+        metadata.put("labels", new ArrayList<>(List.of("a", "b", "c")));
+
+        dto = new TestDTO();
+        dto.setId("id1");
+        dto.setSpec(spec);
+        dto.setStatus(status);
+        dto.setMetadata(metadata);
+    }
+
+    @Benchmark
+    public Object deepCloneRead() throws IOException {
+        TestDTO cd = JacksonMapper.deepClone(dto, TestDTO.class);
+        cd.getSpec().get("key1");
+        return cd.getStatus().get("state");
+    }
+
+    @Benchmark
+    public Object viewRead() {
+        TestDTO cd = CopyOnWriteMap.view(dto, TestDTO.class);
+        cd.getSpec().get("key1");
+        return cd.getStatus().get("state");
+    }
+
+    @Benchmark
+    public Object deepCloneWrite() throws IOException {
+        TestDTO cd = JacksonMapper.deepClone(dto, TestDTO.class);
+        return cd.getStatus().put("state", "RUNNING");
+    }
+
+    @Benchmark
+    public Object viewWrite() {
+        //only the written section is copied
+        TestDTO cd = CopyOnWriteMap.view(dto, TestDTO.class);
+        return cd.getStatus().put("state", "RUNNING");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(CopyOnWriteMapBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.lifecycle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CopyOnWriteMapTest {
+
+    private TestDTO dto;
+
+    @BeforeEach
+    void setUp() {
+        HashMap<String, Serializable> spec = new HashMap<>();
+        spec.put("key1", "value-1");
+        HashMap<String, Serializable> resources = new HashMap<>();
+        resources.put("cpu", "1");
+        spec.put("resources", resources);
+
+        HashMap<String, Serializable> status = new HashMap<>();
+        status.put("state", "READY");
+        status.put("results", new ArrayList<>(List.of("result-1", "result-2")));
+
+        HashMap<String, Serializable> metadata = new HashMap<>();
+        metadata.put("labels", new ArrayList<>(List.of("a", "b", "c")));
+
+        dto = new TestDTO();
+        dto.setId("id1");
+        dto.setSpec(spec);
+        dto.setStatus(status);
+        dto.setMetadata(metadata);
+    }
+
+    @Test
+    void viewIsIsolated() {
+        TestDTO view = CopyOnWriteMap.view(dto, TestDTO.class);
+
+        assertNotSame(dto, view);
+        assertEquals("id1", view.getId());
+        assertEquals(dto.getSpec(), view.getSpec());
+
+        view.setId("id2");
+        view.getStatus().put("state", "RUNNING");
+        view.getStatus().remove("results");
+        asMap(view.getSpec().get("resources")).put("cpu", "4");
+        asList(view.getMetadata().get("labels")).add("d");
+
+        assertEquals("id1", dto.getId());
+        assertEquals("READY", dto.getStatus().get("state"));
+        assertEquals(2, asList(dto.getStatus().get("results")).size());
+        assertEquals("1", asMap(dto.getSpec().get("resources")).get("cpu"));
+        assertEquals(List.of("a", "b", "c"), dto.getMetadata().get("labels"));
+
+        assertEquals("RUNNING", view.getStatus().get("state"));
+        assertEquals("4", asMap(view.getSpec().get("resources")).get("cpu"));
+        assertEquals(4, asList(view.getMetadata().get("labels")).size());
+    }
+
+    @Test
+    void readsDoNotCopy() {
+        CopyOnWriteMap map = new CopyOnWriteMap(dto.getSpec());
+
+        assertEquals("value-1", map.get("key1"));
+        assertEquals(2, map.size());
+        assertTrue(map.containsKey("resources"));
+        assertFalse(map.isCopied());
+
+        //nested containers are handed out as protected copies
+        Map<String, Serializable> resources = asMap(map.get("resources"));
+        assertTrue(map.isCopied());
+        assertSame(resources, map.get("resources"));
+        assertNotSame(dto.getSpec().get("resources"), resources);
+    }
+
+    @Test
+    void writesDoNotTouchSource() {
+        Map<String, Serializable> source = dto.getSpec();
+        CopyOnWriteMap map = new CopyOnWriteMap(source);
+
+        map.put("key2", "value-2");
+        assertTrue(map.isCopied());
+        map.remove("key1");
+
+        assertEquals(2, source.size());
+        assertEquals("value-1", source.get("key1"));
+        assertFalse(source.containsKey("key2"));
+
+        assertEquals("value-2", map.get("key2"));
+        assertFalse(map.containsKey("key1"));
+        assertEquals(2, map.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Serializable> asMap(Object value) {
+        return (Map<String, Serializable>) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Serializable> asList(Object value) {
+        return (List<Serializable>) value;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class TestDTO implements Serializable {
+
+        private String id;
+        private Map<String, Serializable> metadata;
+        private Map<String, Serializable> spec;
+        private Map<String, Serializable> status;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.repositories;
+
+import it.smartcommunitylabdhub.commons.jackson.JacksonMapper;
+import it.smartcommunitylabdhub.commons.utils.MapUtils;
+import it.smartcommunitylabdhub.core.metadata.AuditMetadataBuilder;
+import it.smartcommunitylabdhub.core.metadata.BaseMetadataBuilder;
+import it.smartcommunitylabdhub.core.metadata.VersioningMetadataBuilder;
+import it.smartcommunitylabdhub.core.repositories.BaseDTOBuilderTest.TestDTO;
+import it.smartcommunitylabdhub.core.repositories.BaseDTOBuilderTest.TestEntity;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Time and allocation per entity conversion.
+ *
+ * The baseline decodes every section eagerly, and metadata once per metadata builder, as the
+ * builder did before sections were lazy. Allocation per operation is reported by the gc
+ * profiler as gc.alloc.rate.norm. Run via the main method on the test classpath, it is not
+ * part of the unit tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BaseDTOBuilderBenchmark {
+
+    private final MapToCborAttributeConverter converter = new MapToCborAttributeConverter();
+    private final BaseMetadataBuilder baseMetadataBuilder = new BaseMetadataBuilder(converter);
+    private final AuditMetadataBuilder auditMetadataBuilder = new AuditMetadataBuilder(converter);
+    private final VersioningMetadataBuilder versioningMetadataBuilder = new VersioningMetadataBuilder(converter);
+
+    private BaseDTOBuilder<TestEntity, TestDTO> builder;
+    private TestEntity entity;
+
+    @Setup
+    public void setUp() {
+        builder = new BaseDTOBuilder<>(TestDTO.class, converter);
+        builder.setBaseMetadataBuilder(baseMetadataBuilder);
+        builder.setAuditingMetadataBuilder(auditMetadataBuilder);
+        builder.setVersioningMetadataBuilder(versioningMetadataBuilder);
+
+        //same blobs as the unit test: nested spec, status with results, metadata with labels
+        HashMap<String, Serializable> spec = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            spec.put("key" + i, "value-" + i);
+        }
+        HashMap<String, Serializable> resources = new HashMap<>();
+        resources.put("cpu", "1");
+        resources.put("mem", "1Gi");
+        spec.put("resources", resources);
+
+        HashMap<String, Serializable> status = new HashMap<>();
+        status.put("message", "ok");
+        ArrayList<Serializable> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            results.add("result-" + i);
+        }
+        status.put("results", results);
+
+        HashMap<String, Serializable> metadata = new HashMap<>();
+        metadata.put("description", "test entity");
+        metadata.put("labels", new ArrayList<>(List.of("a", "b", "c")));
+
+        entity = new TestEntity();
+        entity.setId("id1");
+        entity.setName("name1");
+        entity.setKind("kind1");
+        entity.setProject("prj1");
+        entity.setCreatedBy("user1");
+        entity.setUpdatedBy("user1");
+        entity.setCreated(new Date());
+        entity.setUpdated(new Date());
+        entity.setState("READY");
+        entity.setSpec(converter.convertToDatabaseColumn(spec));
+        entity.setStatus(converter.convertToDatabaseColumn(status));
+        entity.setMetadata(converter.convertToDatabaseColumn(metadata));
+    }
+
+    @Benchmark
+    public TestDTO eager() {
+        TestDTO dto = JacksonMapper.CUSTOM_OBJECT_MAPPER.convertValue(
+            Map.of(
+                "id",
+                entity.getId(),
+                "name",
+                entity.getName(),
+                "kind",
+                entity.getKind(),
+                "project",
+                entity.getProject()
+            ),
+            TestDTO.class
+        );
+
+        Map<String, Serializable> metadata = new HashMap<>(converter.convertToEntityAttribute(entity.getMetadata()));
+        Optional.ofNullable(baseMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
+        Optional.ofNullable(auditMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
+        Optional.ofNullable(versioningMetadataBuilder.convert(entity)).ifPresent(m -> metadata.putAll(m.toMap()));
+        dto.setMetadata(metadata);
+
+        dto.setSpec(converter.convertToEntityAttribute(entity.getSpec()));
+        dto.setStatus(
+            MapUtils.mergeMultipleMaps(
+                converter.convertToEntityAttribute(entity.getStatus()),
+                Map.of("state", entity.getState())
+            )
+        );
+
+        return dto;
+    }
+
+    @Benchmark
+    public String headers() {
+        //header only access skips blob decoding entirely
+        TestDTO dto = builder.convert(entity);
+        return dto.getId() + dto.getName();
+    }
+
+    @Benchmark
+    public int full() {
+        //full access decodes every section once
+        TestDTO dto = builder.convert(entity);
+        return dto.getSpec().size() + dto.getStatus().size() + dto.getMetadata().size();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(BaseDTOBuilderBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import it.smartcommunitylabdhub.commons.jackson.JacksonMapper;
+import it.smartcommunitylabdhub.commons.models.base.BaseDTO;
+import it.smartcommunitylabdhub.commons.models.metadata.MetadataDTO;
+import it.smartcommunitylabdhub.commons.models.specs.SpecDTO;
+import it.smartcommunitylabdhub.commons.models.status.StatusDTO;
+import it.smartcommunitylabdhub.core.metadata.AuditMetadataBuilder;
+import it.smartcommunitylabdhub.core.metadata.BaseMetadataBuilder;
+import it.smartcommunitylabdhub.core.metadata.VersioningMetadataBuilder;
+import it.smartcommunitylabdhub.core.persistence.BaseEntity;
+import it.smartcommunitylabdhub.core.persistence.MetadataEntity;
+import it.smartcommunitylabdhub.core.persistence.SpecEntity;
+import it.smartcommunitylabdhub.core.persistence.StatusEntity;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BaseDTOBuilderTest {
+
+    private final CountingConverter converter = new CountingConverter();
+    private final BaseMetadataBuilder baseMetadataBuilder = new BaseMetadataBuilder(converter);
+    private final AuditMetadataBuilder auditMetadataBuilder = new AuditMetadataBuilder(converter);
+    private final VersioningMetadataBuilder versioningMetadataBuilder = new VersioningMetadataBuilder(converter);
+
+    private BaseDTOBuilder<TestEntity, TestDTO> builder;
+    private TestEntity entity;
+
+    @BeforeEach
+    void setUp() {
+        builder = new BaseDTOBuilder<>(TestDTO.class, converter);
+        builder.setBaseMetadataBuilder(baseMetadataBuilder);
+        builder.setAuditingMetadataBuilder(auditMetadataBuilder);
+        builder.setVersioningMetadataBuilder(versioningMetadataBuilder);
+
+        //realistic blobs: nested spec, status with results, metadata with labels
+        HashMap<String, Serializable> spec = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            spec.put("key" + i, "value-" + i);
+        }
+        HashMap<String, Serializable> resources = new HashMap<>();
+        resources.put("cpu", "1");
+        resources.put("mem", "1Gi");
+        spec.put("resources", resources);
+
+        HashMap<String, Serializable> status = new HashMap<>();
+        status.put("message", "ok");
+        ArrayList<Serializable> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            results.add("result-" + i);
+        }
+        status.put("results", results);
+
+        HashMap<String, Serializable> metadata = new HashMap<>();
+        metadata.put("description", "test entity");
+        metadata.put("labels", new ArrayList<>(List.of("a", "b", "c")));
+
+        entity = new TestEntity();
+        entity.setId("id1");
+        entity.setName("name1");
+        entity.setKind("kind1");
+        entity.setProject("prj1");
+        entity.setCreatedBy("user1");
+        entity.setUpdatedBy("user1");
+        entity.setCreated(new Date());
+        entity.setUpdated(new Date());
+        entity.setState("READY");
+        entity.setSpec(converter.convertToDatabaseColumn(spec));
+        entity.setStatus(converter.convertToDatabaseColumn(status));
+        entity.setMetadata(converter.convertToDatabaseColumn(metadata));
+    }
+
+    @Test
+    void sectionsAreDecodedOnAccess() {
+        TestDTO dto = builder.convert(entity);
+
+        assertEquals("id1", dto.getId());
+        assertFalse(((LazyMap) dto.getSpec()).isLoaded());
+        assertFalse(((LazyMap) dto.getStatus()).isLoaded());
+        assertFalse(((LazyMap) dto.getMetadata()).isLoaded());
+
+        assertEquals("value-1", dto.getSpec().get("key1"));
+        assertEquals("READY", dto.getStatus().get("state"));
+        assertEquals("test entity", dto.getMetadata().get("description"));
+        assertEquals("prj1", dto.getMetadata().get("project"));
+        assertEquals("user1", dto.getMetadata().get("created_by"));
+        assertTrue(((LazyMap) dto.getSpec()).isLoaded());
+
+        //loaded maps stay mutable
+        dto.getStatus().put("state", "RUNNING");
+        assertEquals("RUNNING", dto.getStatus().get("state"));
+    }
+
+    @Test
+    void serializeAsPlainMap() throws Exception {
+        TestDTO dto = builder.convert(entity);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            oos.writeObject(dto.getSpec());
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            Object value = ois.readObject();
+            assertEquals(HashMap.class, value.getClass());
+            assertEquals(dto.getSpec(), value);
+        }
+
+        ObjectMapper mapper = JacksonMapper.CUSTOM_OBJECT_MAPPER;
+        assertEquals(mapper.writeValueAsString(new HashMap<>(dto.getSpec())), mapper.writeValueAsString(dto.getSpec()));
+    }
+
+    @Test
+    void headersDoNotDecode() {
+        TestDTO dto = builder.convert(entity);
+        assertEquals("id1", dto.getId());
+        assertEquals("name1", dto.getName());
+        assertEquals("prj1", dto.getProject());
+        assertEquals(0, converter.decodes.get());
+
+        //every section is decoded once, on first access
+        dto.getSpec().get("key1");
+        assertEquals(1, converter.decodes.get());
+        dto.getSpec().get("key2");
+        dto.getSpec().size();
+        assertEquals(1, converter.decodes.get());
+
+        dto.getStatus().get("message");
+        dto.getMetadata().get("description");
+        dto.getMetadata().get("labels");
+        assertEquals(3, converter.decodes.get());
+    }
+
+    @Test
+    void undecodableSectionIsReported() {
+        entity.setSpec(new byte[] { (byte) 0xff, 0x00, 0x01 });
+        TestDTO dto = builder.convert(entity);
+
+        assertThrows(IllegalStateException.class, () -> dto.getSpec().get("key1"));
+        assertFalse(((LazyMap) dto.getSpec()).isLoaded());
+
+        //stored content is kept as-is instead of being replaced by an empty map
+        assertSame(entity.getSpec(), converter.convertToDatabaseColumn(dto.getSpec()));
+    }
+
+    private static class CountingConverter extends MapToCborAttributeConverter {
+
+        private final AtomicInteger decodes = new AtomicInteger();
+
+        @Override
+        public Map<String, Serializable> convertToEntityAttribute(byte[] source) {
+            decodes.incrementAndGet();
+            return super.convertToEntityAttribute(source);
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class TestEntity implements BaseEntity, MetadataEntity, SpecEntity, StatusEntity {
+
+        private String id;
+        private String name;
+        private String kind;
+        private String project;
+        private Date created;
+        private Date updated;
+        private String createdBy;
+        private String updatedBy;
+        private String state;
+        private byte[] metadata;
+        private byte[] spec;
+        private byte[] status;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class TestDTO implements BaseDTO, MetadataDTO, SpecDTO, StatusDTO {
+
+        private String id;
+        private String name;
+        private String kind;
+        private String project;
+        private String user;
+        private Map<String, Serializable> metadata;
+        private Map<String, Serializable> spec;
+        private Map<String, Serializable> status;
+
+        @Override
+        public String getKey() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.core.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import it.smartcommunitylabdhub.commons.models.base.BaseDTO;
+import it.smartcommunitylabdhub.commons.models.batch.BatchResult;
+import it.smartcommunitylabdhub.commons.models.specs.Spec;
+import it.smartcommunitylabdhub.commons.models.specs.SpecDTO;
+import it.smartcommunitylabdhub.commons.models.status.StatusDTO;
+import it.smartcommunitylabdhub.commons.services.SpecRegistry;
+import it.smartcommunitylabdhub.core.persistence.BaseEntity;
+import it.smartcommunitylabdhub.core.persistence.SpecEntity;
+import it.smartcommunitylabdhub.core.persistence.StatusEntity;
+import it.smartcommunitylabdhub.core.repositories.LazyMap;
+import it.smartcommunitylabdhub.core.repositories.MapToCborAttributeConverter;
+import it.smartcommunitylabdhub.core.repositories.SearchableEntityRepository;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BaseEntityServiceImplTest {
+
+    private static final int UPDATES = 100;
+    private static final String BROKEN = "broken";
+
+    private final MapToCborAttributeConverter converter = new MapToCborAttributeConverter();
+    private final AtomicInteger parses = new AtomicInteger();
+
+    private SearchableEntityRepository<TestEntity, TestDTO> repository;
+    private TestService service;
+    private byte[] stored;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        HashMap<String, Serializable> spec = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            spec.put("key" + i, "value-" + i);
+        }
+        HashMap<String, Serializable> resources = new HashMap<>();
+        resources.put("cpu", "1");
+        resources.put("mem", "1Gi");
+        spec.put("resources", resources);
+        stored = converter.convertToDatabaseColumn(spec);
+
+        //store returns a fresh dto with lazy sections, updates are returned as-is
+        repository = mock(SearchableEntityRepository.class);
+        when(repository.get("id1")).thenAnswer(inv -> current());
+        when(repository.update(eq("id1"), any())).thenAnswer(inv -> inv.getArgument(1));
+
+        service = new TestService(repository);
+        service.setSpecRegistry(new CountingSpecRegistry());
+    }
+
+    @Test
+    void statusUpdatesSkipSpecParsing() throws Exception {
+        TestDTO res = null;
+        for (int i = 0; i < UPDATES; i++) {
+            //same spec content as sent back by a runtime, with a new status
+            TestDTO dto = incoming(converter.convertToEntityAttribute(stored));
+            dto.setStatus(new HashMap<>(Map.of("state", "RUNNING", "message", "update-" + i)));
+
+            res = service.update("id1", dto, true);
+        }
+
+        assertEquals(0, parses.get());
+
+        //stored spec is written back without encoding
+        assertSame(stored, converter.convertToDatabaseColumn(res.getSpec()));
+    }
+
+    @Test
+    void changedSpecIsParsed() throws Exception {
+        for (int i = 0; i < UPDATES; i++) {
+            Map<String, Serializable> spec = converter.convertToEntityAttribute(stored);
+            spec.put("key0", "changed-" + i);
+
+            TestDTO res = service.update("id1", incoming(spec), true);
+            assertNotSame(stored, converter.convertToDatabaseColumn(res.getSpec()));
+        }
+
+        assertEquals(UPDATES, parses.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void nestedChangesAreNotLost() {
+        LazyMap spec = LazyMap.of(stored, converter);
+        assertSame(stored, spec.getSource());
+
+        //modify a nested value in place, source is not valid anymore
+        ((Map<String, Serializable>) spec.get("resources")).put("cpu", "2");
+        assertNull(spec.getSource());
+
+        Map<String, Serializable> written = converter.convertToEntityAttribute(converter.convertToDatabaseColumn(spec));
+        assertEquals("2", ((Map<String, Serializable>) written.get("resources")).get("cpu"));
+    }
+
+    @Test
+    void loadedSourceIsNotDecodedAgain() {
+        AtomicInteger decodes = new AtomicInteger();
+        MapToCborAttributeConverter counting = new MapToCborAttributeConverter() {
+            @Override
+            public Map<String, Serializable> convertToEntityAttribute(byte[] source) {
+                decodes.incrementAndGet();
+                return super.convertToEntityAttribute(source);
+            }
+        };
+
+        //loaded by a comparison, then written back
+        LazyMap spec = LazyMap.of(stored, counting);
+        assertEquals(converter.convertToEntityAttribute(stored), spec);
+        assertSame(stored, spec.getSource());
+        assertSame(stored, converter.convertToDatabaseColumn(spec));
+
+        assertEquals(1, decodes.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sameHashChangesAreNotLost() {
+        LazyMap spec = LazyMap.of(stored, converter);
+        ((Map<String, Serializable>) spec.get("resources")).put("cpu", "Aa");
+        byte[] source = converter.convertToDatabaseColumn(spec);
+
+        //"Aa" and "BB" share the same hash code
+        spec = LazyMap.of(source, converter);
+        assertSame(source, spec.getSource());
+        ((Map<String, Serializable>) spec.get("resources")).put("cpu", "BB");
+        assertNull(spec.getSource());
+    }
+
+    @Test
+    void createAllReportsItemFailures() throws Exception {
+        when(repository.createAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        //invalid project, failing spec and a valid item
+        TestDTO missing = incoming(new HashMap<>());
+        missing.setId(null);
+        missing.setProject(null);
+        TestDTO broken = incoming(new HashMap<>());
+        broken.setId(null);
+        broken.setKind(BROKEN);
+        TestDTO valid = incoming(new HashMap<>());
+        valid.setId(null);
+
+        BatchResult<TestDTO> res = service.createAll(List.of(missing, broken, valid));
+
+        assertEquals(3, res.getTotal());
+        assertEquals(1, res.getSucceeded());
+        assertFalse(res.getItems().get(0).isSuccess());
+        assertFalse(res.getItems().get(1).isSuccess());
+        assertTrue(res.getItems().get(2).isSuccess());
+
+        //valid items are stored with a single write
+        verify(repository, times(1)).createAll(List.of(valid));
+    }
+
+    @Test
+    void createAllReportsStoreFailures() throws Exception {
+        when(repository.createAll(anyList())).thenThrow(new IllegalStateException("store down"));
+
+        TestDTO dto = incoming(new HashMap<>());
+        dto.setId(null);
+        BatchResult<TestDTO> res = service.createAll(List.of(dto));
+
+        assertEquals(1, res.getFailed());
+        assertEquals("store down", res.getItems().get(0).getError());
+    }
+
+    @Test
+    void updateAllReportsItemFailures() throws Exception {
+        when(repository.searchAll(any())).thenAnswer(inv -> List.of(current()));
+        when(repository.updateAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        //unknown id, missing id and a valid item
+        TestDTO unknown = incoming(new HashMap<>());
+        unknown.setId("id2");
+        TestDTO missing = incoming(new HashMap<>());
+        missing.setId(null);
+        TestDTO valid = incoming(converter.convertToEntityAttribute(stored));
+
+        BatchResult<TestDTO> res = service.updateAll(List.of(unknown, missing, valid), true);
+
+        assertEquals(3, res.getTotal());
+        assertEquals(2, res.getFailed());
+        assertTrue(res.getItems().get(2).isSuccess());
+        verify(repository, times(1)).updateAll(List.of(valid));
+    }
+
+    private TestDTO current() {
+        TestDTO dto = incoming(null);
+        dto.setSpec(LazyMap.of(stored, converter));
+        dto.setStatus(new HashMap<>(Map.of("state", "RUNNING")));
+        return dto;
+    }
+
+    private TestDTO incoming(Map<String, Serializable> spec) {
+        TestDTO dto = new TestDTO();
+        dto.setId("id1");
+        dto.setName("name1");
+        dto.setKind("kind1");
+        dto.setProject("prj1");
+        dto.setSpec(spec);
+        return dto;
+    }
+
+    private class CountingSpecRegistry implements SpecRegistry<TestDTO> {
+
+        @Override
+        public Class<TestDTO> getType() {
+            return TestDTO.class;
+        }
+
+        @Override
+        public <S extends Spec> S getSpec(String kind) {
+            return null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <S extends Spec> S createSpec(String kind, Map<String, Serializable> data) {
+            parses.incrementAndGet();
+            if (BROKEN.equals(kind)) {
+                //any runtime failure, not only validation errors
+                throw new IllegalStateException("broken spec");
+            }
+
+            TestSpec spec = new TestSpec();
+            spec.configure(data);
+            return (S) spec;
+        }
+    }
+
+    private static class TestSpec implements Spec {
+
+        private Map<String, Serializable> data;
+
+        @Override
+        public Map<String, Serializable> toMap() {
+            return new HashMap<>(data);
+        }
+
+        @Override
+        public void configure(Map<String, Serializable> data) {
+            this.data = new HashMap<>(data);
+        }
+    }
+
+    public static class TestService extends BaseEntityServiceImpl<TestDTO, TestEntity> {
+
+        public TestService(SearchableEntityRepository<TestEntity, TestDTO> repository) {
+            super(repository);
+        }
+    }
+
+    public abstract static class TestEntity implements BaseEntity, SpecEntity, StatusEntity {}
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class TestDTO implements BaseDTO, SpecDTO, StatusDTO {
+
+        private String id;
+        private String name;
+        private String kind;
+        private String project;
+        private String user;
+        private Map<String, Serializable> spec;
+        private Map<String, Serializable> status;
+
+        @Override
+        public String getKey() {
+            return id;
+        }
+    }
+}
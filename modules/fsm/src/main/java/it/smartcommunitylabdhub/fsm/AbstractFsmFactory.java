@@ -41,6 +41,9 @@ public abstract class AbstractFsmFactory<S, E, C> implements Fsm.Factory<S, E, C
     //states are defined only *once*
     private final List<FsmState.Builder<S, E, C>> stateBuilders;
 
+    //compiled graph, shared by all instances
+    private volatile FsmDefinition<S, E, C> definition;
+
     protected AbstractFsmFactory(List<FsmState.Builder<S, E, C>> stateBuilders) {
         this.stateBuilders = stateBuilders != null ? stateBuilders : Collections.emptyList();
     }
@@ -53,8 +56,27 @@ public abstract class AbstractFsmFactory<S, E, C> implements Fsm.Factory<S, E, C
      * @return The configured StateMachine instance.
      */
     public Fsm<S, E, C> create(S initialState, C context) {
-        // Create a new StateMachine builder with the initial state and context
-        Fsm.Builder<S, E, C> builder = new Fsm.Builder<>(initialState, context);
+        //graph is compiled once, every instance holds only state and context
+        return new Fsm<>(getDefinition(), initialState, context);
+    }
+
+    public FsmDefinition<S, E, C> getDefinition() {
+        FsmDefinition<S, E, C> d = definition;
+        if (d == null) {
+            synchronized (this) {
+                d = definition;
+                if (d == null) {
+                    d = compile();
+                    definition = d;
+                }
+            }
+        }
+
+        return d;
+    }
+
+    protected FsmDefinition<S, E, C> compile() {
+        log.debug("compile fsm definition for {}", getClass().getSimpleName());
 
         //build all states
         //note: multiple builders can define the same state, we'll merge the transactions in the same state definition
@@ -78,14 +100,7 @@ public abstract class AbstractFsmFactory<S, E, C> implements Fsm.Factory<S, E, C
                 );
         });
 
-        //add states to builder
-        definedStates
-            .values()
-            .forEach(state -> {
-                builder.withState(state.getState(), state);
-            });
-
         //build to seal
-        return builder.build();
+        return new FsmDefinition<>(definedStates);
     }
 }
@@ -21,12 +21,9 @@ package it.smartcommunitylabdhub.fsm;
 import it.smartcommunitylabdhub.fsm.exceptions.InvalidTransitionException;
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantLock;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.Assert;
@@ -36,6 +33,8 @@ import org.springframework.util.Assert;
  * i.e a graph of nodes==states with edges==transitions
  *
  * FSM persists a Context available to all effects.
+ * The graph is an immutable, shared definition: instances are lightweight and
+ * carry only the current state and the context for a single traversal.
  * S -> states
  * E -> events for transitions
  * C -> context
@@ -44,17 +43,12 @@ import org.springframework.util.Assert;
 @Slf4j
 public class Fsm<S, E, C> {
 
-    private static final long LOCK_WAIT = 180L; // seconds
-
-    // single lock to ensure atomic actions
-    private final ReentrantLock stateLock = new ReentrantLock();
-
     //current state
     @Getter
     private S currentState;
 
-    //graph as a map state -> definitions of state+transitions
-    private Map<S, FsmState<S, E, C>> states;
+    //graph as compiled definitions of state+transitions
+    private final FsmDefinition<S, E, C> definition;
 
     //context
     private final C context;
@@ -66,18 +60,20 @@ public class Fsm<S, E, C> {
     }
 
     /**
-     * Constructor to create a StateMachine with the initial state and context.
+     * Constructor to create a StateMachine over a definition with the initial state and context.
      *
+     * @param definition     The compiled graph of states and transitions.
      * @param initialState   The initial state of the StateMachine.
      * @param initialContext The initial context for the StateMachine.
      */
-    protected Fsm(@NotNull S initialState, @NotNull C initialContext) {
+    public Fsm(@NotNull FsmDefinition<S, E, C> definition, @NotNull S initialState, @NotNull C initialContext) {
+        Assert.notNull(definition, "definition must not be null");
         Assert.notNull(initialContext, "context must not be null");
         Assert.notNull(initialState, "initial state must not be null");
 
+        this.definition = definition;
         this.currentState = initialState;
         this.context = initialContext;
-        this.states = new ConcurrentHashMap<>();
     }
 
     /**
@@ -92,7 +88,7 @@ public class Fsm<S, E, C> {
     }
 
     public FsmState<S, E, C> getState(S state) {
-        return states.get(state);
+        return definition.getState(state);
     }
 
     /**
@@ -103,65 +99,41 @@ public class Fsm<S, E, C> {
      * @param input       The input associated with the transition.
      * @param <R>         The type of the input.
      */
-    public <I, R> Optional<R> goToState(S targetState, @Nullable I input) throws InvalidTransitionException {
+    public synchronized <I, R> Optional<R> goToState(S targetState, @Nullable I input)
+        throws InvalidTransitionException {
         log.debug("transition to state {}", targetState);
 
-        return acquireLock()
-            .flatMap(lockAcquired -> {
-                if (Boolean.TRUE.equals(lockAcquired)) {
-                    log.debug("lock acquired for transition to {}", targetState);
-
-                    try {
-                        //check if there is an adjacent state for target
-                        FsmState<S, E, C> stateDefinition = states.get(currentState);
-                        if (stateDefinition == null) {
-                            throw new InvalidTransitionException(currentState.toString(), targetState.toString());
-                        }
-
-                        Optional<Transition<S, E, C>> transition = stateDefinition.getTransitionForNext(targetState);
-                        if (transition.isEmpty()) {
-                            // No valid path exists; transition to the error state
-                            throw new InvalidTransitionException(currentState.toString(), targetState.toString());
-                        }
-
-                        // Execute the transition to next state and collect result.
-                        return execute(transition.get(), input);
-                    } finally {
-                        stateLock.unlock();
-                    }
-                }
-                return Optional.empty();
-            });
+        //check if there is an adjacent state for target
+        if (definition.getState(currentState) == null) {
+            throw new InvalidTransitionException(currentState.toString(), targetState.toString());
+        }
+
+        Optional<Transition<S, E, C>> transition = definition.getTransitionForNext(currentState, targetState);
+        if (transition.isEmpty()) {
+            // No valid path exists; transition to the error state
+            throw new InvalidTransitionException(currentState.toString(), targetState.toString());
+        }
+
+        // Execute the transition to next state and collect result.
+        return execute(transition.get(), input);
     }
 
-    public <I, R> Optional<R> perform(E event, @Nullable I input) throws InvalidTransitionException {
+    public synchronized <I, R> Optional<R> perform(E event, @Nullable I input) throws InvalidTransitionException {
         log.debug("transition for event {}", event);
 
-        return acquireLock()
-            .flatMap(lockAcquired -> {
-                if (Boolean.TRUE.equals(lockAcquired)) {
-                    log.debug("lock acquired for transition for event {}", event);
-                    try {
-                        //check if there is a transition for this event connected to current state
-                        FsmState<S, E, C> stateDefinition = states.get(currentState);
-                        if (stateDefinition == null) {
-                            throw new InvalidTransitionException(currentState.toString(), null);
-                        }
-
-                        Optional<Transition<S, E, C>> transition = stateDefinition.getTransitionForEvent(event);
-                        if (transition.isEmpty()) {
-                            // No valid path exists; transition to the error state
-                            throw new InvalidTransitionException(currentState.toString(), null);
-                        }
-
-                        // Execute the transition to next state and collect result.
-                        return execute(transition.get(), input);
-                    } finally {
-                        stateLock.unlock();
-                    }
-                }
-                return Optional.empty();
-            });
+        //check if there is a transition for this event connected to current state
+        if (definition.getState(currentState) == null) {
+            throw new InvalidTransitionException(currentState.toString(), null);
+        }
+
+        Optional<Transition<S, E, C>> transition = definition.getTransitionForEvent(currentState, event);
+        if (transition.isEmpty()) {
+            // No valid path exists; transition to the error state
+            throw new InvalidTransitionException(currentState.toString(), null);
+        }
+
+        // Execute the transition to next state and collect result.
+        return execute(transition.get(), input);
     }
 
     private <I, R> Optional<R> execute(@NotNull Transition<S, E, C> transition, @Nullable I input) {
@@ -180,24 +152,6 @@ public class Fsm<S, E, C> {
         return result;
     }
 
-    /**
-     * Attempt to acquire a lock with a timeout.
-     *
-     * @return An {@code Optional<Boolean>} representing the lock acquisition result. If the lock is
-     * acquired successfully, it contains {@code true}; otherwise, it contains
-     * {@code false}.
-     */
-    private Optional<Boolean> acquireLock() {
-        try {
-            boolean lockAcquired = stateLock.tryLock(LOCK_WAIT, TimeUnit.SECONDS);
-            return Optional.of(lockAcquired); // Return Optional with lock acquisition result.
-        } catch (InterruptedException e) {
-            log.error(e.getMessage());
-            return Optional.empty(); // Return Optional.empty() in case of an interruption or
-            // exception.
-        }
-    }
-
     //factory
     @FunctionalInterface
     public static interface Factory<S, E, C> {
@@ -217,7 +171,7 @@ public class Fsm<S, E, C> {
         public Builder(S initialState, C initialContext) {
             this.currentState = initialState;
             this.initialContext = initialContext;
-            this.states = new ConcurrentHashMap<>();
+            this.states = new HashMap<>();
         }
 
         /**
@@ -233,10 +187,7 @@ public class Fsm<S, E, C> {
         }
 
         public Fsm<S, E, C> build() {
-            Fsm<S, E, C> stateMachine = new Fsm<>(currentState, initialContext);
-            stateMachine.states = Collections.unmodifiableMap(states);
-
-            return stateMachine;
+            return new Fsm<>(new FsmDefinition<>(states), currentState, initialContext);
         }
     }
 }
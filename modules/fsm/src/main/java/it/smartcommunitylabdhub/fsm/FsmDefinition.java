@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.fsm;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.util.Assert;
+
+/**
+ * Compiled, immutable graph of states and transitions.
+ *
+ * Transitions are indexed by event and by next state for every state, so that lookups
+ * do not scan transition lists. A definition is built once and shared by all the FSM
+ * instances created for the same type, each carrying only its current state and context.
+ */
+public class FsmDefinition<S, E, C> {
+
+    private final Map<S, FsmState<S, E, C>> states;
+    private final Map<S, Map<E, Transition<S, E, C>>> byEvent;
+    private final Map<S, Map<S, Transition<S, E, C>>> byNext;
+
+    public FsmDefinition(Map<S, FsmState<S, E, C>> states) {
+        Assert.notNull(states, "states can not be null");
+
+        Map<S, Map<E, Transition<S, E, C>>> events = new HashMap<>();
+        Map<S, Map<S, Transition<S, E, C>>> nexts = new HashMap<>();
+        states.forEach((s, def) -> {
+            Map<E, Transition<S, E, C>> e = new HashMap<>();
+            Map<S, Transition<S, E, C>> n = new HashMap<>();
+
+            //keep first definition as per list order
+            def.getTransitions().forEach(t -> {
+                e.putIfAbsent(t.getEvent(), t);
+                n.putIfAbsent(t.getNextState(), t);
+            });
+
+            events.put(s, Collections.unmodifiableMap(e));
+            nexts.put(s, Collections.unmodifiableMap(n));
+        });
+
+        this.states = Collections.unmodifiableMap(new HashMap<>(states));
+        this.byEvent = Collections.unmodifiableMap(events);
+        this.byNext = Collections.unmodifiableMap(nexts);
+    }
+
+    public Map<S, FsmState<S, E, C>> getStates() {
+        return states;
+    }
+
+    public FsmState<S, E, C> getState(S state) {
+        return states.get(state);
+    }
+
+    public Optional<Transition<S, E, C>> getTransitionForEvent(S state, E event) {
+        Map<E, Transition<S, E, C>> map = byEvent.get(state);
+        return map != null ? Optional.ofNullable(map.get(event)) : Optional.empty();
+    }
+
+    public Optional<Transition<S, E, C>> getTransitionForNext(S state, S nextState) {
+        Map<S, Transition<S, E, C>> map = byNext.get(state);
+        return map != null ? Optional.ofNullable(map.get(nextState)) : Optional.empty();
+    }
+}
@@ -26,6 +26,8 @@ package it.smartcommunitylabdhub.lifecycle;
 import it.smartcommunitylabdhub.commons.exceptions.CoreRuntimeException;
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.exceptions.SystemException;
+import it.smartcommunitylabdhub.commons.locks.LockRegistry;
+import it.smartcommunitylabdhub.commons.locks.VersionedLock;
 import it.smartcommunitylabdhub.commons.models.base.BaseDTO;
 import it.smartcommunitylabdhub.commons.models.specs.SpecDTO;
 import it.smartcommunitylabdhub.commons.models.status.StatusDTO;
@@ -34,24 +36,19 @@ import it.smartcommunitylabdhub.events.EntityAction;
 import it.smartcommunitylabdhub.events.EntityOperation;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
-import java.time.Instant;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.util.Pair;
 import org.springframework.util.Assert;
 
 @Slf4j
 public abstract class AbstractLifecycleManager<D extends BaseDTO & SpecDTO & StatusDTO> implements InitializingBean {
 
     public static final int DEFAULT_TIMEOUT = 30;
-    private Map<String, Pair<ReentrantLock, Instant>> locks = new ConcurrentHashMap<>();
+    private final LockRegistry locks = new LockRegistry();
     private int timeout = DEFAULT_TIMEOUT;
 
     protected EntityRepository<D> entityRepository;
@@ -80,14 +77,8 @@ public abstract class AbstractLifecycleManager<D extends BaseDTO & SpecDTO & Sta
         this.timeout = t;
     }
 
-    protected synchronized ReentrantLock getLock(String id) {
-        //build lock
-        ReentrantLock l = locks.containsKey(id) ? locks.get(id).getFirst() : new ReentrantLock();
-
-        //update last used date
-        locks.put(id, Pair.of(l, Instant.now()));
-
-        return l;
+    protected VersionedLock getLock(String id) {
+        return locks.get(id);
     }
 
     /*
@@ -106,13 +97,15 @@ public abstract class AbstractLifecycleManager<D extends BaseDTO & SpecDTO & Sta
         String id = dto.getId();
 
         //lock and resolve op
+        VersionedLock lock = getLock(id);
         try {
+            //acquire write lock
+            if (!lock.tryLock(timeout, TimeUnit.SECONDS)) {
+                log.warn("Lock timeout for id {}, action {}", id, op.getAction());
+                throw new SystemException("unable to acquire lock for " + id);
+            }
+
             try {
-                //acquire write lock
-                if (!getLock(id).tryLock(timeout, TimeUnit.SECONDS)) {
-                    log.warn("Lock timeout for id {}, action {}", id, op.getAction());
-                    throw new SystemException("unable to acquire lock for " + id);
-                }
                 //perform logic
                 dto = logic.apply(dto);
 
@@ -141,7 +134,7 @@ public abstract class AbstractLifecycleManager<D extends BaseDTO & SpecDTO & Sta
                 log.error("store error: {}", e.getMessage());
                 throw new SystemException(e.getMessage());
             } finally {
-                getLock(id).unlock();
+                lock.unlock();
             }
         } catch (InterruptedException e) {
             log.error("Thread interrupted waiting for lock on id {}", id);
@@ -0,0 +1,135 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.fsm;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Transitions per second with a run-like graph.
+ *
+ * The baseline rebuilds the graph and allocates a lock for every transition, as the
+ * factory did before definitions were compiled once. Run via the main method on the
+ * test classpath, it is not part of the unit tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class FsmBenchmark {
+
+    private static final List<String> STATES = List.of(
+        "CREATED",
+        "BUILT",
+        "READY",
+        "PENDING",
+        "RUNNING",
+        "COMPLETED",
+        "STOP",
+        "STOPPED",
+        "ERROR",
+        "DELETING",
+        "DELETED"
+    );
+
+    private TestFactory factory;
+
+    @Setup
+    public void setUp() {
+        List<FsmState.Builder<String, String, Map<String, Object>>> builders = new ArrayList<>();
+        for (String state : STATES) {
+            //every state reaches every other state via an event with a small logic
+            builders.add(() -> {
+                List<Transition<String, String, Map<String, Object>>> txs = new ArrayList<>();
+                for (String next : STATES) {
+                    txs.add(
+                        new Transition.Builder<String, String, Map<String, Object>>()
+                            .event("TO_" + next)
+                            .nextState(next)
+                            .<Object, String>withInternalLogic((c, n, e, ctx, i) -> Optional.of(n))
+                            .build()
+                    );
+                }
+                return new FsmState<>(state, txs);
+            });
+        }
+
+        factory = new TestFactory(builders);
+    }
+
+    @Benchmark
+    public Optional<String> compiled() {
+        Fsm<String, String, Map<String, Object>> fsm = factory.create("RUNNING", new HashMap<>());
+        return fsm.perform("TO_COMPLETED", null);
+    }
+
+    @Benchmark
+    public Optional<String> rebuilt() throws InterruptedException {
+        //graph and lock allocated for every transition
+        Fsm<String, String, Map<String, Object>> fsm = new Fsm<>(factory.compile(), "RUNNING", new HashMap<>());
+        ReentrantLock lock = new ReentrantLock();
+        if (lock.tryLock(180, TimeUnit.SECONDS)) {
+            try {
+                return fsm.perform("TO_COMPLETED", null);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FsmBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    private static class TestFactory extends AbstractFsmFactory<String, String, Map<String, Object>> {
+
+        TestFactory(List<FsmState.Builder<String, String, Map<String, Object>>> builders) {
+            super(builders);
+        }
+    }
+}
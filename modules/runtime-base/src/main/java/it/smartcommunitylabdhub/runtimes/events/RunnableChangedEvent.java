@@ -24,6 +24,7 @@
 package it.smartcommunitylabdhub.runtimes.events;
 
 import it.smartcommunitylabdhub.commons.infrastructure.RunRunnable;
+import java.io.Serializable;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -35,7 +36,7 @@ import lombok.Setter;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-public class RunnableChangedEvent<R extends RunRunnable> {
+public class RunnableChangedEvent<R extends RunRunnable> implements Serializable {
 
     private R runnable;
     private String state;
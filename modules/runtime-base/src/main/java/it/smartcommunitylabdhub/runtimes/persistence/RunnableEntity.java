@@ -48,4 +48,10 @@ public class RunnableEntity {
     private String clazz;
 
     private byte[] data;
+
+    //detached fields, loaded only on demand
+    private byte[] results;
+
+    //digest of the detached fields, to skip rewriting unchanged results
+    private String digest;
 }
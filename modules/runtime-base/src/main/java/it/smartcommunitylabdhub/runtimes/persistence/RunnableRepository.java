@@ -41,20 +41,47 @@ import org.springframework.util.Assert;
 public class RunnableRepository {
 
     private static final String INSERT_SQL =
-        "INSERT INTO runnables (id, _user, created, updated, _clazz, _data) VALUES (?, ?, ?, ?, ?, ?)";
-    private static final String UPDATE_SQL = "UPDATE runnables SET _data = ?, updated = ? WHERE id = ? AND _clazz = ?";
+        "INSERT INTO runnables (id, _user, created, updated, _clazz, _data, _results, _results_digest) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL =
+        "UPDATE runnables SET _data = ?, _results = ?, _results_digest = ?, updated = ? WHERE id = ? AND _clazz = ?";
+    private static final String UPDATE_STATE_SQL =
+        "UPDATE runnables SET _data = ?, updated = ? WHERE id = ? AND _clazz = ? AND _results_digest = ?";
     private static final String SELECT_SQL = "SELECT * FROM runnables WHERE id = ? and _clazz = ?";
     private static final String SELECT_ALL_SQL = "SELECT * FROM runnables WHERE _clazz = ?";
+    private static final String SELECT_ALL_STATE_SQL =
+        "SELECT id, _user, created, updated, _clazz, _data, _results_digest FROM runnables WHERE _clazz = ?";
     private static final String DELETE_SQL = "DELETE FROM runnables WHERE id = ? AND _clazz = ?";
 
+    private static final int[] INSERT_TYPES = {
+        Types.VARCHAR,
+        Types.VARCHAR,
+        Types.TIMESTAMP,
+        Types.TIMESTAMP,
+        Types.VARCHAR,
+        Types.BLOB,
+        Types.BLOB,
+        Types.VARCHAR,
+    };
+    private static final int[] UPDATE_TYPES = {
+        Types.BLOB,
+        Types.BLOB,
+        Types.VARCHAR,
+        Types.TIMESTAMP,
+        Types.VARCHAR,
+        Types.VARCHAR,
+    };
+
     private final JdbcTemplate jdbcTemplate;
     private RowMapper<RunnableEntity> rowMapper;
+    private RowMapper<RunnableEntity> stateRowMapper;
 
     public RunnableRepository(DataSource dataSource) {
         Assert.notNull(dataSource, "DataSource required");
         this.jdbcTemplate = new JdbcTemplate(dataSource);
 
-        this.rowMapper = new RunnableEntityRowMapper();
+        this.rowMapper = new RunnableEntityRowMapper(true);
+        this.stateRowMapper = new RunnableEntityRowMapper(false);
     }
 
     public void save(String clazz, RunnableEntity entity) {
@@ -64,11 +91,12 @@ public class RunnableRepository {
 
         Timestamp now = Timestamp.from(Instant.now());
         SqlLobValue lob = new SqlLobValue(entity.getData());
+        SqlLobValue results = new SqlLobValue(entity.getResults());
 
         jdbcTemplate.update(
             INSERT_SQL,
-            new Object[] { entity.getId(), entity.getUser(), now, now, clazz, lob },
-            new int[] { Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP, Types.VARCHAR, Types.BLOB }
+            new Object[] { entity.getId(), entity.getUser(), now, now, clazz, lob, results, entity.getDigest() },
+            INSERT_TYPES
         );
     }
 
@@ -79,11 +107,12 @@ public class RunnableRepository {
 
         Timestamp now = Timestamp.from(Instant.now());
         SqlLobValue lob = new SqlLobValue(entity.getData());
+        SqlLobValue results = new SqlLobValue(entity.getResults());
 
         jdbcTemplate.update(
             UPDATE_SQL,
-            new Object[] { lob, now, id, clazz },
-            new int[] { Types.BLOB, Types.TIMESTAMP, Types.VARCHAR, Types.VARCHAR }
+            new Object[] { lob, results, entity.getDigest(), now, id, clazz },
+            UPDATE_TYPES
         );
     }
 
@@ -111,6 +140,41 @@ public class RunnableRepository {
         return jdbcTemplate.query(SELECT_ALL_SQL, new Object[] { clazz }, new int[] { Types.VARCHAR }, rowMapper);
     }
 
+    /**
+     * List runnables without reading detached results
+     */
+    public List<RunnableEntity> findAllStates(String clazz) {
+        if (clazz == null) {
+            throw new IllegalArgumentException("invalid data");
+        }
+
+        return jdbcTemplate.query(
+            SELECT_ALL_STATE_SQL,
+            new Object[] { clazz },
+            new int[] { Types.VARCHAR },
+            stateRowMapper
+        );
+    }
+
+    /**
+     * Update only the state, leaving detached results untouched. Matches only rows whose stored results digest equals
+     * the entity digest, so that changed or unknown results are never skipped. Returns the number of updated rows.
+     */
+    public int updateState(String clazz, RunnableEntity entity) {
+        if (clazz == null || entity == null || entity.getId() == null) {
+            throw new IllegalArgumentException("invalid data");
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        SqlLobValue lob = new SqlLobValue(entity.getData());
+
+        return jdbcTemplate.update(
+            UPDATE_STATE_SQL,
+            new Object[] { lob, now, entity.getId(), clazz, entity.getDigest() },
+            new int[] { Types.BLOB, Types.TIMESTAMP, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR }
+        );
+    }
+
     public void upsert(String clazz, RunnableEntity entity) {
         if (clazz == null || entity == null || entity.getId() == null) {
             throw new IllegalArgumentException("invalid data");
@@ -120,19 +184,30 @@ public class RunnableRepository {
 
         // Try UPDATE first (common path: record already exists)
         SqlLobValue lob = new SqlLobValue(entity.getData());
+        SqlLobValue results = new SqlLobValue(entity.getResults());
         int updated = jdbcTemplate.update(
             UPDATE_SQL,
-            new Object[] { lob, now, entity.getId(), clazz },
-            new int[] { Types.BLOB, Types.TIMESTAMP, Types.VARCHAR, Types.VARCHAR }
+            new Object[] { lob, results, entity.getDigest(), now, entity.getId(), clazz },
+            UPDATE_TYPES
         );
 
         if (updated == 0) {
             // Record does not exist yet — INSERT
             SqlLobValue lobInsert = new SqlLobValue(entity.getData());
+            SqlLobValue resultsInsert = new SqlLobValue(entity.getResults());
             jdbcTemplate.update(
                 INSERT_SQL,
-                new Object[] { entity.getId(), entity.getUser(), now, now, clazz, lobInsert },
-                new int[] { Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP, Types.VARCHAR, Types.BLOB }
+                new Object[] {
+                    entity.getId(),
+                    entity.getUser(),
+                    now,
+                    now,
+                    clazz,
+                    lobInsert,
+                    resultsInsert,
+                    entity.getDigest(),
+                },
+                INSERT_TYPES
             );
         }
     }
@@ -147,6 +222,12 @@ public class RunnableRepository {
 
     private class RunnableEntityRowMapper implements RowMapper<RunnableEntity> {
 
+        private final boolean withResults;
+
+        RunnableEntityRowMapper(boolean withResults) {
+            this.withResults = withResults;
+        }
+
         @Override
         public RunnableEntity mapRow(ResultSet rs, int rowNum) throws SQLException {
             String id = rs.getString("id");
@@ -156,12 +237,14 @@ public class RunnableRepository {
 
             String clazz = rs.getString("_clazz");
             byte[] data = rs.getBytes("_data");
+            byte[] results = withResults ? rs.getBytes("_results") : null;
+            String digest = rs.getString("_results_digest");
 
             if (id == null || clazz == null) {
                 return null;
             }
 
-            return new RunnableEntity(id, user, created, updated, clazz, data);
+            return new RunnableEntity(id, user, created, updated, clazz, data, results, digest);
         }
     }
 }
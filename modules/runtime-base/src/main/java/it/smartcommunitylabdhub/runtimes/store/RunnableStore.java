@@ -36,5 +36,21 @@ public interface RunnableStore<T extends RunRunnable> extends ResolvableTypeProv
 
     T find(@NotNull String id) throws StoreException;
 
+    /**
+     * Read a complete runnable bypassing any cache: the returned instance is owned by the caller
+     * and can be modified before storing it back.
+     */
+    default T load(@NotNull String id) throws StoreException {
+        return find(id);
+    }
+
     List<T> findAll();
+
+    /**
+     * List runnables with only their state, fields stored detached (such as results) are not loaded.
+     * Use {@link #find(String)} to read a complete runnable before updating it.
+     */
+    default List<T> findAllStates() {
+        return findAll();
+    }
 }
@@ -23,15 +23,22 @@
 
 package it.smartcommunitylabdhub.runtimes.store;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import it.smartcommunitylabdhub.commons.exceptions.StoreException;
 import it.smartcommunitylabdhub.commons.infrastructure.RunRunnable;
 import it.smartcommunitylabdhub.commons.jackson.JacksonMapper;
 import it.smartcommunitylabdhub.runtimes.persistence.RunnableEntity;
 import it.smartcommunitylabdhub.runtimes.persistence.RunnableRepository;
 import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
@@ -49,6 +56,9 @@ public class RunnableStoreImpl<T extends RunRunnable> implements RunnableStore<T
     private final TransactionTemplate transactionTemplate;
     private ObjectMapper objectMapper;
 
+    //fields stored apart from the state, read only for single runnables
+    private Set<String> detached = Collections.emptySet();
+
     public RunnableStoreImpl(
             Class<T> clazz,
             RunnableRepository runnableRepository,
@@ -69,18 +79,32 @@ public class RunnableStoreImpl<T extends RunRunnable> implements RunnableStore<T
         this.objectMapper = objectMapper;
     }
 
+    public void setDetached(String... fields) {
+        Assert.notNull(fields, "fields can not be null");
+        this.detached = Set.of(fields);
+    }
+
     @Override
     @Cacheable(cacheResolver = "resolvableTypeCacheResolver", value = "store.find", key = "#id", unless = "#result == null")
     public T find(String id) throws StoreException {
         log.debug("find runnable {} with id {}", clazz.getName(), id);
+        return fetch(id);
+    }
+
+    @Override
+    public T load(String id) throws StoreException {
+        log.debug("load runnable {} with id {}", clazz.getName(), id);
+        return fetch(id);
+    }
 
+    private T fetch(String id) throws StoreException {
         RunnableEntity runnableEntity = runnableRepository.find(clazz.getName(), id);
         if (runnableEntity == null) {
             return null;
         }
 
         try {
-            return objectMapper.readValue(runnableEntity.getData(), clazz);
+            return read(runnableEntity);
         } catch (IOException ex) {
             // Handle serialization error
             log.error("error deserializing runnable: {}", ex.getMessage());
@@ -93,6 +117,30 @@ public class RunnableStoreImpl<T extends RunRunnable> implements RunnableStore<T
         log.debug("find all runnable {}", clazz.getName());
 
         List<RunnableEntity> entities = runnableRepository.findAll(clazz.getName());
+        return entities
+                .stream()
+                .map(entity -> {
+                    try {
+                        return read(entity);
+                    } catch (IOException e) {
+                        // Handle deserialization error
+                        log.error("error deserializing runnable: {}", e.getMessage());
+                        return null;
+                    }
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<T> findAllStates() {
+        if (detached.isEmpty()) {
+            return findAll();
+        }
+
+        log.debug("find all runnable states {}", clazz.getName());
+
+        List<RunnableEntity> entities = runnableRepository.findAllStates(clazz.getName());
         return entities
                 .stream()
                 .map(entity -> {
@@ -113,10 +161,39 @@ public class RunnableStoreImpl<T extends RunRunnable> implements RunnableStore<T
     public void store(String id, T e) throws StoreException {
         log.debug("store runnable {} with id {}", clazz.getName(), id);
         try {
-            byte[] data = objectMapper.writeValueAsBytes(e);
-            RunnableEntity entity = RunnableEntity.builder().id(id).user(e.getUser()).data(data).build();
-
-            transactionTemplate.executeWithoutResult(status -> runnableRepository.upsert(clazz.getName(), entity));
+            byte[] data;
+            byte[] results = null;
+            if (detached.isEmpty()) {
+                data = objectMapper.writeValueAsBytes(e);
+            } else {
+                //split detached fields from state
+                ObjectNode node = objectMapper.valueToTree(e);
+                ObjectNode extra = objectMapper.createObjectNode();
+                for (String field : detached) {
+                    JsonNode value = node.remove(field);
+                    if (value != null && !value.isNull()) {
+                        extra.set(field, value);
+                    }
+                }
+
+                data = objectMapper.writeValueAsBytes(node);
+                results = extra.isEmpty() ? null : objectMapper.writeValueAsBytes(extra);
+            }
+
+            RunnableEntity entity = RunnableEntity.builder()
+                    .id(id)
+                    .user(e.getUser())
+                    .data(data)
+                    .results(results)
+                    .digest(detached.isEmpty() ? null : digest(results))
+                    .build();
+
+            transactionTemplate.executeWithoutResult(status -> {
+                //write only the state when the stored results digest matches, fall back to full upsert
+                if (entity.getDigest() == null || runnableRepository.updateState(clazz.getName(), entity) == 0) {
+                    runnableRepository.upsert(clazz.getName(), entity);
+                }
+            });
         } catch (IOException ex) {
             // Handle serialization error
             log.error("error serializing runnable: {}", ex.getMessage());
@@ -132,6 +209,34 @@ public class RunnableStoreImpl<T extends RunRunnable> implements RunnableStore<T
         transactionTemplate.executeWithoutResult(status -> runnableRepository.delete(clazz.getName(), id));
     }
 
+    private T read(RunnableEntity entity) throws IOException {
+        if (entity.getResults() == null) {
+            return objectMapper.readValue(entity.getData(), clazz);
+        }
+
+        //merge detached fields back into state
+        ObjectNode node = (ObjectNode) objectMapper.readTree(entity.getData());
+        JsonNode extra = objectMapper.readTree(entity.getResults());
+        if (extra instanceof ObjectNode extraNode) {
+            node.setAll(extraNode);
+        }
+
+        return objectMapper.treeToValue(node, clazz);
+    }
+
+    private static String digest(byte[] bytes) {
+        if (bytes == null) {
+            return "";
+        }
+
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException ex) {
+            //always available
+            throw new IllegalStateException(ex);
+        }
+    }
+
     @Override
     public ResolvableType getResolvableType() {
         return ResolvableType.forClass(this.clazz);
@@ -0,0 +1,203 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.runtimes.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import it.smartcommunitylabdhub.commons.infrastructure.RunRunnable;
+import it.smartcommunitylabdhub.commons.jackson.JacksonMapper;
+import it.smartcommunitylabdhub.runtimes.persistence.RunnableEntity;
+import it.smartcommunitylabdhub.runtimes.persistence.RunnableRepository;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class RunnableStoreImplTest {
+
+    private RunnableRepository repository;
+    private RunnableStoreImpl<TestRunnable> store;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RunnableRepository.class);
+        store = new RunnableStoreImpl<>(TestRunnable.class, repository, mock(PlatformTransactionManager.class));
+        store.setDetached("results");
+    }
+
+    @Test
+    void resultsAreStoredApartFromState() throws Exception {
+        TestRunnable runnable = new TestRunnable();
+        runnable.setId("run1");
+        runnable.setState("RUNNING");
+        runnable.setResults(new HashMap<>(Map.of("job", "large k8s object")));
+
+        store.store("run1", runnable);
+
+        ArgumentCaptor<RunnableEntity> captor = ArgumentCaptor.forClass(RunnableEntity.class);
+        verify(repository).upsert(eq(TestRunnable.class.getName()), captor.capture());
+        RunnableEntity entity = captor.getValue();
+
+        assertFalse(JacksonMapper.CBOR_OBJECT_MAPPER.readTree(entity.getData()).has("results"));
+        assertNotNull(entity.getResults());
+
+        //complete read merges results back
+        when(repository.find(TestRunnable.class.getName(), "run1")).thenReturn(entity);
+        TestRunnable found = store.find("run1");
+        assertEquals("RUNNING", found.getState());
+        assertEquals(Map.of("job", "large k8s object"), found.getResults());
+
+        //state listing skips results
+        RunnableEntity state = RunnableEntity.builder().id("run1").data(entity.getData()).build();
+        when(repository.findAllStates(any())).thenReturn(List.of(state));
+        List<TestRunnable> states = store.findAllStates();
+        assertEquals(1, states.size());
+        assertEquals("RUNNING", states.get(0).getState());
+        assertNull(states.get(0).getResults());
+    }
+
+    @Test
+    void unchangedResultsAreNotRewritten() throws Exception {
+        Map<String, RunnableEntity> rows = stored();
+
+        TestRunnable runnable = new TestRunnable();
+        runnable.setId("run1");
+        runnable.setState("RUNNING");
+        runnable.setResults(new HashMap<>(Map.of("job", "large k8s object")));
+        store.store("run1", runnable);
+        verify(repository, times(1)).upsert(any(), any());
+        assertNotNull(rows.get("run1").getDigest());
+
+        //state changes only: results are kept as stored
+        TestRunnable loaded = store.load("run1");
+        loaded.setState("COMPLETED");
+        store.store("run1", loaded);
+        verify(repository, times(1)).upsert(any(), any());
+        assertEquals("COMPLETED", store.load("run1").getState());
+
+        //results change: full write
+        loaded.getResults().put("pods", "more");
+        store.store("run1", loaded);
+        verify(repository, times(2)).upsert(any(), any());
+        assertEquals("more", store.load("run1").getResults().get("pods"));
+    }
+
+    @Test
+    void resultsWrittenByAnotherNodeAreNotSkipped() throws Exception {
+        stored();
+        RunnableStoreImpl<TestRunnable> other = new RunnableStoreImpl<>(
+            TestRunnable.class,
+            repository,
+            mock(PlatformTransactionManager.class)
+        );
+        other.setDetached("results");
+
+        TestRunnable runnable = new TestRunnable();
+        runnable.setId("run1");
+        runnable.setState("RUNNING");
+        runnable.setResults(new HashMap<>(Map.of("job", "first")));
+        store.store("run1", runnable);
+
+        //another replica replaces the results
+        TestRunnable replaced = other.load("run1");
+        replaced.getResults().put("job", "second");
+        other.store("run1", replaced);
+        assertEquals("second", store.load("run1").getResults().get("job"));
+
+        //this node writes its own results again: the stored digest differs, so results are rewritten
+        runnable.setState("COMPLETED");
+        store.store("run1", runnable);
+        verify(repository, times(3)).upsert(any(), any());
+        assertEquals("first", store.load("run1").getResults().get("job"));
+        assertEquals("COMPLETED", store.load("run1").getState());
+    }
+
+    //in memory rows, state only updates match on the stored digest as the repository does
+    private Map<String, RunnableEntity> stored() {
+        Map<String, RunnableEntity> rows = new HashMap<>();
+        when(repository.find(eq(TestRunnable.class.getName()), any())).thenAnswer(i -> rows.get(i.getArgument(1)));
+        doAnswer(i -> {
+                RunnableEntity entity = i.getArgument(1);
+                rows.put(entity.getId(), entity);
+                return null;
+            })
+            .when(repository)
+            .upsert(any(), any());
+        when(repository.updateState(any(), any())).thenAnswer(i -> {
+            RunnableEntity entity = i.getArgument(1);
+            RunnableEntity row = rows.get(entity.getId());
+            if (row == null || row.getDigest() == null || !row.getDigest().equals(entity.getDigest())) {
+                return 0;
+            }
+
+            rows.put(
+                entity.getId(),
+                RunnableEntity.builder()
+                    .id(row.getId())
+                    .data(entity.getData())
+                    .results(row.getResults())
+                    .digest(row.getDigest())
+                    .build()
+            );
+            return 1;
+        });
+
+        return rows;
+    }
+
+    @Getter
+    @Setter
+    public static class TestRunnable implements RunRunnable {
+
+        private String id;
+        private String user;
+        private String project;
+        private String task;
+        private String state;
+        private String message;
+        private String error;
+        private Map<String, Serializable> results;
+
+        @Override
+        public String getFramework() {
+            return "test";
+        }
+    }
+}
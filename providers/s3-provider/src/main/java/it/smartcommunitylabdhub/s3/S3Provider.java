@@ -27,6 +27,7 @@ import it.smartcommunitylabdhub.files.service.FilesService;
 import it.smartcommunitylabdhub.s3.base.S3BaseProvider;
 import it.smartcommunitylabdhub.s3.config.S3Config;
 import it.smartcommunitylabdhub.s3.config.S3Properties;
+import it.smartcommunitylabdhub.s3.files.S3ClientCache;
 import it.smartcommunitylabdhub.s3.files.S3FilesStore;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
@@ -37,12 +38,15 @@ import org.springframework.util.StringUtils;
 public class S3Provider extends S3BaseProvider implements ConfigurationProvider, InitializingBean {
 
     private final FilesService filesService;
+    private final S3ClientCache clients;
 
-    public S3Provider(FilesService filesService, S3Properties s3Properties) {
+    public S3Provider(FilesService filesService, S3Properties s3Properties, S3ClientCache clients) {
         super(s3Properties);
         Assert.notNull(filesService, "files service is required");
+        Assert.notNull(clients, "client cache is required");
 
         this.filesService = filesService;
+        this.clients = clients;
     }
 
     @Override
@@ -51,7 +55,7 @@ public class S3Provider extends S3BaseProvider implements ConfigurationProvider,
 
         if (config != null) {
             //build a file store
-            S3FilesStore store = new S3FilesStore(config);
+            S3FilesStore store = new S3FilesStore(config, clients);
 
             //register with service
             if (StringUtils.hasText(properties.getBucket())) {
@@ -55,6 +55,8 @@ public class S3Properties {
 
     private String policyTemplate;
 
+    private ClientProperties client = new ClientProperties();
+
     public boolean isStaticProviderEnabled() {
         return (
             ((enable != null && enable.booleanValue()) &&
@@ -83,4 +85,21 @@ public class S3Properties {
     public String getBucket() {
         return bucket != null && !bucket.isBlank() ? bucket : null;
     }
+
+    @Getter
+    @Setter
+    @ToString
+    public static class ClientProperties {
+
+        private int maxConnections = 50;
+
+        //timeouts in seconds
+        private int connectionTimeout = 10;
+        private int socketTimeout = 60;
+        private int connectionMaxIdle = 60;
+
+        //max number of cached clients, evicted after idle expiry (seconds)
+        private int cacheSize = 100;
+        private int cacheExpiry = 600;
+    }
 }
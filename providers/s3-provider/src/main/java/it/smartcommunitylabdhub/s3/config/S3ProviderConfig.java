@@ -20,6 +20,7 @@ import it.smartcommunitylabdhub.commons.config.YamlPropertySourceFactory;
 import it.smartcommunitylabdhub.files.service.FilesService;
 import it.smartcommunitylabdhub.s3.S3Provider;
 import it.smartcommunitylabdhub.s3.credentials.S3AssumeRoleProvider;
+import it.smartcommunitylabdhub.s3.files.S3ClientCache;
 import it.smartcommunitylabdhub.s3.credentials.S3StaticProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -32,10 +33,16 @@ import org.springframework.context.annotation.PropertySource;
 @EnableConfigurationProperties({ S3Properties.class })
 public class S3ProviderConfig {
 
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "credentials.provider.s3.enable", havingValue = "true", matchIfMissing = false)
+    S3ClientCache s3ClientCache(S3Properties s3Properties) {
+        return new S3ClientCache(s3Properties.getClient());
+    }
+
     @Bean
     @ConditionalOnProperty(name = "credentials.provider.s3.enable", havingValue = "true", matchIfMissing = false)
-    S3Provider s3Provider(FilesService filesService, S3Properties s3Properties) {
-        return new S3Provider(filesService, s3Properties);
+    S3Provider s3Provider(FilesService filesService, S3Properties s3Properties, S3ClientCache s3ClientCache) {
+        return new S3Provider(filesService, s3Properties, s3ClientCache);
     }
 
     @Bean
@@ -0,0 +1,286 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.s3.files;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import it.smartcommunitylabdhub.commons.exceptions.StoreException;
+import it.smartcommunitylabdhub.s3.config.S3Config;
+import it.smartcommunitylabdhub.s3.config.S3Properties;
+import jakarta.validation.constraints.NotNull;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * Cache of S3 clients and presigners, keyed by endpoint, region and credentials identity.
+ *
+ * Clients share a single pooled http client: rotated credentials produce a new key,
+ * stale entries expire when idle. Clients are handed out as reference counted leases:
+ * removed entries are closed only once the last lease in use is released.
+ */
+@Slf4j
+public class S3ClientCache implements AutoCloseable {
+
+    private final SdkHttpClient httpClient;
+    private final Cache<Key, Shared<S3Client>> clients;
+    private final Cache<Key, Shared<S3Presigner>> presigners;
+
+    public S3ClientCache() {
+        this(new S3Properties.ClientProperties());
+    }
+
+    public S3ClientCache(@NotNull S3Properties.ClientProperties properties) {
+        Assert.notNull(properties, "client properties are required");
+        log.debug("build s3 client cache with {}", properties);
+
+        this.httpClient =
+            ApacheHttpClient.builder()
+                .maxConnections(properties.getMaxConnections())
+                .connectionTimeout(Duration.ofSeconds(properties.getConnectionTimeout()))
+                .socketTimeout(Duration.ofSeconds(properties.getSocketTimeout()))
+                .connectionMaxIdleTime(Duration.ofSeconds(properties.getConnectionMaxIdle()))
+                .build();
+
+        this.clients =
+            CacheBuilder.newBuilder()
+                .maximumSize(properties.getCacheSize())
+                .expireAfterAccess(properties.getCacheExpiry(), TimeUnit.SECONDS)
+                .removalListener((RemovalListener<Key, Shared<S3Client>>) n -> n.getValue().release())
+                .build();
+
+        this.presigners =
+            CacheBuilder.newBuilder()
+                .maximumSize(properties.getCacheSize())
+                .expireAfterAccess(properties.getCacheExpiry(), TimeUnit.SECONDS)
+                .removalListener((RemovalListener<Key, Shared<S3Presigner>>) n -> n.getValue().release())
+                .build();
+    }
+
+    public Lease<S3Client> getClient(@NotNull S3Config config, @NotNull AwsCredentials credentials)
+        throws StoreException {
+        Key key = key(config, credentials);
+        try {
+            return lease(clients, key, () -> new Shared<>(key, buildClient(config, credentials)));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            log.error("error building s3 client for {}: {}", key.endpoint(), e.getCause().getMessage());
+            throw new StoreException("error with s3: " + e.getCause().getMessage());
+        }
+    }
+
+    public Lease<S3Presigner> getPresigner(@NotNull S3Config config, @NotNull AwsCredentials credentials)
+        throws StoreException {
+        Key key = key(config, credentials);
+        try {
+            return lease(presigners, key, () -> new Shared<>(key, buildPresigner(config, credentials)));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            log.error("error building s3 presigner for {}: {}", key.endpoint(), e.getCause().getMessage());
+            throw new StoreException("error with s3: " + e.getCause().getMessage());
+        }
+    }
+
+    public long size() {
+        clients.cleanUp();
+        presigners.cleanUp();
+        return clients.size() + presigners.size();
+    }
+
+    public void invalidateAll() {
+        clients.invalidateAll();
+        presigners.invalidateAll();
+    }
+
+    @Override
+    public void close() {
+        log.debug("close s3 client cache");
+        invalidateAll();
+        httpClient.close();
+    }
+
+    private static <T extends AutoCloseable> Lease<T> lease(
+        Cache<Key, Shared<T>> cache,
+        Key key,
+        Callable<Shared<T>> loader
+    ) throws ExecutionException {
+        while (true) {
+            Shared<T> shared = cache.get(key, loader);
+            if (shared.acquire()) {
+                return new Lease<>(shared);
+            }
+
+            //closed by a concurrent removal, drop the stale entry and load again
+            cache.asMap().remove(key, shared);
+        }
+    }
+
+    /*
+     * Builders
+     */
+
+    private S3Client buildClient(S3Config config, AwsCredentials credentials) {
+        log.debug("build s3 client for {}", String.valueOf(config.getEndpoint()));
+        S3ClientBuilder builder = S3Client.builder()
+            .httpClient(httpClient)
+            .credentialsProvider(StaticCredentialsProvider.create(credentials));
+
+        if (StringUtils.hasText(config.getEndpoint())) {
+            builder
+                .endpointOverride(URI.create(config.getEndpoint()))
+                //also enable path style for endpoint by default
+                .forcePathStyle(config.getPathStyle() != null ? config.getPathStyle().booleanValue() : true)
+                .region(config.getRegion() != null ? Region.of(config.getRegion()) : null);
+        }
+
+        return builder.build();
+    }
+
+    private S3Presigner buildPresigner(S3Config config, AwsCredentials credentials) {
+        log.debug("build s3 presigner for {}", String.valueOf(config.getEndpoint()));
+        S3Presigner.Builder builder = S3Presigner.builder()
+            .credentialsProvider(StaticCredentialsProvider.create(credentials));
+
+        if (StringUtils.hasText(config.getEndpoint())) {
+            builder
+                //also enable path style for endpoint by default
+                .serviceConfiguration(
+                    S3Configuration.builder()
+                        .pathStyleAccessEnabled(
+                            config.getPathStyle() != null ? config.getPathStyle().booleanValue() : true
+                        )
+                        .build()
+                )
+                .endpointOverride(URI.create(config.getEndpoint()))
+                .region(config.getRegion() != null ? Region.of(config.getRegion()) : null);
+        }
+
+        return builder.build();
+    }
+
+    private static void close(Key key, AutoCloseable client) {
+        if (client == null) {
+            return;
+        }
+
+        log.debug("close s3 client for {}", key != null ? key.endpoint() : null);
+        try {
+            client.close();
+        } catch (Exception e) {
+            log.warn("error closing s3 client: {}", e.getMessage());
+        }
+    }
+
+    //identify credentials without keeping secrets in the key
+    private static Key key(S3Config config, AwsCredentials credentials) {
+        String token = credentials instanceof AwsSessionCredentials session ? session.sessionToken() : "";
+        String fingerprint = Hashing.sha256()
+            .hashString(credentials.secretAccessKey() + ":" + token, StandardCharsets.UTF_8)
+            .toString();
+
+        return new Key(
+            config.getEndpoint(),
+            config.getRegion(),
+            config.getPathStyle(),
+            credentials.accessKeyId(),
+            fingerprint
+        );
+    }
+
+    private record Key(String endpoint, String region, Boolean pathStyle, String accessKey, String fingerprint) {}
+
+    //client shared between the cache and leases: the cache holds one reference until removal
+    private static class Shared<T extends AutoCloseable> {
+
+        private final Key key;
+        private final T client;
+        private final AtomicInteger refs = new AtomicInteger(1);
+
+        Shared(Key key, T client) {
+            this.key = key;
+            this.client = client;
+        }
+
+        boolean acquire() {
+            int count;
+            do {
+                count = refs.get();
+                if (count == 0) {
+                    return false;
+                }
+            } while (!refs.compareAndSet(count, count + 1));
+
+            return true;
+        }
+
+        void release() {
+            if (refs.decrementAndGet() == 0) {
+                close(key, client);
+            }
+        }
+    }
+
+    /**
+     * Client in use, to be released when done. Clients must not be used after release.
+     */
+    public static class Lease<T extends AutoCloseable> implements AutoCloseable {
+
+        private final Shared<T> shared;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(Shared<T> shared) {
+            this.shared = shared;
+        }
+
+        public T get() {
+            return shared.client;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                shared.release();
+            }
+        }
+    }
+}
@@ -35,7 +35,6 @@ import it.smartcommunitylabdhub.s3.config.S3Config;
 import it.smartcommunitylabdhub.s3.credentials.S3Credentials;
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
-import java.net.URI;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -53,11 +52,8 @@ import org.springframework.web.util.UriComponentsBuilder;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.exception.SdkException;
-import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
@@ -92,20 +88,22 @@ public class S3FilesStore implements FilesStore {
     public static final int MAX_KEYS = 200;
 
     private final S3Config config;
+    private final S3ClientCache clients;
     private final String endpoint;
     private final String bucket;
 
     private int urlDuration = URL_DURATION;
 
-    public S3FilesStore(S3Config config) {
+    public S3FilesStore(S3Config config, S3ClientCache clients) {
         Assert.notNull(config, "config can not be null");
+        Assert.notNull(clients, "client cache can not be null");
         this.config = config;
+        this.clients = clients;
 
         this.endpoint = config.getEndpoint();
         this.bucket = config.getBucket();
     }
 
-    //TODO add caching
     private @Nullable AwsCredentials getCredentials(S3Credentials s3Credentials) {
         if (!StringUtils.hasText(s3Credentials.getAccessKey()) || !StringUtils.hasText(s3Credentials.getSecretKey())) {
             return null;
@@ -127,48 +125,24 @@ public class S3FilesStore implements FilesStore {
         }
     }
 
-    private S3Client getClient(@NotNull S3Credentials s3Credentials) throws StoreException {
+    //clients are cached per credentials, release the lease when done
+    private S3ClientCache.Lease<S3Client> getClient(@NotNull S3Credentials s3Credentials) throws StoreException {
         AwsCredentials credentials = getCredentials(s3Credentials);
         if (credentials == null) {
             throw new StoreException("no credentials found");
         }
 
-        if (StringUtils.hasText(endpoint)) {
-            return S3Client.builder()
-                .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                .endpointOverride(URI.create(endpoint))
-                //also enable path style for endpoint by default
-                .forcePathStyle(config.getPathStyle() != null ? config.getPathStyle().booleanValue() : true)
-                .region(config.getRegion() != null ? Region.of(config.getRegion()) : null)
-                .build();
-        } else {
-            return S3Client.builder().credentialsProvider(StaticCredentialsProvider.create(credentials)).build();
-        }
+        return clients.getClient(config, credentials);
     }
 
-    private S3Presigner getPresignerClient(@NotNull S3Credentials s3Credentials) throws StoreException {
+    private S3ClientCache.Lease<S3Presigner> getPresignerClient(@NotNull S3Credentials s3Credentials)
+        throws StoreException {
         AwsCredentials credentials = getCredentials(s3Credentials);
         if (credentials == null) {
             throw new StoreException("no credentials found");
         }
 
-        if (StringUtils.hasText(endpoint)) {
-            return S3Presigner.builder()
-                .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                //also enable path style for endpoint by default
-                .serviceConfiguration(
-                    S3Configuration.builder()
-                        .pathStyleAccessEnabled(
-                            config.getPathStyle() != null ? config.getPathStyle().booleanValue() : true
-                        )
-                        .build()
-                )
-                .endpointOverride(URI.create(endpoint))
-                .region(config.getRegion() != null ? Region.of(config.getRegion()) : null)
-                .build();
-        } else {
-            return S3Presigner.builder().credentialsProvider(StaticCredentialsProvider.create(credentials)).build();
-        }
+        return clients.getPresigner(config, credentials);
     }
 
     private @Nullable S3Credentials extractCredentials(List<Credentials> credentials, String bucket) {
@@ -221,14 +195,14 @@ public class S3FilesStore implements FilesStore {
             log.trace("generating presigned download url for {}: {}", bucketName, key);
         }
 
-        try {
+        try (S3ClientCache.Lease<S3Presigner> lease = getPresignerClient(s3Credentials)) {
             //support single file in path for now
             if (key.endsWith("/")) {
                 log.warn("downloading folders is not supported: {}", path);
                 return null;
             }
 
-            S3Presigner presigner = getPresignerClient(s3Credentials);
+            S3Presigner presigner = lease.get();
 
             GetObjectPresignRequest preq = GetObjectPresignRequest.builder()
                 .signatureDuration(Duration.ofSeconds(expiresIn))
@@ -282,8 +256,8 @@ public class S3FilesStore implements FilesStore {
             delimiter = "/";
         }
 
-        try {
-            S3Client client = getClient(s3Credentials);
+        try (S3ClientCache.Lease<S3Client> lease = getClient(s3Credentials)) {
+            S3Client client = lease.get();
             //folder-like list of objects
             if (key.endsWith("/")) {
                 //check if we recieved a continuation token
@@ -394,14 +368,14 @@ public class S3FilesStore implements FilesStore {
             log.trace("generating presigned url for {}: {}", bucketName, key);
         }
 
-        try {
+        try (S3ClientCache.Lease<S3Presigner> lease = getPresignerClient(s3Credentials)) {
             //support single file in path for now
             if (key.endsWith("/")) {
                 log.warn("upload for folders is not supported: {}", path);
                 return null;
             }
 
-            S3Presigner presigner = getPresignerClient(s3Credentials);
+            S3Presigner presigner = lease.get();
 
             PutObjectPresignRequest preq = PutObjectPresignRequest.builder()
                 .signatureDuration(Duration.ofSeconds(urlDuration))
@@ -446,8 +420,8 @@ public class S3FilesStore implements FilesStore {
             log.trace("generating presigned multipart upload url for {}: {}", bucketName, key);
         }
 
-        try {
-            S3Client client = getClient(s3Credentials);
+        try (S3ClientCache.Lease<S3Client> lease = getClient(s3Credentials)) {
+            S3Client client = lease.get();
 
             //support single file in path for now
             if (key.endsWith("/")) {
@@ -498,8 +472,8 @@ public class S3FilesStore implements FilesStore {
             log.trace("generating presigned multipart upload part url for {}: {}", bucketName, key);
         }
 
-        try {
-            S3Presigner presigner = getPresignerClient(s3Credentials);
+        try (S3ClientCache.Lease<S3Presigner> lease = getPresignerClient(s3Credentials)) {
+            S3Presigner presigner = lease.get();
 
             //support single file in path for now
             if (key.endsWith("/")) {
@@ -561,8 +535,8 @@ public class S3FilesStore implements FilesStore {
             log.trace("generating presigned multipart complete upload url for {}: {}", bucketName, key);
         }
 
-        try {
-            S3Client client = getClient(s3Credentials);
+        try (S3ClientCache.Lease<S3Client> lease = getClient(s3Credentials)) {
+            S3Client client = lease.get();
 
             //support single file in path for now
             if (key.endsWith("/")) {
@@ -630,8 +604,8 @@ public class S3FilesStore implements FilesStore {
             delimiter = "/";
         }
 
-        try {
-            S3Client client = getClient(s3Credentials);
+        try (S3ClientCache.Lease<S3Client> lease = getClient(s3Credentials)) {
+            S3Client client = lease.get();
 
             if (key.endsWith("/")) {
                 //experimental: bulk delete folders with batch on pages
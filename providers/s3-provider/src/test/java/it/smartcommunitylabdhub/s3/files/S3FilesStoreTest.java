@@ -0,0 +1,151 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.s3.files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.sun.net.httpserver.HttpServer;
+import it.smartcommunitylabdhub.commons.exceptions.StoreException;
+import it.smartcommunitylabdhub.commons.infrastructure.Credentials;
+import it.smartcommunitylabdhub.files.models.FileInfo;
+import it.smartcommunitylabdhub.s3.config.S3Config;
+import it.smartcommunitylabdhub.s3.credentials.S3Credentials;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Slice;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+
+/**
+ * Exercise the store against a stubbed S3 endpoint, checking that clients are reused
+ */
+class S3FilesStoreTest {
+
+    private HttpServer server;
+    private AtomicInteger requests;
+    private S3ClientCache clients;
+    private S3Config config;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        requests = new AtomicInteger();
+
+        //answer every HEAD as an existing object
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(
+            "/",
+            exchange -> {
+                requests.incrementAndGet();
+                exchange.getResponseHeaders().add("Content-Type", "text/plain");
+                exchange.getResponseHeaders().add("Last-Modified", "Wed, 01 Jan 2025 00:00:00 GMT");
+                exchange.getResponseHeaders().add("ETag", "\"abc\"");
+                exchange.getResponseHeaders().add("Content-Length", "3");
+                exchange.sendResponseHeaders(200, -1);
+                exchange.close();
+            }
+        );
+        server.start();
+
+        clients = new S3ClientCache();
+        config =
+            S3Config.builder()
+                .endpoint("http://127.0.0.1:" + server.getAddress().getPort())
+                .region("us-east-1")
+                .bucket("bucket")
+                .pathStyle(true)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clients.close();
+        server.stop(0);
+    }
+
+    @Test
+    void clientsAreReusedAcrossOperations() throws StoreException {
+        S3FilesStore store = new S3FilesStore(config, clients);
+        List<Credentials> credentials = List.of(credentials("token1"));
+
+        for (int i = 0; i < 5; i++) {
+            Slice<FileInfo> info = store.fileInfo("s3://bucket/data/file.txt", null, credentials, null);
+            assertEquals(1, info.getContent().size());
+            assertEquals("file.txt", info.getContent().get(0).getName());
+        }
+
+        store.downloadAsUrl("s3://bucket/data/file.txt", null, credentials);
+        store.downloadAsUrl("s3://bucket/data/file.txt", null, credentials);
+
+        assertEquals(5, requests.get());
+        //single client plus single presigner
+        assertEquals(2, clients.size());
+    }
+
+    @Test
+    void rotatedCredentialsGetNewClients() throws StoreException {
+        AwsBasicCredentials basic = AwsBasicCredentials.create("access", "secret");
+        assertSame(clients.getClient(config, basic).get(), clients.getClient(config, basic).get());
+
+        AwsSessionCredentials first = AwsSessionCredentials.create("access", "secret", "token1");
+        AwsSessionCredentials second = AwsSessionCredentials.create("access", "secret", "token2");
+        assertNotSame(clients.getClient(config, first).get(), clients.getClient(config, second).get());
+        assertEquals(3, clients.size());
+
+        //rotated clients still work against the same endpoint
+        S3FilesStore store = new S3FilesStore(config, clients);
+        store.fileInfo("s3://bucket/file.txt", null, List.of(credentials("token3")), null);
+        assertEquals(1, requests.get());
+
+        clients.invalidateAll();
+        assertEquals(0, clients.size());
+    }
+
+    @Test
+    void leasedClientsSurviveEviction() throws StoreException {
+        AwsBasicCredentials basic = AwsBasicCredentials.create("access", "secret");
+        try (S3ClientCache.Lease<S3Client> lease = clients.getClient(config, basic)) {
+            clients.invalidateAll();
+            assertEquals(0, clients.size());
+
+            //still usable by the holder, a new lease gets a new client
+            lease.get().headObject(HeadObjectRequest.builder().bucket("bucket").key("file.txt").build());
+            assertEquals(1, requests.get());
+            try (S3ClientCache.Lease<S3Client> other = clients.getClient(config, basic)) {
+                assertNotSame(lease.get(), other.get());
+            }
+        }
+    }
+
+    private static S3Credentials credentials(String token) {
+        return S3Credentials.builder().accessKey("access").secretKey("secret").sessionToken(token).build();
+    }
+}
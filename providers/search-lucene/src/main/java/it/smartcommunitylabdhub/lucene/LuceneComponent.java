@@ -31,7 +31,10 @@ import it.smartcommunitylabdhub.search.indexers.SearchGroupResult;
 import it.smartcommunitylabdhub.search.indexers.SearchPage;
 import it.smartcommunitylabdhub.search.service.SearchService;
 import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.lucene.document.Document;
 import org.springframework.beans.factory.InitializingBean;
@@ -98,6 +101,13 @@ public class LuceneComponent implements SearchService, InitializingBean {
         }
     }
 
+    public void removeDocs(Collection<String> ids) throws IndexerException {
+        Assert.notNull(ids, "ids can not be null");
+        if (indexManager != null) {
+            indexManager.removeDocs(ids);
+        }
+    }
+
     public void indexBounce(Iterable<Document> docs) throws IndexerException {
         Assert.notNull(docs, "docs can not be null");
         if (indexManager != null) {
@@ -140,4 +150,30 @@ public class LuceneComponent implements SearchService, InitializingBean {
             indexManager.clearIndexByType(type);
         }
     }
+
+    public String nextGeneration() {
+        return indexManager != null ? indexManager.nextGeneration() : null;
+    }
+
+    public void clearIndexByGeneration(String type, String generation) throws IndexerException {
+        Assert.hasText(generation, "generation can not be null or empty");
+        if (indexManager != null) {
+            indexManager.clearIndexByGeneration(type, generation);
+        }
+    }
+
+    public Instant getMark(String type) {
+        return indexManager != null ? indexManager.getMark(type) : null;
+    }
+
+    public void setMark(String type, Instant mark) throws IndexerException {
+        Assert.notNull(mark, "mark can not be null");
+        if (indexManager != null) {
+            indexManager.setMark(type, mark);
+        }
+    }
+
+    public Set<String> listIds(String type) throws IndexerException {
+        return indexManager != null ? indexManager.listIds(type) : null;
+    }
 }
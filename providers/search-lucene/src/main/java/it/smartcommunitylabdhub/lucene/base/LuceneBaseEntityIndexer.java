@@ -38,9 +38,11 @@ import it.smartcommunitylabdhub.search.indexers.EntityIndexer;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 import java.util.TimeZone;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
@@ -215,16 +217,12 @@ public class LuceneBaseEntityIndexer<D extends BaseDTO> implements EntityIndexer
     }
 
     @Override
-    public void indexAll(Collection<D> items) {
+    public void indexAll(Collection<D> items) throws StoreException {
         Assert.notNull(items, "entities can not be null");
         log.debug("index {} {}", items.size(), type);
 
-        try {
-            List<Document> docs = items.stream().map(e -> parse(e)).collect(Collectors.toList());
-            lucene.indexBounce(docs);
-        } catch (StoreException e) {
-            log.error("error with solr: {}", e.getMessage());
-        }
+        List<Document> docs = items.stream().map(e -> parse(e)).collect(Collectors.toList());
+        lucene.indexBounce(docs);
     }
 
     @Override
@@ -237,6 +235,50 @@ public class LuceneBaseEntityIndexer<D extends BaseDTO> implements EntityIndexer
         }
     }
 
+    @Override
+    public String beginReindex() {
+        //documents are replaced by id, stale ones are removed on completion
+        //generations are assigned by the index on write
+        return lucene.nextGeneration();
+    }
+
+    @Override
+    public void completeReindex(String generation) {
+        log.debug("complete reindex for {} at generation {}", type, generation);
+        try {
+            lucene.clearIndexByGeneration(EntityUtils.getEntityName(type).toLowerCase(), generation);
+        } catch (StoreException e) {
+            log.error("error with lucene: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public Instant getMark() {
+        return lucene.getMark(EntityUtils.getEntityName(type).toLowerCase());
+    }
+
+    @Override
+    public void setMark(Instant mark) throws StoreException {
+        lucene.setMark(EntityUtils.getEntityName(type).toLowerCase(), mark);
+    }
+
+    @Override
+    public Set<String> listIds() {
+        try {
+            return lucene.listIds(EntityUtils.getEntityName(type).toLowerCase());
+        } catch (StoreException e) {
+            log.error("error with lucene: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void removeAll(Collection<String> ids) throws StoreException {
+        Assert.notNull(ids, "ids can not be null");
+        log.debug("remove {} {} from index", ids.size(), type);
+        lucene.removeDocs(ids);
+    }
+
     @Override
     public void remove(D item) {
         Assert.notNull(item, "entity can not be null");
@@ -38,4 +38,15 @@ public class LuceneProperties {
 
     private String indexPath;
     private String reindex;
+
+    //near-real-time search, with batched commits
+    private boolean nrt = true;
+
+    //commit every interval (ms) or when pending writes reach max docs
+    private long commitInterval = 5000;
+    private long commitMaxDocs = 1000;
+
+    //bounds for searcher staleness (ms)
+    private long refreshMaxStale = 1000;
+    private long refreshMinStale = 25;
 }
@@ -25,6 +25,7 @@ package it.smartcommunitylabdhub.lucene.service;
 
 import it.smartcommunitylabdhub.lucene.config.LuceneProperties;
 import it.smartcommunitylabdhub.search.base.SearchPageImpl;
+import it.smartcommunitylabdhub.search.indexers.EntityIndexer;
 import it.smartcommunitylabdhub.search.indexers.IndexerException;
 import it.smartcommunitylabdhub.search.indexers.ItemResult;
 import it.smartcommunitylabdhub.search.indexers.SearchGroupResult;
@@ -34,32 +35,52 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiTerms;
+import org.apache.lucene.index.SegmentInfos;
 import org.apache.lucene.index.StoredFields;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
 import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
 import org.apache.lucene.queryparser.flexible.standard.StandardQueryParser;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.BooleanQuery.Builder;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TermRangeQuery;
+import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.grouping.GroupDocs;
 import org.apache.lucene.search.grouping.GroupingSearch;
 import org.apache.lucene.search.grouping.TopGroups;
@@ -75,6 +96,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
+/**
+ * Lucene index manager.
+ *
+ * Searches run on near-real-time searchers obtained from the writer via a
+ * SearcherManager, refreshed in background within a bounded staleness. Writes do
+ * not commit: commits are batched by a scheduler on time and pending size. When
+ * nrt is disabled every write is committed and searchers refreshed inline.
+ */
 @Slf4j
 public class LuceneManager {
 
@@ -82,8 +111,21 @@ public class LuceneManager {
     private Analyzer analyzer;
     private Directory directory;
     private IndexWriterConfig config;
-    private DirectoryReader ireader;
     private IndexWriter iwriter;
+    private SearcherManager searcherManager;
+    private ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+    private ScheduledExecutorService committer;
+
+    //writes not yet committed
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicBoolean committing = new AtomicBoolean(false);
+
+    //generation assigned to written documents, monotonic and never behind the index
+    private final AtomicLong generation = new AtomicLong();
+
+    //reindex marks by type, persisted as commit user data
+    private static final String MARK_PREFIX = "mark.";
+    private final Map<String, String> marks = new ConcurrentHashMap<>();
 
     public LuceneManager(LuceneProperties properties) {
         Assert.notNull(properties, "lucene properties can not be null");
@@ -98,12 +140,57 @@ public class LuceneManager {
                 Files.createDirectory(path);
             }
             directory = FSDirectory.open(path);
+            if (DirectoryReader.indexExists(directory)) {
+                marks.putAll(SegmentInfos.readLatestCommit(directory).getUserData());
+            }
+
             config = new IndexWriterConfig(analyzer);
             config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
             iwriter = new IndexWriter(directory, config);
+            iwriter.setLiveCommitData(new HashMap<>(marks).entrySet());
             iwriter.commit();
-            ireader = DirectoryReader.open(directory);
-            log.info("Lucene index initialized");
+
+            //resume generations from the index, the clock may be behind after a restart
+            try (DirectoryReader reader = DirectoryReader.open(iwriter)) {
+                Terms terms = MultiTerms.getTerms(reader, EntityIndexer.GENERATION_FIELD);
+                BytesRef max = terms != null ? terms.getMax() : null;
+                if (max != null) {
+                    generation.set(Long.parseLong(max.utf8ToString()));
+                }
+            } catch (NumberFormatException e) {
+                log.warn("invalid generation in index: {}", e.getMessage());
+            }
+
+            //nrt searchers from writer, applying deletes
+            searcherManager = new SearcherManager(iwriter, true, false, new SearcherFactory());
+
+            if (properties.isNrt()) {
+                reopenThread =
+                    new ControlledRealTimeReopenThread<>(
+                        iwriter,
+                        searcherManager,
+                        properties.getRefreshMaxStale() / 1000.0,
+                        properties.getRefreshMinStale() / 1000.0
+                    );
+                reopenThread.setName("lucene-nrt-reopen");
+                reopenThread.setDaemon(true);
+                reopenThread.start();
+
+                committer =
+                    Executors.newSingleThreadScheduledExecutor(r -> {
+                        Thread t = new Thread(r, "lucene-commit");
+                        t.setDaemon(true);
+                        return t;
+                    });
+                committer.scheduleWithFixedDelay(
+                    this::commitPending,
+                    properties.getCommitInterval(),
+                    properties.getCommitInterval(),
+                    TimeUnit.MILLISECONDS
+                );
+            }
+
+            log.info("Lucene index initialized, nrt {}", properties.isNrt());
         } catch (Exception e) {
             throw new IndexerException(e.getMessage());
         }
@@ -111,30 +198,77 @@ public class LuceneManager {
 
     public synchronized void close() throws IndexerException {
         try {
+            if (reopenThread != null) {
+                reopenThread.close();
+            }
+            if (committer != null) {
+                committer.shutdown();
+                committer.awaitTermination(properties.getCommitInterval(), TimeUnit.MILLISECONDS);
+            }
+
+            //flush pending writes
+            iwriter.commit();
+
+            searcherManager.close();
             iwriter.close();
-            ireader.close();
             directory.close();
             log.info("Lucene index closed");
         } catch (Exception e) {
             throw new IndexerException(e.getMessage());
+        } finally {
+            reopenThread = null;
+            committer = null;
         }
     }
 
-    public synchronized DirectoryReader getReader() throws IOException {
-        DirectoryReader newReader = DirectoryReader.openIfChanged(ireader);
-        if (newReader != null) ireader = newReader;
-        return ireader;
+    /**
+     * Refresh searchers to make all the writes visible
+     */
+    public void refresh() throws IOException {
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    /**
+     * Commit pending writes to durable storage
+     */
+    public void commit() throws IOException {
+        pending.set(0);
+        iwriter.commit();
+    }
+
+    /**
+     * Generation for a full reindex: strictly greater than the generation of every document
+     * written so far, and never greater than the generation of documents written later.
+     */
+    public String nextGeneration() {
+        long now = System.currentTimeMillis();
+        return format(generation.updateAndGet(g -> Math.max(g + 1, now)));
+    }
+
+    private String currentGeneration() {
+        long now = System.currentTimeMillis();
+        return format(generation.updateAndGet(g -> Math.max(g, now)));
+    }
+
+    private static String format(long generation) {
+        //sortable as a string
+        return String.format("%019d", generation);
+    }
+
+    private static void stamp(Document doc, String generation) {
+        doc.removeFields(EntityIndexer.GENERATION_FIELD);
+        doc.add(new StringField(EntityIndexer.GENERATION_FIELD, generation, Field.Store.NO));
     }
 
     public void indexDoc(Document doc) throws IndexerException {
         log.debug("index doc");
         try {
-            synchronized (iwriter) {
-                Term term = new Term("id", doc.get("id"));
-                iwriter.deleteDocuments(term);
-                iwriter.addDocument(doc);
-                iwriter.commit();
-            }
+            stamp(doc, currentGeneration());
+
+            //atomic delete+add, writer is thread safe
+            Term term = new Term("id", doc.get("id"));
+            iwriter.updateDocument(term, doc);
+            written(1);
         } catch (Exception e) {
             throw new IndexerException(e.getMessage());
         }
@@ -143,11 +277,21 @@ public class LuceneManager {
     public void removeDoc(String id) throws IndexerException {
         log.debug("remove doc {}", String.valueOf(id));
         try {
-            synchronized (iwriter) {
-                Term term = new Term("id", id);
-                iwriter.deleteDocuments(term);
-                iwriter.commit();
-            }
+            Term term = new Term("id", id);
+            iwriter.deleteDocuments(term);
+            written(1);
+        } catch (Exception e) {
+            throw new IndexerException(e.getMessage());
+        }
+    }
+
+    public void removeDocs(Collection<String> ids) throws IndexerException {
+        log.debug("remove {} docs", ids.size());
+        try {
+            //single delete for all the ids
+            Term[] terms = ids.stream().map(id -> new Term("id", id)).toArray(Term[]::new);
+            iwriter.deleteDocuments(terms);
+            written(terms.length);
         } catch (Exception e) {
             throw new IndexerException(e.getMessage());
         }
@@ -156,14 +300,15 @@ public class LuceneManager {
     public void indexBounce(Iterable<Document> docs) throws IndexerException {
         log.debug("index bounce docs");
         try {
-            synchronized (iwriter) {
-                for (Document doc : docs) {
-                    Term term = new Term("id", doc.get("id"));
-                    iwriter.deleteDocuments(term);
-                    iwriter.addDocument(doc);
-                }
-                iwriter.commit();
+            int count = 0;
+            String current = currentGeneration();
+            for (Document doc : docs) {
+                stamp(doc, current);
+                Term term = new Term("id", doc.get("id"));
+                iwriter.updateDocument(term, doc);
+                count++;
             }
+            written(count);
         } catch (Exception e) {
             throw new IndexerException(e.getMessage());
         }
@@ -172,10 +317,9 @@ public class LuceneManager {
     public void clearIndex() throws IndexerException {
         log.debug("clear index");
         try {
-            synchronized (iwriter) {
-                iwriter.deleteAll();
-                iwriter.commit();
-            }
+            iwriter.deleteAll();
+            commit();
+            refresh();
         } catch (Exception e) {
             throw new IndexerException(e.getMessage());
         }
@@ -184,21 +328,130 @@ public class LuceneManager {
     public void clearIndexByType(String type) throws IndexerException {
         log.debug("clear index {}", type);
         try {
-            synchronized (iwriter) {
-                Term term = new Term("type", type);
-                iwriter.deleteDocuments(term);
-                iwriter.commit();
+            Term term = new Term("type", type);
+            iwriter.deleteDocuments(term);
+            commit();
+            refresh();
+        } catch (Exception e) {
+            throw new IndexerException(e.getMessage());
+        }
+    }
+
+    /**
+     * Remove documents of the given type written before the given generation, as returned
+     * by nextGeneration, including documents without a generation
+     */
+    public void clearIndexByGeneration(String type, String generation) throws IndexerException {
+        log.debug("clear index {} before generation {}", type, generation);
+        try {
+            Query query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term("type", type)), BooleanClause.Occur.MUST)
+                .add(
+                    new TermRangeQuery(EntityIndexer.GENERATION_FIELD, new BytesRef(generation), null, true, true),
+                    BooleanClause.Occur.MUST_NOT
+                )
+                .build();
+            iwriter.deleteDocuments(query);
+            commit();
+            refresh();
+        } catch (Exception e) {
+            throw new IndexerException(e.getMessage());
+        }
+    }
+
+    /**
+     * Return the reindex mark stored for the given type, or null when none is stored
+     */
+    public Instant getMark(String type) {
+        String value = marks.get(MARK_PREFIX + type);
+        try {
+            return value != null ? Instant.ofEpochMilli(Long.parseLong(value)) : null;
+        } catch (NumberFormatException e) {
+            log.warn("invalid mark for {}: {}", type, value);
+            return null;
+        }
+    }
+
+    /**
+     * Store the reindex mark for the given type with the commit user data, durable together
+     * with the documents written so far
+     */
+    public synchronized void setMark(String type, Instant mark) throws IndexerException {
+        log.debug("set mark for {} to {}", type, mark);
+        try {
+            marks.put(MARK_PREFIX + type, String.valueOf(mark.toEpochMilli()));
+            iwriter.setLiveCommitData(new HashMap<>(marks).entrySet());
+            commit();
+        } catch (Exception e) {
+            throw new IndexerException(e.getMessage());
+        }
+    }
+
+    /**
+     * List the ids of the indexed documents of the given type
+     */
+    public Set<String> listIds(String type) throws IndexerException {
+        IndexSearcher isearcher = null;
+        try {
+            isearcher = searcherManager.acquire();
+
+            Set<String> ids = new HashSet<>();
+            StoredFields storedFields = isearcher.getIndexReader().storedFields();
+            Set<String> fields = Set.of("id");
+            int count = Math.max(1, isearcher.count(new TermQuery(new Term("type", type))));
+            TopDocs docs = isearcher.search(new TermQuery(new Term("type", type)), count);
+            for (ScoreDoc hit : docs.scoreDocs) {
+                String id = storedFields.document(hit.doc, fields).get("id");
+                if (id != null) {
+                    ids.add(id);
+                }
             }
+
+            return ids;
         } catch (Exception e) {
             throw new IndexerException(e.getMessage());
+        } finally {
+            release(isearcher);
+        }
+    }
+
+    //track writes and commit when over thresholds
+    private void written(int count) throws IOException {
+        if (!properties.isNrt()) {
+            //sync mode: commit and refresh inline
+            commit();
+            refresh();
+            return;
+        }
+
+        if (pending.addAndGet(count) >= properties.getCommitMaxDocs() && committer != null) {
+            //size bound reached, commit in background
+            committer.execute(this::commitPending);
+        }
+    }
+
+    private void commitPending() {
+        if (pending.get() == 0 || !committing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            long count = pending.getAndSet(0);
+            log.debug("commit {} pending writes", count);
+            iwriter.commit();
+        } catch (Exception e) {
+            log.error("error committing lucene index: {}", e.getMessage());
+        } finally {
+            committing.set(false);
         }
     }
 
     public SearchPage<ItemResult> itemSearch(String q, List<String> fq, Pageable pageRequest) throws IndexerException {
         log.debug("item search for {} {}", q, fq);
 
+        IndexSearcher isearcher = null;
         try {
-            IndexSearcher isearcher = new IndexSearcher(getReader());
+            isearcher = searcherManager.acquire();
 
             Map<String, List<String>> filters = new HashMap<>();
             QueryMapper queryMapper = prepareQuery(q, fq, pageRequest, filters, false);
@@ -222,7 +475,7 @@ public class LuceneManager {
             highlighter.setTextFragmenter(fragmenter);
 
             TopGroups<BytesRef> topGroups = groupingSearch.search(isearcher, queryMapper.getCompleteQuery(), 0, 1);
-            StoredFields storedFields = getReader().storedFields();
+            StoredFields storedFields = isearcher.getIndexReader().storedFields();
             List<ItemResult> result = new ArrayList<>();
             long total = 0;
             for (GroupDocs<BytesRef> groupDocs : topGroups.groups) {
@@ -239,6 +492,8 @@ public class LuceneManager {
             return new SearchPageImpl<ItemResult>(result, pageRequest, total, filters);
         } catch (Exception e) {
             throw new IndexerException(e.getMessage());
+        } finally {
+            release(isearcher);
         }
     }
 
@@ -246,8 +501,9 @@ public class LuceneManager {
         throws IndexerException {
         log.debug("group search for {} {}", q, fq);
 
+        IndexSearcher isearcher = null;
         try {
-            IndexSearcher isearcher = new IndexSearcher(getReader());
+            isearcher = searcherManager.acquire();
 
             Map<String, List<String>> filters = new HashMap<>();
             QueryMapper queryMapper = prepareQuery(q, fq, pageRequest, filters, true);
@@ -275,7 +531,7 @@ public class LuceneManager {
                 (int) pageRequest.getOffset(),
                 pageRequest.getPageSize()
             );
-            StoredFields storedFields = getReader().storedFields();
+            StoredFields storedFields = isearcher.getIndexReader().storedFields();
             List<SearchGroupResult> result = new ArrayList<>();
             for (GroupDocs<BytesRef> groupDocs : topGroups.groups) {
                 SearchGroupResult groupResult = new SearchGroupResult();
@@ -297,6 +553,18 @@ public class LuceneManager {
             return new SearchPageImpl<SearchGroupResult>(result, pageRequest, topGroups.totalGroupCount, filters);
         } catch (Exception e) {
             throw new IndexerException(e.getMessage());
+        } finally {
+            release(isearcher);
+        }
+    }
+
+    private void release(IndexSearcher isearcher) {
+        if (isearcher != null) {
+            try {
+                searcherManager.release(isearcher);
+            } catch (IOException e) {
+                log.error("error releasing searcher: {}", e.getMessage());
+            }
         }
     }
 
@@ -0,0 +1,233 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.lucene.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.smartcommunitylabdhub.commons.exceptions.StoreException;
+import it.smartcommunitylabdhub.commons.models.function.Function;
+import it.smartcommunitylabdhub.commons.models.queries.CursorPage;
+import it.smartcommunitylabdhub.commons.models.queries.CursorPageable;
+import it.smartcommunitylabdhub.commons.models.queries.SummaryPageable;
+import it.smartcommunitylabdhub.commons.repositories.EntityRepository;
+import it.smartcommunitylabdhub.lucene.LuceneComponent;
+import it.smartcommunitylabdhub.lucene.config.LuceneProperties;
+import it.smartcommunitylabdhub.search.base.BaseIndexableEntityService;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+class LuceneReindexChangedTest {
+
+    private static final OffsetDateTime OLD = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @TempDir
+    Path path;
+
+    private LuceneComponent lucene;
+    private RecordingIndexer indexer;
+    private MemoryRepository repository;
+    private BaseIndexableEntityService<Function> service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        LuceneProperties properties = new LuceneProperties();
+        properties.setIndexPath(path.resolve("index").toString());
+        properties.setNrt(false);
+
+        lucene = new LuceneComponent(properties);
+        lucene.afterPropertiesSet();
+
+        indexer = new RecordingIndexer(lucene);
+        repository = new MemoryRepository();
+
+        service = new BaseIndexableEntityService<>();
+        service.setIndexer(indexer);
+        service.setEntityService(repository);
+        service.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        lucene.close();
+    }
+
+    @Test
+    void changedMissingAndDeletedIds() throws Exception {
+        repository.put(function("f1", OLD));
+        repository.put(function("f2", OLD));
+        repository.put(function("f4", OLD));
+
+        //no mark yet: full pass, then the mark is stored
+        assertNull(indexer.getMark());
+        service.reindexChanged();
+        Instant mark = indexer.getMark();
+        assertNotNull(mark);
+        assertEquals(Set.of("f1", "f2", "f4"), indexer.listIds());
+
+        //f1 deleted, f2 changed, f3 missing from the index, f4 untouched
+        repository.items.remove("f1");
+        repository.put(function("f2", OffsetDateTime.now(ZoneOffset.UTC).plusHours(1)));
+        repository.put(function("f3", OLD));
+        indexer.indexed.clear();
+
+        service.reindexChanged();
+
+        assertEquals(List.of("f2", "f3"), indexer.indexed);
+        assertEquals(Set.of("f2", "f3", "f4"), indexer.listIds());
+        assertFalse(service.getReindexProgress().failed());
+        assertFalse(indexer.getMark().isBefore(mark));
+    }
+
+    @Test
+    void failedPassKeepsMark() throws Exception {
+        repository.put(function("f1", OLD));
+        service.reindexChanged();
+        Instant mark = indexer.getMark();
+
+        repository.put(function("f2", OLD));
+        indexer.failing = true;
+        service.reindexChanged();
+
+        assertTrue(service.getReindexProgress().failed());
+        assertEquals(mark, indexer.getMark());
+
+        //the next pass picks up the missing entity
+        indexer.failing = false;
+        service.reindexChanged();
+        assertEquals(Set.of("f1", "f2"), indexer.listIds());
+    }
+
+    private static Function function(String id, OffsetDateTime updated) {
+        Map<String, Serializable> metadata = new HashMap<>();
+        metadata.put("created", OLD);
+        metadata.put("updated", updated);
+
+        return Function.builder().id(id).name(id).kind("test").project("test").metadata(metadata).build();
+    }
+
+    private static class RecordingIndexer extends LuceneBaseEntityIndexer<Function> {
+
+        private final List<String> indexed = new ArrayList<>();
+        private boolean failing = false;
+
+        RecordingIndexer(LuceneComponent lucene) {
+            super(Function.class, lucene);
+        }
+
+        @Override
+        public void indexAll(Collection<Function> items) throws StoreException {
+            if (failing) {
+                throw new StoreException("index unavailable");
+            }
+
+            items.forEach(item -> indexed.add(item.getId()));
+            super.indexAll(items);
+        }
+    }
+
+    private static class MemoryRepository implements EntityRepository<Function> {
+
+        private final Map<String, Function> items = new LinkedHashMap<>();
+
+        void put(Function item) {
+            items.put(item.getId(), item);
+        }
+
+        @Override
+        public Class<Function> getType() {
+            return Function.class;
+        }
+
+        @Override
+        public Function create(Function dto) {
+            put(dto);
+            return dto;
+        }
+
+        @Override
+        public Function update(String id, Function dto) {
+            put(dto);
+            return dto;
+        }
+
+        @Override
+        public void delete(String id) {
+            items.remove(id);
+        }
+
+        @Override
+        public long deleteAll() {
+            int count = items.size();
+            items.clear();
+            return count;
+        }
+
+        @Override
+        public Function find(String id) {
+            return items.get(id);
+        }
+
+        @Override
+        public Function get(String id) {
+            return items.get(id);
+        }
+
+        @Override
+        public List<Function> listAll() {
+            return new ArrayList<>(items.values());
+        }
+
+        @Override
+        public Page<Function> list(Pageable page) {
+            Pageable pageable = page instanceof SummaryPageable summary ? summary.getPageable() : page;
+            List<Function> content = listAll();
+
+            //single keyset page
+            return pageable instanceof CursorPageable cursor
+                ? new CursorPage<>(content, cursor, null)
+                : new PageImpl<>(content, pageable, content.size());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.lucene.service;
+
+import it.smartcommunitylabdhub.lucene.config.LuceneProperties;
+import it.smartcommunitylabdhub.search.indexers.IndexerException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.util.BytesRef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Documents indexed per second by concurrent writers.
+ *
+ * With nrt disabled every document is committed and searchers refreshed inline, with nrt
+ * enabled writes are visible after the periodic refresh and durable after the periodic
+ * commit. Run via the main method on the test classpath, it is not part of the unit tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class LuceneManagerBenchmark {
+
+    @Param({ "false", "true" })
+    private boolean nrt;
+
+    private final AtomicLong counter = new AtomicLong();
+
+    private Path dir;
+    private LuceneManager manager;
+
+    @Setup
+    public void setUp() throws IOException, IndexerException {
+        dir = Files.createTempDirectory("lucene-bench");
+
+        LuceneProperties properties = new LuceneProperties();
+        properties.setIndexPath(dir.toString());
+        properties.setNrt(nrt);
+
+        manager = new LuceneManager(properties);
+        manager.init();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, IndexerException {
+        manager.close();
+        FileSystemUtils.deleteRecursively(dir);
+    }
+
+    @Benchmark
+    public void indexDoc() throws IndexerException {
+        manager.indexDoc(searchable("doc-" + counter.incrementAndGet()));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LuceneManagerBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    private static Document searchable(String id) {
+        Document doc = new Document();
+        doc.add(new StringField("id", id, Field.Store.YES));
+        doc.add(new StringField("type", "artifact", Field.Store.YES));
+        doc.add(new StringField("kind", "artifact", Field.Store.YES));
+        doc.add(new StringField("project", "test", Field.Store.YES));
+        doc.add(new SortedDocValuesField("project", new BytesRef("test")));
+        doc.add(new StringField("keyGroup", "artifact_test_" + id, Field.Store.YES));
+        doc.add(new SortedDocValuesField("keyGroup", new BytesRef("artifact_test_" + id)));
+        doc.add(new StringField("name", id, Field.Store.YES));
+        doc.add(new StringField("status", "CREATED", Field.Store.YES));
+        doc.add(new TextField("metadata.name", id, Field.Store.YES));
+        doc.add(new TextField("metadata.project", "test", Field.Store.YES));
+        return doc;
+    }
+}
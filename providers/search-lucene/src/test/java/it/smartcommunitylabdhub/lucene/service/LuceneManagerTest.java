@@ -0,0 +1,263 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.lucene.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.smartcommunitylabdhub.lucene.config.LuceneProperties;
+import it.smartcommunitylabdhub.search.indexers.EntityIndexer;
+import it.smartcommunitylabdhub.search.indexers.ItemResult;
+import it.smartcommunitylabdhub.search.indexers.SearchPage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageRequest;
+
+class LuceneManagerTest {
+
+    private static final int THREADS = 4;
+    private static final int DOCS = 500;
+
+    @TempDir
+    Path path;
+
+    private LuceneManager manager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        manager = manager(false, path.resolve("index"));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        manager.close();
+    }
+
+    @Test
+    void nrtAndSyncIndexAllDocs() throws Exception {
+        run(false, path.resolve("sync"));
+        run(true, path.resolve("nrt"));
+    }
+
+    @Test
+    void removedDocsAreNotVisible() throws Exception {
+        LuceneManager nrt = manager(true, path.resolve("remove"));
+        try {
+            nrt.indexDoc(searchable("d1"));
+            nrt.indexDoc(searchable("d2"));
+            nrt.indexDoc(searchable("d1"));
+            nrt.refresh();
+            assertEquals(2, count(nrt));
+
+            nrt.removeDoc("d1");
+            nrt.refresh();
+            assertEquals(1, count(nrt));
+        } finally {
+            nrt.close();
+        }
+    }
+
+    @Test
+    void reindexKeepsDocumentsUntilCompletion() throws Exception {
+        //documents written before the reindex, plus another type
+        manager.indexBounce(
+            List.of(doc("a1", "artifact", null), doc("a2", "artifact", null), doc("m1", "model", null))
+        );
+
+        String generation = manager.nextGeneration();
+
+        //a2 was deleted from the store: only a1 is reindexed
+        manager.indexBounce(List.of(doc("a1", "artifact", null)));
+        assertEquals(3, count(null));
+
+        manager.clearIndexByGeneration("artifact", generation);
+
+        assertEquals(1, count("a1"));
+        assertEquals(0, count("a2"));
+        assertEquals(1, count("m1"));
+        assertEquals(2, count(null));
+    }
+
+    @Test
+    void liveUpdatesDuringReindexAreKept() throws Exception {
+        manager.indexBounce(List.of(doc("a1", "artifact", null)));
+
+        //same millisecond, no wait needed
+        String generation = manager.nextGeneration();
+
+        //written while reindexing, a generation set by the caller is ignored
+        manager.indexDoc(doc("a3", "artifact", "0"));
+        manager.clearIndexByGeneration("artifact", generation);
+
+        assertEquals(0, count("a1"));
+        assertEquals(1, count("a3"));
+    }
+
+    @Test
+    void generationsResumeFromIndex() throws Exception {
+        String first = manager.nextGeneration();
+        String second = manager.nextGeneration();
+        assertTrue(second.compareTo(first) > 0);
+
+        manager.indexDoc(doc("a1", "artifact", null));
+        String written = manager.nextGeneration();
+        manager.close();
+
+        //a restarted manager never hands out a generation behind the stored documents
+        manager = manager(false, path.resolve("index"));
+        assertTrue(manager.nextGeneration().compareTo(written) >= 0);
+        manager.clearIndexByGeneration("artifact", manager.nextGeneration());
+        assertEquals(0, count("a1"));
+    }
+
+    @Test
+    void marksAndIdsByType() throws Exception {
+        assertNull(manager.getMark("artifact"));
+        assertTrue(manager.listIds("artifact").isEmpty());
+
+        manager.indexBounce(
+            List.of(doc("a1", "artifact", null), doc("a2", "artifact", null), doc("m1", "model", null))
+        );
+        manager.setMark("artifact", Instant.ofEpochMilli(1700000005000L));
+        manager.removeDocs(List.of("a2", "m1"));
+
+        assertEquals(Set.of("a1"), manager.listIds("artifact"));
+        assertTrue(manager.listIds("model").isEmpty());
+
+        //marks are durable across restarts
+        manager.close();
+        manager = manager(false, path.resolve("index"));
+        assertEquals(Instant.ofEpochMilli(1700000005000L), manager.getMark("artifact"));
+        assertNull(manager.getMark("model"));
+    }
+
+    private Document doc(String id, String type, String generation) {
+        Document doc = new Document();
+        doc.add(new StringField("id", id, Field.Store.YES));
+        doc.add(new StringField("type", type, Field.Store.YES));
+        if (generation != null) {
+            doc.add(new StringField(EntityIndexer.GENERATION_FIELD, generation, Field.Store.NO));
+        }
+        return doc;
+    }
+
+    private void run(boolean nrt, Path dir) throws Exception {
+        LuceneManager concurrent = manager(nrt, dir);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(
+                    executor.submit(() -> {
+                        for (int i = 0; i < DOCS; i++) {
+                            concurrent.indexDoc(searchable("doc-" + thread + "-" + i));
+                        }
+                        return null;
+                    })
+                );
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+
+            //all writes are searchable after refresh, and durable after commit
+            concurrent.refresh();
+            concurrent.commit();
+            assertEquals(THREADS * DOCS, count(concurrent));
+        } finally {
+            executor.shutdown();
+            concurrent.close();
+        }
+    }
+
+    private static LuceneManager manager(boolean nrt, Path dir) throws Exception {
+        LuceneProperties properties = new LuceneProperties();
+        properties.setIndexPath(dir.toString());
+        properties.setNrt(nrt);
+
+        LuceneManager manager = new LuceneManager(properties);
+        manager.init();
+        return manager;
+    }
+
+    private static long count(LuceneManager manager) throws Exception {
+        SearchPage<ItemResult> page = manager.itemSearch(null, List.of("project:test"), PageRequest.of(0, 1));
+        return page.getTotalElements();
+    }
+
+    private static Document searchable(String id) {
+        Document doc = new Document();
+        doc.add(new StringField("id", id, Field.Store.YES));
+        doc.add(new StringField("type", "artifact", Field.Store.YES));
+        doc.add(new StringField("kind", "artifact", Field.Store.YES));
+        doc.add(new StringField("project", "test", Field.Store.YES));
+        doc.add(new SortedDocValuesField("project", new BytesRef("test")));
+        doc.add(new StringField("keyGroup", "artifact_test_" + id, Field.Store.YES));
+        doc.add(new SortedDocValuesField("keyGroup", new BytesRef("artifact_test_" + id)));
+        doc.add(new StringField("name", id, Field.Store.YES));
+        doc.add(new StringField("status", "CREATED", Field.Store.YES));
+        doc.add(new TextField("metadata.name", id, Field.Store.YES));
+        doc.add(new TextField("metadata.description", "", Field.Store.YES));
+        doc.add(new TextField("metadata.project", "test", Field.Store.YES));
+        doc.add(new TextField("metadata.version", id, Field.Store.YES));
+        doc.add(new StringField("metadata.created", "2025-01-01T00:00:00.000+0000", Field.Store.YES));
+        doc.add(new StringField("metadata.updated", "2025-01-01T00:00:00.000+0000", Field.Store.YES));
+        return doc;
+    }
+
+    private int count(String id) throws IOException {
+        try (
+            FSDirectory directory = FSDirectory.open(path.resolve("index"));
+            DirectoryReader reader = DirectoryReader.open(directory)
+        ) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            return searcher.count(id != null ? new TermQuery(new Term("id", id)) : new MatchAllDocsQuery());
+        }
+    }
+}
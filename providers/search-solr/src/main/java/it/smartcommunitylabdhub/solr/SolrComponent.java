@@ -32,7 +32,10 @@ import it.smartcommunitylabdhub.solr.config.SolrProperties;
 import it.smartcommunitylabdhub.solr.indexers.SolrIndexField;
 import it.smartcommunitylabdhub.solr.service.SolrIndexManager;
 import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.solr.common.SolrInputDocument;
 import org.springframework.beans.factory.InitializingBean;
@@ -62,6 +65,7 @@ public class SolrComponent implements SearchService, InitializingBean {
             indexManager.init();
         } catch (IndexerException e) {
             log.error("error initializing solr: {}", e.getMessage());
+            close();
             indexManager = null;
         }
     }
@@ -98,6 +102,13 @@ public class SolrComponent implements SearchService, InitializingBean {
         }
     }
 
+    public void removeDocs(Collection<String> ids) throws IndexerException {
+        Assert.notNull(ids, "ids can not be null");
+        if (indexManager != null) {
+            indexManager.removeDocs(ids);
+        }
+    }
+
     public void indexBounce(Iterable<SolrInputDocument> docs) throws IndexerException {
         Assert.notNull(docs, "docs can not be null");
         if (indexManager != null) {
@@ -140,4 +151,30 @@ public class SolrComponent implements SearchService, InitializingBean {
             indexManager.clearIndexByType(type);
         }
     }
+
+    public String currentVersion() throws IndexerException {
+        return indexManager != null ? indexManager.currentVersion() : null;
+    }
+
+    public void clearIndexByGeneration(String type, String generation) throws IndexerException {
+        Assert.hasText(generation, "generation can not be null or empty");
+        if (indexManager != null) {
+            indexManager.clearIndexByGeneration(type, generation);
+        }
+    }
+
+    public Instant getMark(String type) throws IndexerException {
+        return indexManager != null ? indexManager.getMark(type) : null;
+    }
+
+    public void setMark(String type, Instant mark) throws IndexerException {
+        Assert.notNull(mark, "mark can not be null");
+        if (indexManager != null) {
+            indexManager.setMark(type, mark);
+        }
+    }
+
+    public Set<String> listIds(String type) throws IndexerException {
+        return indexManager != null ? indexManager.listIds(type) : null;
+    }
 }
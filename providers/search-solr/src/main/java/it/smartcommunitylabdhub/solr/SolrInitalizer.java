@@ -56,6 +56,9 @@ public class SolrInitalizer implements ApplicationListener<ApplicationStartedEve
         if (services != null && "always".equals(properties.getReindex())) {
             //reindex
             services.forEach(service -> service.reindexAll());
+        } else if (services != null && "changed".equals(properties.getReindex())) {
+            //reindex only entities updated or deleted since last run
+            services.forEach(service -> service.reindexChanged());
         }
     }
 }
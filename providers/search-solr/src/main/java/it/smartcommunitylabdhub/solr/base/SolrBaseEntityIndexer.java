@@ -37,10 +37,12 @@ import it.smartcommunitylabdhub.solr.SolrComponent;
 import it.smartcommunitylabdhub.solr.indexers.SolrIndexField;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.solr.common.SolrInputDocument;
@@ -196,18 +198,14 @@ public class SolrBaseEntityIndexer<D extends BaseDTO> implements EntityIndexer<D
     }
 
     @Override
-    public void indexAll(Collection<D> items) {
+    public void indexAll(Collection<D> items) throws StoreException {
         Assert.notNull(items, "entities can not be null");
         log.debug("index {} {}", items.size(), type);
 
         if (solr != null) {
-            try {
-                List<SolrInputDocument> docs = items.stream().map(e -> parse(e)).collect(Collectors.toList());
+            List<SolrInputDocument> docs = items.stream().map(e -> parse(e)).collect(Collectors.toList());
 
-                solr.indexBounce(docs);
-            } catch (StoreException e) {
-                log.error("error with solr: {}", e.getMessage());
-            }
+            solr.indexBounce(docs);
         }
     }
 
@@ -221,6 +219,60 @@ public class SolrBaseEntityIndexer<D extends BaseDTO> implements EntityIndexer<D
         }
     }
 
+    @Override
+    public String beginReindex() {
+        //documents are replaced by id, stale ones are removed on completion
+        //versions are assigned by solr on write, so they do not depend on local clocks
+        try {
+            return solr.currentVersion();
+        } catch (StoreException e) {
+            log.error("error with solr: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void completeReindex(String generation) {
+        log.debug("complete reindex for {} at generation {}", type, generation);
+        try {
+            solr.clearIndexByGeneration(EntityUtils.getEntityName(type), generation);
+        } catch (StoreException e) {
+            log.error("error with solr: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public Instant getMark() {
+        try {
+            return solr.getMark(EntityUtils.getEntityName(type));
+        } catch (StoreException e) {
+            log.error("error with solr: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void setMark(Instant mark) throws StoreException {
+        solr.setMark(EntityUtils.getEntityName(type), mark);
+    }
+
+    @Override
+    public Set<String> listIds() {
+        try {
+            return solr.listIds(EntityUtils.getEntityName(type));
+        } catch (StoreException e) {
+            log.error("error with solr: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void removeAll(Collection<String> ids) throws StoreException {
+        Assert.notNull(ids, "ids can not be null");
+        log.debug("remove {} {} from index", ids.size(), type);
+        solr.removeDocs(ids);
+    }
+
     @Override
     public void remove(D item) {
         Assert.notNull(item, "entity can not be null");
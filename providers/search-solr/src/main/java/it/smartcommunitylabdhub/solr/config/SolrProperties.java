@@ -48,4 +48,9 @@ public class SolrProperties {
     private Integer replicas;
 
     private String reindex;
+
+    private Integer batchSize;
+    private Integer commitWithin;
+    private Integer queueSize;
+    private Integer retries;
 }
@@ -39,14 +39,20 @@ import it.smartcommunitylabdhub.solr.config.SolrProperties;
 import it.smartcommunitylabdhub.solr.indexers.SolrIndexField;
 import java.io.IOException;
 import java.io.Serializable;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.solr.client.solrj.SolrQuery;
 import org.apache.solr.client.solrj.SolrServerException;
 import org.apache.solr.client.solrj.impl.Http2SolrClient;
 import org.apache.solr.client.solrj.impl.Http2SolrClient.Builder;
@@ -59,6 +65,7 @@ import org.apache.solr.common.SolrDocument;
 import org.apache.solr.common.SolrDocumentList;
 import org.apache.solr.common.SolrException;
 import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.params.CursorMarkParams;
 import org.apache.solr.common.params.MultiMapSolrParams;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpEntity;
@@ -78,9 +85,19 @@ public class SolrIndexManager {
         HashMap<String, Serializable>
     >() {};
 
+    //max wait for bulk operations to be visible
+    private static final long FLUSH_TIMEOUT = 60000;
+    private static final int IDS_PAGE_SIZE = 1000;
+    private static final String VERSION_FIELD = "_version_";
+
+    //marker documents hold reindex marks, reusing the update time field, hidden from searches
+    private static final String MARK_TYPE = "_mark";
+    private static final String MARK_FIELD = "metadata.updated";
+
     private final SolrProperties props;
     private final Http2SolrClient solrClient;
     private final RestTemplate restTemplate;
+    private final SolrIndexQueue indexQueue;
 
     private ObjectMapper mapper = new ObjectMapper()
         .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
@@ -103,6 +120,24 @@ public class SolrIndexManager {
         }
         solrClient = builder.build();
         restTemplate = new RestTemplate();
+
+        //async updates, batched with commitWithin
+        indexQueue =
+            new SolrIndexQueue(
+                solrClient,
+                props.getCollection(),
+                props.getQueueSize() != null ? props.getQueueSize() : 10000
+            );
+        if (props.getBatchSize() != null) {
+            indexQueue.setBatchSize(props.getBatchSize());
+        }
+        if (props.getCommitWithin() != null) {
+            indexQueue.setCommitWithin(props.getCommitWithin());
+        }
+        if (props.getRetries() != null) {
+            indexQueue.setRetries(props.getRetries());
+        }
+        indexQueue.start();
     }
 
     public void init() throws IndexerException {
@@ -239,6 +274,9 @@ public class SolrIndexManager {
     }
 
     public void close() throws IndexerException {
+        //drain pending updates before closing the client
+        indexQueue.close();
+
         if (solrClient != null) {
             solrClient.close();
         }
@@ -318,51 +356,142 @@ public class SolrIndexManager {
             log.trace("doc: {}", doc);
         }
 
-        try {
-            solrClient.add(props.getCollection(), doc);
-            solrClient.commit(props.getCollection());
-        } catch (SolrServerException | SolrException | IOException e) {
-            throw new IndexerException(e.getMessage());
-        }
+        indexQueue.add(doc);
     }
 
     public void removeDoc(String id) throws IndexerException {
         log.debug("remove doc {}", String.valueOf(id));
-        try {
-            solrClient.deleteById(props.getCollection(), id);
-            solrClient.commit(props.getCollection());
-        } catch (SolrServerException | SolrException | IOException e) {
-            throw new IndexerException(e.getMessage());
-        }
+        indexQueue.delete(id);
+    }
+
+    public void removeDocs(Collection<String> ids) throws IndexerException {
+        log.debug("remove {} docs", ids.size());
+
+        //single delete for all the ids
+        indexQueue.delete(ids);
+        indexQueue.flush(FLUSH_TIMEOUT);
     }
 
     public void clearIndex() throws IndexerException {
         log.debug("clear index");
-        try {
-            solrClient.deleteByQuery(props.getCollection(), "*:*");
-            solrClient.commit(props.getCollection());
-        } catch (SolrServerException | SolrException | IOException e) {
-            throw new IndexerException(e.getMessage());
-        }
+
+        //queue after pending updates and wait for completion
+        indexQueue.deleteByQuery("*:*");
+        indexQueue.flush(FLUSH_TIMEOUT);
     }
 
     public void clearIndexByType(String type) throws IndexerException {
         log.debug("clear index for type {}", String.valueOf(type));
+
+        indexQueue.deleteByQuery("type:" + type.trim());
+        indexQueue.flush(FLUSH_TIMEOUT);
+    }
+
+    /**
+     * Highest document version assigned by solr, as generation for a full reindex: documents
+     * written from now on get a greater version
+     */
+    public String currentVersion() throws IndexerException {
+        log.debug("current version");
+
         try {
-            solrClient.deleteByQuery(props.getCollection(), "type:" + type.trim());
-            solrClient.commit(props.getCollection());
+            SolrQuery query = new SolrQuery("*:*");
+            query.setFields(VERSION_FIELD);
+            query.setSort(VERSION_FIELD, SolrQuery.ORDER.desc);
+            query.setRows(1);
+
+            SolrDocumentList documents = solrClient.query(props.getCollection(), query).getResults();
+            Object version = documents.isEmpty() ? null : documents.get(0).getFieldValue(VERSION_FIELD);
+            return version != null ? String.valueOf(version) : "0";
         } catch (SolrServerException | SolrException | IOException e) {
             throw new IndexerException(e.getMessage());
         }
     }
 
+    /**
+     * Remove documents of the given type not written after the given version
+     */
+    public void clearIndexByGeneration(String type, String generation) throws IndexerException {
+        log.debug("clear index for type {} up to version {}", String.valueOf(type), generation);
+
+        String query = String.format(
+            "type:%s AND %s:[* TO %s]",
+            ClientUtils.escapeQueryChars(type.trim()),
+            VERSION_FIELD,
+            Long.parseLong(generation)
+        );
+        indexQueue.deleteByQuery(query);
+        indexQueue.flush(FLUSH_TIMEOUT);
+    }
+
     public void indexBounce(Iterable<SolrInputDocument> docs) throws IndexerException {
         log.debug("index bounce docs");
+        for (SolrInputDocument doc : docs) {
+            indexQueue.add(doc);
+        }
+
+        //bulk callers expect docs to be searchable on return
+        indexQueue.flush(FLUSH_TIMEOUT);
+    }
+
+    /**
+     * Return the reindex mark stored for the given type, or null when none is stored
+     */
+    public Instant getMark(String type) throws IndexerException {
+        log.debug("get mark for type {}", String.valueOf(type));
+
         try {
-            for (SolrInputDocument doc : docs) {
-                solrClient.add(props.getCollection(), doc);
+            //real time get, marks are read right after being written
+            SolrDocument doc = solrClient.getById(props.getCollection(), MARK_TYPE + "_" + type.trim());
+            Object mark = doc != null ? doc.getFieldValue(MARK_FIELD) : null;
+            return mark instanceof Date date ? date.toInstant() : null;
+        } catch (SolrServerException | SolrException | IOException e) {
+            throw new IndexerException(e.getMessage());
+        }
+    }
+
+    /**
+     * Store the reindex mark for the given type as a marker document, once every update
+     * queued so far is applied
+     */
+    public void setMark(String type, Instant mark) throws IndexerException {
+        log.debug("set mark for type {} to {}", String.valueOf(type), mark);
+
+        SolrInputDocument doc = new SolrInputDocument();
+        doc.addField("id", MARK_TYPE + "_" + type.trim());
+        doc.addField("type", MARK_TYPE);
+        doc.addField(MARK_FIELD, Date.from(mark));
+        indexQueue.add(doc);
+        indexQueue.flush(FLUSH_TIMEOUT);
+    }
+
+    public Set<String> listIds(String type) throws IndexerException {
+        log.debug("list ids for type {}", String.valueOf(type));
+
+        try {
+            //deep paging via cursor, requires a sort on the unique key
+            SolrQuery query = new SolrQuery("type:" + ClientUtils.escapeQueryChars(type.trim()));
+            query.setFields("id");
+            query.setSort("id", SolrQuery.ORDER.asc);
+            query.setRows(IDS_PAGE_SIZE);
+
+            Set<String> ids = new HashSet<>();
+            String cursor = CursorMarkParams.CURSOR_MARK_START;
+            while (true) {
+                query.set(CursorMarkParams.CURSOR_MARK_PARAM, cursor);
+                QueryResponse response = solrClient.query(props.getCollection(), query);
+                for (SolrDocument doc : response.getResults()) {
+                    ids.add((String) doc.getFieldValue("id"));
+                }
+
+                String next = response.getNextCursorMark();
+                if (next == null || next.equals(cursor)) {
+                    break;
+                }
+                cursor = next;
             }
-            solrClient.commit(props.getCollection());
+
+            return ids;
         } catch (SolrServerException | SolrException | IOException e) {
             throw new IndexerException(e.getMessage());
         }
@@ -424,6 +553,7 @@ public class SolrIndexManager {
         } else {
             MultiMapSolrParams.addParam("q", "*:*", queryParamMap);
         }
+        MultiMapSolrParams.addParam("fq", "-type:" + MARK_TYPE, queryParamMap);
         if (fq != null) {
             filters.put("fq", fq);
             fq.forEach(filter -> {
@@ -0,0 +1,348 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.solr.service;
+
+import it.smartcommunitylabdhub.search.indexers.IndexerException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.client.solrj.request.UpdateRequest;
+import org.apache.solr.common.SolrException;
+import org.apache.solr.common.SolrInputDocument;
+import org.springframework.util.Assert;
+
+/**
+ * Asynchronous, bounded indexing pipeline for a solr collection.
+ *
+ * Updates are buffered and sent by a single worker in batches, preserving their order,
+ * with commitWithin so that solr soft commits at most once per interval instead of
+ * opening a new searcher for every document. Producers block when the buffer is full,
+ * failed batches are retried with a linear backoff. Updates discarded after the last
+ * retry are reported to the next flush, which completes exceptionally.
+ */
+@Slf4j
+public class SolrIndexQueue {
+
+    private static final long POLL_INTERVAL = 500; //ms
+
+    private final SolrClient client;
+    private final String collection;
+    private final BlockingQueue<Op> queue;
+
+    private int batchSize = 100;
+    private int commitWithin = 1000;
+    private long offerTimeout = 5000;
+    private int retries = 3;
+    private long retryDelay = 500;
+
+    private final LongAdder indexed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean running = false;
+    private Thread worker;
+
+    //first error since the last flush, accessed by the worker only
+    private Exception error;
+    private long discarded;
+
+    public SolrIndexQueue(SolrClient client, String collection, int capacity) {
+        Assert.notNull(client, "solr client can not be null");
+        Assert.hasText(collection, "collection can not be null or empty");
+        Assert.isTrue(capacity > 0, "capacity must be greater than 0");
+
+        this.client = client;
+        this.collection = collection;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    public void setBatchSize(int batchSize) {
+        Assert.isTrue(batchSize > 0, "batch size must be greater than 0");
+        this.batchSize = batchSize;
+    }
+
+    public void setCommitWithin(int commitWithin) {
+        this.commitWithin = commitWithin;
+    }
+
+    public void setOfferTimeout(long offerTimeout) {
+        this.offerTimeout = offerTimeout;
+    }
+
+    public void setRetries(int retries) {
+        this.retries = retries;
+    }
+
+    public void setRetryDelay(long retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+
+        log.debug("start index queue for {}", collection);
+        running = true;
+        worker = new Thread(this::process, "solr-index-" + collection);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+
+        log.debug("stop index queue for {}, pending {}", collection, queue.size());
+        running = false;
+        try {
+            //let the worker drain the buffer
+            worker.join(offerTimeout);
+            if (worker.isAlive()) {
+                log.warn("index queue for {} not drained, discarding {} updates", collection, queue.size());
+                worker.interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /*
+     * Updates
+     */
+
+    public void add(SolrInputDocument doc) throws IndexerException {
+        offer(new Op(Type.ADD, doc, null, null, null));
+    }
+
+    public void delete(String id) throws IndexerException {
+        offer(new Op(Type.DELETE, null, List.of(id), null, null));
+    }
+
+    public void delete(Collection<String> ids) throws IndexerException {
+        offer(new Op(Type.DELETE, null, List.copyOf(ids), null, null));
+    }
+
+    public void deleteByQuery(String query) throws IndexerException {
+        offer(new Op(Type.DELETE_QUERY, null, null, query, null));
+    }
+
+    /**
+     * Wait for every update queued so far to be sent and soft committed
+     */
+    public void flush(long timeout) throws IndexerException {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        offer(new Op(Type.FLUSH, null, null, null, future));
+
+        try {
+            future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new IndexerException(e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new IndexerException("timeout waiting for index flush");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IndexerException("interrupted waiting for index flush");
+        }
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    public long getIndexed() {
+        return indexed.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /*
+     * Internal
+     */
+
+    private void offer(Op op) throws IndexerException {
+        if (!running) {
+            throw new IndexerException("index queue is not running");
+        }
+
+        try {
+            //back-pressure: wait for room, then fail
+            if (!queue.offer(op, offerTimeout, TimeUnit.MILLISECONDS)) {
+                throw new IndexerException("index queue is full");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IndexerException("interrupted waiting for index queue");
+        }
+    }
+
+    private void process() {
+        List<Op> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Op op = queue.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+                if (op == null) {
+                    continue;
+                }
+
+                batch.add(op);
+                queue.drainTo(batch, batchSize - 1);
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("error processing index queue: {}", e.getMessage());
+                //updates left in the batch are lost, release waiting producers
+                List<Op> updates = batch.stream().filter(o -> o.type() != Type.FLUSH).toList();
+                failed.add(updates.size());
+                discard(updates.size(), e);
+                batch.stream().filter(o -> o.future() != null).forEach(o -> o.future().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<Op> ops) throws InterruptedException {
+        //group consecutive operations of the same type to keep ordering
+        List<Op> chunk = new ArrayList<>();
+        for (Op op : ops) {
+            if (!chunk.isEmpty() && chunk.get(0).type() != op.type()) {
+                update(chunk);
+                chunk.clear();
+            }
+
+            if (op.type() == Type.FLUSH) {
+                commit(op.future());
+            } else {
+                chunk.add(op);
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            update(chunk);
+        }
+    }
+
+    private void update(List<Op> chunk) throws InterruptedException {
+        UpdateRequest request = new UpdateRequest();
+        for (Op op : chunk) {
+            switch (op.type()) {
+                case ADD -> request.add(op.doc());
+                case DELETE -> request.deleteById(op.ids());
+                case DELETE_QUERY -> request.deleteByQuery(op.query());
+                default -> {}
+            }
+        }
+        request.setCommitWithin(commitWithin);
+        int updates = chunk.stream().mapToInt(Op::size).sum();
+
+        for (int attempt = 1;; attempt++) {
+            try {
+                log.debug("send {} {} updates to {}", updates, chunk.get(0).type(), collection);
+                request.process(client, collection);
+                indexed.add(updates);
+                return;
+            } catch (SolrServerException | SolrException | IOException e) {
+                if (attempt > retries) {
+                    log.error("error sending {} updates to {}, discard: {}", updates, collection, e.getMessage());
+                    failed.add(updates);
+                    discard(updates, e);
+                    return;
+                }
+
+                log.warn("error sending updates to {}, retry {}: {}", collection, attempt, e.getMessage());
+                Thread.sleep(retryDelay * attempt);
+            } catch (RuntimeException e) {
+                //unexpected, do not retry
+                log.error("error sending {} updates to {}, discard: {}", updates, collection, e.getMessage());
+                failed.add(updates);
+                discard(updates, e);
+                return;
+            }
+        }
+    }
+
+    private void discard(long count, Exception e) {
+        discarded += count;
+        if (error == null) {
+            error = e;
+        }
+    }
+
+    private void commit(CompletableFuture<Void> future) {
+        try {
+            //soft commit: make updates visible without flushing segments
+            client.commit(collection, true, true, true);
+
+            if (error != null) {
+                //report updates lost since the previous flush
+                future.completeExceptionally(
+                    new IndexerException(discarded + " updates discarded: " + error.getMessage(), error)
+                );
+            } else {
+                future.complete(null);
+            }
+        } catch (SolrServerException | IOException | RuntimeException e) {
+            log.error("error committing {}: {}", collection, e.getMessage());
+            future.completeExceptionally(e);
+        } finally {
+            error = null;
+            discarded = 0;
+        }
+    }
+
+    private enum Type {
+        ADD,
+        DELETE,
+        DELETE_QUERY,
+        FLUSH,
+    }
+
+    private record Op(
+        Type type,
+        SolrInputDocument doc,
+        List<String> ids,
+        String query,
+        CompletableFuture<Void> future
+    ) {
+        int size() {
+            return ids != null ? ids.size() : 1;
+        }
+    }
+}
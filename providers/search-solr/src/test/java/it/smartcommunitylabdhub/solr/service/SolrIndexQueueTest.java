@@ -0,0 +1,213 @@
+/*
+ * SPDX-FileCopyrightText: © 2025 DSLab - Fondazione Bruno Kessler
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package it.smartcommunitylabdhub.solr.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.smartcommunitylabdhub.search.indexers.IndexerException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrRequest;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.client.solrj.request.UpdateRequest;
+import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.util.NamedList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SolrIndexQueueTest {
+
+    private static final String COLLECTION = "test";
+
+    private RecordingClient client;
+    private SolrIndexQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        client = new RecordingClient();
+        queue = new SolrIndexQueue(client, COLLECTION, 1000);
+        queue.setRetryDelay(10);
+        queue.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.close();
+    }
+
+    @Test
+    void updatesAreBatchedWithCommitWithin() throws IndexerException {
+        for (int i = 0; i < 250; i++) {
+            queue.add(doc("doc" + i));
+        }
+        queue.flush(5000);
+
+        List<UpdateRequest> adds = client.requests.stream().filter(r -> r.getDocuments() != null).toList();
+        assertEquals(250, adds.stream().mapToInt(r -> r.getDocuments().size()).sum());
+        assertTrue(adds.size() >= 3 && adds.size() < 250, "requests " + adds.size());
+        adds.forEach(r -> assertTrue(r.getDocuments().size() <= 100));
+        adds.forEach(r -> assertEquals(1000, r.getCommitWithin()));
+
+        //single soft commit on flush
+        List<UpdateRequest> commits = client.requests
+            .stream()
+            .filter(r -> r.getParams() != null && "true".equals(r.getParams().get("commit")))
+            .toList();
+        assertEquals(1, commits.size());
+        assertEquals("true", commits.get(0).getParams().get("softCommit"));
+        assertEquals(250, queue.getIndexed());
+    }
+
+    @Test
+    void orderIsPreserved() throws IndexerException {
+        queue.add(doc("doc1"));
+        queue.delete("doc1");
+        queue.add(doc("doc2"));
+        queue.deleteByQuery("type:test");
+        queue.flush(5000);
+
+        List<String> ops = new ArrayList<>();
+        for (UpdateRequest r : client.requests) {
+            if (r.getDocuments() != null) {
+                r.getDocuments().forEach(d -> ops.add("add:" + d.getFieldValue("id")));
+            }
+            if (r.getDeleteById() != null) {
+                r.getDeleteById().forEach(id -> ops.add("delete:" + id));
+            }
+            if (r.getDeleteQuery() != null) {
+                r.getDeleteQuery().forEach(q -> ops.add("query:" + q));
+            }
+        }
+
+        assertEquals(List.of("add:doc1", "delete:doc1", "add:doc2", "query:type:test"), ops);
+    }
+
+    @Test
+    void failuresAreRetried() throws IndexerException {
+        client.failures.set(2);
+
+        queue.add(doc("doc1"));
+        queue.flush(5000);
+
+        assertEquals(1, queue.getIndexed());
+        assertEquals(0, queue.getFailed());
+    }
+
+    @Test
+    void discardedUpdatesFailFlush() throws IndexerException {
+        //first attempt plus every retry
+        client.failures.set(4);
+
+        queue.add(doc("doc1"));
+        assertThrows(IndexerException.class, () -> queue.flush(5000));
+        assertEquals(1, queue.getFailed());
+
+        //reported once
+        queue.add(doc("doc2"));
+        queue.flush(5000);
+        assertEquals(1, queue.getIndexed());
+    }
+
+    @Test
+    void unexpectedErrorsFailFlush() throws IndexerException {
+        client.errors.set(1);
+
+        queue.add(doc("doc1"));
+        assertThrows(IndexerException.class, () -> queue.flush(5000));
+        assertEquals(1, queue.getFailed());
+        assertEquals(0, queue.getIndexed());
+    }
+
+    @Test
+    void fullQueueAppliesBackPressure() throws Exception {
+        queue.close();
+
+        client.latch = new CountDownLatch(1);
+        queue = new SolrIndexQueue(client, COLLECTION, 2);
+        queue.setBatchSize(1);
+        queue.setOfferTimeout(100);
+        queue.start();
+
+        //first update blocks the worker, the next two fill the buffer
+        queue.add(doc("doc0"));
+        Thread.sleep(100);
+        queue.add(doc("doc1"));
+        queue.add(doc("doc2"));
+
+        assertThrows(IndexerException.class, () -> queue.add(doc("doc3")));
+
+        client.latch.countDown();
+        queue.flush(5000);
+        assertEquals(3, queue.getIndexed());
+    }
+
+    private static SolrInputDocument doc(String id) {
+        SolrInputDocument doc = new SolrInputDocument();
+        doc.addField("id", id);
+        doc.addField("type", "test");
+        return doc;
+    }
+
+    private static class RecordingClient extends SolrClient {
+
+        private final List<UpdateRequest> requests = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger errors = new AtomicInteger();
+        private volatile CountDownLatch latch;
+
+        @Override
+        public NamedList<Object> request(SolrRequest<?> request, String collection)
+            throws SolrServerException, IOException {
+            if (latch != null) {
+                try {
+                    latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            if (failures.getAndUpdate(f -> Math.max(0, f - 1)) > 0) {
+                throw new SolrServerException("unavailable");
+            }
+            if (errors.getAndUpdate(f -> Math.max(0, f - 1)) > 0) {
+                throw new IllegalStateException("unexpected");
+            }
+
+            requests.add((UpdateRequest) request);
+            return new NamedList<>();
+        }
+
+        @Override
+        public void close() {}
+    }
+}